@@ -0,0 +1,403 @@
+package org.parchmentmc.feather.cache;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.parchmentmc.feather.mapping.VersionedMappingDataContainer;
+import org.parchmentmc.feather.metadata.SourceMetadata;
+import org.parchmentmc.feather.util.ContentHashOutputStream;
+import org.parchmentmc.feather.util.FileUtils;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A cache of decoded data, keyed by the SHA-256 hash of the input bytes which the data was decoded from, the type of
+ * the decoded data, and a discriminator for the decoder.
+ *
+ * <p>The cache sits in front of any decoder, such as a JSON adapter: on a miss, the given decoder is called and its
+ * result is cached, so repeated loads of the same input only cost hashing the input. Decoded values are held in memory
+ * with least-recently-used eviction, bounded by the total size of their inputs, which is used as an estimate of the
+ * retained size of the decoded values.</p>
+ *
+ * <p>Decoders which produce different values from the same input, such as adapters which filter the read data or skip
+ * non-documented entries, must be given different discriminators, which should describe the decoder's configuration.
+ * Otherwise, a value decoded by one decoder would be returned to the callers of another.</p>
+ *
+ * <p>If a spill directory is given, decoded values of types with a {@linkplain #registerSpillCodec(Class, SpillCodec)
+ * registered spill codec} are also written to the directory in binary form. A value which is not in memory is then
+ * read back from its spill file, which is much cheaper than decoding the input again, and outlives this cache
+ * instance. Codecs for {@link VersionedMappingDataContainer} and {@link SourceMetadata} are registered by
+ * default. Spill files which cannot be read are deleted, and the input is decoded again.</p>
+ *
+ * <p>This class is safe for use by multiple threads. Cached values are shared between callers, so they should be
+ * immutable.</p>
+ */
+public final class DecodedDataCache {
+    private static final int SPILL_MAGIC = 0x46454348; // FECH
+    private static final int SPILL_FORMAT = 1;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final long maxWeight;
+    @Nullable
+    private final Path spillDirectory;
+    private final Map<Class<?>, SpillCodec<?>> spillCodecs = new ConcurrentHashMap<>();
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75F, true);
+    private long weight = 0;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong spillHitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    /**
+     * Creates a cache which holds decoded values in memory, and spills them to the given directory.
+     *
+     * @param maxWeight      the maximum total size of the inputs of the values held in memory, in bytes
+     * @param spillDirectory the directory to spill decoded values to, or {@code null} to only hold values in memory
+     */
+    public DecodedDataCache(long maxWeight, @Nullable Path spillDirectory) {
+        if (maxWeight < 0) throw new IllegalArgumentException("Maximum weight must not be negative: " + maxWeight);
+        this.maxWeight = maxWeight;
+        this.spillDirectory = spillDirectory;
+        registerSpillCodec(VersionedMappingDataContainer.class, SpillCodecs.MAPPING_DATA);
+        registerSpillCodec(SourceMetadata.class, SpillCodecs.SOURCE_METADATA);
+    }
+
+    /**
+     * Creates a cache which only holds decoded values in memory.
+     *
+     * @param maxWeight the maximum total size of the inputs of the values held in memory, in bytes
+     */
+    public DecodedDataCache(long maxWeight) {
+        this(maxWeight, null);
+    }
+
+    /**
+     * Registers the spill codec for values of the given type, replacing any previously registered codec.
+     *
+     * @param type  the type of values
+     * @param codec the spill codec
+     * @param <T>   the type of values
+     * @return this cache
+     */
+    public <T> DecodedDataCache registerSpillCodec(Class<T> type, SpillCodec<T> codec) {
+        spillCodecs.put(type, codec);
+        return this;
+    }
+
+    /**
+     * Returns the value decoded from the given input, from this cache or by calling the given decoder.
+     *
+     * <p>The decoder is identified by an empty discriminator, so this should only be used if the given type is always
+     * decoded by equivalent decoders.</p>
+     *
+     * @param input   the input bytes
+     * @param type    the type of the decoded value
+     * @param decoder the decoder, which is called on a cache miss
+     * @param <T>     the type of the decoded value
+     * @return the decoded value
+     * @throws IOException if the decoder fails
+     * @see #get(byte[], Class, String, Decoder)
+     */
+    public <T> T get(byte[] input, Class<T> type, Decoder<? extends T> decoder) throws IOException {
+        return get(input, type, "", decoder);
+    }
+
+    /**
+     * Returns the value decoded from the given input by the decoder identified by the given discriminator, from this
+     * cache or by calling the given decoder.
+     *
+     * @param input         the input bytes
+     * @param type          the type of the decoded value
+     * @param discriminator the discriminator, which identifies the decoder and its configuration
+     * @param decoder       the decoder, which is called on a cache miss
+     * @param <T>           the type of the decoded value
+     * @return the decoded value
+     * @throws IOException if the decoder fails
+     */
+    public <T> T get(byte[] input, Class<T> type, String discriminator, Decoder<? extends T> decoder)
+            throws IOException {
+        final Key key = new Key(hash(input), type, discriminator);
+
+        synchronized (entries) {
+            final Entry entry = entries.get(key);
+            if (entry != null) {
+                hitCount.incrementAndGet();
+                return type.cast(entry.value);
+            }
+        }
+
+        T value = readSpill(key, type);
+        if (value != null) {
+            spillHitCount.incrementAndGet();
+        } else {
+            missCount.incrementAndGet();
+            value = Objects.requireNonNull(decoder.decode(input), "Decoder returned null");
+            writeSpill(key, type, value);
+        }
+
+        put(key, value, input.length);
+        return value;
+    }
+
+    /**
+     * Returns the value decoded from the contents of the given file, from this cache or by calling the given decoder.
+     *
+     * @param file    the input file
+     * @param type    the type of the decoded value
+     * @param decoder the decoder, which is called with the contents of the file on a cache miss
+     * @param <T>     the type of the decoded value
+     * @return the decoded value
+     * @throws IOException if an I/O error occurs while reading the file, or the decoder fails
+     * @see #get(byte[], Class, Decoder)
+     */
+    public <T> T get(Path file, Class<T> type, Decoder<? extends T> decoder) throws IOException {
+        return get(Files.readAllBytes(file), type, decoder);
+    }
+
+    /**
+     * Returns the value decoded from the contents of the given file by the decoder identified by the given
+     * discriminator, from this cache or by calling the given decoder.
+     *
+     * @param file          the input file
+     * @param type          the type of the decoded value
+     * @param discriminator the discriminator, which identifies the decoder and its configuration
+     * @param decoder       the decoder, which is called with the contents of the file on a cache miss
+     * @param <T>           the type of the decoded value
+     * @return the decoded value
+     * @throws IOException if an I/O error occurs while reading the file, or the decoder fails
+     * @see #get(byte[], Class, String, Decoder)
+     */
+    public <T> T get(Path file, Class<T> type, String discriminator, Decoder<? extends T> decoder)
+            throws IOException {
+        return get(Files.readAllBytes(file), type, discriminator, decoder);
+    }
+
+    private void put(Key key, Object value, long inputWeight) {
+        // Values larger than the whole cache would only evict everything else
+        if (inputWeight > maxWeight) return;
+
+        synchronized (entries) {
+            final Entry previous = entries.put(key, new Entry(value, inputWeight));
+            if (previous != null) weight -= previous.weight;
+            weight += inputWeight;
+
+            final Iterator<Entry> iterator = entries.values().iterator();
+            while (weight > maxWeight && iterator.hasNext()) {
+                weight -= iterator.next().weight;
+                iterator.remove();
+            }
+        }
+    }
+
+    @Nullable
+    private <T> T readSpill(Key key, Class<T> type) {
+        final SpillCodec<?> codec = spillCodecs.get(type);
+        if (spillDirectory == null || codec == null) return null;
+
+        final Path file = spillFile(key);
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE))) {
+            if (in.readInt() != SPILL_MAGIC || in.readInt() != SPILL_FORMAT) {
+                throw new IOException("Unknown spill file format");
+            }
+            return type.cast(codec.read(in));
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException | RuntimeException e) {
+            // Corrupt or outdated spill file; decode the input again, which rewrites the file
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException ignored) {
+            }
+            return null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> void writeSpill(Key key, Class<T> type, T value) {
+        final SpillCodec<T> codec = (SpillCodec<T>) spillCodecs.get(type);
+        if (spillDirectory == null || codec == null) return;
+
+        final Path file = spillFile(key);
+        Path temp = null;
+        try {
+            Files.createDirectories(spillDirectory);
+            temp = Files.createTempFile(spillDirectory, key.hash, ".tmp");
+            try (OutputStream stream = Files.newOutputStream(temp);
+                 DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream, BUFFER_SIZE))) {
+                out.writeInt(SPILL_MAGIC);
+                out.writeInt(SPILL_FORMAT);
+                codec.write(out, value);
+            }
+            FileUtils.moveReplacing(temp, file);
+        } catch (IOException e) {
+            // Spilling is best-effort; the value is still held in memory
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException ignored) {
+                }
+            }
+        }
+    }
+
+    private Path spillFile(Key key) {
+        assert spillDirectory != null;
+        // The discriminator is hashed, as it may contain characters which are not allowed in file names
+        final String discriminator = key.discriminator.isEmpty() ? ""
+                : '-' + hash(key.discriminator.getBytes(StandardCharsets.UTF_8)).substring(0, 16);
+        return spillDirectory.resolve(key.hash + '-' + key.type.getName() + discriminator + ".bin");
+    }
+
+    /**
+     * Removes all values held in memory. Spill files are kept.
+     */
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+            weight = 0;
+        }
+    }
+
+    /**
+     * Returns the number of values held in memory.
+     *
+     * @return the number of values in memory
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Returns the total size of the inputs of the values held in memory, in bytes.
+     *
+     * @return the weight of the values in memory
+     */
+    public long getWeight() {
+        synchronized (entries) {
+            return weight;
+        }
+    }
+
+    /**
+     * Returns the maximum total size of the inputs of the values held in memory, in bytes.
+     *
+     * @return the maximum weight
+     */
+    public long getMaxWeight() {
+        return maxWeight;
+    }
+
+    /**
+     * Returns the spill directory, or {@code null} if values are only held in memory.
+     *
+     * @return the spill directory, or {@code null}
+     */
+    @Nullable
+    public Path getSpillDirectory() {
+        return spillDirectory;
+    }
+
+    /**
+     * Returns the number of loads which were served from memory.
+     *
+     * @return the number of memory hits
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * Returns the number of loads which were served from spill files.
+     *
+     * @return the number of spill hits
+     */
+    public long getSpillHitCount() {
+        return spillHitCount.get();
+    }
+
+    /**
+     * Returns the number of loads which called the decoder.
+     *
+     * @return the number of misses
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * Returns the lowercase hexadecimal SHA-256 hash of the given input.
+     *
+     * @param input the input bytes
+     * @return the hash of the input
+     */
+    public static String hash(byte[] input) {
+        return ContentHashOutputStream.hash(input);
+    }
+
+    /**
+     * Decodes a value from input bytes.
+     *
+     * @param <T> the type of the decoded value
+     */
+    @FunctionalInterface
+    public interface Decoder<T> {
+        /**
+         * Decodes a value from the given input.
+         *
+         * @param input the input bytes
+         * @return the decoded value
+         * @throws IOException if the input is malformed
+         */
+        T decode(byte[] input) throws IOException;
+    }
+
+    private static final class Key {
+        final String hash;
+        final Class<?> type;
+        final String discriminator;
+
+        Key(String hash, Class<?> type, String discriminator) {
+            this.hash = hash;
+            this.type = type;
+            this.discriminator = Objects.requireNonNull(discriminator, "Discriminator must not be null");
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return hash.equals(key.hash) && type.equals(key.type) && discriminator.equals(key.discriminator);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * hash.hashCode() + type.hashCode()) + discriminator.hashCode();
+        }
+    }
+
+    private static final class Entry {
+        final Object value;
+        final long weight;
+
+        Entry(Object value, long weight) {
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package org.parchmentmc.feather.cache;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * A binary codec for spilling decoded values of a type to disk.
+ *
+ * <p>The binary form only needs to be readable by the same codec, so it can be much cheaper to read than the source
+ * format of the value.</p>
+ *
+ * @param <T> the type of values
+ * @see DecodedDataCache
+ * @see SpillCodecs
+ */
+public interface SpillCodec<T> {
+    /**
+     * Writes the given value in binary form.
+     *
+     * @param out   the output to write to
+     * @param value the value
+     * @throws IOException if an I/O error occurs while writing
+     */
+    void write(DataOutput out, T value) throws IOException;
+
+    /**
+     * Reads a value from its binary form.
+     *
+     * @param in the input to read from
+     * @return the read value
+     * @throws IOException if an I/O error occurs while reading, or the binary form is malformed
+     */
+    T read(DataInput in) throws IOException;
+}
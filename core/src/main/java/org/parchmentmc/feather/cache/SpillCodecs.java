@@ -0,0 +1,408 @@
+package org.parchmentmc.feather.cache;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.parchmentmc.feather.mapping.ImmutableMappingDataContainer.ImmutableClassData;
+import org.parchmentmc.feather.mapping.ImmutableMappingDataContainer.ImmutableFieldData;
+import org.parchmentmc.feather.mapping.ImmutableMappingDataContainer.ImmutableMethodData;
+import org.parchmentmc.feather.mapping.ImmutableMappingDataContainer.ImmutablePackageData;
+import org.parchmentmc.feather.mapping.ImmutableMappingDataContainer.ImmutableParameterData;
+import org.parchmentmc.feather.mapping.ImmutableVersionedMappingDataContainer;
+import org.parchmentmc.feather.mapping.MappingDataContainer.ClassData;
+import org.parchmentmc.feather.mapping.MappingDataContainer.FieldData;
+import org.parchmentmc.feather.mapping.MappingDataContainer.MethodData;
+import org.parchmentmc.feather.mapping.MappingDataContainer.PackageData;
+import org.parchmentmc.feather.mapping.MappingDataContainer.ParameterData;
+import org.parchmentmc.feather.mapping.VersionedMappingDataContainer;
+import org.parchmentmc.feather.metadata.*;
+import org.parchmentmc.feather.named.Named;
+import org.parchmentmc.feather.named.NamedBuilder;
+import org.parchmentmc.feather.util.SimpleVersion;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The built-in {@link SpillCodec}s, for mapping data containers and source metadata.
+ */
+public final class SpillCodecs {
+    /**
+     * The spill codec for {@link VersionedMappingDataContainer}s.
+     */
+    public static final SpillCodec<VersionedMappingDataContainer> MAPPING_DATA = new MappingDataCodec();
+    /**
+     * The spill codec for {@link SourceMetadata}.
+     */
+    public static final SpillCodec<SourceMetadata> SOURCE_METADATA = new SourceMetadataCodec();
+
+    private SpillCodecs() {
+        throw new IllegalStateException("Can not instantiate an instance of: SpillCodecs. This is a utility class");
+    }
+
+    /* ******************** Primitives ******************** */
+
+    static void writeString(DataOutput out, @Nullable String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        // DataOutput#writeUTF is limited to 64 KiB, which long javadocs may exceed
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    @Nullable
+    static String readString(DataInput in) throws IOException {
+        final int length = in.readInt();
+        if (length == -1) return null;
+        if (length < 0) throw new IOException("Malformed spill data: negative string length " + length);
+        final byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static String readNonNullString(DataInput in) throws IOException {
+        final String value = readString(in);
+        if (value == null) throw new IOException("Malformed spill data: unexpected null string");
+        return value;
+    }
+
+    static void writeStringList(DataOutput out, List<String> list) throws IOException {
+        out.writeInt(list.size());
+        for (String value : list) {
+            writeString(out, value);
+        }
+    }
+
+    static List<String> readStringList(DataInput in) throws IOException {
+        final int size = readSize(in);
+        if (size == 0) return Collections.emptyList();
+        final List<String> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(readNonNullString(in));
+        }
+        return list;
+    }
+
+    static int readSize(DataInput in) throws IOException {
+        final int size = in.readInt();
+        if (size < 0) throw new IOException("Malformed spill data: negative size " + size);
+        return size;
+    }
+
+    /* ******************** Mapping data ******************** */
+
+    private static final class MappingDataCodec implements SpillCodec<VersionedMappingDataContainer> {
+        @Override
+        public void write(DataOutput out, VersionedMappingDataContainer value) throws IOException {
+            writeString(out, value.getFormatVersion().toString());
+
+            out.writeInt(value.getPackages().size());
+            for (PackageData pkg : value.getPackages()) {
+                writeString(out, pkg.getName());
+                writeStringList(out, pkg.getJavadoc());
+            }
+
+            out.writeInt(value.getClasses().size());
+            for (ClassData cls : value.getClasses()) {
+                writeString(out, cls.getName());
+                writeStringList(out, cls.getJavadoc());
+
+                out.writeInt(cls.getFields().size());
+                for (FieldData field : cls.getFields()) {
+                    writeString(out, field.getName());
+                    writeString(out, field.getDescriptor());
+                    writeStringList(out, field.getJavadoc());
+                }
+
+                out.writeInt(cls.getMethods().size());
+                for (MethodData method : cls.getMethods()) {
+                    writeString(out, method.getName());
+                    writeString(out, method.getDescriptor());
+                    writeStringList(out, method.getJavadoc());
+
+                    out.writeInt(method.getParameters().size());
+                    for (ParameterData param : method.getParameters()) {
+                        out.writeByte(param.getIndex());
+                        writeString(out, param.getName());
+                        writeString(out, param.getJavadoc());
+                    }
+                }
+            }
+        }
+
+        @Override
+        public VersionedMappingDataContainer read(DataInput in) throws IOException {
+            final SimpleVersion version = SimpleVersion.of(readNonNullString(in));
+
+            final int packageCount = readSize(in);
+            final List<PackageData> packages = new ArrayList<>(packageCount);
+            for (int i = 0; i < packageCount; i++) {
+                packages.add(new ImmutablePackageData(readNonNullString(in), readStringList(in)));
+            }
+
+            final int classCount = readSize(in);
+            final List<ClassData> classes = new ArrayList<>(classCount);
+            for (int i = 0; i < classCount; i++) {
+                final String name = readNonNullString(in);
+                final List<String> javadoc = readStringList(in);
+
+                final int fieldCount = readSize(in);
+                final List<FieldData> fields = new ArrayList<>(fieldCount);
+                for (int j = 0; j < fieldCount; j++) {
+                    // Field descriptors are optional
+                    fields.add(new ImmutableFieldData(readNonNullString(in), readString(in), readStringList(in)));
+                }
+
+                final int methodCount = readSize(in);
+                final List<MethodData> methods = new ArrayList<>(methodCount);
+                for (int j = 0; j < methodCount; j++) {
+                    final String methodName = readNonNullString(in);
+                    final String descriptor = readNonNullString(in);
+                    final List<String> methodJavadoc = readStringList(in);
+
+                    final int paramCount = readSize(in);
+                    final List<ParameterData> params = new ArrayList<>(paramCount);
+                    for (int k = 0; k < paramCount; k++) {
+                        params.add(new ImmutableParameterData(in.readByte(), readString(in), readString(in)));
+                    }
+                    methods.add(new ImmutableMethodData(methodName, descriptor, methodJavadoc, params));
+                }
+
+                classes.add(new ImmutableClassData(name, javadoc, fields, methods));
+            }
+
+            return new ImmutableVersionedMappingDataContainer(version, packages, classes);
+        }
+    }
+
+    /* ******************** Source metadata ******************** */
+
+    private static final class SourceMetadataCodec implements SpillCodec<SourceMetadata> {
+        @Override
+        public void write(DataOutput out, SourceMetadata value) throws IOException {
+            writeString(out, value.getSpecificationVersion().toString());
+            writeString(out, value.getMinecraftVersion());
+            out.writeInt(value.getClasses().size());
+            for (ClassMetadata cls : value.getClasses()) {
+                writeClass(out, cls);
+            }
+        }
+
+        @Override
+        public SourceMetadata read(DataInput in) throws IOException {
+            final SimpleVersion specVersion = SimpleVersion.of(readNonNullString(in));
+            final String minecraftVersion = readNonNullString(in);
+            final int classCount = readSize(in);
+            final LinkedHashSet<ClassMetadata> classes = new LinkedHashSet<>();
+            for (int i = 0; i < classCount; i++) {
+                classes.add(readClass(in));
+            }
+            return SourceMetadataBuilder.create()
+                    .withSpecVersion(specVersion)
+                    .withMinecraftVersion(minecraftVersion)
+                    .withClasses(classes)
+                    .build();
+        }
+
+        private static void writeClass(DataOutput out, ClassMetadata cls) throws IOException {
+            writeNamed(out, cls.getName());
+            writeNamed(out, cls.getOwner());
+            out.writeInt(cls.getSecuritySpecification());
+            writeNamed(out, cls.getSuperName());
+            out.writeInt(cls.getInterfaces().size());
+            for (Named named : cls.getInterfaces()) {
+                writeNamed(out, named);
+            }
+            out.writeInt(cls.getFields().size());
+            for (FieldMetadata field : cls.getFields()) {
+                writeNamed(out, field.getName());
+                writeNamed(out, field.getOwner());
+                out.writeInt(field.getSecuritySpecification());
+                writeNamed(out, field.getDescriptor());
+                writeNamed(out, field.getSignature());
+            }
+            out.writeInt(cls.getMethods().size());
+            for (MethodMetadata method : cls.getMethods()) {
+                writeMethod(out, method);
+            }
+            out.writeInt(cls.getRecords().size());
+            for (RecordMetadata record : cls.getRecords()) {
+                writeNamed(out, record.getOwner());
+                writeReference(out, record.getField());
+                writeReference(out, record.getGetter());
+            }
+            out.writeInt(cls.getInnerClasses().size());
+            for (ClassMetadata inner : cls.getInnerClasses()) {
+                writeClass(out, inner);
+            }
+            writeNamed(out, cls.getSignature());
+            out.writeBoolean(cls.isRecord());
+        }
+
+        private static ClassMetadata readClass(DataInput in) throws IOException {
+            final ClassMetadataBuilder builder = ClassMetadataBuilder.create()
+                    .withName(readNamed(in))
+                    .withOwner(readNamed(in))
+                    .withSecuritySpecifications(in.readInt())
+                    .withSuperName(readNamed(in));
+
+            final int interfaceCount = readSize(in);
+            final LinkedHashSet<Named> interfaces = new LinkedHashSet<>();
+            for (int i = 0; i < interfaceCount; i++) {
+                interfaces.add(readNamed(in));
+            }
+
+            final int fieldCount = readSize(in);
+            final LinkedHashSet<FieldMetadata> fields = new LinkedHashSet<>();
+            for (int i = 0; i < fieldCount; i++) {
+                fields.add(FieldMetadataBuilder.create()
+                        .withName(readNamed(in))
+                        .withOwner(readNamed(in))
+                        .withSecuritySpecification(in.readInt())
+                        .withDescriptor(readNamed(in))
+                        .withSignature(readNamed(in))
+                        .build());
+            }
+
+            final int methodCount = readSize(in);
+            final LinkedHashSet<MethodMetadata> methods = new LinkedHashSet<>();
+            for (int i = 0; i < methodCount; i++) {
+                methods.add(readMethod(in));
+            }
+
+            final int recordCount = readSize(in);
+            final LinkedHashSet<RecordMetadata> records = new LinkedHashSet<>();
+            for (int i = 0; i < recordCount; i++) {
+                records.add(RecordMetadataBuilder.create()
+                        .withOwner(readNamed(in))
+                        .withField(readReference(in))
+                        .withGetter(readReference(in))
+                        .build());
+            }
+
+            final int innerCount = readSize(in);
+            final LinkedHashSet<ClassMetadata> innerClasses = new LinkedHashSet<>();
+            for (int i = 0; i < innerCount; i++) {
+                innerClasses.add(readClass(in));
+            }
+
+            return builder
+                    .withInterfaces(interfaces)
+                    .withFields(fields)
+                    .withMethods(methods)
+                    .withRecords(records)
+                    .withInnerClasses(innerClasses)
+                    .withSignature(readNamed(in))
+                    .withIsRecord(in.readBoolean())
+                    .build();
+        }
+
+        private static void writeMethod(DataOutput out, MethodMetadata method) throws IOException {
+            writeNamed(out, method.getName());
+            writeNamed(out, method.getOwner());
+            out.writeInt(method.getSecuritySpecification());
+            writeNamed(out, method.getDescriptor());
+            writeNamed(out, method.getSignature());
+            out.writeBoolean(method.isLambda());
+
+            final BouncingTargetMetadata bouncingTarget = method.getBouncingTarget().orElse(null);
+            out.writeBoolean(bouncingTarget != null);
+            if (bouncingTarget != null) {
+                writeNullableReference(out, bouncingTarget.getOwner().orElse(null));
+                writeNullableReference(out, bouncingTarget.getTarget().orElse(null));
+            }
+
+            writeNullableReference(out, method.getParent().orElse(null));
+            out.writeInt(method.getOverrides().size());
+            for (Reference override : method.getOverrides()) {
+                writeReference(out, override);
+            }
+            out.writeInt(method.getStartLine().orElse(0));
+            out.writeInt(method.getEndLine().orElse(0));
+        }
+
+        private static MethodMetadata readMethod(DataInput in) throws IOException {
+            final MethodMetadataBuilder builder = MethodMetadataBuilder.create()
+                    .withName(readNamed(in))
+                    .withOwner(readNamed(in))
+                    .withSecuritySpecification(in.readInt())
+                    .withDescriptor(readNamed(in))
+                    .withSignature(readNamed(in))
+                    .withLambda(in.readBoolean());
+
+            if (in.readBoolean()) {
+                builder.withBouncingTarget(BouncingTargetMetadataBuilder.create()
+                        .withOwner(readNullableReference(in))
+                        .withTarget(readNullableReference(in))
+                        .build());
+            }
+
+            builder.withParent(readNullableReference(in));
+            final int overrideCount = readSize(in);
+            final LinkedHashSet<Reference> overrides = new LinkedHashSet<>();
+            for (int i = 0; i < overrideCount; i++) {
+                overrides.add(readReference(in));
+            }
+
+            return builder
+                    .withOverrides(overrides)
+                    .withStartLine(in.readInt())
+                    .withEndLine(in.readInt())
+                    .build();
+        }
+
+        private static void writeNamed(DataOutput out, Named named) throws IOException {
+            final Map<String, String> names = named.getNames();
+            out.writeInt(names.size());
+            for (Map.Entry<String, String> entry : names.entrySet()) {
+                writeString(out, entry.getKey());
+                writeString(out, entry.getValue());
+            }
+        }
+
+        private static Named readNamed(DataInput in) throws IOException {
+            final int size = readSize(in);
+            if (size == 0) return Named.empty();
+            final Map<String, String> names = new LinkedHashMap<>();
+            for (int i = 0; i < size; i++) {
+                names.put(readNonNullString(in), readNonNullString(in));
+            }
+            return NamedBuilder.create(names).build();
+        }
+
+        private static void writeReference(DataOutput out, Reference reference) throws IOException {
+            writeNamed(out, reference.getOwner());
+            writeNamed(out, reference.getName());
+            writeNamed(out, reference.getDescriptor());
+            writeNamed(out, reference.getSignature());
+        }
+
+        private static Reference readReference(DataInput in) throws IOException {
+            return ReferenceBuilder.create()
+                    .withOwner(readNamed(in))
+                    .withName(readNamed(in))
+                    .withDescriptor(readNamed(in))
+                    .withSignature(readNamed(in))
+                    .build();
+        }
+
+        private static void writeNullableReference(DataOutput out, @Nullable Reference reference) throws IOException {
+            out.writeBoolean(reference != null);
+            if (reference != null) writeReference(out, reference);
+        }
+
+        @Nullable
+        private static Reference readNullableReference(DataInput in) throws IOException {
+            return in.readBoolean() ? readReference(in) : null;
+        }
+    }
+}
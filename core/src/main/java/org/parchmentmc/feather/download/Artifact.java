@@ -0,0 +1,120 @@
+package org.parchmentmc.feather.download;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.parchmentmc.feather.manifests.Library;
+import org.parchmentmc.feather.manifests.VersionManifest;
+
+import java.util.Objects;
+
+/**
+ * A file to fetch, with its expected SHA-1 hash and size.
+ *
+ * <p>The path of the artifact is relative to the directory it is fetched into, and always uses {@code /} as the
+ * separator. It is also used by {@linkplain ArtifactSources#mirror(java.nio.file.Path) local mirrors} to locate the
+ * artifact.</p>
+ *
+ * @see ManifestArtifacts
+ */
+public final class Artifact {
+    private final String url;
+    private final String path;
+    @Nullable
+    private final String sha1;
+    private final long size;
+
+    /**
+     * Creates an artifact.
+     *
+     * @param url  the URL to download the artifact from
+     * @param path the relative path of the artifact
+     * @param sha1 the expected SHA-1 hash, or {@code null} if the artifact is not verified
+     * @param size the expected size in bytes, or {@code -1} if unknown
+     */
+    public Artifact(String url, String path, @Nullable String sha1, long size) {
+        this.url = Objects.requireNonNull(url, "URL must not be null");
+        this.path = Objects.requireNonNull(path, "Path must not be null");
+        this.sha1 = sha1;
+        this.size = size;
+        if (path.isEmpty() || path.startsWith("/") || path.contains("\\") || path.equals("..")
+                || path.startsWith("../") || path.contains("/../") || path.endsWith("/..")) {
+            throw new IllegalArgumentException("Artifact path must be a relative path within the target: " + path);
+        }
+    }
+
+    /**
+     * Creates an artifact for the given download, at the given path.
+     *
+     * @param download the download information
+     * @param path     the relative path of the artifact
+     * @return the artifact
+     */
+    public static Artifact of(VersionManifest.DownloadInfo download, String path) {
+        return new Artifact(download.getUrl(), path, download.getSHA1(), download.getSize());
+    }
+
+    /**
+     * Creates an artifact for the given library artifact, at its own path.
+     *
+     * @param download the library artifact download information
+     * @return the artifact
+     */
+    public static Artifact of(Library.ArtifactDownload download) {
+        return of(download, download.getPath());
+    }
+
+    /**
+     * Returns the URL to download the artifact from.
+     *
+     * @return the URL
+     */
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * Returns the relative path of the artifact, using {@code /} as the separator.
+     *
+     * @return the relative path
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Returns the expected lowercase hexadecimal SHA-1 hash, or {@code null} if the artifact is not verified.
+     *
+     * @return the expected SHA-1 hash, or {@code null}
+     */
+    @Nullable
+    public String getSHA1() {
+        return sha1;
+    }
+
+    /**
+     * Returns the expected size in bytes, or {@code -1} if unknown.
+     *
+     * @return the expected size, or {@code -1}
+     */
+    public long getSize() {
+        return size;
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Artifact artifact = (Artifact) o;
+        return size == artifact.size && url.equals(artifact.url) && path.equals(artifact.path)
+                && Objects.equals(sha1, artifact.sha1);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(url, path, sha1, size);
+    }
+
+    @Override
+    public String toString() {
+        return path + " (" + url + ')';
+    }
+}
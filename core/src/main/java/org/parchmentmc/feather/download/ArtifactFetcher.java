@@ -0,0 +1,279 @@
+package org.parchmentmc.feather.download;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.parchmentmc.feather.util.ContentHashOutputStream;
+import org.parchmentmc.feather.util.FileUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+/**
+ * Fetches {@linkplain Artifact artifacts} from an {@link ArtifactSource} into a directory, verifying their size and
+ * SHA-1 hash.
+ *
+ * <p>Artifacts are written to a temporary file while their hash is computed from the same stream, so each fetched
+ * file is read once and never held in memory; the temporary file is only moved into place once it is verified. An
+ * artifact whose file is already present with the expected size and hash is not fetched again.</p>
+ *
+ * <p>{@link #fetchAll(Collection)} fetches up to the configured number of artifacts concurrently. Fetching is blocking
+ * I/O, so the default executor is a dedicated pool of daemon threads rather than the common fork-join pool.</p>
+ *
+ * @see ManifestArtifacts
+ */
+public final class ArtifactFetcher {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int DEFAULT_PARALLELISM = 8;
+
+    private final ArtifactSource source;
+    private final Path directory;
+    private final int parallelism;
+    private final Executor executor;
+
+    /**
+     * Creates a fetcher.
+     *
+     * @param source      the source to fetch artifacts from
+     * @param directory   the directory to fetch artifacts into
+     * @param parallelism the maximum number of artifacts fetched concurrently
+     * @param executor    the executor to fetch artifacts on
+     */
+    public ArtifactFetcher(ArtifactSource source, Path directory, int parallelism, Executor executor) {
+        if (parallelism < 1) throw new IllegalArgumentException("Parallelism must be positive: " + parallelism);
+        this.source = source;
+        this.directory = directory;
+        this.parallelism = parallelism;
+        this.executor = executor;
+    }
+
+    public ArtifactFetcher(ArtifactSource source, Path directory, int parallelism) {
+        this(source, directory, parallelism, DownloadUtil.EXECUTOR);
+    }
+
+    public ArtifactFetcher(ArtifactSource source, Path directory) {
+        this(source, directory, DEFAULT_PARALLELISM);
+    }
+
+    /**
+     * Returns the directory which artifacts are fetched into.
+     *
+     * @return the target directory
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Returns the file which the given artifact is fetched into.
+     *
+     * @param artifact the artifact
+     * @return the target file of the artifact
+     * @throws ArtifactVerificationException if the path of the artifact is not within the target directory
+     */
+    public Path getTarget(Artifact artifact) throws ArtifactVerificationException {
+        return DownloadUtil.resolve(directory, artifact);
+    }
+
+    /**
+     * Fetches the given artifacts concurrently, skipping those which are already present.
+     *
+     * <p>Artifacts with the same path are only fetched once. A failure to fetch an artifact does not stop the others
+     * from being fetched; it is reported in the result of the artifact.</p>
+     *
+     * @param artifacts the artifacts to fetch
+     * @return the results, in the order of the artifacts, without duplicate paths
+     * @see #requireSuccess(List)
+     */
+    public List<FetchResult> fetchAll(Collection<? extends Artifact> artifacts) {
+        final Map<String, Artifact> unique = new LinkedHashMap<>();
+        for (Artifact artifact : artifacts) {
+            unique.putIfAbsent(artifact.getPath(), artifact);
+        }
+        return DownloadUtil.mapConcurrently(new ArrayList<>(unique.values()), parallelism, executor, this::fetch);
+    }
+
+    /**
+     * Fetches the given artifact, unless it is already present.
+     *
+     * <p>Any failure is reported in the result rather than thrown; unchecked exceptions are wrapped in an
+     * {@link IOException}.</p>
+     *
+     * @param artifact the artifact to fetch
+     * @return the result
+     */
+    public FetchResult fetch(Artifact artifact) {
+        Path target = directory;
+        try {
+            target = getTarget(artifact);
+            if (isPresent(artifact, target)) {
+                return new FetchResult(artifact, target, Status.PRESENT, null);
+            }
+            download(artifact, target);
+            return new FetchResult(artifact, target, Status.FETCHED, null);
+        } catch (IOException e) {
+            return new FetchResult(artifact, target, Status.FAILED, e);
+        } catch (RuntimeException e) {
+            // Such as from a source; it fails this artifact only, rather than aborting the others
+            return new FetchResult(artifact, target, Status.FAILED, new IOException("Failed to fetch " + artifact, e));
+        }
+    }
+
+    private static boolean isPresent(Artifact artifact, Path target) throws IOException {
+        if (!Files.isRegularFile(target)) return false;
+        // Compare sizes first, which is much cheaper than hashing a stale file
+        if (artifact.getSize() >= 0 && Files.size(target) != artifact.getSize()) return false;
+        if (artifact.getSHA1() == null) return true;
+
+        final MessageDigest digest = ContentHashOutputStream.digest(ContentHashOutputStream.SHA_1);
+        final byte[] buffer = new byte[BUFFER_SIZE];
+        try (InputStream in = Files.newInputStream(target)) {
+            for (int read = in.read(buffer); read != -1; read = in.read(buffer)) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return artifact.getSHA1().equalsIgnoreCase(ContentHashOutputStream.toHex(digest.digest()));
+    }
+
+    private void download(Artifact artifact, Path target) throws IOException {
+        final Path parent = target.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        final Path temp = Files.createTempFile(parent, target.getFileName().toString(), ".part");
+        try {
+            final String hash;
+            try (InputStream in = source.open(artifact);
+                 ContentHashOutputStream out = new ContentHashOutputStream(Files.newOutputStream(temp),
+                         ContentHashOutputStream.SHA_1)) {
+                final byte[] buffer = new byte[BUFFER_SIZE];
+                for (int read = in.read(buffer); read != -1; read = in.read(buffer)) {
+                    out.write(buffer, 0, read);
+                    if (artifact.getSize() >= 0 && out.getByteCount() > artifact.getSize()) {
+                        throw new ArtifactVerificationException(artifact, "Artifact is larger than expected "
+                                + artifact.getSize() + " bytes");
+                    }
+                }
+                if (artifact.getSize() >= 0 && out.getByteCount() != artifact.getSize()) {
+                    throw new ArtifactVerificationException(artifact, "Expected " + artifact.getSize()
+                            + " bytes, but got " + out.getByteCount() + " bytes");
+                }
+                hash = out.getHash();
+            }
+            if (artifact.getSHA1() != null && !artifact.getSHA1().equalsIgnoreCase(hash)) {
+                throw new ArtifactVerificationException(artifact, "Expected SHA-1 " + artifact.getSHA1()
+                        + ", but got " + hash);
+            }
+
+            FileUtils.moveReplacing(temp, target);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Throws the failure of the first failed result, with the failures of the other failed results suppressed.
+     *
+     * @param results the results
+     * @return the given results
+     * @throws IOException if any of the results failed
+     */
+    public static List<FetchResult> requireSuccess(List<FetchResult> results) throws IOException {
+        IOException failure = null;
+        for (FetchResult result : results) {
+            if (result.getFailure() == null) continue;
+            if (failure == null) {
+                failure = new IOException("Failed to fetch " + result.getArtifact(), result.getFailure());
+            } else {
+                failure.addSuppressed(result.getFailure());
+            }
+        }
+        if (failure != null) throw failure;
+        return results;
+    }
+
+    /**
+     * The status of a fetched artifact.
+     */
+    public enum Status {
+        /**
+         * The artifact was already present with the expected size and hash, and was not fetched.
+         */
+        PRESENT,
+        /**
+         * The artifact was fetched and verified.
+         */
+        FETCHED,
+        /**
+         * The artifact could not be fetched or failed verification.
+         */
+        FAILED
+    }
+
+    /**
+     * The result of fetching an artifact.
+     */
+    public static final class FetchResult {
+        private final Artifact artifact;
+        private final Path target;
+        private final Status status;
+        @Nullable
+        private final IOException failure;
+
+        FetchResult(Artifact artifact, Path target, Status status, @Nullable IOException failure) {
+            this.artifact = artifact;
+            this.target = target;
+            this.status = status;
+            this.failure = failure;
+        }
+
+        /**
+         * Returns the artifact.
+         *
+         * @return the artifact
+         */
+        public Artifact getArtifact() {
+            return artifact;
+        }
+
+        /**
+         * Returns the file which the artifact was fetched into, or the target directory if the path of the artifact
+         * is not within it.
+         *
+         * @return the target file
+         */
+        public Path getTarget() {
+            return target;
+        }
+
+        /**
+         * Returns the status of the artifact.
+         *
+         * @return the status
+         */
+        public Status getStatus() {
+            return status;
+        }
+
+        /**
+         * Returns the failure, if the artifact {@linkplain Status#FAILED failed}.
+         *
+         * @return the failure, or {@code null}
+         * @see ArtifactVerificationException
+         */
+        @Nullable
+        public IOException getFailure() {
+            return failure;
+        }
+
+        @Override
+        public String toString() {
+            return status + " " + artifact.getPath();
+        }
+    }
+}
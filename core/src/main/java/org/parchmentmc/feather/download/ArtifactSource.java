@@ -0,0 +1,25 @@
+package org.parchmentmc.feather.download;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * A source which artifacts are fetched from, such as an HTTP server or a local mirror.
+ *
+ * <p>Sources only provide the contents of artifacts; they are verified by the {@link ArtifactFetcher}. Sources must
+ * be safe to call concurrently.</p>
+ *
+ * @see ArtifactSources
+ */
+@FunctionalInterface
+public interface ArtifactSource {
+    /**
+     * Opens a stream of the contents of the given artifact.
+     *
+     * @param artifact the artifact
+     * @return the stream of the contents of the artifact
+     * @throws java.io.FileNotFoundException if the artifact is not available from this source
+     * @throws IOException                   if an I/O error occurs while opening the stream
+     */
+    InputStream open(Artifact artifact) throws IOException;
+}
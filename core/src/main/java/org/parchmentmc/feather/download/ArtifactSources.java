@@ -0,0 +1,99 @@
+package org.parchmentmc.feather.download;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Common {@linkplain ArtifactSource artifact sources}.
+ */
+public final class ArtifactSources {
+    private static final int TIMEOUT_MILLIS = 30_000;
+
+    private ArtifactSources() {
+        throw new IllegalStateException("Can not instantiate an instance of: ArtifactSources. This is a utility class");
+    }
+
+    /**
+     * Returns a source which downloads artifacts from their {@linkplain Artifact#getUrl() URLs}.
+     *
+     * @return the URL source
+     */
+    public static ArtifactSource url() {
+        return artifact -> {
+            final URLConnection connection = new URL(artifact.getUrl()).openConnection();
+            connection.setConnectTimeout(TIMEOUT_MILLIS);
+            connection.setReadTimeout(TIMEOUT_MILLIS);
+            if (connection instanceof HttpURLConnection) {
+                final HttpURLConnection http = (HttpURLConnection) connection;
+                final int status = http.getResponseCode();
+                if (status == HttpURLConnection.HTTP_NOT_FOUND) {
+                    http.disconnect();
+                    throw new FileNotFoundException(artifact.getUrl());
+                } else if (status / 100 != 2) {
+                    http.disconnect();
+                    throw new IOException("Unexpected HTTP status " + status + " for " + artifact.getUrl());
+                }
+            }
+            return connection.getInputStream();
+        };
+    }
+
+    /**
+     * Returns a source which reads artifacts from a local directory, at their {@linkplain Artifact#getPath() paths}
+     * relative to the directory.
+     *
+     * <p>The directory has the same layout as the directory the artifacts are fetched into, so a directory populated
+     * by an {@link ArtifactFetcher} can be used as a mirror, such as for offline use or in tests.</p>
+     *
+     * <p>Artifacts whose paths are not within the directory are rejected with an
+     * {@link ArtifactVerificationException}.</p>
+     *
+     * @param directory the mirror directory
+     * @return the mirror source
+     */
+    public static ArtifactSource mirror(Path directory) {
+        return artifact -> {
+            try {
+                return Files.newInputStream(DownloadUtil.resolve(directory, artifact));
+            } catch (NoSuchFileException e) {
+                throw new FileNotFoundException(e.getMessage());
+            }
+        };
+    }
+
+    /**
+     * Returns a source which tries each of the given sources in order, until one has the artifact.
+     *
+     * <p>A source which does not have the artifact, or fails to open it, is skipped. If all sources fail, the
+     * exception of the first source is thrown, with the others suppressed.</p>
+     *
+     * @param sources the sources to try, in order
+     * @return the fallback source
+     */
+    public static ArtifactSource firstOf(ArtifactSource... sources) {
+        final List<ArtifactSource> list = Arrays.asList(sources.clone());
+        return artifact -> {
+            IOException failure = null;
+            for (ArtifactSource source : list) {
+                try {
+                    return source.open(artifact);
+                } catch (IOException e) {
+                    if (failure == null) {
+                        failure = e;
+                    } else {
+                        failure.addSuppressed(e);
+                    }
+                }
+            }
+            throw failure != null ? failure : new FileNotFoundException(artifact.getPath());
+        };
+    }
+}
@@ -0,0 +1,27 @@
+package org.parchmentmc.feather.download;
+
+import java.io.IOException;
+
+/**
+ * Thrown when the contents of a fetched artifact do not match its expected size or SHA-1 hash, or when the path of
+ * an artifact is not within the directory it is resolved against.
+ */
+public class ArtifactVerificationException extends IOException {
+    private static final long serialVersionUID = 1L;
+
+    private final transient Artifact artifact;
+
+    public ArtifactVerificationException(Artifact artifact, String message) {
+        super(message + ": " + artifact);
+        this.artifact = artifact;
+    }
+
+    /**
+     * Returns the artifact which failed verification.
+     *
+     * @return the artifact
+     */
+    public Artifact getArtifact() {
+        return artifact;
+    }
+}
@@ -0,0 +1,360 @@
+package org.parchmentmc.feather.download;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.parchmentmc.feather.util.ContentHashOutputStream;
+import org.parchmentmc.feather.util.FileUtils;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Verifies the files of {@linkplain Artifact artifacts} in a directory against their expected size and SHA-1 hash.
+ *
+ * <p>The size of each file is checked first, so truncated or replaced files are rejected without being read. Files are
+ * hashed by reading their {@link FileChannel} into a reused direct buffer, which avoids copying their contents onto the
+ * heap. Files are not memory-mapped, as mapped regions are only released on garbage collection and would keep the
+ * files locked on Windows.</p>
+ *
+ * <p>The verifier keeps an index of the SHA-1 hashes it has computed, keyed by the path of the file and valid for as
+ * long as the last-modified time and size of the file are unchanged. A file which is unchanged since it was last
+ * hashed is never hashed again. If an index file is given, the index is loaded from it on creation and written to it by
+ * {@link #save()}, so it is kept across runs.</p>
+ *
+ * <p>This class is safe for use by multiple threads.</p>
+ */
+public final class ArtifactVerifier {
+    private static final int INDEX_MAGIC = 0x46455649; // FEVI
+    private static final int INDEX_FORMAT = 1;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int READ_BUFFER_SIZE = 256 * 1024;
+    private static final ThreadLocal<ByteBuffer> READ_BUFFER =
+            ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(READ_BUFFER_SIZE));
+
+    private final Path directory;
+    @Nullable
+    private final Path indexFile;
+    private final int parallelism;
+    private final Executor executor;
+    private final Map<String, IndexEntry> index = new ConcurrentHashMap<>();
+
+    private final AtomicLong hashedCount = new AtomicLong();
+    private final AtomicLong indexHitCount = new AtomicLong();
+
+    /**
+     * Creates a verifier.
+     *
+     * @param directory   the directory which contains the artifacts
+     * @param indexFile   the file to persist the index of verified hashes to, or {@code null} to only keep it in memory
+     * @param parallelism the maximum number of files hashed concurrently
+     * @param executor    the executor to hash files on
+     */
+    public ArtifactVerifier(Path directory, @Nullable Path indexFile, int parallelism, Executor executor) {
+        if (parallelism < 1) throw new IllegalArgumentException("Parallelism must be positive: " + parallelism);
+        this.directory = directory;
+        this.indexFile = indexFile;
+        this.parallelism = parallelism;
+        this.executor = executor;
+        load();
+    }
+
+    public ArtifactVerifier(Path directory, @Nullable Path indexFile) {
+        this(directory, indexFile, Runtime.getRuntime().availableProcessors(), DownloadUtil.EXECUTOR);
+    }
+
+    public ArtifactVerifier(Path directory) {
+        this(directory, null);
+    }
+
+    /**
+     * Verifies the files of the given artifacts concurrently.
+     *
+     * @param artifacts the artifacts to verify
+     * @return the results, in the order of the artifacts
+     */
+    public List<VerificationResult> verifyAll(Collection<? extends Artifact> artifacts) {
+        return DownloadUtil.mapConcurrently(new ArrayList<>(artifacts), parallelism, executor, this::verify);
+    }
+
+    /**
+     * Verifies the file of the given artifact.
+     *
+     * <p>Any failure is reported in the result rather than thrown; unchecked exceptions are wrapped in an
+     * {@link IOException}.</p>
+     *
+     * @param artifact the artifact to verify
+     * @return the result
+     */
+    public VerificationResult verify(Artifact artifact) {
+        Path file = directory;
+        try {
+            file = DownloadUtil.resolve(directory, artifact);
+            final BasicFileAttributes attributes;
+            try {
+                attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            } catch (NoSuchFileException e) {
+                return new VerificationResult(artifact, file, Status.MISSING, null);
+            }
+            if (!attributes.isRegularFile()) {
+                return new VerificationResult(artifact, file, Status.MISSING, null);
+            }
+
+            final long size = attributes.size();
+            if (artifact.getSize() >= 0 && size != artifact.getSize()) {
+                return new VerificationResult(artifact, file, Status.SIZE_MISMATCH, null);
+            }
+            if (artifact.getSHA1() == null) {
+                return new VerificationResult(artifact, file, Status.VALID, null);
+            }
+
+            final long modified = attributes.lastModifiedTime().toMillis();
+            String hash = null;
+            final IndexEntry entry = index.get(artifact.getPath());
+            if (entry != null && entry.modified == modified && entry.size == size) {
+                indexHitCount.incrementAndGet();
+                hash = entry.sha1;
+            }
+            if (hash == null) {
+                hash = sha1(file);
+                hashedCount.incrementAndGet();
+                index.put(artifact.getPath(), new IndexEntry(modified, size, hash));
+            }
+
+            final Status status = artifact.getSHA1().equalsIgnoreCase(hash) ? Status.VALID : Status.HASH_MISMATCH;
+            return new VerificationResult(artifact, file, status, null);
+        } catch (IOException e) {
+            return new VerificationResult(artifact, file, Status.FAILED, e);
+        } catch (RuntimeException e) {
+            return new VerificationResult(artifact, file, Status.FAILED,
+                    new IOException("Failed to verify " + artifact, e));
+        }
+    }
+
+    private static String sha1(Path file) throws IOException {
+        final MessageDigest digest = ContentHashOutputStream.digest(ContentHashOutputStream.SHA_1);
+        final ByteBuffer buffer = READ_BUFFER.get();
+        buffer.clear();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+        return ContentHashOutputStream.toHex(digest.digest());
+    }
+
+    /**
+     * Loads the index from the index file, replacing the index in memory. A missing, corrupt or outdated index file
+     * is ignored, and the files are hashed again.
+     */
+    private void load() {
+        if (indexFile == null) return;
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexFile), BUFFER_SIZE))) {
+            if (in.readInt() != INDEX_MAGIC || in.readInt() != INDEX_FORMAT) return;
+            final int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                final String path = in.readUTF();
+                final long modified = in.readLong();
+                final long size = in.readLong();
+                final String sha1 = in.readUTF();
+                index.put(path, new IndexEntry(modified, size, sha1));
+            }
+        } catch (IOException | RuntimeException e) {
+            // Hashing everything again is always correct
+            index.clear();
+        }
+    }
+
+    /**
+     * Writes the index to the index file, if one was given.
+     *
+     * @throws IOException if an I/O error occurs while writing the index file
+     */
+    public void save() throws IOException {
+        if (indexFile == null) return;
+
+        final Map<String, IndexEntry> snapshot = new HashMap<>(index);
+        final Path parent = indexFile.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        final Path temp = Files.createTempFile(parent, indexFile.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream stream = Files.newOutputStream(temp);
+                 DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream, BUFFER_SIZE))) {
+                out.writeInt(INDEX_MAGIC);
+                out.writeInt(INDEX_FORMAT);
+                out.writeInt(snapshot.size());
+                for (Map.Entry<String, IndexEntry> entry : snapshot.entrySet()) {
+                    out.writeUTF(entry.getKey());
+                    out.writeLong(entry.getValue().modified);
+                    out.writeLong(entry.getValue().size);
+                    out.writeUTF(entry.getValue().sha1);
+                }
+            }
+            FileUtils.moveReplacing(temp, indexFile);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Removes all entries from the index in memory. The index file is kept until the next {@link #save()}.
+     */
+    public void invalidateAll() {
+        index.clear();
+    }
+
+    /**
+     * Returns the number of entries in the index.
+     *
+     * @return the size of the index
+     */
+    public int getIndexSize() {
+        return index.size();
+    }
+
+    /**
+     * Returns the number of files which were hashed.
+     *
+     * @return the number of hashed files
+     */
+    public long getHashedCount() {
+        return hashedCount.get();
+    }
+
+    /**
+     * Returns the number of files whose hash was taken from the index.
+     *
+     * @return the number of index hits
+     */
+    public long getIndexHitCount() {
+        return indexHitCount.get();
+    }
+
+    /**
+     * The status of a verified artifact.
+     */
+    public enum Status {
+        /**
+         * The file has the expected size and hash.
+         */
+        VALID,
+        /**
+         * The file does not exist.
+         */
+        MISSING,
+        /**
+         * The file does not have the expected size, and was not hashed.
+         */
+        SIZE_MISMATCH,
+        /**
+         * The file does not have the expected hash.
+         */
+        HASH_MISMATCH,
+        /**
+         * The file could not be read, or the path of the artifact is not within the directory.
+         */
+        FAILED
+    }
+
+    /**
+     * The result of verifying an artifact.
+     */
+    public static final class VerificationResult {
+        private final Artifact artifact;
+        private final Path file;
+        private final Status status;
+        @Nullable
+        private final IOException failure;
+
+        VerificationResult(Artifact artifact, Path file, Status status, @Nullable IOException failure) {
+            this.artifact = artifact;
+            this.file = file;
+            this.status = status;
+            this.failure = failure;
+        }
+
+        /**
+         * Returns the artifact.
+         *
+         * @return the artifact
+         */
+        public Artifact getArtifact() {
+            return artifact;
+        }
+
+        /**
+         * Returns the file of the artifact, or the directory if the path of the artifact is not within it.
+         *
+         * @return the file
+         */
+        public Path getFile() {
+            return file;
+        }
+
+        /**
+         * Returns the status of the artifact.
+         *
+         * @return the status
+         */
+        public Status getStatus() {
+            return status;
+        }
+
+        /**
+         * Returns whether the file of the artifact is valid.
+         *
+         * @return {@code true} if the status is {@link Status#VALID}
+         */
+        public boolean isValid() {
+            return status == Status.VALID;
+        }
+
+        /**
+         * Returns the failure, if the file {@linkplain Status#FAILED could not be verified}.
+         *
+         * @return the failure, or {@code null}
+         */
+        @Nullable
+        public IOException getFailure() {
+            return failure;
+        }
+
+        @Override
+        public String toString() {
+            return status + " " + artifact.getPath();
+        }
+    }
+
+    private static final class IndexEntry {
+        final long modified;
+        final long size;
+        final String sha1;
+
+        IndexEntry(long modified, long size, String sha1) {
+            this.modified = modified;
+            this.size = size;
+            this.sha1 = sha1;
+        }
+    }
+}
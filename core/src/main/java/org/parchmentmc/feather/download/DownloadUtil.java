@@ -0,0 +1,122 @@
+package org.parchmentmc.feather.download;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Helper methods shared by the artifact fetcher, verifier and sources.
+ */
+final class DownloadUtil {
+    /**
+     * The default executor of the fetcher and verifier. Fetching and hashing block on I/O, so this is a dedicated pool
+     * of daemon threads rather than the common fork-join pool. The number of threads in use is bounded by the
+     * parallelism of each call to {@link #mapConcurrently(List, int, Executor, Function)}.
+     */
+    static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(new DaemonThreadFactory());
+
+    private DownloadUtil() { // Prevent instantiation
+    }
+
+    /**
+     * Resolves the path of the given artifact against the given directory.
+     *
+     * <p>Although {@link Artifact} rejects paths which are obviously outside the directory, paths come from manifests
+     * and may still be interpreted differently by the file system, such as drive-relative paths on Windows. The
+     * resolved path is therefore normalized, and checked to be within the directory.</p>
+     *
+     * @param directory the directory
+     * @param artifact  the artifact
+     * @return the file of the artifact within the directory
+     * @throws ArtifactVerificationException if the path of the artifact is absolute, or is not within the directory
+     */
+    static Path resolve(Path directory, Artifact artifact) throws ArtifactVerificationException {
+        final Path relative;
+        try {
+            relative = directory.getFileSystem().getPath(artifact.getPath()).normalize();
+        } catch (InvalidPathException e) {
+            throw new ArtifactVerificationException(artifact, "Artifact path is not a valid path");
+        }
+        if (relative.isAbsolute() || relative.getRoot() != null) {
+            throw new ArtifactVerificationException(artifact, "Artifact path must not be absolute");
+        }
+
+        final Path root = directory.toAbsolutePath().normalize();
+        final Path target = root.resolve(relative).normalize();
+        if (!target.startsWith(root) || target.equals(root)) {
+            throw new ArtifactVerificationException(artifact, "Artifact path is not within the directory");
+        }
+        return directory.resolve(relative);
+    }
+
+    /**
+     * Applies the given task to each of the items, running up to the given number of tasks concurrently.
+     *
+     * <p>Each worker takes the next item from a shared queue, which bounds the concurrency regardless of the executor.
+     * If a task throws, the remaining workers are cancelled and the exception is rethrown.</p>
+     *
+     * @param items       the items
+     * @param parallelism the maximum number of tasks run concurrently
+     * @param executor    the executor to run the tasks on
+     * @param task        the task
+     * @param <T>         the type of items
+     * @param <R>         the type of results
+     * @return the unmodifiable list of results, in the order of the items
+     */
+    @SuppressWarnings("unchecked")
+    static <T, R> List<R> mapConcurrently(List<? extends T> items, int parallelism, Executor executor,
+                                          Function<? super T, ? extends R> task) {
+        final Object[] results = new Object[items.size()];
+
+        final int workers = Math.min(parallelism, items.size());
+        if (workers <= 1) {
+            for (int i = 0; i < results.length; i++) {
+                results[i] = task.apply(items.get(i));
+            }
+            return (List<R>) Collections.unmodifiableList(Arrays.asList(results));
+        }
+
+        final AtomicInteger next = new AtomicInteger();
+        final List<CompletableFuture<Void>> futures = new ArrayList<>(workers);
+        for (int worker = 0; worker < workers; worker++) {
+            futures.add(CompletableFuture.runAsync(() -> {
+                for (int i = next.getAndIncrement(); i < results.length; i = next.getAndIncrement()) {
+                    results[i] = task.apply(items.get(i));
+                }
+            }, executor));
+        }
+
+        try {
+            futures.forEach(CompletableFuture::join);
+        } catch (CompletionException e) {
+            futures.forEach(future -> future.cancel(false));
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if (cause instanceof Error) throw (Error) cause;
+            throw e;
+        }
+        return (List<R>) Collections.unmodifiableList(Arrays.asList(results));
+    }
+
+    private static class DaemonThreadFactory implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            final Thread thread = new Thread(runnable, "Feather-Download-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
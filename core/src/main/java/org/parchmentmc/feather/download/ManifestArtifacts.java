@@ -0,0 +1,141 @@
+package org.parchmentmc.feather.download;
+
+import org.parchmentmc.feather.manifests.Library;
+import org.parchmentmc.feather.manifests.LibraryEnvironment;
+import org.parchmentmc.feather.manifests.LibraryResolver;
+import org.parchmentmc.feather.manifests.LibraryResolver.ResolvedArtifact;
+import org.parchmentmc.feather.manifests.VersionManifest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collects the {@linkplain Artifact artifacts} of version manifests, laid out like the launcher's game directory.
+ *
+ * <ul>
+ *     <li>The asset index is placed at <tt>assets/indexes/<em>&lt;id&gt;</em>.json</tt>.</li>
+ *     <li>Each of the {@linkplain VersionManifest#getDownloads() downloads} is placed at
+ *     <tt>versions/<em>&lt;version&gt;</em>/<em>&lt;version&gt;</em>-<em>&lt;key&gt;&lt;extension&gt;</em></tt>,
+ *     where the extension is taken from its URL.</li>
+ *     <li>Library artifacts are placed at <tt>libraries/<em>&lt;path&gt;</em></tt>.</li>
+ * </ul>
+ */
+public final class ManifestArtifacts {
+    public static final String ASSET_INDEXES = "assets/indexes/";
+    public static final String VERSIONS = "versions/";
+    public static final String LIBRARIES = "libraries/";
+
+    private ManifestArtifacts() {
+        throw new IllegalStateException("Can not instantiate an instance of: ManifestArtifacts. This is a utility class");
+    }
+
+    /**
+     * Returns the artifacts of the given manifest: its asset index, its downloads, and all artifacts of all of its
+     * libraries, regardless of their rules.
+     *
+     * @param manifest the version manifest
+     * @return the artifacts of the manifest
+     */
+    public static List<Artifact> all(VersionManifest manifest) {
+        final List<Artifact> artifacts = new ArrayList<>();
+        artifacts.add(assetIndex(manifest));
+        artifacts.addAll(downloads(manifest));
+        artifacts.addAll(libraries(manifest));
+        return artifacts;
+    }
+
+    /**
+     * Returns the artifacts of the given manifest which are used in the given environment: its asset index, its
+     * downloads, and the resolved artifacts of its libraries.
+     *
+     * @param manifest    the version manifest
+     * @param resolver    the library resolver
+     * @param environment the environment
+     * @return the artifacts of the manifest used in the environment
+     * @see LibraryResolver#resolve(VersionManifest, LibraryEnvironment)
+     */
+    public static List<Artifact> all(VersionManifest manifest, LibraryResolver resolver, LibraryEnvironment environment) {
+        final List<Artifact> artifacts = new ArrayList<>();
+        artifacts.add(assetIndex(manifest));
+        artifacts.addAll(downloads(manifest));
+        artifacts.addAll(libraries(resolver.resolve(manifest, environment)));
+        return artifacts;
+    }
+
+    /**
+     * Returns the artifact of the asset index of the given manifest.
+     *
+     * @param manifest the version manifest
+     * @return the asset index artifact
+     */
+    public static Artifact assetIndex(VersionManifest manifest) {
+        final VersionManifest.AssetIndexInfo assetIndex = manifest.getAssetIndex();
+        return Artifact.of(assetIndex, ASSET_INDEXES + assetIndex.getId() + ".json");
+    }
+
+    /**
+     * Returns the artifacts of the downloads of the given manifest, such as the client and server JARs.
+     *
+     * @param manifest the version manifest
+     * @return the download artifacts
+     */
+    public static List<Artifact> downloads(VersionManifest manifest) {
+        final List<Artifact> artifacts = new ArrayList<>(manifest.getDownloads().size());
+        final String directory = VERSIONS + manifest.getId() + '/';
+        for (Map.Entry<String, VersionManifest.DownloadInfo> entry : manifest.getDownloads().entrySet()) {
+            final String path = directory + manifest.getId() + '-' + entry.getKey() + extension(entry.getValue().getUrl());
+            artifacts.add(Artifact.of(entry.getValue(), path));
+        }
+        return artifacts;
+    }
+
+    /**
+     * Returns all artifacts of all libraries of the given manifest, including the native artifacts for every OS,
+     * regardless of their rules.
+     *
+     * @param manifest the version manifest
+     * @return the library artifacts
+     */
+    public static List<Artifact> libraries(VersionManifest manifest) {
+        final List<Artifact> artifacts = new ArrayList<>();
+        for (Library library : manifest.getLibraries()) {
+            final Library.LibraryDownloads downloads = library.getDownloads();
+            if (downloads.getArtifact() != null) {
+                artifacts.add(library(downloads.getArtifact()));
+            }
+            if (downloads.getClassifiers() != null) {
+                for (Library.ArtifactDownload download : downloads.getClassifiers().values()) {
+                    artifacts.add(library(download));
+                }
+            }
+        }
+        return artifacts;
+    }
+
+    /**
+     * Returns the artifacts of the given resolved library artifacts.
+     *
+     * @param resolved the resolved library artifacts
+     * @return the library artifacts
+     */
+    public static List<Artifact> libraries(List<ResolvedArtifact> resolved) {
+        final List<Artifact> artifacts = new ArrayList<>(resolved.size());
+        for (ResolvedArtifact artifact : resolved) {
+            artifacts.add(library(artifact.getDownload()));
+        }
+        return artifacts;
+    }
+
+    private static Artifact library(Library.ArtifactDownload download) {
+        return Artifact.of(download, LIBRARIES + download.getPath());
+    }
+
+    private static String extension(String url) {
+        final int query = url.indexOf('?');
+        final String path = query >= 0 ? url.substring(0, query) : url;
+        final int slash = path.lastIndexOf('/');
+        final int dot = path.lastIndexOf('.');
+        return dot > slash ? path.substring(dot) : "";
+    }
+}
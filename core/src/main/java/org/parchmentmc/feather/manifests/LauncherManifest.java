@@ -19,6 +19,8 @@ import java.util.Objects;
 public class LauncherManifest implements Serializable {
     private final LatestVersionInfo latest;
     private final List<VersionData> versions;
+    @Nullable
+    private transient volatile LauncherManifestIndex index;
 
     public LauncherManifest(LatestVersionInfo latest, List<VersionData> versions) {
         this.latest = latest;
@@ -43,6 +45,21 @@ public class LauncherManifest implements Serializable {
         return versions;
     }
 
+    /**
+     * Returns the indexed view of the versions of this manifest, which is built on the first call.
+     *
+     * @return the indexed view of the versions
+     * @see LauncherManifestIndex
+     */
+    public LauncherManifestIndex getIndex() {
+        LauncherManifestIndex index = this.index;
+        if (index == null) {
+            // Building the index more than once in a race is harmless, as it is immutable
+            this.index = index = LauncherManifestIndex.of(this);
+        }
+        return index;
+    }
+
     @Override
     public boolean equals(@Nullable Object o) {
         if (this == o) return true;
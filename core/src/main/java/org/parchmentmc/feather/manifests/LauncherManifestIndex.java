@@ -0,0 +1,264 @@
+package org.parchmentmc.feather.manifests;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import org.parchmentmc.feather.manifests.LauncherManifest.VersionData;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+/**
+ * An indexed, read-only view of the versions of a {@link LauncherManifest}.
+ *
+ * <p>The indexes are built once, when the view is created, so looking up a version by its ID is a hash lookup, and
+ * querying the versions released within a range of time is a binary search which returns a view of the sorted index
+ * without copying. Release times are compared by their instant, which is precomputed for each version.</p>
+ *
+ * <p>The <em>sequence number</em> of a version is its position in the manifest. The launcher manifest lists versions
+ * from newest to oldest, so the latest version has the sequence number {@code 0}.</p>
+ *
+ * <p>Instances of this class are immutable and safe for use by multiple threads.</p>
+ *
+ * @see LauncherManifest#getIndex()
+ */
+public final class LauncherManifestIndex {
+    /**
+     * The type of full release versions.
+     */
+    public static final String RELEASE = "release";
+    /**
+     * The type of snapshot versions.
+     */
+    public static final String SNAPSHOT = "snapshot";
+
+    private final List<VersionData> versions;
+    private final Map<String, Integer> sequenceNumbers;
+    private final TimeIndex byReleaseTime;
+    private final Map<String, TimeIndex> byType;
+
+    private LauncherManifestIndex(List<VersionData> versions) {
+        this.versions = ImmutableList.copyOf(versions);
+
+        final Map<String, Integer> sequenceNumbers = new HashMap<>(versions.size() * 2);
+        for (int i = 0; i < versions.size(); i++) {
+            // The first occurrence wins, in case of a malformed manifest with duplicate IDs
+            sequenceNumbers.putIfAbsent(versions.get(i).getId(), i);
+        }
+        this.sequenceNumbers = Collections.unmodifiableMap(sequenceNumbers);
+
+        // Stable sort, so versions with the same release time stay in reverse sequence order (oldest first)
+        final List<VersionData> sorted = new ArrayList<>(this.versions);
+        Collections.reverse(sorted);
+        sorted.sort(Comparator.comparing(v -> v.getReleaseTime().toInstant()));
+        this.byReleaseTime = new TimeIndex(sorted);
+
+        final Map<String, List<VersionData>> buckets = new LinkedHashMap<>();
+        for (VersionData version : sorted) {
+            buckets.computeIfAbsent(version.getType(), k -> new ArrayList<>()).add(version);
+        }
+        final ImmutableMap.Builder<String, TimeIndex> byType = ImmutableMap.builder();
+        buckets.forEach((type, list) -> byType.put(type, new TimeIndex(list)));
+        this.byType = byType.build();
+    }
+
+    /**
+     * Creates an indexed view of the given launcher manifest.
+     *
+     * @param manifest the launcher manifest
+     * @return the indexed view
+     */
+    public static LauncherManifestIndex of(LauncherManifest manifest) {
+        return new LauncherManifestIndex(manifest.getVersions());
+    }
+
+    /**
+     * Returns the versions in sequence order, from newest to oldest as listed in the manifest.
+     *
+     * @return the versions in sequence order
+     */
+    public List<VersionData> getVersions() {
+        return versions;
+    }
+
+    /**
+     * Returns the version with the given ID, if present.
+     *
+     * @param id the version ID
+     * @return the version with the ID, or an empty optional
+     */
+    public Optional<VersionData> get(String id) {
+        final Integer sequenceNumber = sequenceNumbers.get(id);
+        return sequenceNumber != null ? Optional.of(versions.get(sequenceNumber)) : Optional.empty();
+    }
+
+    /**
+     * Returns whether a version with the given ID is present.
+     *
+     * @param id the version ID
+     * @return {@code true} if the version is present
+     */
+    public boolean contains(String id) {
+        return sequenceNumbers.containsKey(id);
+    }
+
+    /**
+     * Returns the sequence number of the version with the given ID, if present.
+     *
+     * @param id the version ID
+     * @return the sequence number of the version, or an empty optional
+     */
+    public OptionalInt getSequenceNumber(String id) {
+        final Integer sequenceNumber = sequenceNumbers.get(id);
+        return sequenceNumber != null ? OptionalInt.of(sequenceNumber) : OptionalInt.empty();
+    }
+
+    /**
+     * Returns a comparator which orders version IDs by their sequence number, from newest to oldest. IDs which are not
+     * present are ordered after all present IDs.
+     *
+     * @return the comparator of version IDs by sequence number
+     */
+    public Comparator<String> sequenceOrder() {
+        return Comparator.comparingInt(id -> sequenceNumbers.getOrDefault(id, Integer.MAX_VALUE));
+    }
+
+    /**
+     * Returns the versions sorted by release time, from oldest to newest.
+     *
+     * @return the versions sorted by release time
+     */
+    public List<VersionData> getVersionsByReleaseTime() {
+        return byReleaseTime.versions;
+    }
+
+    /**
+     * Returns the versions which were released within the given range, sorted by release time from oldest to newest.
+     *
+     * <p>The returned list is a view of the index, and is not copied.</p>
+     *
+     * @param from the start of the range, inclusive
+     * @param to   the end of the range, inclusive
+     * @return the versions released within the range
+     */
+    public List<VersionData> getReleasedBetween(OffsetDateTime from, OffsetDateTime to) {
+        return byReleaseTime.between(from.toInstant(), to.toInstant());
+    }
+
+    /**
+     * Returns the versions of the given type which were released within the given range, sorted by release time from
+     * oldest to newest.
+     *
+     * <p>The returned list is a view of the index, and is not copied.</p>
+     *
+     * @param type the type of release
+     * @param from the start of the range, inclusive
+     * @param to   the end of the range, inclusive
+     * @return the versions of the type released within the range
+     * @see VersionData#getType()
+     */
+    public List<VersionData> getReleasedBetween(String type, OffsetDateTime from, OffsetDateTime to) {
+        final TimeIndex index = byType.get(type);
+        return index != null ? index.between(from.toInstant(), to.toInstant()) : Collections.emptyList();
+    }
+
+    /**
+     * Returns the versions of the given type, sorted by release time from oldest to newest.
+     *
+     * @param type the type of release
+     * @return the versions of the type
+     * @see VersionData#getType()
+     */
+    public List<VersionData> getVersionsOfType(String type) {
+        final TimeIndex index = byType.get(type);
+        return index != null ? index.versions : Collections.emptyList();
+    }
+
+    /**
+     * Returns the full release versions, sorted by release time from oldest to newest.
+     *
+     * @return the release versions
+     * @see #RELEASE
+     */
+    public List<VersionData> getReleases() {
+        return getVersionsOfType(RELEASE);
+    }
+
+    /**
+     * Returns the snapshot versions, sorted by release time from oldest to newest.
+     *
+     * @return the snapshot versions
+     * @see #SNAPSHOT
+     */
+    public List<VersionData> getSnapshots() {
+        return getVersionsOfType(SNAPSHOT);
+    }
+
+    /**
+     * A list of versions sorted by release time, with the release instants unpacked for binary searches.
+     */
+    private static final class TimeIndex {
+        final List<VersionData> versions;
+        private final long[] seconds;
+        private final int[] nanos;
+
+        TimeIndex(List<VersionData> sorted) {
+            this.versions = ImmutableList.copyOf(sorted);
+            this.seconds = new long[sorted.size()];
+            this.nanos = new int[sorted.size()];
+            for (int i = 0; i < sorted.size(); i++) {
+                final Instant instant = sorted.get(i).getReleaseTime().toInstant();
+                seconds[i] = instant.getEpochSecond();
+                nanos[i] = instant.getNano();
+            }
+        }
+
+        List<VersionData> between(Instant from, Instant to) {
+            if (from.isAfter(to)) return Collections.emptyList();
+            final int start = firstNotBefore(from.getEpochSecond(), from.getNano());
+            final int end = firstAfter(to.getEpochSecond(), to.getNano());
+            return versions.subList(start, end);
+        }
+
+        private int firstNotBefore(long second, int nano) {
+            int low = 0;
+            int high = seconds.length;
+            while (low < high) {
+                final int mid = (low + high) >>> 1;
+                if (compare(mid, second, nano) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private int firstAfter(long second, int nano) {
+            int low = 0;
+            int high = seconds.length;
+            while (low < high) {
+                final int mid = (low + high) >>> 1;
+                if (compare(mid, second, nano) <= 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private int compare(int index, long second, int nano) {
+            final int result = Long.compare(seconds[index], second);
+            return result != 0 ? result : Integer.compare(nanos[index], nano);
+        }
+    }
+}
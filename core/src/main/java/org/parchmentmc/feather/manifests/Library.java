@@ -7,6 +7,7 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 import java.io.Serializable;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 /**
  * A library used by a game version.
@@ -82,6 +83,21 @@ public class Library implements Serializable {
         return rules;
     }
 
+    @Override
+    public boolean equals(@Nullable Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Library library = (Library) o;
+        return getName().equals(library.getName()) && Objects.equals(getExtract(), library.getExtract())
+                && getDownloads().equals(library.getDownloads()) && Objects.equals(getNatives(), library.getNatives())
+                && getRules().equals(library.getRules());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getName(), getExtract(), getDownloads(), getNatives(), getRules());
+    }
+
     /**
      * The information for the file downloads of the library.
      */
@@ -120,6 +136,20 @@ public class Library implements Serializable {
         public Map<String, ArtifactDownload> getClassifiers() {
             return classifiers;
         }
+
+        @Override
+        public boolean equals(@Nullable Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            LibraryDownloads that = (LibraryDownloads) o;
+            return Objects.equals(getArtifact(), that.getArtifact())
+                    && Objects.equals(getClassifiers(), that.getClassifiers());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(getArtifact(), getClassifiers());
+        }
     }
 
     /**
@@ -144,6 +174,16 @@ public class Library implements Serializable {
         public String getPath() {
             return path;
         }
+
+        @Override
+        public boolean equals(@Nullable Object o) {
+            return super.equals(o) && getPath().equals(((ArtifactDownload) o).getPath());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(super.hashCode(), getPath());
+        }
     }
 
     /**
@@ -164,6 +204,18 @@ public class Library implements Serializable {
         public List<String> getExclude() {
             return exclude;
         }
+
+        @Override
+        public boolean equals(@Nullable Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            return getExclude().equals(((ExtractInfo) o).getExclude());
+        }
+
+        @Override
+        public int hashCode() {
+            return getExclude().hashCode();
+        }
     }
 
     /**
@@ -215,6 +267,20 @@ public class Library implements Serializable {
         public String getWindows() {
             return windows;
         }
+
+        @Override
+        public boolean equals(@Nullable Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            NativesInfo that = (NativesInfo) o;
+            return Objects.equals(getLinux(), that.getLinux()) && Objects.equals(getOSX(), that.getOSX())
+                    && Objects.equals(getWindows(), that.getWindows());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(getLinux(), getOSX(), getWindows());
+        }
     }
 
     /**
@@ -263,6 +329,19 @@ public class Library implements Serializable {
             return os;
         }
 
+        @Override
+        public boolean equals(@Nullable Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Rule rule = (Rule) o;
+            return getAction().equals(rule.getAction()) && Objects.equals(getOS(), rule.getOS());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(getAction(), getOS());
+        }
+
         /**
          * The rule condition matching against an OS.
          */
@@ -293,6 +372,19 @@ public class Library implements Serializable {
             public String getVersion() {
                 return version;
             }
+
+            @Override
+            public boolean equals(@Nullable Object o) {
+                if (this == o) return true;
+                if (o == null || getClass() != o.getClass()) return false;
+                OSCondition that = (OSCondition) o;
+                return Objects.equals(getName(), that.getName()) && Objects.equals(getVersion(), that.getVersion());
+            }
+
+            @Override
+            public int hashCode() {
+                return Objects.hash(getName(), getVersion());
+            }
         }
     }
 }
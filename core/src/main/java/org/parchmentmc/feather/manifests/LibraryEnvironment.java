@@ -0,0 +1,104 @@
+package org.parchmentmc.feather.manifests;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * The environment which the libraries of a {@link VersionManifest} are resolved for, consisting of the OS name, the
+ * OS version and the architecture.
+ *
+ * <p>The OS name uses the names of the launcher manifests: {@code windows}, {@code osx} or {@code linux}.</p>
+ *
+ * @see LibraryResolver
+ */
+public final class LibraryEnvironment {
+    public static final String WINDOWS = "windows";
+    public static final String OSX = "osx";
+    public static final String LINUX = "linux";
+
+    private final String osName;
+    private final String osVersion;
+    private final String arch;
+
+    public LibraryEnvironment(String osName, String osVersion, String arch) {
+        this.osName = Objects.requireNonNull(osName, "OS name must not be null");
+        this.osVersion = Objects.requireNonNull(osVersion, "OS version must not be null");
+        this.arch = Objects.requireNonNull(arch, "Architecture must not be null");
+    }
+
+    /**
+     * Returns the environment of the running JVM, from the {@code os.name}, {@code os.version} and {@code os.arch}
+     * system properties.
+     *
+     * @return the current environment
+     */
+    public static LibraryEnvironment current() {
+        final String name = System.getProperty("os.name", "").toLowerCase(Locale.ROOT);
+        final String osName;
+        if (name.contains("win")) {
+            osName = WINDOWS;
+        } else if (name.contains("mac") || name.contains("darwin")) {
+            osName = OSX;
+        } else {
+            osName = LINUX;
+        }
+        return new LibraryEnvironment(osName, System.getProperty("os.version", ""), System.getProperty("os.arch", ""));
+    }
+
+    /**
+     * Returns the name of the OS, as used by the launcher manifests.
+     *
+     * @return the OS name
+     */
+    public String getOSName() {
+        return osName;
+    }
+
+    /**
+     * Returns the version of the OS, which is matched against {@linkplain Library.Rule.OSCondition#getVersion() OS
+     * version patterns}.
+     *
+     * @return the OS version
+     */
+    public String getOSVersion() {
+        return osVersion;
+    }
+
+    /**
+     * Returns the architecture, such as {@code x86} or {@code amd64}.
+     *
+     * @return the architecture
+     */
+    public String getArch() {
+        return arch;
+    }
+
+    /**
+     * Returns the bitness of the architecture, which replaces the <tt>${arch}</tt> placeholder in native classifiers.
+     *
+     * @return {@code "64"} for 64-bit architectures, otherwise {@code "32"}
+     */
+    public String getArchBits() {
+        return arch.contains("64") ? "64" : "32";
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        LibraryEnvironment that = (LibraryEnvironment) o;
+        return osName.equals(that.osName) && osVersion.equals(that.osVersion) && arch.equals(that.arch);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(osName, osVersion, arch);
+    }
+
+    @Override
+    public String toString() {
+        return osName + ' ' + osVersion + " (" + arch + ')';
+    }
+}
@@ -0,0 +1,260 @@
+package org.parchmentmc.feather.manifests;
+
+import com.google.common.collect.ImmutableList;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.parchmentmc.feather.manifests.Library.ArtifactDownload;
+import org.parchmentmc.feather.manifests.Library.NativesInfo;
+import org.parchmentmc.feather.manifests.Library.Rule;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Resolves the artifacts of the {@linkplain VersionManifest#getLibraries() libraries of a version manifest} for a
+ * {@linkplain LibraryEnvironment environment}.
+ *
+ * <p>The rules of each library are compiled once into a predicate, with the OS version patterns compiled ahead of
+ * time, and shared between all libraries with equal rules. The compiled rules remember their result for each
+ * environment, so identical rules are only evaluated once per environment. The resolved artifacts are cached per
+ * manifest ID and environment; manifests are assumed to be identified by their ID.</p>
+ *
+ * <p>This class is safe for use by multiple threads.</p>
+ */
+public final class LibraryResolver {
+    private static final String ALLOW = "allow";
+    private static final String ARCH_PLACEHOLDER = "${arch}";
+
+    private final Map<List<Rule>, CompiledRules> compiledRules = new ConcurrentHashMap<>();
+    private final Map<Key, List<ResolvedArtifact>> resolved = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the artifacts of the libraries of the given manifest which are used in the given environment, in the
+     * order of the libraries.
+     *
+     * <p>For each library allowed by its rules, the main artifact comes first, followed by the native artifact for the
+     * OS of the environment, if any.</p>
+     *
+     * @param manifest    the version manifest
+     * @param environment the environment
+     * @return the immutable list of resolved artifacts
+     */
+    public List<ResolvedArtifact> resolve(VersionManifest manifest, LibraryEnvironment environment) {
+        final Key key = new Key(manifest.getId(), environment);
+        final List<ResolvedArtifact> cached = resolved.get(key);
+        if (cached != null) return cached;
+
+        final List<ResolvedArtifact> artifacts = resolveUncached(manifest, environment);
+        final List<ResolvedArtifact> previous = resolved.putIfAbsent(key, artifacts);
+        return previous != null ? previous : artifacts;
+    }
+
+    private List<ResolvedArtifact> resolveUncached(VersionManifest manifest, LibraryEnvironment environment) {
+        final ImmutableList.Builder<ResolvedArtifact> artifacts = ImmutableList.builder();
+
+        for (Library library : manifest.getLibraries()) {
+            if (!isAllowed(library, environment)) continue;
+
+            final ArtifactDownload artifact = library.getDownloads().getArtifact();
+            if (artifact != null) {
+                artifacts.add(new ResolvedArtifact(library, null, artifact));
+            }
+
+            final String classifier = getNativeClassifier(library, environment);
+            final Map<String, ArtifactDownload> classifiers = library.getDownloads().getClassifiers();
+            if (classifier != null && classifiers != null) {
+                final ArtifactDownload nativeArtifact = classifiers.get(classifier);
+                if (nativeArtifact != null) {
+                    artifacts.add(new ResolvedArtifact(library, classifier, nativeArtifact));
+                }
+            }
+        }
+
+        return artifacts.build();
+    }
+
+    /**
+     * Returns whether the given library is used in the given environment, according to its rules.
+     *
+     * @param library     the library
+     * @param environment the environment
+     * @return {@code true} if the library is allowed in the environment
+     */
+    public boolean isAllowed(Library library, LibraryEnvironment environment) {
+        final List<Rule> rules = library.getRules();
+        if (rules.isEmpty()) return true;
+        return compiledRules.computeIfAbsent(rules, CompiledRules::new).test(environment);
+    }
+
+    @Nullable
+    private static String getNativeClassifier(Library library, LibraryEnvironment environment) {
+        final NativesInfo natives = library.getNatives();
+        if (natives == null) return null;
+
+        final String classifier;
+        switch (environment.getOSName()) {
+            case LibraryEnvironment.WINDOWS:
+                classifier = natives.getWindows();
+                break;
+            case LibraryEnvironment.OSX:
+                classifier = natives.getOSX();
+                break;
+            case LibraryEnvironment.LINUX:
+                classifier = natives.getLinux();
+                break;
+            default:
+                return null;
+        }
+        return classifier != null ? classifier.replace(ARCH_PLACEHOLDER, environment.getArchBits()) : null;
+    }
+
+    /**
+     * Removes all cached resolved artifacts and compiled rules.
+     */
+    public void invalidateAll() {
+        resolved.clear();
+        compiledRules.clear();
+    }
+
+    /**
+     * An artifact of a library resolved for an environment.
+     */
+    public static final class ResolvedArtifact {
+        private final Library library;
+        @Nullable
+        private final String classifier;
+        private final ArtifactDownload download;
+
+        ResolvedArtifact(Library library, @Nullable String classifier, ArtifactDownload download) {
+            this.library = library;
+            this.classifier = classifier;
+            this.download = download;
+        }
+
+        /**
+         * Returns the library which the artifact belongs to.
+         *
+         * @return the library
+         */
+        public Library getLibrary() {
+            return library;
+        }
+
+        /**
+         * Returns the classifier of the native artifact, or {@code null} if this is the main artifact of the library.
+         *
+         * @return the native classifier, or {@code null}
+         */
+        @Nullable
+        public String getClassifier() {
+            return classifier;
+        }
+
+        /**
+         * Returns whether this is a native artifact, which is extracted rather than added to the classpath.
+         *
+         * @return {@code true} if this is a native artifact
+         * @see Library#getExtract()
+         */
+        public boolean isNative() {
+            return classifier != null;
+        }
+
+        /**
+         * Returns the download information of the artifact.
+         *
+         * @return the download information
+         */
+        public ArtifactDownload getDownload() {
+            return download;
+        }
+
+        @Override
+        public boolean equals(@Nullable Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            ResolvedArtifact that = (ResolvedArtifact) o;
+            return library.equals(that.library) && Objects.equals(classifier, that.classifier)
+                    && download.equals(that.download);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(library, classifier, download);
+        }
+
+        @Override
+        public String toString() {
+            return classifier != null ? library.getName() + ':' + classifier : library.getName();
+        }
+    }
+
+    /**
+     * The rules of a library, compiled into a predicate which remembers its result for each environment.
+     *
+     * <p>The rules are evaluated in order, starting from disallowed; the last rule whose condition is satisfied takes
+     * effect.</p>
+     */
+    private static final class CompiledRules implements Predicate<LibraryEnvironment> {
+        private final boolean[] allow;
+        private final String[] osNames;
+        private final Pattern[] osVersions;
+        private final Map<LibraryEnvironment, Boolean> results = new ConcurrentHashMap<>();
+
+        CompiledRules(List<Rule> rules) {
+            this.allow = new boolean[rules.size()];
+            this.osNames = new String[rules.size()];
+            this.osVersions = new Pattern[rules.size()];
+            for (int i = 0; i < rules.size(); i++) {
+                final Rule rule = rules.get(i);
+                allow[i] = ALLOW.equals(rule.getAction());
+                final Rule.OSCondition os = rule.getOS();
+                if (os != null) {
+                    osNames[i] = os.getName();
+                    osVersions[i] = os.getVersion() != null ? Pattern.compile(os.getVersion()) : null;
+                }
+            }
+        }
+
+        @Override
+        public boolean test(LibraryEnvironment environment) {
+            return results.computeIfAbsent(environment, this::evaluate);
+        }
+
+        private boolean evaluate(LibraryEnvironment environment) {
+            boolean allowed = false;
+            for (int i = 0; i < allow.length; i++) {
+                if (osNames[i] != null && !osNames[i].equals(environment.getOSName())) continue;
+                if (osVersions[i] != null && !osVersions[i].matcher(environment.getOSVersion()).find()) continue;
+                allowed = allow[i];
+            }
+            return allowed;
+        }
+    }
+
+    private static final class Key {
+        final String manifestId;
+        final LibraryEnvironment environment;
+
+        Key(String manifestId, LibraryEnvironment environment) {
+            this.manifestId = manifestId;
+            this.environment = environment;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return manifestId.equals(key.manifestId) && environment.equals(key.environment);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * manifestId.hashCode() + environment.hashCode();
+        }
+    }
+}
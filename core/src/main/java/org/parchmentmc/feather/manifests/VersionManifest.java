@@ -8,6 +8,7 @@ import java.io.Serializable;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 /**
  * The manifest for a game version.
@@ -192,6 +193,28 @@ public class VersionManifest implements Serializable {
         return minecraftArguments;
     }
 
+    @Override
+    public boolean equals(@Nullable Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        VersionManifest that = (VersionManifest) o;
+        return getComplianceLevel() == that.getComplianceLevel()
+                && getMinimumLauncherVersion() == that.getMinimumLauncherVersion() && getId().equals(that.getId())
+                && getType().equals(that.getType()) && getTime().equals(that.getTime())
+                && getReleaseTime().equals(that.getReleaseTime()) && getMainClass().equals(that.getMainClass())
+                && Objects.equals(getJavaVersionInfo(), that.getJavaVersionInfo())
+                && Objects.equals(getAssets(), that.getAssets()) && Objects.equals(getAssetIndex(), that.getAssetIndex())
+                && getDownloads().equals(that.getDownloads()) && getLibraries().equals(that.getLibraries())
+                && Objects.equals(getMinecraftArguments(), that.getMinecraftArguments());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getId(), getType(), getComplianceLevel(), getMinimumLauncherVersion(), getTime(),
+                getReleaseTime(), getMainClass(), getJavaVersionInfo(), getAssets(), getAssetIndex(), getDownloads(),
+                getLibraries(), getMinecraftArguments());
+    }
+
     // TODO: arguments[game,jvm], logging
 
     /**
@@ -213,6 +236,19 @@ public class VersionManifest implements Serializable {
         public int getMajorVersion() {
             return majorVersion;
         }
+
+        @Override
+        public boolean equals(@Nullable Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            JavaVersionInfo that = (JavaVersionInfo) o;
+            return getMajorVersion() == that.getMajorVersion() && getComponent().equals(that.getComponent());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(getComponent(), getMajorVersion());
+        }
     }
 
     /**
@@ -255,6 +291,19 @@ public class VersionManifest implements Serializable {
         public String getUrl() {
             return url;
         }
+
+        @Override
+        public boolean equals(@Nullable Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            DownloadInfo that = (DownloadInfo) o;
+            return getSize() == that.getSize() && getSHA1().equals(that.getSHA1()) && getUrl().equals(that.getUrl());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(getSHA1(), getSize(), getUrl());
+        }
     }
 
     public static class AssetIndexInfo extends DownloadInfo {
@@ -274,5 +323,17 @@ public class VersionManifest implements Serializable {
         public int getTotalSize() {
             return totalSize;
         }
+
+        @Override
+        public boolean equals(@Nullable Object o) {
+            if (!super.equals(o)) return false;
+            AssetIndexInfo that = (AssetIndexInfo) o;
+            return getTotalSize() == that.getTotalSize() && getId().equals(that.getId());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(super.hashCode(), getId(), getTotalSize());
+        }
     }
 }
@@ -0,0 +1,634 @@
+package org.parchmentmc.feather.mapping;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.*;
+
+/**
+ * A compact immutable {@link MappingDataContainer}, which stores all of its data in flat parallel arrays.
+ *
+ * <p>All names, descriptors, and javadoc lines are deduplicated into a single string pool. Packages, classes, fields,
+ * methods, and parameters are each stored as parallel arrays of indexes into that pool, with each class holding a
+ * range into the field and method arrays, and each method holding a range into the parameter arrays. The data objects
+ * returned by this container are lightweight views over these arrays, which are created on demand.</p>
+ *
+ * <p>Compared to {@link ImmutableMappingDataContainer}, this avoids the overhead of a set and map per class (which
+ * dominates for the many classes with only one or two members), at the cost of lookups being done through a binary
+ * search. This makes it suitable for keeping many containers in memory at once, such as for comparing exports across
+ * versions.</p>
+ *
+ * @see #copyOf(MappingDataContainer)
+ */
+public final class FlatMappingDataContainer implements MappingDataContainer {
+    private static final int NONE = -1;
+
+    private final String[] pool;
+
+    // Javadoc lines and member ranges are stored as offset arrays one longer than the amount of entries, such that
+    // entry i owns the range [offsets[i], offsets[i + 1]) of the corresponding lines or member arrays
+    private final int[] packageNames;
+    private final int[] packageJavadoc;
+    private final int[] packageLines;
+
+    private final int[] classNames;
+    private final int[] classJavadoc;
+    private final int[] classLines;
+    private final int[] classFields;
+    private final int[] classMethods;
+
+    private final int[] fieldNames;
+    private final int[] fieldDescriptors;
+    private final int[] fieldJavadoc;
+    private final int[] fieldLines;
+
+    private final int[] methodNames;
+    private final int[] methodDescriptors;
+    private final int[] methodJavadoc;
+    private final int[] methodLines;
+    private final int[] methodParameters;
+
+    private final byte[] parameterIndexes;
+    private final int[] parameterNames;
+    private final int[] parameterJavadoc;
+
+    private final Set<PackageData> packagesView;
+    private final Set<ClassData> classesView;
+
+    private FlatMappingDataContainer(MappingDataContainer container) {
+        final List<PackageData> packages = sorted(container.getPackages(), PackageData.COMPARATOR);
+        final List<ClassData> classes = sorted(container.getClasses(), ClassData.COMPARATOR);
+
+        // First pass: count everything, so the arrays can be allocated at their exact size
+        int packageLineCount = 0;
+        int classLineCount = 0;
+        int fieldLineCount = 0;
+        int methodLineCount = 0;
+        int fieldCount = 0;
+        int methodCount = 0;
+        int parameterCount = 0;
+        for (PackageData pkg : packages) {
+            packageLineCount += pkg.getJavadoc().size();
+        }
+        for (ClassData cls : classes) {
+            classLineCount += cls.getJavadoc().size();
+            for (FieldData field : cls.getFields()) {
+                fieldLineCount += field.getJavadoc().size();
+                fieldCount++;
+            }
+            for (MethodData method : cls.getMethods()) {
+                methodLineCount += method.getJavadoc().size();
+                parameterCount += method.getParameters().size();
+                methodCount++;
+            }
+        }
+
+        packageNames = new int[packages.size()];
+        packageJavadoc = new int[packages.size() + 1];
+        packageLines = new int[packageLineCount];
+        classNames = new int[classes.size()];
+        classJavadoc = new int[classes.size() + 1];
+        classLines = new int[classLineCount];
+        classFields = new int[classes.size() + 1];
+        classMethods = new int[classes.size() + 1];
+        fieldNames = new int[fieldCount];
+        fieldDescriptors = new int[fieldCount];
+        fieldJavadoc = new int[fieldCount + 1];
+        fieldLines = new int[fieldLineCount];
+        methodNames = new int[methodCount];
+        methodDescriptors = new int[methodCount];
+        methodJavadoc = new int[methodCount + 1];
+        methodLines = new int[methodLineCount];
+        methodParameters = new int[methodCount + 1];
+        parameterIndexes = new byte[parameterCount];
+        parameterNames = new int[parameterCount];
+        parameterJavadoc = new int[parameterCount];
+
+        // Second pass: fill in the arrays, pooling strings as they are encountered
+        final Map<String, Integer> poolIndexes = new HashMap<>();
+        for (int i = 0; i < packages.size(); i++) {
+            final PackageData pkg = packages.get(i);
+            packageNames[i] = intern(poolIndexes, pkg.getName());
+            packageJavadoc[i + 1] = appendJavadoc(poolIndexes, pkg.getJavadoc(), packageLines, packageJavadoc[i]);
+        }
+
+        int field = 0;
+        int method = 0;
+        int parameter = 0;
+        for (int i = 0; i < classes.size(); i++) {
+            final ClassData cls = classes.get(i);
+            classNames[i] = intern(poolIndexes, cls.getName());
+            classJavadoc[i + 1] = appendJavadoc(poolIndexes, cls.getJavadoc(), classLines, classJavadoc[i]);
+
+            for (FieldData fieldData : sorted(cls.getFields(), FieldData.COMPARATOR)) {
+                fieldNames[field] = intern(poolIndexes, fieldData.getName());
+                fieldDescriptors[field] = intern(poolIndexes, fieldData.getDescriptor());
+                fieldJavadoc[field + 1] = appendJavadoc(poolIndexes, fieldData.getJavadoc(), fieldLines, fieldJavadoc[field]);
+                field++;
+            }
+            classFields[i + 1] = field;
+
+            for (MethodData methodData : sorted(cls.getMethods(), MethodData.COMPARATOR)) {
+                methodNames[method] = intern(poolIndexes, methodData.getName());
+                methodDescriptors[method] = intern(poolIndexes, methodData.getDescriptor());
+                methodJavadoc[method + 1] = appendJavadoc(poolIndexes, methodData.getJavadoc(), methodLines, methodJavadoc[method]);
+
+                for (ParameterData param : sorted(methodData.getParameters(), ParameterData.COMPARATOR)) {
+                    parameterIndexes[parameter] = param.getIndex();
+                    parameterNames[parameter] = intern(poolIndexes, param.getName());
+                    parameterJavadoc[parameter] = intern(poolIndexes, param.getJavadoc());
+                    parameter++;
+                }
+                methodParameters[++method] = parameter;
+            }
+            classMethods[i + 1] = method;
+        }
+
+        pool = new String[poolIndexes.size()];
+        poolIndexes.forEach((str, index) -> pool[index] = str);
+
+        packagesView = new RangeSet<PackageData>(0, packageNames.length) {
+            @Override
+            PackageData element(int ordinal) {
+                return new PackageView(ordinal);
+            }
+
+            @Override
+            int find(Object o) {
+                return o instanceof PackageData ? findPackage(((PackageData) o).getName()) : NONE;
+            }
+        };
+        classesView = new RangeSet<ClassData>(0, classNames.length) {
+            @Override
+            ClassData element(int ordinal) {
+                return new ClassView(ordinal);
+            }
+
+            @Override
+            int find(Object o) {
+                return o instanceof ClassData ? findClass(((ClassData) o).getName()) : NONE;
+            }
+        };
+    }
+
+    /**
+     * Creates a flat copy of the given mapping data container. If the given container is already a {@code
+     * FlatMappingDataContainer}, it is returned as-is.
+     *
+     * @param container the mapping data container to copy
+     * @return a flat copy of the container
+     */
+    public static FlatMappingDataContainer copyOf(MappingDataContainer container) {
+        if (container instanceof FlatMappingDataContainer) {
+            return (FlatMappingDataContainer) container;
+        }
+        return new FlatMappingDataContainer(container);
+    }
+
+    private static <T> List<T> sorted(Collection<? extends T> collection, Comparator<? super T> comparator) {
+        final List<T> list = new ArrayList<>(collection);
+        list.sort(comparator);
+        return list;
+    }
+
+    private static int intern(Map<String, Integer> poolIndexes, @Nullable String str) {
+        if (str == null) return NONE;
+        return poolIndexes.computeIfAbsent(str, s -> poolIndexes.size());
+    }
+
+    private static int appendJavadoc(Map<String, Integer> poolIndexes, List<String> javadoc, int[] lines, int line) {
+        for (String str : javadoc) {
+            lines[line++] = intern(poolIndexes, str);
+        }
+        return line;
+    }
+
+    @Nullable
+    private String string(int poolIndex) {
+        return poolIndex == NONE ? null : pool[poolIndex];
+    }
+
+    private int search(int[] names, int from, int to, String name) {
+        int low = from;
+        int high = to - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            final int cmp = pool[names[mid]].compareTo(name);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return NONE;
+    }
+
+    private int findPackage(String name) {
+        return name == null ? NONE : search(packageNames, 0, packageNames.length, name);
+    }
+
+    private int findClass(String name) {
+        return name == null ? NONE : search(classNames, 0, classNames.length, name);
+    }
+
+    private int findField(int cls, String name) {
+        return name == null ? NONE : search(fieldNames, classFields[cls], classFields[cls + 1], name);
+    }
+
+    private int findMethod(int cls, String name, String descriptor) {
+        if (name == null || descriptor == null) return NONE;
+        int low = classMethods[cls];
+        int high = classMethods[cls + 1] - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            int cmp = pool[methodNames[mid]].compareTo(name);
+            if (cmp == 0) {
+                cmp = pool[methodDescriptors[mid]].compareTo(descriptor);
+            }
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return NONE;
+    }
+
+    private int findParameter(int method, byte index) {
+        // Methods only have a handful of parameters, so a linear scan is enough
+        for (int i = methodParameters[method]; i < methodParameters[method + 1]; i++) {
+            if (parameterIndexes[i] == index) return i;
+        }
+        return NONE;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Collection<? extends PackageData> getPackages() {
+        return packagesView;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nullable
+    @Override
+    public PackageData getPackage(String packageName) {
+        final int ordinal = findPackage(packageName);
+        return ordinal == NONE ? null : new PackageView(ordinal);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Collection<? extends ClassData> getClasses() {
+        return classesView;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nullable
+    @Override
+    public ClassData getClass(String className) {
+        final int ordinal = findClass(className);
+        return ordinal == NONE ? null : new ClassView(ordinal);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof MappingDataContainer)) return false;
+        MappingDataContainer that = (MappingDataContainer) o;
+        return getPackages().equals(that.getPackages()) && getClasses().equals(that.getClasses());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getPackages(), getClasses());
+    }
+
+    /**
+     * An unmodifiable set view over a range of entries, in the order they are stored.
+     */
+    private abstract static class RangeSet<T> extends AbstractSet<T> {
+        private final int from;
+        private final int to;
+
+        RangeSet(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        abstract T element(int ordinal);
+
+        /**
+         * Returns the ordinal of the entry which shares the same key as the given object, or {@link #NONE}.
+         */
+        abstract int find(Object o);
+
+        @Override
+        public boolean contains(Object o) {
+            final int ordinal = find(o);
+            return ordinal != NONE && element(ordinal).equals(o);
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return new Iterator<T>() {
+                private int next = from;
+
+                @Override
+                public boolean hasNext() {
+                    return next < to;
+                }
+
+                @Override
+                public T next() {
+                    if (!hasNext()) throw new NoSuchElementException();
+                    return element(next++);
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return to - from;
+        }
+    }
+
+    /**
+     * An unmodifiable list view over a range of javadoc lines.
+     */
+    private final class JavadocList extends AbstractList<String> implements RandomAccess {
+        private final int[] lines;
+        private final int from;
+        private final int to;
+
+        JavadocList(int[] lines, int[] offsets, int ordinal) {
+            this.lines = lines;
+            this.from = offsets[ordinal];
+            this.to = offsets[ordinal + 1];
+        }
+
+        @Override
+        public String get(int index) {
+            if (index < 0 || index >= size()) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+            return pool[lines[from + index]];
+        }
+
+        @Override
+        public int size() {
+            return to - from;
+        }
+    }
+
+    private final class PackageView implements PackageData {
+        private final int ordinal;
+
+        PackageView(int ordinal) {
+            this.ordinal = ordinal;
+        }
+
+        @Override
+        public String getName() {
+            return pool[packageNames[ordinal]];
+        }
+
+        @Override
+        public List<String> getJavadoc() {
+            return new JavadocList(packageLines, packageJavadoc, ordinal);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof PackageData)) return false;
+            PackageData that = (PackageData) o;
+            return Objects.equals(getName(), that.getName()) && getJavadoc().equals(that.getJavadoc());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(getName(), getJavadoc());
+        }
+    }
+
+    private final class ClassView implements ClassData {
+        private final int ordinal;
+
+        ClassView(int ordinal) {
+            this.ordinal = ordinal;
+        }
+
+        @Override
+        public String getName() {
+            return pool[classNames[ordinal]];
+        }
+
+        @Override
+        public List<String> getJavadoc() {
+            return new JavadocList(classLines, classJavadoc, ordinal);
+        }
+
+        @Override
+        public Collection<? extends FieldData> getFields() {
+            return new RangeSet<FieldData>(classFields[ordinal], classFields[ordinal + 1]) {
+                @Override
+                FieldData element(int field) {
+                    return new FieldView(field);
+                }
+
+                @Override
+                int find(Object o) {
+                    return o instanceof FieldData ? findField(ordinal, ((FieldData) o).getName()) : NONE;
+                }
+            };
+        }
+
+        @Nullable
+        @Override
+        public FieldData getField(String fieldName) {
+            final int field = findField(ordinal, fieldName);
+            return field == NONE ? null : new FieldView(field);
+        }
+
+        @Override
+        public Collection<? extends MethodData> getMethods() {
+            return new RangeSet<MethodData>(classMethods[ordinal], classMethods[ordinal + 1]) {
+                @Override
+                MethodData element(int method) {
+                    return new MethodView(method);
+                }
+
+                @Override
+                int find(Object o) {
+                    if (!(o instanceof MethodData)) return NONE;
+                    final MethodData method = (MethodData) o;
+                    return findMethod(ordinal, method.getName(), method.getDescriptor());
+                }
+            };
+        }
+
+        @Nullable
+        @Override
+        public MethodData getMethod(String methodName, String descriptor) {
+            final int method = findMethod(ordinal, methodName, descriptor);
+            return method == NONE ? null : new MethodView(method);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof ClassData)) return false;
+            ClassData that = (ClassData) o;
+            return Objects.equals(getName(), that.getName()) && getJavadoc().equals(that.getJavadoc())
+                    && getFields().equals(that.getFields()) && getMethods().equals(that.getMethods());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(getName(), getJavadoc(), getFields(), getMethods());
+        }
+    }
+
+    private final class FieldView implements FieldData {
+        private final int ordinal;
+
+        FieldView(int ordinal) {
+            this.ordinal = ordinal;
+        }
+
+        @Override
+        public String getName() {
+            return pool[fieldNames[ordinal]];
+        }
+
+        @Override
+        public String getDescriptor() {
+            return string(fieldDescriptors[ordinal]);
+        }
+
+        @Override
+        public List<String> getJavadoc() {
+            return new JavadocList(fieldLines, fieldJavadoc, ordinal);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof FieldData)) return false;
+            FieldData that = (FieldData) o;
+            return getName().equals(that.getName()) && Objects.equals(getDescriptor(), that.getDescriptor())
+                    && getJavadoc().equals(that.getJavadoc());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(getName(), getDescriptor(), getJavadoc());
+        }
+    }
+
+    private final class MethodView implements MethodData {
+        private final int ordinal;
+
+        MethodView(int ordinal) {
+            this.ordinal = ordinal;
+        }
+
+        @Override
+        public String getName() {
+            return pool[methodNames[ordinal]];
+        }
+
+        @Override
+        public String getDescriptor() {
+            return pool[methodDescriptors[ordinal]];
+        }
+
+        @Override
+        public List<String> getJavadoc() {
+            return new JavadocList(methodLines, methodJavadoc, ordinal);
+        }
+
+        @Override
+        public Collection<? extends ParameterData> getParameters() {
+            return new RangeSet<ParameterData>(methodParameters[ordinal], methodParameters[ordinal + 1]) {
+                @Override
+                ParameterData element(int parameter) {
+                    return new ParameterView(parameter);
+                }
+
+                @Override
+                int find(Object o) {
+                    return o instanceof ParameterData ? findParameter(ordinal, ((ParameterData) o).getIndex()) : NONE;
+                }
+            };
+        }
+
+        @Nullable
+        @Override
+        public ParameterData getParameter(byte index) {
+            final int parameter = findParameter(ordinal, index);
+            return parameter == NONE ? null : new ParameterView(parameter);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof MethodData)) return false;
+            MethodData that = (MethodData) o;
+            return getName().equals(that.getName()) && getDescriptor().equals(that.getDescriptor())
+                    && getJavadoc().equals(that.getJavadoc()) && getParameters().equals(that.getParameters());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(getName(), getDescriptor(), getJavadoc(), getParameters());
+        }
+    }
+
+    private final class ParameterView implements ParameterData {
+        private final int ordinal;
+
+        ParameterView(int ordinal) {
+            this.ordinal = ordinal;
+        }
+
+        @Override
+        public byte getIndex() {
+            return parameterIndexes[ordinal];
+        }
+
+        @Nullable
+        @Override
+        public String getName() {
+            return string(parameterNames[ordinal]);
+        }
+
+        @Nullable
+        @Override
+        public String getJavadoc() {
+            return string(parameterJavadoc[ordinal]);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof ParameterData)) return false;
+            ParameterData that = (ParameterData) o;
+            return getIndex() == that.getIndex() && Objects.equals(getName(), that.getName()) && Objects.equals(getJavadoc(), that.getJavadoc());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(getIndex(), getName(), getJavadoc());
+        }
+    }
+}
@@ -268,15 +268,15 @@ public class ImmutableMappingDataContainer implements MappingDataContainer {
         private final String name;
         private final String descriptor;
         private final List<String> javadoc;
-        private final Set<ParameterData> parameters;
-        private final Map<Byte, ParameterData> parametersMap;
+        private final IndexedParameterSet<ParameterData> parameters;
+        private final Collection<ParameterData> parametersView;
 
         public ImmutableMethodData(String name, String descriptor, List<String> javadoc, Collection<? extends ParameterData> parameters) {
             this.name = name;
             this.javadoc = ImmutableList.copyOf(javadoc);
             this.descriptor = descriptor;
-            this.parameters = ImmutableSortedSet.copyOf(ParameterData.COMPARATOR, parameters);
-            this.parametersMap = Maps.uniqueIndex(this.parameters, ParameterData::getIndex);
+            this.parameters = new IndexedParameterSet<>(parameters);
+            this.parametersView = Collections.unmodifiableSet(this.parameters);
         }
 
         /**
@@ -308,7 +308,7 @@ public class ImmutableMappingDataContainer implements MappingDataContainer {
          */
         @Override
         public Collection<? extends ParameterData> getParameters() {
-            return parameters;
+            return parametersView;
         }
 
         /**
@@ -317,7 +317,7 @@ public class ImmutableMappingDataContainer implements MappingDataContainer {
         @Nullable
         @Override
         public ParameterData getParameter(byte index) {
-            return parametersMap.get(index);
+            return parameters.get(index);
         }
 
         @Override
@@ -0,0 +1,190 @@
+package org.parchmentmc.feather.mapping;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * A set of {@link MappingDataContainer.ParameterData}, stored in an array indexed directly by the parameter index.
+ *
+ * <p>Parameter indexes are small and dense, so this avoids the boxing and per-entry overhead of a sorted set paired
+ * with a map. Iteration is in ascending order of the parameter index as a signed byte, which is the same order as
+ * {@link MappingDataContainer.ParameterData#COMPARATOR}.</p>
+ *
+ * <p>There can be at most one parameter for each index in the set. This set does not permit {@code null}
+ * elements.</p>
+ *
+ * @param <P> the type of parameter data
+ */
+final class IndexedParameterSet<P extends MappingDataContainer.ParameterData> extends AbstractSet<P> {
+    private static final MappingDataContainer.ParameterData[] EMPTY = new MappingDataContainer.ParameterData[0];
+
+    private MappingDataContainer.ParameterData[] slots = EMPTY;
+    private int size = 0;
+
+    IndexedParameterSet() {
+    }
+
+    /**
+     * Creates a set containing the given parameters. If multiple parameters share the same index, only the first is
+     * kept.
+     *
+     * @param parameters the parameters
+     */
+    IndexedParameterSet(Collection<? extends P> parameters) {
+        int maxSlot = -1;
+        for (P param : parameters) {
+            maxSlot = Math.max(maxSlot, slot(param.getIndex()));
+        }
+        if (maxSlot >= 0) {
+            slots = new MappingDataContainer.ParameterData[maxSlot + 1];
+        }
+        for (P param : parameters) {
+            if (get(param.getIndex()) == null) {
+                put(param);
+            }
+        }
+    }
+
+    private static int slot(byte index) {
+        return index & 0xFF;
+    }
+
+    /**
+     * Gets the parameter at the given index, or {@code null} if there is none.
+     *
+     * @param index the parameter index
+     * @return the parameter at the index, or {@code null} if none
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    P get(byte index) {
+        final int slot = slot(index);
+        return slot < slots.length ? (P) slots[slot] : null;
+    }
+
+    /**
+     * Stores the given parameter, replacing any existing parameter with the same index.
+     *
+     * @param param the parameter to store
+     * @return the replaced parameter, or {@code null} if there was none
+     */
+    @Nullable
+    P put(P param) {
+        final int slot = slot(param.getIndex());
+        if (slot >= slots.length) {
+            // Grow to exactly fit; parameter lists are short, so over-allocating would only waste space
+            slots = Arrays.copyOf(slots, slot + 1);
+        }
+        final P previous = get(param.getIndex());
+        slots[slot] = param;
+        if (previous == null) size++;
+        return previous;
+    }
+
+    /**
+     * Gets the parameter at the given index, or computes and stores a new one if there is none.
+     *
+     * @param index   the parameter index
+     * @param factory the factory for the parameter, if none exists
+     * @return the existing or newly created parameter
+     */
+    P computeIfAbsent(byte index, Function<Byte, ? extends P> factory) {
+        P param = get(index);
+        if (param == null) {
+            param = factory.apply(index);
+            put(param);
+        }
+        return param;
+    }
+
+    /**
+     * Removes the parameter at the given index.
+     *
+     * @param index the parameter index
+     * @return the removed parameter, or {@code null} if there was none
+     */
+    @Nullable
+    P removeIndex(byte index) {
+        final P previous = get(index);
+        if (previous != null) {
+            slots[slot(index)] = null;
+            size--;
+        }
+        return previous;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (!(o instanceof MappingDataContainer.ParameterData)) return false;
+        final P param = get(((MappingDataContainer.ParameterData) o).getIndex());
+        return param != null && param.equals(o);
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (!contains(o)) return false;
+        removeIndex(((MappingDataContainer.ParameterData) o).getIndex());
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        slots = EMPTY;
+        size = 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Iterator<P> iterator() {
+        return new Iterator<P>() {
+            // Walk the indexes in signed order, so the slots of negative indexes (128 and up) come first
+            private int next = advance(slots.length > 128 ? Byte.MIN_VALUE : 0);
+            private int last = -1;
+
+            private int advance(int from) {
+                for (; from < 0; from++) {
+                    final int slot = slot((byte) from);
+                    if (slot >= slots.length) {
+                        // The slots of the remaining negative indexes are past the end
+                        from = 0;
+                        break;
+                    }
+                    if (slots[slot] != null) return from;
+                }
+                // Only scan up to the last slot, rather than to the largest index
+                final int end = Math.min(slots.length, Byte.MAX_VALUE + 1);
+                for (; from < end; from++) {
+                    if (slots[from] != null) return from;
+                }
+                return Byte.MAX_VALUE + 1;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return next <= Byte.MAX_VALUE;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public P next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                last = slot((byte) next);
+                next = advance(next + 1);
+                return (P) slots[last];
+            }
+
+            @Override
+            public void remove() {
+                if (last < 0 || slots[last] == null) throw new IllegalStateException();
+                slots[last] = null;
+                size--;
+            }
+        };
+    }
+}
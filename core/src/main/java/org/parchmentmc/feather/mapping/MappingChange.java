@@ -0,0 +1,189 @@
+package org.parchmentmc.feather.mapping;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Objects;
+
+/**
+ * A single change between two {@link MappingDataContainer}s, as produced by {@link MappingUtil#diff(MappingDataContainer,
+ * MappingDataContainer)}.
+ *
+ * <p>A change is keyed by the element it applies to: the package or class name, the member name and descriptor for
+ * fields and methods, and the parameter index for parameters. The values carried by the change depend on its
+ * {@linkplain Type type}; see the documentation of each type for the values it carries.</p>
+ *
+ * @param <V> the type of the old and new values
+ */
+public final class MappingChange<V> {
+    private final Type type;
+    private final Element element;
+    private final String name;
+    @Nullable
+    private final String memberName;
+    @Nullable
+    private final String memberDescriptor;
+    private final byte parameterIndex;
+    @Nullable
+    private final V oldValue;
+    @Nullable
+    private final V newValue;
+
+    public MappingChange(Type type, Element element, String name, @Nullable String memberName,
+                         @Nullable String memberDescriptor, byte parameterIndex, @Nullable V oldValue, @Nullable V newValue) {
+        this.type = type;
+        this.element = element;
+        this.name = name;
+        this.memberName = memberName;
+        this.memberDescriptor = memberDescriptor;
+        this.parameterIndex = parameterIndex;
+        this.oldValue = oldValue;
+        this.newValue = newValue;
+    }
+
+    /**
+     * Returns the type of this change.
+     *
+     * @return the type of change
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns the kind of element this change applies to.
+     *
+     * @return the kind of element
+     */
+    public Element getElement() {
+        return element;
+    }
+
+    /**
+     * Returns the name of the package (for {@linkplain Element#PACKAGE package} changes) or the class (for all other
+     * changes) this change applies to.
+     *
+     * @return the package or class name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the name of the field or method this change applies to, or {@code null} for package and class changes.
+     *
+     * @return the member name, or {@code null} if not applicable
+     */
+    @Nullable
+    public String getMemberName() {
+        return memberName;
+    }
+
+    /**
+     * Returns the descriptor of the field or method this change applies to, or {@code null} for package and class
+     * changes.
+     *
+     * <p>Fields are keyed only by their name, so for a {@linkplain Type#DESCRIPTOR_CHANGED descriptor change} this
+     * is the old descriptor of the field.</p>
+     *
+     * @return the member descriptor, or {@code null} if not applicable
+     */
+    @Nullable
+    public String getMemberDescriptor() {
+        return memberDescriptor;
+    }
+
+    /**
+     * Returns the index of the parameter this change applies to, or {@code 0} for changes to other elements.
+     *
+     * @return the parameter index
+     */
+    public byte getParameterIndex() {
+        return parameterIndex;
+    }
+
+    /**
+     * Returns the old value, or {@code null} if there is none or it was not recorded.
+     *
+     * @return the old value, or {@code null}
+     */
+    @Nullable
+    public V getOldValue() {
+        return oldValue;
+    }
+
+    /**
+     * Returns the new value, or {@code null} if there is none.
+     *
+     * @return the new value, or {@code null}
+     */
+    @Nullable
+    public V getNewValue() {
+        return newValue;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof MappingChange)) return false;
+        MappingChange<?> that = (MappingChange<?>) o;
+        return parameterIndex == that.parameterIndex && type == that.type && element == that.element
+                && name.equals(that.name) && Objects.equals(memberName, that.memberName)
+                && Objects.equals(memberDescriptor, that.memberDescriptor)
+                && Objects.equals(oldValue, that.oldValue) && Objects.equals(newValue, that.newValue);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, element, name, memberName, memberDescriptor, parameterIndex, oldValue, newValue);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder().append(type).append(' ').append(element).append(' ').append(name);
+        if (memberName != null) builder.append('#').append(memberName);
+        if (memberDescriptor != null) builder.append(element == Element.FIELD ? ":" : "").append(memberDescriptor);
+        if (element == Element.PARAMETER) builder.append('@').append(parameterIndex);
+        return builder.toString();
+    }
+
+    /**
+     * The kind of element a change applies to.
+     */
+    public enum Element {
+        PACKAGE, CLASS, FIELD, METHOD, PARAMETER
+    }
+
+    /**
+     * The type of a change.
+     */
+    public enum Type {
+        /**
+         * The element was added. The new value is the added data (such as a {@link MappingDataContainer.ClassData}),
+         * and the old value is {@code null}.
+         *
+         * <p>The contents of the added data (such as the fields and methods of an added class) are not reported as
+         * separate changes.</p>
+         */
+        ADDED,
+        /**
+         * The element was removed. The old value is the removed data (such as a {@link MappingDataContainer.ClassData}),
+         * and the new value is {@code null}.
+         *
+         * <p>The contents of the removed data are not reported as separate changes.</p>
+         */
+        REMOVED,
+        /**
+         * The javadoc of the element changed. For parameters, the values are the javadoc {@code String}s (which may
+         * be {@code null}); for all other elements, the values are the javadoc {@code List<String>}s.
+         */
+        JAVADOC_CHANGED,
+        /**
+         * The name of a parameter changed. The values are the parameter names, which may be {@code null}.
+         */
+        NAME_CHANGED,
+        /**
+         * The descriptor of a field changed. The values are the field descriptors.
+         */
+        DESCRIPTOR_CHANGED
+    }
+}
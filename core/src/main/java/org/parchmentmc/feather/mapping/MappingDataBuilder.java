@@ -367,8 +367,7 @@ public class MappingDataBuilder implements MappingDataContainer {
         private final String descriptor;
         private final List<String> javadoc = new ArrayList<>();
         private transient final List<String> javadocView = Collections.unmodifiableList(javadoc);
-        private final Set<MutableParameterData> parameters = new TreeSet<>(ParameterData.COMPARATOR);
-        private transient final Map<Byte, MutableParameterData> parametersMap = new HashMap<>();
+        private final IndexedParameterSet<MutableParameterData> parameters = new IndexedParameterSet<>();
         private transient final Collection<MutableParameterData> parametersView = Collections.unmodifiableSet(parameters);
 
         MutableMethodData(String name, String descriptor) {
@@ -411,35 +410,25 @@ public class MappingDataBuilder implements MappingDataContainer {
         @Override
         @Nullable
         public MutableParameterData getParameter(byte index) {
-            return parametersMap.get(index);
+            return parameters.get(index);
         }
 
         public MutableParameterData createParameter(byte index) {
-            MutableParameterData param = makeParameter(index);
-            parametersMap.put(index, param);
+            MutableParameterData param = new MutableParameterData(index);
+            parameters.put(param);
             return param;
         }
 
         public MutableParameterData getOrCreateParameter(byte index) {
-            return parametersMap.computeIfAbsent(index, this::makeParameter);
-        }
-
-        private MutableParameterData makeParameter(byte index) {
-            MutableParameterData param = new MutableParameterData(index);
-            parameters.add(param);
-            return param;
+            return parameters.computeIfAbsent(index, MutableParameterData::new);
         }
 
         public boolean removeParameter(byte index) {
-            MutableParameterData data = parametersMap.remove(index);
-            if (data == null) return false;
-            parameters.remove(data);
-            return true;
+            return parameters.removeIndex(index) != null;
         }
 
         public MutableMethodData clearParameters() {
             parameters.clear();
-            parametersMap.clear();
             return this;
         }
 
@@ -0,0 +1,168 @@
+package org.parchmentmc.feather.mapping;
+
+import com.google.common.collect.ImmutableList;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * A filter and projection for selectively reading mapping data.
+ *
+ * <p>Adapters which support a filter skip the JSON of excluded {@linkplain MappingDataContainer.PackageData packages}
+ * and {@linkplain MappingDataContainer.ClassData classes} without materializing them, and (if javadocs are not
+ * {@linkplain #includesJavadoc() included}) skip the javadocs of all entries.</p>
+ *
+ * <p>Filters are immutable; each {@code with} method returns a new filter.</p>
+ */
+public final class MappingDataFilter {
+    private static final MappingDataFilter ALL = new MappingDataFilter(ImmutableList.of(), null, true);
+
+    private final ImmutableList<String> packagePrefixes;
+    private final Predicate<String> classFilter;
+    private final boolean includeJavadoc;
+
+    private MappingDataFilter(ImmutableList<String> packagePrefixes, Predicate<String> classFilter,
+                              boolean includeJavadoc) {
+        this.packagePrefixes = packagePrefixes;
+        this.classFilter = classFilter;
+        this.includeJavadoc = includeJavadoc;
+    }
+
+    /**
+     * Returns the filter which includes all mapping data.
+     *
+     * @return the filter which includes everything
+     */
+    public static MappingDataFilter all() {
+        return ALL;
+    }
+
+    /**
+     * Returns a filter which only includes the given packages and their subpackages, and the classes within them.
+     *
+     * <p>For example, the package prefix {@code net/minecraft/world/level} includes the package of that name, the
+     * package {@code net/minecraft/world/level/block}, and the class {@code net/minecraft/world/level/Level}, but not
+     * the package {@code net/minecraft/world/levelgen}.</p>
+     *
+     * <p>If this filter already has package prefixes, the given prefixes are added to them.</p>
+     *
+     * @param packagePrefixes the names of the packages to include, using {@code /} as the separator
+     * @return the new filter
+     */
+    public MappingDataFilter withPackagePrefixes(Collection<String> packagePrefixes) {
+        final ImmutableList<String> prefixes = ImmutableList.<String>builder()
+                .addAll(this.packagePrefixes)
+                .addAll(packagePrefixes)
+                .build();
+        return new MappingDataFilter(prefixes, classFilter, includeJavadoc);
+    }
+
+    /**
+     * Returns a filter which only includes the classes (and their members) whose name matches the given predicate.
+     *
+     * <p>If this filter already has a class predicate, a class must match both predicates to be included. Packages are
+     * not affected by the class predicate.</p>
+     *
+     * @param classFilter the predicate for the names of included classes
+     * @return the new filter
+     */
+    public MappingDataFilter withClassFilter(Predicate<String> classFilter) {
+        Objects.requireNonNull(classFilter, "classFilter");
+        final Predicate<String> filter = this.classFilter != null ? this.classFilter.and(classFilter) : classFilter;
+        return new MappingDataFilter(packagePrefixes, filter, includeJavadoc);
+    }
+
+    /**
+     * Returns a filter which leaves out the javadocs of all entries, keeping only the names and descriptors.
+     *
+     * @return the new filter
+     */
+    public MappingDataFilter withoutJavadoc() {
+        return new MappingDataFilter(packagePrefixes, classFilter, false);
+    }
+
+    /**
+     * Returns whether this filter includes everything, in which case adapters may read the data without checking it.
+     *
+     * @return if this filter includes all mapping data
+     */
+    public boolean isAll() {
+        return packagePrefixes.isEmpty() && classFilter == null && includeJavadoc;
+    }
+
+    /**
+     * Returns whether this filter may exclude some packages or classes.
+     *
+     * @return if this filter may exclude entries
+     */
+    public boolean excludesEntries() {
+        return !packagePrefixes.isEmpty() || classFilter != null;
+    }
+
+    /**
+     * Returns whether the javadocs of entries are included.
+     *
+     * @return if javadocs are included
+     */
+    public boolean includesJavadoc() {
+        return includeJavadoc;
+    }
+
+    /**
+     * Returns whether the package with the given name is included.
+     *
+     * @param packageName the name of the package
+     * @return if the package is included
+     */
+    public boolean includesPackage(String packageName) {
+        return packagePrefixes.isEmpty() || matchesPrefix(packageName, packageName.length());
+    }
+
+    /**
+     * Returns whether the class with the given name is included.
+     *
+     * @param className the name of the class
+     * @return if the class is included
+     */
+    public boolean includesClass(String className) {
+        if (!packagePrefixes.isEmpty() && !matchesPrefix(className, Math.max(0, className.lastIndexOf('/')))) {
+            return false;
+        }
+        return classFilter == null || classFilter.test(className);
+    }
+
+    private boolean matchesPrefix(String name, int packageLength) {
+        for (String prefix : packagePrefixes) {
+            final int length = prefix.length();
+            if (packageLength >= length && name.startsWith(prefix)
+                    && (packageLength == length || name.charAt(length) == '/')) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof MappingDataFilter)) return false;
+        MappingDataFilter that = (MappingDataFilter) o;
+        return includeJavadoc == that.includeJavadoc && packagePrefixes.equals(that.packagePrefixes)
+                && Objects.equals(classFilter, that.classFilter);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(packagePrefixes, classFilter, includeJavadoc);
+    }
+
+    @Override
+    public String toString() {
+        return "MappingDataFilter{" +
+                "packagePrefixes=" + packagePrefixes +
+                ", classFilter=" + classFilter +
+                ", includeJavadoc=" + includeJavadoc +
+                '}';
+    }
+}
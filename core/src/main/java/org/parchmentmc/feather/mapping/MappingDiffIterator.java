@@ -0,0 +1,240 @@
+package org.parchmentmc.feather.mapping;
+
+import org.parchmentmc.feather.mapping.MappingChange.Element;
+import org.parchmentmc.feather.mapping.MappingChange.Type;
+import org.parchmentmc.feather.mapping.MappingDataContainer.*;
+
+import java.util.*;
+
+/**
+ * Lazily computes the changes between two mapping data containers.
+ *
+ * <p>Each level of the data (packages, classes, fields, methods, and parameters) is walked as a merge of two sorted
+ * lists, using the comparators of the data interfaces. When two entries match, the walk over their children is pushed
+ * onto a stack and completed before the parent walk continues, so changes are produced depth-first in sorted order.
+ * Only the walks along the current path are held at any time, and each entry is visited once.</p>
+ *
+ * @see MappingUtil#diff(MappingDataContainer, MappingDataContainer)
+ */
+final class MappingDiffIterator implements Iterator<MappingChange<?>> {
+    private final Deque<MappingChange<?>> pending = new ArrayDeque<>();
+    private final Deque<Walk<?>> walks = new ArrayDeque<>();
+
+    MappingDiffIterator(MappingDataContainer base, MappingDataContainer target) {
+        // Pushed in reverse, so packages are walked first
+        walks.push(new Walk<ClassData>(base.getClasses(), target.getClasses(), ClassData.COMPARATOR) {
+            @Override
+            void removed(ClassData cls) {
+                pending.add(change(Type.REMOVED, Element.CLASS, cls.getName(), cls, null));
+            }
+
+            @Override
+            void added(ClassData cls) {
+                pending.add(change(Type.ADDED, Element.CLASS, cls.getName(), null, cls));
+            }
+
+            @Override
+            void matched(ClassData oldCls, ClassData newCls) {
+                if (!oldCls.getJavadoc().equals(newCls.getJavadoc())) {
+                    pending.add(change(Type.JAVADOC_CHANGED, Element.CLASS, newCls.getName(), oldCls.getJavadoc(), newCls.getJavadoc()));
+                }
+                walks.push(methodWalk(oldCls, newCls));
+                walks.push(fieldWalk(oldCls, newCls));
+            }
+        });
+        walks.push(new Walk<PackageData>(base.getPackages(), target.getPackages(), PackageData.COMPARATOR) {
+            @Override
+            void removed(PackageData pkg) {
+                pending.add(change(Type.REMOVED, Element.PACKAGE, pkg.getName(), pkg, null));
+            }
+
+            @Override
+            void added(PackageData pkg) {
+                pending.add(change(Type.ADDED, Element.PACKAGE, pkg.getName(), null, pkg));
+            }
+
+            @Override
+            void matched(PackageData oldPkg, PackageData newPkg) {
+                if (!oldPkg.getJavadoc().equals(newPkg.getJavadoc())) {
+                    pending.add(change(Type.JAVADOC_CHANGED, Element.PACKAGE, newPkg.getName(), oldPkg.getJavadoc(), newPkg.getJavadoc()));
+                }
+            }
+        });
+    }
+
+    private static <V> MappingChange<V> change(Type type, Element element, String name, V oldValue, V newValue) {
+        return new MappingChange<>(type, element, name, null, null, (byte) 0, oldValue, newValue);
+    }
+
+    private Walk<FieldData> fieldWalk(ClassData oldCls, ClassData newCls) {
+        final String className = newCls.getName();
+        return new Walk<FieldData>(oldCls.getFields(), newCls.getFields(), FieldData.COMPARATOR) {
+            @Override
+            void removed(FieldData field) {
+                pending.add(change(Type.REMOVED, field, field, null));
+            }
+
+            @Override
+            void added(FieldData field) {
+                pending.add(change(Type.ADDED, field, null, field));
+            }
+
+            @Override
+            void matched(FieldData oldField, FieldData newField) {
+                if (!Objects.equals(oldField.getDescriptor(), newField.getDescriptor())) {
+                    pending.add(change(Type.DESCRIPTOR_CHANGED, oldField, oldField.getDescriptor(), newField.getDescriptor()));
+                }
+                if (!oldField.getJavadoc().equals(newField.getJavadoc())) {
+                    pending.add(change(Type.JAVADOC_CHANGED, newField, oldField.getJavadoc(), newField.getJavadoc()));
+                }
+            }
+
+            private <V> MappingChange<V> change(Type type, FieldData field, V oldValue, V newValue) {
+                return new MappingChange<>(type, Element.FIELD, className, field.getName(), field.getDescriptor(),
+                        (byte) 0, oldValue, newValue);
+            }
+        };
+    }
+
+    private Walk<MethodData> methodWalk(ClassData oldCls, ClassData newCls) {
+        final String className = newCls.getName();
+        return new Walk<MethodData>(oldCls.getMethods(), newCls.getMethods(), MethodData.COMPARATOR) {
+            @Override
+            void removed(MethodData method) {
+                pending.add(change(Type.REMOVED, method, method, null));
+            }
+
+            @Override
+            void added(MethodData method) {
+                pending.add(change(Type.ADDED, method, null, method));
+            }
+
+            @Override
+            void matched(MethodData oldMethod, MethodData newMethod) {
+                if (!oldMethod.getJavadoc().equals(newMethod.getJavadoc())) {
+                    pending.add(change(Type.JAVADOC_CHANGED, newMethod, oldMethod.getJavadoc(), newMethod.getJavadoc()));
+                }
+                walks.push(parameterWalk(className, oldMethod, newMethod));
+            }
+
+            private <V> MappingChange<V> change(Type type, MethodData method, V oldValue, V newValue) {
+                return new MappingChange<>(type, Element.METHOD, className, method.getName(), method.getDescriptor(),
+                        (byte) 0, oldValue, newValue);
+            }
+        };
+    }
+
+    private Walk<ParameterData> parameterWalk(String className, MethodData oldMethod, MethodData newMethod) {
+        final String methodName = newMethod.getName();
+        final String methodDescriptor = newMethod.getDescriptor();
+        return new Walk<ParameterData>(oldMethod.getParameters(), newMethod.getParameters(), ParameterData.COMPARATOR) {
+            @Override
+            void removed(ParameterData param) {
+                pending.add(change(Type.REMOVED, param, param, null));
+            }
+
+            @Override
+            void added(ParameterData param) {
+                pending.add(change(Type.ADDED, param, null, param));
+            }
+
+            @Override
+            void matched(ParameterData oldParam, ParameterData newParam) {
+                if (!Objects.equals(oldParam.getName(), newParam.getName())) {
+                    pending.add(change(Type.NAME_CHANGED, newParam, oldParam.getName(), newParam.getName()));
+                }
+                if (!Objects.equals(oldParam.getJavadoc(), newParam.getJavadoc())) {
+                    pending.add(change(Type.JAVADOC_CHANGED, newParam, oldParam.getJavadoc(), newParam.getJavadoc()));
+                }
+            }
+
+            private <V> MappingChange<V> change(Type type, ParameterData param, V oldValue, V newValue) {
+                return new MappingChange<>(type, Element.PARAMETER, className, methodName, methodDescriptor,
+                        param.getIndex(), oldValue, newValue);
+            }
+        };
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (pending.isEmpty() && !walks.isEmpty()) {
+            final Walk<?> walk = walks.peek();
+            if (walk.isDone()) {
+                walks.pop();
+            } else {
+                walk.step();
+            }
+        }
+        return !pending.isEmpty();
+    }
+
+    @Override
+    public MappingChange<?> next() {
+        if (!hasNext()) throw new NoSuchElementException();
+        return pending.poll();
+    }
+
+    /**
+     * A merge walk over two collections of data, sorted by the given comparator.
+     *
+     * @param <T> the type of data
+     */
+    private abstract static class Walk<T> {
+        private final List<? extends T> left;
+        private final List<? extends T> right;
+        private final Comparator<? super T> comparator;
+        private int leftIndex = 0;
+        private int rightIndex = 0;
+
+        Walk(Collection<? extends T> left, Collection<? extends T> right, Comparator<? super T> comparator) {
+            this.left = sorted(left, comparator);
+            this.right = sorted(right, comparator);
+            this.comparator = comparator;
+        }
+
+        private static <T> List<? extends T> sorted(Collection<? extends T> collection, Comparator<? super T> comparator) {
+            final List<T> list = new ArrayList<>(collection);
+            // Containers are almost always sorted already, in which case this is a single linear check
+            for (int i = 1; i < list.size(); i++) {
+                if (comparator.compare(list.get(i - 1), list.get(i)) > 0) {
+                    list.sort(comparator);
+                    break;
+                }
+            }
+            return list;
+        }
+
+        boolean isDone() {
+            return leftIndex >= left.size() && rightIndex >= right.size();
+        }
+
+        void step() {
+            if (leftIndex >= left.size()) {
+                added(right.get(rightIndex++));
+            } else if (rightIndex >= right.size()) {
+                removed(left.get(leftIndex++));
+            } else {
+                final T leftEntry = left.get(leftIndex);
+                final T rightEntry = right.get(rightIndex);
+                final int cmp = comparator.compare(leftEntry, rightEntry);
+                if (cmp < 0) {
+                    leftIndex++;
+                    removed(leftEntry);
+                } else if (cmp > 0) {
+                    rightIndex++;
+                    added(rightEntry);
+                } else {
+                    leftIndex++;
+                    rightIndex++;
+                    matched(leftEntry, rightEntry);
+                }
+            }
+        }
+
+        abstract void removed(T entry);
+
+        abstract void added(T entry);
+
+        abstract void matched(T oldEntry, T newEntry);
+    }
+}
@@ -0,0 +1,379 @@
+package org.parchmentmc.feather.mapping;
+
+import com.google.common.collect.ImmutableList;
+import org.parchmentmc.feather.mapping.ImmutableMappingDataContainer.ImmutableClassData;
+import org.parchmentmc.feather.mapping.ImmutableMappingDataContainer.ImmutableFieldData;
+import org.parchmentmc.feather.mapping.ImmutableMappingDataContainer.ImmutableMethodData;
+import org.parchmentmc.feather.mapping.ImmutableMappingDataContainer.ImmutablePackageData;
+import org.parchmentmc.feather.mapping.ImmutableMappingDataContainer.ImmutableParameterData;
+import org.parchmentmc.feather.mapping.MappingChange.Element;
+import org.parchmentmc.feather.mapping.MappingChange.Type;
+import org.parchmentmc.feather.mapping.MappingDataContainer.*;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * A patch for {@link MappingDataContainer}s, consisting of a list of {@linkplain MappingChange changes}.
+ *
+ * <p>Unlike the changes produced by {@link MappingUtil#diff(MappingDataContainer, MappingDataContainer)}, the
+ * changes in a patch only carry the new values, as the old values are not needed to apply the patch.</p>
+ *
+ * <p>The values of the changes are snapshotted into immutable copies when the patch is created, so later changes to
+ * the mapping data they were taken from (such as a {@link MappingDataBuilder}) do not affect the patch.</p>
+ *
+ * @see #diff(MappingDataContainer, MappingDataContainer)
+ * @see #apply(MappingDataContainer)
+ */
+public final class MappingPatch {
+    private final List<MappingChange<?>> changes;
+
+    public MappingPatch(List<? extends MappingChange<?>> changes) {
+        final List<MappingChange<?>> list = new ArrayList<>(changes.size());
+        changes.forEach(change -> list.add(snapshot(change)));
+        this.changes = Collections.unmodifiableList(list);
+    }
+
+    /**
+     * Creates a patch which transforms the base mapping data into the target mapping data.
+     *
+     * @param baseData   The base mapping data
+     * @param targetData The target mapping data
+     * @return a patch from the base to the target mapping data
+     * @see MappingUtil#diff(MappingDataContainer, MappingDataContainer)
+     */
+    public static MappingPatch diff(MappingDataContainer baseData, MappingDataContainer targetData) {
+        return new MappingPatch(MappingUtil.diff(baseData, targetData)
+                .map(MappingPatch::withoutOldValue)
+                .collect(Collectors.toList()));
+    }
+
+    private static MappingChange<?> withoutOldValue(MappingChange<?> change) {
+        return new MappingChange<>(change.getType(), change.getElement(), change.getName(), change.getMemberName(),
+                change.getMemberDescriptor(), change.getParameterIndex(), null, change.getNewValue());
+    }
+
+    private static MappingChange<?> snapshot(MappingChange<?> change) {
+        final Object oldValue = snapshot(change.getOldValue());
+        final Object newValue = snapshot(change.getNewValue());
+        if (oldValue == change.getOldValue() && newValue == change.getNewValue()) return change;
+        return new MappingChange<>(change.getType(), change.getElement(), change.getName(), change.getMemberName(),
+                change.getMemberDescriptor(), change.getParameterIndex(), oldValue, newValue);
+    }
+
+    /**
+     * Returns an immutable copy of the given value of a change, or the value itself if it is already immutable.
+     */
+    @SuppressWarnings("unchecked")
+    private static Object snapshot(Object value) {
+        if (value instanceof List) {
+            return ImmutableList.copyOf((List<String>) value);
+        } else if (value instanceof PackageData) {
+            final PackageData pkg = (PackageData) value;
+            return pkg instanceof ImmutablePackageData ? pkg : new ImmutablePackageData(pkg.getName(), pkg.getJavadoc());
+        } else if (value instanceof ClassData) {
+            return snapshot((ClassData) value);
+        } else if (value instanceof FieldData) {
+            return snapshot((FieldData) value);
+        } else if (value instanceof MethodData) {
+            return snapshot((MethodData) value);
+        } else if (value instanceof ParameterData) {
+            return snapshot((ParameterData) value);
+        }
+        return value;
+    }
+
+    private static ClassData snapshot(ClassData cls) {
+        final List<FieldData> fields = new ArrayList<>(cls.getFields().size());
+        boolean immutable = cls instanceof ImmutableClassData;
+        for (FieldData field : cls.getFields()) {
+            final FieldData copy = snapshot(field);
+            immutable &= copy == field;
+            fields.add(copy);
+        }
+        final List<MethodData> methods = new ArrayList<>(cls.getMethods().size());
+        for (MethodData method : cls.getMethods()) {
+            final MethodData copy = snapshot(method);
+            immutable &= copy == method;
+            methods.add(copy);
+        }
+        return immutable ? cls : new ImmutableClassData(cls.getName(), cls.getJavadoc(), fields, methods);
+    }
+
+    private static FieldData snapshot(FieldData field) {
+        return field instanceof ImmutableFieldData ? field
+                : new ImmutableFieldData(field.getName(), field.getDescriptor(), field.getJavadoc());
+    }
+
+    private static MethodData snapshot(MethodData method) {
+        final List<ParameterData> params = new ArrayList<>(method.getParameters().size());
+        boolean immutable = method instanceof ImmutableMethodData;
+        for (ParameterData param : method.getParameters()) {
+            final ParameterData copy = snapshot(param);
+            immutable &= copy == param;
+            params.add(copy);
+        }
+        return immutable ? method
+                : new ImmutableMethodData(method.getName(), method.getDescriptor(), method.getJavadoc(), params);
+    }
+
+    private static ParameterData snapshot(ParameterData param) {
+        return param instanceof ImmutableParameterData ? param
+                : new ImmutableParameterData(param.getIndex(), param.getName(), param.getJavadoc());
+    }
+
+    /**
+     * Returns the unmodifiable list of changes in this patch, in the order they are applied.
+     *
+     * @return the list of changes
+     */
+    public List<MappingChange<?>> getChanges() {
+        return changes;
+    }
+
+    /**
+     * Returns whether this patch has no changes.
+     *
+     * @return if this patch is empty
+     */
+    public boolean isEmpty() {
+        return changes.isEmpty();
+    }
+
+    /**
+     * Applies this patch upon the given base mapping data.
+     *
+     * <p>Only the classes which are affected by a change are rebuilt; all other package and class data (and within the
+     * affected classes, all unaffected field, method and parameter data) is shared with the base mapping data, rather
+     * than copied. The resulting container itself is still built anew, so applying a patch takes time proportional to
+     * the number of packages and classes in the base mapping data, even for a patch with a single change. If the base
+     * mapping data is a {@link VersionedMappingDataContainer}, then the resulting container has the same format
+     * version.</p>
+     *
+     * @param baseData The base mapping data
+     * @return a mapping data container with this patch applied
+     * @throws IllegalArgumentException if a change refers to an entry which is not present in the base mapping data
+     */
+    public MappingDataContainer apply(MappingDataContainer baseData) {
+        if (changes.isEmpty()) return baseData;
+
+        final Map<String, PackageData> packages = new LinkedHashMap<>();
+        baseData.getPackages().forEach(pkg -> packages.put(pkg.getName(), pkg));
+        final Map<String, ClassData> classes = new LinkedHashMap<>();
+        baseData.getClasses().forEach(cls -> classes.put(cls.getName(), cls));
+        final Map<String, ClassPatcher> patchers = new LinkedHashMap<>();
+
+        for (MappingChange<?> change : changes) {
+            if (change.getElement() == Element.PACKAGE) {
+                applyPackage(packages, change);
+            } else {
+                patchers.computeIfAbsent(change.getName(), name -> new ClassPatcher(classes.get(name))).apply(change);
+            }
+        }
+        patchers.forEach((name, patcher) -> {
+            final ClassData cls = patcher.build();
+            if (cls != null) {
+                classes.put(name, cls);
+            } else {
+                classes.remove(name);
+            }
+        });
+
+        if (baseData instanceof VersionedMappingDataContainer) {
+            return new ImmutableVersionedMappingDataContainer(((VersionedMappingDataContainer) baseData).getFormatVersion(),
+                    packages.values(), classes.values());
+        }
+        return new ImmutableMappingDataContainer(packages.values(), classes.values());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void applyPackage(Map<String, PackageData> packages, MappingChange<?> change) {
+        final String name = change.getName();
+        switch (change.getType()) {
+            case ADDED:
+                packages.put(name, (PackageData) change.getNewValue());
+                break;
+            case REMOVED:
+                if (packages.remove(name) == null) throw missing(change);
+                break;
+            case JAVADOC_CHANGED:
+                if (!packages.containsKey(name)) throw missing(change);
+                packages.put(name, new ImmutablePackageData(name, (List<String>) change.getNewValue()));
+                break;
+            default:
+                throw unsupported(change);
+        }
+    }
+
+    private static IllegalArgumentException missing(MappingChange<?> change) {
+        return new IllegalArgumentException("Entry for change '" + change + "' is not present in base data");
+    }
+
+    private static IllegalArgumentException unsupported(MappingChange<?> change) {
+        return new IllegalArgumentException("Change type " + change.getType() + " is not supported for "
+                + change.getElement());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof MappingPatch)) return false;
+        return changes.equals(((MappingPatch) o).changes);
+    }
+
+    @Override
+    public int hashCode() {
+        return changes.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "MappingPatch{" + changes + '}';
+    }
+
+    /**
+     * Accumulates the changes to a single class, and rebuilds only the affected members.
+     */
+    private static final class ClassPatcher {
+        private boolean present;
+        private String name;
+        private List<String> javadoc;
+        private final Map<String, FieldData> fields = new LinkedHashMap<>();
+        private final Map<String, MethodData> methods = new LinkedHashMap<>();
+
+        ClassPatcher(ClassData base) {
+            this.present = base != null;
+            if (base != null) set(base);
+        }
+
+        private void set(ClassData cls) {
+            name = cls.getName();
+            javadoc = cls.getJavadoc();
+            fields.clear();
+            cls.getFields().forEach(field -> fields.put(field.getName(), field));
+            methods.clear();
+            cls.getMethods().forEach(method -> methods.put(key(method.getName(), method.getDescriptor()), method));
+        }
+
+        private static String key(String name, String descriptor) {
+            return name + ":" + descriptor;
+        }
+
+        ClassData build() {
+            if (!present) return null;
+            return new ImmutableClassData(name, javadoc, fields.values(), methods.values());
+        }
+
+        @SuppressWarnings("unchecked")
+        void apply(MappingChange<?> change) {
+            if (change.getElement() == Element.CLASS) {
+                switch (change.getType()) {
+                    case ADDED:
+                        set((ClassData) change.getNewValue());
+                        present = true;
+                        return;
+                    case REMOVED:
+                        if (!present) throw missing(change);
+                        present = false;
+                        return;
+                    case JAVADOC_CHANGED:
+                        if (!present) throw missing(change);
+                        javadoc = (List<String>) change.getNewValue();
+                        return;
+                    default:
+                        throw unsupported(change);
+                }
+            }
+
+            if (!present) throw missing(change);
+            switch (change.getElement()) {
+                case FIELD:
+                    applyField(change);
+                    break;
+                case METHOD:
+                    applyMethod(change);
+                    break;
+                case PARAMETER:
+                    applyParameter(change);
+                    break;
+                default:
+                    throw unsupported(change);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private void applyField(MappingChange<?> change) {
+            final String fieldName = change.getMemberName();
+            final FieldData field = fields.get(fieldName);
+            if (change.getType() != Type.ADDED && field == null) throw missing(change);
+            switch (change.getType()) {
+                case ADDED:
+                    fields.put(fieldName, (FieldData) change.getNewValue());
+                    break;
+                case REMOVED:
+                    fields.remove(fieldName);
+                    break;
+                case JAVADOC_CHANGED:
+                    fields.put(fieldName, new ImmutableFieldData(fieldName, field.getDescriptor(),
+                            (List<String>) change.getNewValue()));
+                    break;
+                case DESCRIPTOR_CHANGED:
+                    fields.put(fieldName, new ImmutableFieldData(fieldName, (String) change.getNewValue(),
+                            field.getJavadoc()));
+                    break;
+                default:
+                    throw unsupported(change);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private void applyMethod(MappingChange<?> change) {
+            final String key = key(change.getMemberName(), change.getMemberDescriptor());
+            final MethodData method = methods.get(key);
+            if (change.getType() != Type.ADDED && method == null) throw missing(change);
+            switch (change.getType()) {
+                case ADDED:
+                    methods.put(key, (MethodData) change.getNewValue());
+                    break;
+                case REMOVED:
+                    methods.remove(key);
+                    break;
+                case JAVADOC_CHANGED:
+                    methods.put(key, new ImmutableMethodData(method.getName(), method.getDescriptor(),
+                            (List<String>) change.getNewValue(), method.getParameters()));
+                    break;
+                default:
+                    throw unsupported(change);
+            }
+        }
+
+        private void applyParameter(MappingChange<?> change) {
+            final String key = key(change.getMemberName(), change.getMemberDescriptor());
+            final MethodData method = methods.get(key);
+            if (method == null) throw missing(change);
+
+            final byte index = change.getParameterIndex();
+            final ParameterData param = method.getParameter(index);
+            if (change.getType() != Type.ADDED && param == null) throw missing(change);
+
+            final List<ParameterData> params = new ArrayList<>(method.getParameters());
+            params.remove(param);
+            switch (change.getType()) {
+                case ADDED:
+                    params.add((ParameterData) change.getNewValue());
+                    break;
+                case REMOVED:
+                    break;
+                case NAME_CHANGED:
+                    params.add(new ImmutableParameterData(index, (String) change.getNewValue(), param.getJavadoc()));
+                    break;
+                case JAVADOC_CHANGED:
+                    params.add(new ImmutableParameterData(index, param.getName(), (String) change.getNewValue()));
+                    break;
+                default:
+                    throw unsupported(change);
+            }
+            methods.put(key, new ImmutableMethodData(method.getName(), method.getDescriptor(), method.getJavadoc(), params));
+        }
+    }
+}
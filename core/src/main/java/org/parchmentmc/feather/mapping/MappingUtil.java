@@ -4,6 +4,11 @@ import org.parchmentmc.feather.mapping.MappingDataBuilder.MutableClassData;
 import org.parchmentmc.feather.mapping.MappingDataBuilder.MutableMethodData;
 import org.parchmentmc.feather.mapping.MappingDataContainer.*;
 
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 /**
  * Utilities for working with {@link MappingDataContainer}s.
  */
@@ -114,4 +119,40 @@ public final class MappingUtil {
 
         return builder;
     }
+
+    /**
+     * Computes the changes needed to go from the base mapping data to the target mapping data.
+     *
+     * <p>The changes are computed lazily as the returned stream is consumed, by walking the sorted packages, classes,
+     * members, and parameters of both containers side by side. Changes are produced depth-first in the order of the
+     * {@linkplain ClassData#COMPARATOR comparators} of each data type: packages first, then each class followed by the
+     * changes to its fields, its methods, and their parameters.</p>
+     *
+     * <p>Added and removed entries are reported as a single change carrying the whole entry; changes within them
+     * (such as the methods of an added class) are not reported separately. See {@link MappingChange.Type} for the
+     * values carried by each type of change.</p>
+     *
+     * @param baseData   The base mapping data
+     * @param targetData The target mapping data
+     * @return a lazy, sequential stream of the changes from the base to the target mapping data
+     */
+    public static Stream<MappingChange<?>> diff(MappingDataContainer baseData, MappingDataContainer targetData) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(new MappingDiffIterator(baseData, targetData),
+                Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * Returns the canonical form of the given mapping data, with all entries sorted by the
+     * {@linkplain ClassData#COMPARATOR comparators} of each data type.
+     *
+     * <p>Mapping data containers may iterate their entries in any order, so two equal containers may serialize to
+     * different bytes; their canonical forms always serialize to the same bytes. The javadocs of each entry keep their
+     * order, as it is significant.</p>
+     *
+     * @param container the mapping data
+     * @return the canonical mapping data
+     */
+    public static VersionedMappingDataContainer canonicalize(VersionedMappingDataContainer container) {
+        return new VersionedMDCDelegate<>(container.getFormatVersion(), copyData(container));
+    }
 }
@@ -2,6 +2,7 @@ package org.parchmentmc.feather.metadata;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.parchmentmc.feather.named.Named;
+import org.parchmentmc.feather.util.ClassAccessFlags;
 import org.parchmentmc.feather.util.HasImmutable;
 
 import java.util.LinkedHashSet;
@@ -10,6 +11,11 @@ import java.util.LinkedHashSet;
  * Represents the metadata that is extracted during static analysis from a given class.
  */
 public interface ClassMetadata extends WithSecurity, OwnedByClass, WithName, HasImmutable<ClassMetadata> {
+    @Override
+    default ClassAccessFlags getAccessFlags() {
+        return ClassAccessFlags.of(getSecuritySpecification());
+    }
+
     /**
      * The name of the super class.
      *
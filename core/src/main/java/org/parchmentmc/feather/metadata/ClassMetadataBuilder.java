@@ -44,6 +44,7 @@ public final class ClassMetadataBuilder implements ClassMetadata {
                 .withOwner(classMetadata.getOwner())
                 .withName(classMetadata.getName())
                 .withSecuritySpecifications(classMetadata.getSecuritySpecification())
+                .withSignature(classMetadata.getSignature())
                 .withRecords(classMetadata.getRecords())
                 .withIsRecord(classMetadata.isRecord());
     }
@@ -140,14 +141,7 @@ public final class ClassMetadataBuilder implements ClassMetadata {
                 .merge(source.getSuperName())
                 .build();
 
-        final EnumSet<AccessFlag> thisAccessFlags = AccessFlag.getAccessFlags(this.securitySpecifications);
-        final EnumSet<AccessFlag> sourceAccessFlags = AccessFlag.getAccessFlags(source.getSecuritySpecification());
-
-        final EnumSet<AccessFlag> mergedFlags = EnumSet.noneOf(AccessFlag.class);
-        mergedFlags.addAll(thisAccessFlags);
-        mergedFlags.addAll(sourceAccessFlags);
-
-        this.securitySpecifications = AccessFlag.toSecuritySpecification(mergedFlags);
+        this.securitySpecifications = AccessFlag.merge(this.securitySpecifications, source.getSecuritySpecification());
 
         final Map<Reference, MethodMetadata> schemadLocalMethods = this.methods
                 .stream().collect(CollectorUtils.toLinkedMap(
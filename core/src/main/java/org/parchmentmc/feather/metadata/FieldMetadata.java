@@ -1,9 +1,14 @@
 package org.parchmentmc.feather.metadata;
 
+import org.parchmentmc.feather.util.FieldAccessFlags;
 import org.parchmentmc.feather.util.HasImmutable;
 
 /**
  * Represents the metadata of a given field.
  */
 public interface FieldMetadata extends BaseReference, WithSecurity, HasImmutable<FieldMetadata> {
+    @Override
+    default FieldAccessFlags getAccessFlags() {
+        return FieldAccessFlags.of(getSecuritySpecification());
+    }
 }
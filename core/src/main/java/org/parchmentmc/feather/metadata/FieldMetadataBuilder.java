@@ -5,7 +5,6 @@ import org.parchmentmc.feather.named.Named;
 import org.parchmentmc.feather.named.NamedBuilder;
 import org.parchmentmc.feather.util.AccessFlag;
 
-import java.util.EnumSet;
 import java.util.Objects;
 
 public final class FieldMetadataBuilder implements FieldMetadata {
@@ -70,14 +69,7 @@ public final class FieldMetadataBuilder implements FieldMetadata {
                 .merge(source.getName())
                 .build();
 
-        final EnumSet<AccessFlag> thisAccessFlags = AccessFlag.getAccessFlags(this.securitySpecification);
-        final EnumSet<AccessFlag> sourceAccessFlags = AccessFlag.getAccessFlags(source.getSecuritySpecification());
-
-        final EnumSet<AccessFlag> mergedFlags = EnumSet.noneOf(AccessFlag.class);
-        mergedFlags.addAll(thisAccessFlags);
-        mergedFlags.addAll(sourceAccessFlags);
-
-        this.securitySpecification = AccessFlag.toSecuritySpecification(mergedFlags);
+        this.securitySpecification = AccessFlag.merge(this.securitySpecification, source.getSecuritySpecification());
 
         this.descriptor = NamedBuilder.create(this.descriptor)
                 .merge(source.getDescriptor())
@@ -0,0 +1,168 @@
+package org.parchmentmc.feather.metadata;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+/**
+ * A flat view of all classes of a {@link SourceMetadata}, including the inner classes which are nested under
+ * {@link ClassMetadata#getInnerClasses()}.
+ *
+ * <p>The classes are stored in pre-order: each class is followed by its inner classes, recursively. Each class is
+ * identified by its position, and has the position of its outer class as its parent pointer and its nesting depth,
+ * where top-level classes have a depth of {@code 0}. Since the inner classes of a class follow it, they are the
+ * positions from the class up to its {@linkplain #getSubtreeEnd(int) subtree end}.</p>
+ *
+ * <p>Iterating over a flattened view walks an array rather than the nested sets, and does not allocate per class.</p>
+ *
+ * @see SourceMetadata#getFlattenedClasses()
+ */
+public final class FlattenedClasses extends AbstractList<ClassMetadata> implements RandomAccess {
+    private static final int NO_PARENT = -1;
+
+    private final ClassMetadata[] classes;
+    private final int[] parents;
+    private final int[] depths;
+    private final int[] subtreeEnds;
+
+    private FlattenedClasses(int size) {
+        this.classes = new ClassMetadata[size];
+        this.parents = new int[size];
+        this.depths = new int[size];
+        this.subtreeEnds = new int[size];
+    }
+
+    /**
+     * Flattens the classes of the given source metadata.
+     *
+     * @param metadata the source metadata
+     * @return the flattened classes
+     */
+    public static FlattenedClasses of(SourceMetadata metadata) {
+        return of(metadata.getClasses());
+    }
+
+    /**
+     * Flattens the given classes and their inner classes.
+     *
+     * @param classes the top-level classes
+     * @return the flattened classes
+     */
+    public static FlattenedClasses of(Collection<? extends ClassMetadata> classes) {
+        final FlattenedClasses flattened = new FlattenedClasses(count(classes));
+        int next = 0;
+        for (ClassMetadata cls : classes) {
+            next = flattened.add(cls, NO_PARENT, 0, next);
+        }
+        return flattened;
+    }
+
+    private static int count(Collection<? extends ClassMetadata> classes) {
+        int count = classes.size();
+        for (ClassMetadata cls : classes) {
+            count += count(cls.getInnerClasses());
+        }
+        return count;
+    }
+
+    private int add(ClassMetadata cls, int parent, int depth, int position) {
+        classes[position] = cls;
+        parents[position] = parent;
+        depths[position] = depth;
+        int next = position + 1;
+        for (ClassMetadata inner : cls.getInnerClasses()) {
+            next = add(inner, position, depth + 1, next);
+        }
+        subtreeEnds[position] = next;
+        return next;
+    }
+
+    @Override
+    public ClassMetadata get(int index) {
+        return classes[index];
+    }
+
+    @Override
+    public int size() {
+        return classes.length;
+    }
+
+    /**
+     * Returns the position of the outer class of the class at the given position.
+     *
+     * @param index the position of the class
+     * @return the position of its outer class, or {@code -1} for a top-level class
+     */
+    public int getParentIndex(int index) {
+        return parents[index];
+    }
+
+    /**
+     * Returns the outer class of the class at the given position.
+     *
+     * @param index the position of the class
+     * @return its outer class, or {@code null} for a top-level class
+     */
+    @Nullable
+    public ClassMetadata getParent(int index) {
+        final int parent = parents[index];
+        return parent == NO_PARENT ? null : classes[parent];
+    }
+
+    /**
+     * Returns the nesting depth of the class at the given position.
+     *
+     * @param index the position of the class
+     * @return its depth, which is {@code 0} for a top-level class
+     */
+    public int getDepth(int index) {
+        return depths[index];
+    }
+
+    /**
+     * Returns the end of the subtree of the class at the given position, exclusive. The positions after the class up
+     * to the end are its inner classes, recursively.
+     *
+     * @param index the position of the class
+     * @return the end of its subtree
+     */
+    public int getSubtreeEnd(int index) {
+        return subtreeEnds[index];
+    }
+
+    /**
+     * Returns the top-level class which contains the class at the given position.
+     *
+     * @param index the position of the class
+     * @return its top-level class, or the class itself if it is a top-level class
+     */
+    public ClassMetadata getTopLevel(int index) {
+        int current = index;
+        while (parents[current] != NO_PARENT) {
+            current = parents[current];
+        }
+        return classes[current];
+    }
+
+    @Override
+    public Iterator<ClassMetadata> iterator() {
+        return new Iterator<ClassMetadata>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < classes.length;
+            }
+
+            @Override
+            public ClassMetadata next() {
+                if (next >= classes.length) throw new NoSuchElementException();
+                return classes[next++];
+            }
+        };
+    }
+}
@@ -2,6 +2,7 @@ package org.parchmentmc.feather.metadata;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.parchmentmc.feather.named.Named;
+import org.parchmentmc.feather.util.ClassAccessFlags;
 
 import java.util.LinkedHashSet;
 import java.util.Objects;
@@ -17,9 +18,13 @@ final class ImmutableClassMetadata implements ClassMetadata {
     private final Named owner;
     private final Named name;
     private final int securitySpecifications;
+    private final ClassAccessFlags accessFlags;
     private final Named signature;
     private final boolean isRecord;
 
+    // The contained sets are unmodifiable, so the (deep) hash can be computed once
+    private final int hashCode;
+
     public ImmutableClassMetadata(
             final Named superName,
             final LinkedHashSet<Named> interfaces,
@@ -30,22 +35,24 @@ final class ImmutableClassMetadata implements ClassMetadata {
             final Named name,
             final int securitySpecifications, final Named signature, final boolean isRecord) {
         this.superName = superName;
-        this.interfaces = new LinkedHashSet<>(interfaces);
-        this.methods = new LinkedHashSet<>(methods);
-        this.fields = new LinkedHashSet<>(fields);
-        this.records = new LinkedHashSet<>(records);
-        this.innerClasses = new LinkedHashSet<>(innerClasses);
+        this.interfaces = new UnmodifiableLinkedHashSet<>(interfaces);
+        this.methods = new UnmodifiableLinkedHashSet<>(methods);
+        this.fields = new UnmodifiableLinkedHashSet<>(fields);
+        this.records = new UnmodifiableLinkedHashSet<>(records);
+        this.innerClasses = new UnmodifiableLinkedHashSet<>(innerClasses);
         this.owner = owner;
         this.name = name;
         this.securitySpecifications = securitySpecifications;
+        this.accessFlags = ClassAccessFlags.of(securitySpecifications);
         this.signature = signature;
         this.isRecord = isRecord;
+        this.hashCode = Objects.hash(superName, this.interfaces, this.methods, this.fields, this.innerClasses, owner,
+                name, securitySpecifications);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(getSuperName(), getInterfaces(), getMethods(), getFields(), getInnerClasses(), getOwner(),
-                getName(), getSecuritySpecification());
+        return hashCode;
     }
 
     @Override
@@ -56,6 +63,9 @@ final class ImmutableClassMetadata implements ClassMetadata {
         if (!(o instanceof ClassMetadata)) {
             return false;
         }
+        if (o instanceof ImmutableClassMetadata && hashCode != ((ImmutableClassMetadata) o).hashCode) {
+            return false;
+        }
         ClassMetadata that = (ClassMetadata) o;
         return getSecuritySpecification() == that.getSecuritySpecification()
                 && Objects.equals(getSuperName(), that.getSuperName())
@@ -72,6 +82,11 @@ final class ImmutableClassMetadata implements ClassMetadata {
         return securitySpecifications;
     }
 
+    @Override
+    public ClassAccessFlags getAccessFlags() {
+        return accessFlags;
+    }
+
     @Override
     public @NonNull Named getSuperName() {
         return superName;
@@ -2,6 +2,7 @@ package org.parchmentmc.feather.metadata;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.parchmentmc.feather.named.Named;
+import org.parchmentmc.feather.util.FieldAccessFlags;
 
 import java.util.Objects;
 
@@ -9,15 +10,19 @@ final class ImmutableFieldMetadata implements FieldMetadata {
     private final Named owner;
     private final Named name;
     private final int securitySpecification;
+    private final FieldAccessFlags accessFlags;
     private final Named descriptor;
     private final Named signature;
+    private final int hashCode;
 
     public ImmutableFieldMetadata(final Named owner, final Named name, final int securitySpecification, final Named descriptor, final Named signature) {
         this.owner = owner;
         this.name = name;
         this.securitySpecification = securitySpecification;
+        this.accessFlags = FieldAccessFlags.of(securitySpecification);
         this.descriptor = descriptor;
         this.signature = signature;
+        this.hashCode = Objects.hash(owner, name, securitySpecification, descriptor, signature);
     }
 
     @Override
@@ -35,6 +40,11 @@ final class ImmutableFieldMetadata implements FieldMetadata {
         return securitySpecification;
     }
 
+    @Override
+    public FieldAccessFlags getAccessFlags() {
+        return accessFlags;
+    }
+
     @Override
     public @NonNull Named getDescriptor() {
         return descriptor;
@@ -49,6 +59,7 @@ final class ImmutableFieldMetadata implements FieldMetadata {
     public boolean equals(Object o) {
         if (this == o) return true;
         if (!(o instanceof FieldMetadata)) return false;
+        if (o instanceof ImmutableFieldMetadata && hashCode != ((ImmutableFieldMetadata) o).hashCode) return false;
         FieldMetadata that = (FieldMetadata) o;
         return getSecuritySpecification() == that.getSecuritySpecification()
                 && Objects.equals(getOwner(), that.getOwner())
@@ -59,7 +70,7 @@ final class ImmutableFieldMetadata implements FieldMetadata {
 
     @Override
     public int hashCode() {
-        return Objects.hash(getOwner(), getName(), getSecuritySpecification(), getDescriptor(), getSignature());
+        return hashCode;
     }
 
     @Override
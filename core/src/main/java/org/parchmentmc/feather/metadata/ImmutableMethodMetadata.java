@@ -2,6 +2,7 @@ package org.parchmentmc.feather.metadata;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.parchmentmc.feather.named.Named;
+import org.parchmentmc.feather.util.MethodAccessFlags;
 
 import java.util.LinkedHashSet;
 import java.util.Objects;
@@ -12,10 +13,14 @@ final class ImmutableMethodMetadata extends AbstractReference implements MethodM
     private final BouncingTargetMetadata bouncingTarget;
     private final LinkedHashSet<Reference> overrides;
     private final int securitySpecification;
+    private final MethodAccessFlags accessFlags;
     private final int startLine;
     private final int endLine;
     private final Reference parent;
 
+    // The overrides set is unmodifiable, so the hash can be computed once
+    private final int hashCode;
+
     public ImmutableMethodMetadata(
             final Named owner,
             final boolean lambda,
@@ -31,10 +36,13 @@ final class ImmutableMethodMetadata extends AbstractReference implements MethodM
         this.lambda = lambda;
         this.bouncingTarget = bouncingTarget;
         this.parent = parent;
-        this.overrides = new LinkedHashSet<>(overrides);
+        this.overrides = new UnmodifiableLinkedHashSet<>(overrides);
         this.securitySpecification = securitySpecification;
+        this.accessFlags = MethodAccessFlags.of(securitySpecification);
         this.startLine = startLine;
         this.endLine = endLine;
+        this.hashCode = Objects.hash(super.hashCode(), lambda, getBouncingTarget(), this.overrides, securitySpecification,
+                getStartLine(), getEndLine());
     }
 
     @Override
@@ -79,6 +87,11 @@ final class ImmutableMethodMetadata extends AbstractReference implements MethodM
         return securitySpecification;
     }
 
+    @Override
+    public MethodAccessFlags getAccessFlags() {
+        return accessFlags;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -87,11 +100,15 @@ final class ImmutableMethodMetadata extends AbstractReference implements MethodM
         if (!(o instanceof ImmutableMethodMetadata)) {
             return false;
         }
+        final ImmutableMethodMetadata that = (ImmutableMethodMetadata) o;
+        if (hashCode != that.hashCode) {
+            return false;
+        }
         if (!super.equals(o)) {
             return false;
         }
-        final ImmutableMethodMetadata that = (ImmutableMethodMetadata) o;
         return isLambda() == that.isLambda() &&
+                getSignature().equals(that.getSignature()) &&
                 getSecuritySpecification() == that.getSecuritySpecification() &&
                 getStartLine().equals(that.getStartLine()) &&
                 getEndLine().equals(that.getEndLine()) &&
@@ -101,7 +118,7 @@ final class ImmutableMethodMetadata extends AbstractReference implements MethodM
 
     @Override
     public int hashCode() {
-        return Objects.hash(super.hashCode(), isLambda(), getBouncingTarget(), getOverrides(), getSecuritySpecification(), getStartLine(), getEndLine());
+        return hashCode;
     }
 
     @Override
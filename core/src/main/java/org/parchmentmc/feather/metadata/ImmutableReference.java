@@ -4,9 +4,16 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 import org.parchmentmc.feather.named.Named;
 
 final class ImmutableReference extends AbstractReference implements Reference {
+    private final int hashCode;
 
     public ImmutableReference(final Named owner, final Named name, final Named descriptor, final Named signature) {
         super(owner, name, descriptor, signature);
+        this.hashCode = super.hashCode();
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
     }
 
     @Override
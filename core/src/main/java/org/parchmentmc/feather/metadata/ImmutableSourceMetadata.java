@@ -1,6 +1,7 @@
 package org.parchmentmc.feather.metadata;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.parchmentmc.feather.util.SimpleVersion;
 
 import java.util.LinkedHashSet;
@@ -10,11 +11,13 @@ final class ImmutableSourceMetadata implements SourceMetadata {
     private final SimpleVersion specVersion;
     private final String minecraftVersion;
     private final LinkedHashSet<ClassMetadata> classes;
+    @Nullable
+    private volatile FlattenedClasses flattenedClasses;
 
     public ImmutableSourceMetadata(final SimpleVersion specVersion, final String minecraftVersion, final LinkedHashSet<ClassMetadata> classes) {
         this.specVersion = specVersion;
         this.minecraftVersion = minecraftVersion;
-        this.classes = new LinkedHashSet<>(classes);
+        this.classes = new UnmodifiableLinkedHashSet<>(classes);
     }
 
     ImmutableSourceMetadata() {
@@ -36,6 +39,16 @@ final class ImmutableSourceMetadata implements SourceMetadata {
         return classes;
     }
 
+    @Override
+    public FlattenedClasses getFlattenedClasses() {
+        FlattenedClasses flattened = this.flattenedClasses;
+        if (flattened == null) {
+            // Not flattened in the constructor, as it walks every inner class and few callers need the flat view
+            this.flattenedClasses = flattened = FlattenedClasses.of(classes);
+        }
+        return flattened;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
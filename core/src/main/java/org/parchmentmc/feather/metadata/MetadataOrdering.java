@@ -0,0 +1,197 @@
+package org.parchmentmc.feather.metadata;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.parchmentmc.feather.named.Named;
+import org.parchmentmc.feather.named.NamedBuilder;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * Comparators which define a canonical order for metadata, and conversion of metadata into its canonical form.
+ *
+ * <p>The sets in metadata keep their insertion order, so two logically equal pieces of metadata may iterate (and
+ * serialize) their entries in a different order. The {@linkplain #canonicalize(SourceMetadata) canonical form} of
+ * metadata is equal to the original, but has all of its sets sorted by these comparators and all of its names sorted
+ * by mapping schema, so equal metadata always serializes to the same bytes.</p>
+ */
+public final class MetadataOrdering {
+    /**
+     * Orders names by their mapping schemas and values, compared pairwise in schema order.
+     *
+     * <p>The names are walked in schema order in place, without copying them into a sorted map, as this is called
+     * O(n log n) times when sorting. Names usually have only a few schemas, so finding each next schema by a scan is
+     * cheap.</p>
+     */
+    public static final Comparator<Named> NAMED_COMPARATOR = (first, second) -> {
+        final Map<String, String> firstNames = first.getNames();
+        final Map<String, String> secondNames = second.getNames();
+        String firstSchema = nextSchema(firstNames, null);
+        String secondSchema = nextSchema(secondNames, null);
+        while (firstSchema != null && secondSchema != null) {
+            int result = firstSchema.compareTo(secondSchema);
+            if (result == 0) result = firstNames.get(firstSchema).compareTo(secondNames.get(secondSchema));
+            if (result != 0) return result;
+            firstSchema = nextSchema(firstNames, firstSchema);
+            secondSchema = nextSchema(secondNames, secondSchema);
+        }
+        return Boolean.compare(firstSchema != null, secondSchema != null);
+    };
+
+    /**
+     * Orders references, methods and fields by their owner, name, descriptor and signature.
+     */
+    public static final Comparator<BaseReference> REFERENCE_COMPARATOR =
+            Comparator.comparing(BaseReference::getOwner, NAMED_COMPARATOR)
+                    .thenComparing(BaseReference::getName, NAMED_COMPARATOR)
+                    .thenComparing(BaseReference::getDescriptor, NAMED_COMPARATOR)
+                    .thenComparing(BaseReference::getSignature, NAMED_COMPARATOR);
+
+    /**
+     * Orders classes by their name and owner.
+     */
+    public static final Comparator<ClassMetadata> CLASS_COMPARATOR =
+            Comparator.comparing(ClassMetadata::getName, NAMED_COMPARATOR)
+                    .thenComparing(ClassMetadata::getOwner, NAMED_COMPARATOR);
+
+    /**
+     * Orders record components by their field, then by their getter.
+     */
+    public static final Comparator<RecordMetadata> RECORD_COMPARATOR =
+            Comparator.comparing(RecordMetadata::getField, REFERENCE_COMPARATOR)
+                    .thenComparing(RecordMetadata::getGetter, REFERENCE_COMPARATOR);
+
+    private MetadataOrdering() {
+        throw new IllegalStateException("Can not instantiate an instance of: MetadataOrdering. This is a utility class");
+    }
+
+    /**
+     * Returns the canonical form of the given source metadata, with all classes and their contents sorted.
+     *
+     * <p>Entries which compare as equal keep their relative order.</p>
+     *
+     * @param metadata the source metadata
+     * @return the canonical source metadata
+     */
+    public static SourceMetadata canonicalize(SourceMetadata metadata) {
+        return SourceMetadataBuilder.create(metadata)
+                .withClasses(sorted(metadata.getClasses(), MetadataOrdering::canonicalize, CLASS_COMPARATOR))
+                .build();
+    }
+
+    /**
+     * Returns the canonical form of the given class metadata, with its members and inner classes sorted.
+     *
+     * @param cls the class metadata
+     * @return the canonical class metadata
+     */
+    public static ClassMetadata canonicalize(ClassMetadata cls) {
+        return ClassMetadataBuilder.create(cls)
+                .withName(canonicalize(cls.getName()))
+                .withOwner(canonicalize(cls.getOwner()))
+                .withSuperName(canonicalize(cls.getSuperName()))
+                .withSignature(canonicalize(cls.getSignature()))
+                .withInterfaces(sorted(cls.getInterfaces(), MetadataOrdering::canonicalize, NAMED_COMPARATOR))
+                .withFields(sorted(cls.getFields(), MetadataOrdering::canonicalize, REFERENCE_COMPARATOR))
+                .withMethods(sorted(cls.getMethods(), MetadataOrdering::canonicalize, REFERENCE_COMPARATOR))
+                .withRecords(sorted(cls.getRecords(), MetadataOrdering::canonicalize, RECORD_COMPARATOR))
+                .withInnerClasses(sorted(cls.getInnerClasses(), MetadataOrdering::canonicalize, CLASS_COMPARATOR))
+                .withIsRecord(cls.isRecord())
+                .build();
+    }
+
+    private static MethodMetadata canonicalize(MethodMetadata method) {
+        return MethodMetadataBuilder.create(method)
+                .withOwner(canonicalize(method.getOwner()))
+                .withName(canonicalize(method.getName()))
+                .withDescriptor(canonicalize(method.getDescriptor()))
+                .withSignature(canonicalize(method.getSignature()))
+                .withOverrides(sorted(method.getOverrides(), MetadataOrdering::canonicalize, REFERENCE_COMPARATOR))
+                .withParent(canonicalizeNullable(method.getParent().orElse(null)))
+                .withBouncingTarget(method.getBouncingTarget()
+                        .map(target -> BouncingTargetMetadataBuilder.create()
+                                .withTarget(canonicalizeNullable(target.getTarget().orElse(null)))
+                                .withOwner(canonicalizeNullable(target.getOwner().orElse(null)))
+                                .build())
+                        .orElse(null))
+                .build();
+    }
+
+    private static FieldMetadata canonicalize(FieldMetadata field) {
+        return FieldMetadataBuilder.create(field)
+                .withOwner(canonicalize(field.getOwner()))
+                .withName(canonicalize(field.getName()))
+                .withDescriptor(canonicalize(field.getDescriptor()))
+                .withSignature(canonicalize(field.getSignature()))
+                .build();
+    }
+
+    private static RecordMetadata canonicalize(RecordMetadata record) {
+        return RecordMetadataBuilder.create(record)
+                .withOwner(canonicalize(record.getOwner()))
+                .withField(canonicalize(record.getField()))
+                .withGetter(canonicalize(record.getGetter()))
+                .build();
+    }
+
+    private static Reference canonicalize(Reference reference) {
+        return ReferenceBuilder.create()
+                .withOwner(canonicalize(reference.getOwner()))
+                .withName(canonicalize(reference.getName()))
+                .withDescriptor(canonicalize(reference.getDescriptor()))
+                .withSignature(canonicalize(reference.getSignature()))
+                .build();
+    }
+
+    @Nullable
+    private static Reference canonicalizeNullable(@Nullable Reference reference) {
+        return reference != null ? canonicalize(reference) : null;
+    }
+
+    /**
+     * Returns the canonical form of the given names, with the names sorted by mapping schema.
+     *
+     * @param named the names
+     * @return the canonical names
+     */
+    public static Named canonicalize(Named named) {
+        final NamedBuilder builder = NamedBuilder.create();
+        sortedNames(named).forEach(builder::with);
+        return builder.build();
+    }
+
+    /**
+     * Returns the least schema of the given names which is greater than the given schema, or the least schema if it is
+     * {@code null}.
+     */
+    @Nullable
+    private static String nextSchema(Map<String, String> names, @Nullable String previous) {
+        String next = null;
+        for (String schema : names.keySet()) {
+            if ((previous == null || schema.compareTo(previous) > 0) && (next == null || schema.compareTo(next) < 0)) {
+                next = schema;
+            }
+        }
+        return next;
+    }
+
+    private static Map<String, String> sortedNames(Named named) {
+        return new TreeMap<>(named.getNames());
+    }
+
+    private static <T> LinkedHashSet<T> sorted(Collection<? extends T> values, Function<? super T, ? extends T> mapper,
+                                              Comparator<? super T> comparator) {
+        final List<T> list = new ArrayList<>(values.size());
+        for (T value : values) {
+            list.add(mapper.apply(value));
+        }
+        list.sort(comparator);
+        return new LinkedHashSet<>(list);
+    }
+}
@@ -0,0 +1,172 @@
+package org.parchmentmc.feather.metadata;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * A projection of the optional properties of metadata, for reading only the parts of the metadata which are needed.
+ *
+ * <p>Adapters which support a projection skip the JSON of properties which are not included, without decoding them,
+ * and leave those properties at the defaults of the metadata builders: empty names, empty sets, {@code null}
+ * references, and {@code 0} for numbers. The names, owners, descriptors, members and inner classes are always
+ * read.</p>
+ *
+ * <p>Projections are immutable, and stored as a bit mask of the included properties.</p>
+ */
+public final class MetadataProjection {
+    private static final MetadataProjection ALL = new MetadataProjection((1 << Property.values().length) - 1);
+    private static final MetadataProjection NONE = new MetadataProjection(0);
+
+    private final int mask;
+
+    private MetadataProjection(int mask) {
+        this.mask = mask;
+    }
+
+    /**
+     * Returns the projection which includes all properties.
+     *
+     * @return the projection of all properties
+     */
+    public static MetadataProjection all() {
+        return ALL;
+    }
+
+    /**
+     * Returns the projection which includes none of the optional properties.
+     *
+     * @return the projection of no optional properties
+     */
+    public static MetadataProjection none() {
+        return NONE;
+    }
+
+    /**
+     * Returns the projection which only includes the given optional properties.
+     *
+     * @param properties the properties to include
+     * @return the projection of the given properties
+     */
+    public static MetadataProjection of(Property... properties) {
+        return NONE.with(properties);
+    }
+
+    /**
+     * Returns a projection which includes the given properties in addition to the properties of this projection.
+     *
+     * @param properties the properties to include
+     * @return the new projection
+     */
+    public MetadataProjection with(Property... properties) {
+        int mask = this.mask;
+        for (Property property : properties) {
+            mask |= property.bit();
+        }
+        return new MetadataProjection(mask);
+    }
+
+    /**
+     * Returns a projection which includes the properties of this projection, except for the given properties.
+     *
+     * @param properties the properties to leave out
+     * @return the new projection
+     */
+    public MetadataProjection without(Property... properties) {
+        int mask = this.mask;
+        for (Property property : properties) {
+            mask &= ~property.bit();
+        }
+        return new MetadataProjection(mask);
+    }
+
+    /**
+     * Returns whether the given property is included.
+     *
+     * @param property the property
+     * @return if the property is included
+     */
+    public boolean includes(Property property) {
+        return (mask & property.bit()) != 0;
+    }
+
+    /**
+     * Returns whether all properties are included.
+     *
+     * @return if all properties are included
+     */
+    public boolean isAll() {
+        return mask == ALL.mask;
+    }
+
+    /**
+     * Returns the included properties.
+     *
+     * @return the set of included properties
+     */
+    public Set<Property> getProperties() {
+        final Set<Property> properties = EnumSet.noneOf(Property.class);
+        for (Property property : Property.values()) {
+            if (includes(property)) properties.add(property);
+        }
+        return properties;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof MetadataProjection)) return false;
+        return mask == ((MetadataProjection) o).mask;
+    }
+
+    @Override
+    public int hashCode() {
+        return mask;
+    }
+
+    @Override
+    public String toString() {
+        return "MetadataProjection" + getProperties();
+    }
+
+    /**
+     * The optional properties of metadata.
+     */
+    public enum Property {
+        /**
+         * The generic signatures of classes, fields and methods.
+         */
+        SIGNATURES,
+        /**
+         * The security specifications (access flags) of classes, fields and methods.
+         */
+        SECURITY,
+        /**
+         * The super class and interfaces of classes.
+         */
+        SUPER_TYPES,
+        /**
+         * The record components of classes. The record flag of a class is always read.
+         */
+        RECORDS,
+        /**
+         * The methods which are overridden by methods.
+         */
+        OVERRIDES,
+        /**
+         * The bouncing targets of methods.
+         */
+        BOUNCING_TARGETS,
+        /**
+         * The parents of lambda methods.
+         */
+        PARENTS,
+        /**
+         * The start and end line numbers of methods.
+         */
+        LINE_NUMBERS;
+
+        int bit() {
+            return 1 << ordinal();
+        }
+    }
+}
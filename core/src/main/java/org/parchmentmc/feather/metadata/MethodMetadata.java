@@ -2,6 +2,7 @@ package org.parchmentmc.feather.metadata;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.parchmentmc.feather.util.HasImmutable;
+import org.parchmentmc.feather.util.MethodAccessFlags;
 
 import java.util.LinkedHashSet;
 import java.util.Optional;
@@ -10,6 +11,11 @@ import java.util.Optional;
  * Represents the metadata of a given method.
  */
 public interface MethodMetadata extends BaseReference, WithSecurity, HasImmutable<MethodMetadata> {
+    @Override
+    default MethodAccessFlags getAccessFlags() {
+        return MethodAccessFlags.of(getSecuritySpecification());
+    }
+
     /**
      * Indicates if this method is a lambda method.
      *
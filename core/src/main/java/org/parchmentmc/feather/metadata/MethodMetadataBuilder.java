@@ -79,7 +79,7 @@ public final class MethodMetadataBuilder implements MethodMetadata {
     }
 
     public MethodMetadataBuilder withOverrides(LinkedHashSet<Reference> overrides) {
-        this.overrides = overrides;
+        this.overrides = new LinkedHashSet<>(overrides);
         return this;
     }
 
@@ -176,14 +176,7 @@ public final class MethodMetadataBuilder implements MethodMetadata {
                 .merge(source.getName())
                 .build();
 
-        final EnumSet<AccessFlag> thisAccessFlags = AccessFlag.getAccessFlags(this.securitySpecification);
-        final EnumSet<AccessFlag> sourceAccessFlags = AccessFlag.getAccessFlags(source.getSecuritySpecification());
-
-        final EnumSet<AccessFlag> mergedFlags = EnumSet.noneOf(AccessFlag.class);
-        mergedFlags.addAll(thisAccessFlags);
-        mergedFlags.addAll(sourceAccessFlags);
-
-        this.securitySpecification = AccessFlag.toSecuritySpecification(mergedFlags);
+        this.securitySpecification = AccessFlag.merge(this.securitySpecification, source.getSecuritySpecification());
 
         this.descriptor = NamedBuilder.create(this.descriptor)
                 .merge(source.getDescriptor())
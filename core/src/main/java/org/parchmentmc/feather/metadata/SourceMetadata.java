@@ -30,4 +30,16 @@ public interface SourceMetadata extends HasImmutable<SourceMetadata> {
      * @return The classes.
      */
     LinkedHashSet<ClassMetadata> getClasses();
+
+    /**
+     * Returns all classes, including the inner classes of each class, as a flat view.
+     *
+     * <p>The immutable implementation computes the view once and caches it; other implementations flatten their
+     * classes on every call.</p>
+     *
+     * @return the flattened classes
+     */
+    default FlattenedClasses getFlattenedClasses() {
+        return FlattenedClasses.of(this);
+    }
 }
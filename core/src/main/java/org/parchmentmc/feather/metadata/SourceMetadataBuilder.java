@@ -44,7 +44,7 @@ public final class SourceMetadataBuilder implements SourceMetadata {
     }
 
     public SourceMetadataBuilder withClasses(LinkedHashSet<ClassMetadata> classes) {
-        this.classes = classes;
+        this.classes = new LinkedHashSet<>(classes);
         return this;
     }
 
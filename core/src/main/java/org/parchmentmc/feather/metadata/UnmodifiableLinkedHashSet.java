@@ -0,0 +1,93 @@
+package org.parchmentmc.feather.metadata;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.function.Predicate;
+
+/**
+ * A {@link LinkedHashSet} which can not be modified after construction.
+ *
+ * <p>The immutable metadata implementations return their sets as this type, since the metadata interfaces declare
+ * {@code LinkedHashSet} return types. This keeps their cached hash codes in line with their contents.</p>
+ *
+ * @param <E> the type of elements
+ */
+final class UnmodifiableLinkedHashSet<E> extends LinkedHashSet<E> {
+    private static final long serialVersionUID = 1L;
+
+    // Set after the elements are added by the superclass constructor
+    private final boolean frozen;
+
+    UnmodifiableLinkedHashSet(final Collection<? extends E> elements) {
+        super(elements);
+        this.frozen = true;
+    }
+
+    private void checkModifiable() {
+        if (frozen) throw new UnsupportedOperationException("Set is unmodifiable");
+    }
+
+    @Override
+    public boolean add(final E e) {
+        checkModifiable();
+        return super.add(e);
+    }
+
+    @Override
+    public boolean addAll(final Collection<? extends E> c) {
+        checkModifiable();
+        return super.addAll(c);
+    }
+
+    @Override
+    public boolean remove(final Object o) {
+        throw new UnsupportedOperationException("Set is unmodifiable");
+    }
+
+    @Override
+    public boolean removeAll(final Collection<?> c) {
+        throw new UnsupportedOperationException("Set is unmodifiable");
+    }
+
+    @Override
+    public boolean retainAll(final Collection<?> c) {
+        throw new UnsupportedOperationException("Set is unmodifiable");
+    }
+
+    @Override
+    public boolean removeIf(final Predicate<? super E> filter) {
+        throw new UnsupportedOperationException("Set is unmodifiable");
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException("Set is unmodifiable");
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        final Iterator<E> iterator = super.iterator();
+        return new Iterator<E>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public E next() {
+                return iterator.next();
+            }
+        };
+    }
+
+    /**
+     * Returns a modifiable copy of this set.
+     *
+     * @return a new {@link LinkedHashSet} with the same elements
+     */
+    @Override
+    public Object clone() {
+        return new LinkedHashSet<>(this);
+    }
+}
@@ -1,6 +1,8 @@
 package org.parchmentmc.feather.metadata;
 
 import org.parchmentmc.feather.util.AccessFlag;
+import org.parchmentmc.feather.util.AccessFlags;
+import org.parchmentmc.feather.util.GenericAccessFlags;
 
 /**
  * Represents an object which has JVM Access flags associated with it.
@@ -13,14 +15,28 @@ public interface WithSecurity {
      */
     int getSecuritySpecification();
 
+    /**
+     * The access flags of this object, decoded for the kind of object.
+     *
+     * <p>By default, this is a {@linkplain GenericAccessFlags generic view} of the
+     * {@linkplain #getSecuritySpecification() security specification}, as the kind of object is unknown. Class,
+     * method and field metadata override this with the view for their kind of object.</p>
+     *
+     * @return The access flags.
+     */
+    default AccessFlags getAccessFlags() {
+        return GenericAccessFlags.of(getSecuritySpecification());
+    }
+
     /**
      * Indicates is this secured object has a given access flag enabled or not.
+     * Flags which do not apply to the kind of object are never enabled, if the kind of object is known.
      *
      * @param flag The flag to check.
      * @return {@code true} when the flag is enabled, {@code false} when not.
      */
     default boolean hasAccessFlag(final AccessFlag flag) {
-        return flag.isActive(getSecuritySpecification());
+        return getAccessFlags().has(flag);
     }
 
     /**
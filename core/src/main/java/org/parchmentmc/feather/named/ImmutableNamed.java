@@ -3,6 +3,7 @@ package org.parchmentmc.feather.named;
 import com.google.common.collect.ImmutableMap;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -24,9 +25,11 @@ final class ImmutableNamed implements Named {
     }
 
     private final Map<String, String> names;
+    private final int hashCode;
 
     private ImmutableNamed(final Map<String, String> names) {
-        this.names = new LinkedHashMap<>(names);
+        this.names = Collections.unmodifiableMap(new LinkedHashMap<>(names));
+        this.hashCode = Objects.hash(this.names);
     }
 
     @Override
@@ -48,12 +51,12 @@ final class ImmutableNamed implements Named {
             return false;
         }
         final ImmutableNamed that = (ImmutableNamed) o;
-        return Objects.equals(getNames(), that.getNames());
+        return hashCode == that.hashCode && Objects.equals(getNames(), that.getNames());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(getNames());
+        return hashCode;
     }
 
     @Override
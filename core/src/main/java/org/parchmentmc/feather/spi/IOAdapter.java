@@ -0,0 +1,66 @@
+package org.parchmentmc.feather.spi;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads and writes the JSON representation of a single type, using an underlying JSON implementation.
+ *
+ * <p>Adapters are created by an {@link IOAdapterFactory}, and are safe for use by multiple threads.</p>
+ *
+ * @param <T> the type of values
+ * @see IOAdapterRegistry
+ */
+public interface IOAdapter<T> {
+
+    /**
+     * @return Simple descriptive name of the underlying implementation
+     */
+    String name();
+
+    /**
+     * Reads an instance of T from UTF-8 encoded JSON. The stream is not closed.
+     *
+     * @param in the input stream
+     * @return an instance of T
+     * @throws IOException if an I/O error occurs while reading, or the JSON is malformed
+     */
+    T read(InputStream in) throws IOException;
+
+    /**
+     * Writes an instance of T as UTF-8 encoded JSON. The stream is flushed, but not closed.
+     *
+     * @param out   the output stream
+     * @param value the instance
+     * @throws IOException if an I/O error occurs while writing
+     */
+    void write(OutputStream out, T value) throws IOException;
+
+    /**
+     * Converts a Json representation into an instance of T
+     *
+     * @param input Json
+     * @return an instance of T
+     * @throws IOException if the JSON is malformed
+     */
+    default T fromJson(String input) throws IOException {
+        return read(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Converts an instance of T into an Json representation
+     *
+     * @param value the Instance
+     * @return Json
+     * @throws IOException if an error occurs while writing
+     */
+    default String toJson(T value) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        write(out, value);
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,43 @@
+package org.parchmentmc.feather.spi;
+
+/**
+ * A factory of {@link IOAdapter}s for a JSON implementation.
+ *
+ * <p>Factories are discovered by the {@link IOAdapterRegistry} through the {@link java.util.ServiceLoader}, and so
+ * must have a public no-argument constructor and be listed in
+ * {@code META-INF/services/org.parchmentmc.feather.spi.IOAdapterFactory}.</p>
+ */
+public interface IOAdapterFactory {
+
+    /**
+     * Returns whether this factory can create an adapter for the passed in Class.
+     *
+     * @param clazz The class of the object to convert
+     * @return if an adapter can be created for the class
+     */
+    default boolean supports(Class<?> clazz) {
+        return true;
+    }
+
+    /**
+     * Creates a {@link IOAdapter <T>} for the passed in Class
+     *
+     * @param clazz The class of the object to convert
+     * @param <T>   The type of the object to convert
+     * @return an {@link IOAdapter <T>} configured for the specified Class
+     * @throws IllegalArgumentException if the class is not {@linkplain #supports(Class) supported}
+     */
+    <T> IOAdapter<T> create(Class<T> clazz);
+
+    /**
+     * Returns the priority of this factory. Of the factories which support a type, the {@link IOAdapterRegistry}
+     * returns the adapter of the one with the highest priority by default, so the priority should reflect the expected
+     * throughput of the implementation relative to the others.
+     *
+     * @return the priority, which is {@code 0} by default
+     */
+    default int priority() {
+        return 0;
+    }
+
+}
@@ -0,0 +1,213 @@
+package org.parchmentmc.feather.spi;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * A registry of {@link IOAdapterFactory}s, which creates and caches the {@link IOAdapter}s for each type.
+ *
+ * <p>The factories of a registry are loaded lazily, on first use. The adapters for a type are created once and then
+ * cached, so looking up an adapter is cheap.</p>
+ *
+ * <p>Of the adapters for a type, the registry returns the {@linkplain #selectFastest(Class, Object) fastest one} if
+ * they have been measured. Otherwise, it returns the adapter of the factory with the highest
+ * {@linkplain IOAdapterFactory#priority() priority}, which reflects the expected throughput of its implementation.
+ * Factories are ordered by descending priority, and then by class name for factories loaded through the
+ * {@link ServiceLoader}, so the default adapter does not depend on the order of the classpath.</p>
+ *
+ * <p>This class is safe for use by multiple threads.</p>
+ */
+public final class IOAdapterRegistry {
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 10;
+    private static final Comparator<IOAdapterFactory> BY_PRIORITY =
+            Comparator.comparingInt(IOAdapterFactory::priority).reversed();
+
+    private final Supplier<List<IOAdapterFactory>> loader;
+    private volatile List<IOAdapterFactory> factories;
+    private final Map<Class<?>, List<IOAdapter<?>>> adapters = new ConcurrentHashMap<>();
+    private final Map<Class<?>, IOAdapter<?>> selected = new ConcurrentHashMap<>();
+
+    private IOAdapterRegistry(Supplier<List<IOAdapterFactory>> loader) {
+        this.loader = loader;
+    }
+
+    /**
+     * Returns the registry of the factories which are available to the class loader of this class.
+     *
+     * @return the default registry
+     */
+    public static IOAdapterRegistry getDefault() {
+        return DefaultHolder.INSTANCE;
+    }
+
+    /**
+     * Creates a registry of the factories which are available to the given class loader.
+     *
+     * @param classLoader the class loader to load factories with
+     * @return the new registry
+     */
+    public static IOAdapterRegistry load(ClassLoader classLoader) {
+        return new IOAdapterRegistry(() -> {
+            final List<IOAdapterFactory> list = new ArrayList<>();
+            ServiceLoader.load(IOAdapterFactory.class, classLoader).forEach(list::add);
+            list.sort(BY_PRIORITY.thenComparing(factory -> factory.getClass().getName()));
+            return list;
+        });
+    }
+
+    /**
+     * Creates a registry of the given factories.
+     *
+     * @param factories the factories, in order of preference among factories of equal priority
+     * @return the new registry
+     */
+    public static IOAdapterRegistry of(Collection<? extends IOAdapterFactory> factories) {
+        final List<IOAdapterFactory> list = new ArrayList<>(factories);
+        list.sort(BY_PRIORITY);
+        return new IOAdapterRegistry(() -> list);
+    }
+
+    /**
+     * Returns the factories of this registry, loading them if needed.
+     *
+     * @return an unmodifiable list of the factories, in descending order of priority
+     */
+    public List<IOAdapterFactory> getFactories() {
+        List<IOAdapterFactory> result = factories;
+        if (result == null) {
+            synchronized (this) {
+                result = factories;
+                if (result == null) {
+                    factories = result = Collections.unmodifiableList(new ArrayList<>(loader.get()));
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the adapters for the given type, one from each factory which supports the type.
+     *
+     * @param type the type
+     * @param <T>  the type
+     * @return an unmodifiable list of the adapters for the type in the order of the factories, which may be empty
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public <T> List<IOAdapter<T>> getAdapters(Class<T> type) {
+        return (List) adapters.computeIfAbsent(type, t -> {
+            final List<IOAdapter<?>> list = new ArrayList<>();
+            for (IOAdapterFactory factory : getFactories()) {
+                if (factory.supports(t)) list.add(factory.create(t));
+            }
+            return Collections.unmodifiableList(list);
+        });
+    }
+
+    /**
+     * Returns the adapter for the given type: the fastest adapter if the adapters for the type have been
+     * {@linkplain #selectFastest(Class, Object) measured}, or else the adapter of the factory with the highest
+     * {@linkplain IOAdapterFactory#priority() priority} which supports the type.
+     *
+     * @param type the type
+     * @param <T>  the type
+     * @return the adapter for the type
+     * @throws IllegalArgumentException if no factory supports the type
+     */
+    @SuppressWarnings("unchecked")
+    public <T> IOAdapter<T> getAdapter(Class<T> type) {
+        final IOAdapter<T> adapter = (IOAdapter<T>) selected.get(type);
+        if (adapter != null) return adapter;
+
+        final List<IOAdapter<T>> list = getAdapters(type);
+        if (list.isEmpty()) throw new IllegalArgumentException("No adapter for type " + type.getName());
+        return list.get(0);
+    }
+
+    /**
+     * Returns the adapter for the given type with the given {@linkplain IOAdapter#name() implementation name}.
+     *
+     * @param type the type
+     * @param name the name of the implementation, such as {@code gson}
+     * @param <T>  the type
+     * @return the adapter, or an empty optional if there is no such adapter for the type
+     */
+    public <T> Optional<IOAdapter<T>> getAdapter(Class<T> type, String name) {
+        for (IOAdapter<T> adapter : getAdapters(type)) {
+            if (adapter.name().equals(name)) return Optional.of(adapter);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Measures the throughput of the adapters for the given type by writing and reading back the given sample value,
+     * and selects the fastest adapter as the {@linkplain #getAdapter(Class) adapter for the type}.
+     *
+     * <p>The sample should be representative of the values which are read and written later, as the relative speed of
+     * implementations depends on the shape and size of the data. Adapters which fail to write the sample, or do not
+     * read back a value equal to it, are not selected.</p>
+     *
+     * @param type   the type
+     * @param sample the sample value
+     * @param <T>    the type
+     * @return the fastest adapter for the type
+     * @throws IllegalArgumentException if no adapter for the type can write and read the sample
+     */
+    public <T> IOAdapter<T> selectFastest(Class<T> type, T sample) {
+        Objects.requireNonNull(sample, "sample");
+        IOAdapter<T> fastest = null;
+        long fastestTime = Long.MAX_VALUE;
+        for (IOAdapter<T> adapter : getAdapters(type)) {
+            final long time;
+            try {
+                time = measure(adapter, sample);
+            } catch (IOException | RuntimeException e) {
+                continue;
+            }
+            if (time < fastestTime) {
+                fastest = adapter;
+                fastestTime = time;
+            }
+        }
+        if (fastest == null) throw new IllegalArgumentException("No working adapter for type " + type.getName());
+
+        selected.put(type, fastest);
+        return fastest;
+    }
+
+    /**
+     * Returns the fastest time of a number of round trips of the sample through the adapter, in nanoseconds.
+     */
+    private static <T> long measure(IOAdapter<T> adapter, T sample) throws IOException {
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+            final long start = System.nanoTime();
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            adapter.write(out, sample);
+            final T read = adapter.read(new ByteArrayInputStream(out.toByteArray()));
+            final long time = System.nanoTime() - start;
+
+            if (!sample.equals(read)) {
+                throw new IOException("Adapter " + adapter.name() + " did not read back the sample");
+            }
+            if (round >= WARMUP_ROUNDS) best = Math.min(best, time);
+        }
+        return best;
+    }
+
+    private static final class DefaultHolder {
+        static final IOAdapterRegistry INSTANCE = load(IOAdapterRegistry.class.getClassLoader());
+    }
+}
@@ -1,49 +1,205 @@
 package org.parchmentmc.feather.util;
 
-import java.util.Arrays;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Collection;
 import java.util.EnumSet;
-import java.util.stream.Collectors;
 
+/**
+ * The access flags of classes, fields, methods, parameters and modules, as defined by the JVM specification.
+ *
+ * <p>Some flags share the same bit, such as {@link #SUPER} for classes and {@link #SYNCHRONIZED} for methods, so the
+ * meaning of a bit field depends on the {@linkplain Target kind of element} it belongs to. The context-free methods,
+ * such as {@link #getAccessFlags(int)}, return every flag whose bit is set; the methods which take a {@link Target}
+ * only return the flags which apply to that kind of element.</p>
+ *
+ * <p>The static bit field operations, such as {@link #merge(int, int)} and {@link #test(int, int)}, work on the bit
+ * fields directly and never allocate.</p>
+ */
 public enum AccessFlag {
-    PUBLIC(0x0001), // class, field, method
-    PRIVATE(0x0002), // class, field, method
-    PROTECTED(0x0004), // class, field, method
-    STATIC(0x0008), // field, method
-    FINAL(0x0010), // class, field, method, parameter
-    SUPER(0x0020), // class
-    SYNCHRONIZED(0x0020), // method
-    OPEN(0x0020), // module
-    TRANSITIVE(0x0020), // module requires
-    VOLATILE(0x0040), // field
-    BRIDGE(0x0040), // method
-    STATIC_PHASE(0x0040), // module requires
-    VARARGS(0x0080), // method
-    TRANSIENT(0x0080), // field
-    NATIVE(0x0100), // method
-    INTERFACE(0x0200), // class
-    ABSTRACT(0x0400), // class, method
-    STRICT(0x0800), // method
-    SYNTHETIC(0x1000), // class, field, method, parameter, module *
-    ANNOTATION(0x2000), // class
-    ENUM(0x4000), // class(?) field inner
-    MANDATED(0x8000), // field, method, parameter, module, module *
-    MODULE(0x8000); // class
+    PUBLIC(0x0001, Target.CLASS, Target.FIELD, Target.METHOD),
+    PRIVATE(0x0002, Target.CLASS, Target.FIELD, Target.METHOD),
+    PROTECTED(0x0004, Target.CLASS, Target.FIELD, Target.METHOD),
+    STATIC(0x0008, Target.CLASS, Target.FIELD, Target.METHOD), // class: inner classes only
+    FINAL(0x0010, Target.CLASS, Target.FIELD, Target.METHOD, Target.PARAMETER),
+    SUPER(0x0020, Target.CLASS),
+    SYNCHRONIZED(0x0020, Target.METHOD),
+    OPEN(0x0020, Target.MODULE),
+    TRANSITIVE(0x0020, Target.MODULE_REQUIRES),
+    VOLATILE(0x0040, Target.FIELD),
+    BRIDGE(0x0040, Target.METHOD),
+    STATIC_PHASE(0x0040, Target.MODULE_REQUIRES),
+    VARARGS(0x0080, Target.METHOD),
+    TRANSIENT(0x0080, Target.FIELD),
+    NATIVE(0x0100, Target.METHOD),
+    INTERFACE(0x0200, Target.CLASS),
+    ABSTRACT(0x0400, Target.CLASS, Target.METHOD),
+    STRICT(0x0800, Target.METHOD),
+    SYNTHETIC(0x1000, Target.CLASS, Target.FIELD, Target.METHOD, Target.PARAMETER, Target.MODULE,
+            Target.MODULE_REQUIRES),
+    ANNOTATION(0x2000, Target.CLASS),
+    ENUM(0x4000, Target.CLASS, Target.FIELD),
+    MANDATED(0x8000, Target.PARAMETER, Target.MODULE, Target.MODULE_REQUIRES),
+    MODULE(0x8000, Target.CLASS);
+
+    /**
+     * The bit mask of all bits which are used by any access flag.
+     */
+    public static final int ALL_FLAGS_MASK = 0xFFFF;
+
+    private static final int BITS = 16;
+    private static final AccessFlag[] VALUES = values();
+    /**
+     * The access flags of each bit, indexed by the bit's position, regardless of the target.
+     */
+    private static final AccessFlag[][] FLAGS_BY_BIT = new AccessFlag[BITS][];
+    /**
+     * The access flag of each bit for each target, indexed by the target's ordinal and the bit's position, or
+     * {@code null} if the bit has no meaning for the target.
+     */
+    private static final AccessFlag[][] FLAG_BY_TARGET_BIT = new AccessFlag[Target.values().length][BITS];
+    /**
+     * The bit mask of all bits which have a meaning for each target, indexed by the target's ordinal.
+     */
+    private static final int[] MASK_BY_TARGET = new int[Target.values().length];
+
+    static {
+        for (int bit = 0; bit < BITS; bit++) {
+            final int mask = 1 << bit;
+            int count = 0;
+            for (AccessFlag flag : VALUES) {
+                if (flag.bitMask == mask) count++;
+            }
+            FLAGS_BY_BIT[bit] = new AccessFlag[count];
+            int index = 0;
+            for (AccessFlag flag : VALUES) {
+                if (flag.bitMask != mask) continue;
+                FLAGS_BY_BIT[bit][index++] = flag;
+                for (Target target : flag.targets) {
+                    FLAG_BY_TARGET_BIT[target.ordinal()][bit] = flag;
+                    MASK_BY_TARGET[target.ordinal()] |= mask;
+                }
+            }
+        }
+    }
 
     private final int bitMask;
+    private final Target[] targets;
+    private final int targetBits;
 
-    AccessFlag(final int bitMask) {
+    AccessFlag(final int bitMask, final Target... targets) {
         this.bitMask = bitMask;
+        this.targets = targets;
+        int targetBits = 0;
+        for (Target target : targets) {
+            targetBits |= 1 << target.ordinal();
+        }
+        this.targetBits = targetBits;
+    }
+
+    /**
+     * Returns the bit mask of this access flag.
+     *
+     * @return the bit mask
+     */
+    public int getBitMask() {
+        return bitMask;
+    }
+
+    /**
+     * Returns whether this access flag applies to the given kind of element.
+     *
+     * @param target the kind of element
+     * @return {@code true} if this flag applies to the kind of element
+     */
+    public boolean appliesTo(final Target target) {
+        return (targetBits & (1 << target.ordinal())) != 0;
     }
 
     public boolean isActive(final int bitField) {
         return (bitField & this.bitMask) == this.bitMask;
     }
 
+    /**
+     * Returns whether this access flag is set in the given bit field of the given kind of element.
+     *
+     * <p>Unlike {@link #isActive(int)}, this is always {@code false} if this flag does not apply to the kind of
+     * element, even if its bit is set.</p>
+     *
+     * @param bitField the bit field
+     * @param target   the kind of element which the bit field belongs to
+     * @return {@code true} if this flag is set
+     */
+    public boolean isActive(final int bitField, final Target target) {
+        return (bitField & this.bitMask) != 0 && appliesTo(target);
+    }
+
     public static EnumSet<AccessFlag> getAccessFlags(final int bitField) {
-        return Arrays.stream(values()).filter(a -> a.isActive(bitField)).collect(Collectors.toCollection(() -> EnumSet.noneOf(AccessFlag.class)));
+        final EnumSet<AccessFlag> flags = EnumSet.noneOf(AccessFlag.class);
+        for (int bits = bitField & ALL_FLAGS_MASK; bits != 0; bits &= bits - 1) {
+            for (AccessFlag flag : FLAGS_BY_BIT[Integer.numberOfTrailingZeros(bits)]) {
+                flags.add(flag);
+            }
+        }
+        return flags;
+    }
+
+    /**
+     * Returns the access flags set in the given bit field which apply to the given kind of element.
+     *
+     * <p>Bits which have no meaning for the kind of element are ignored.</p>
+     *
+     * @param bitField the bit field
+     * @param target   the kind of element which the bit field belongs to
+     * @return the set of access flags
+     */
+    public static EnumSet<AccessFlag> getAccessFlags(final int bitField, final Target target) {
+        final EnumSet<AccessFlag> flags = EnumSet.noneOf(AccessFlag.class);
+        final AccessFlag[] flagByBit = FLAG_BY_TARGET_BIT[target.ordinal()];
+        for (int bits = bitField & ALL_FLAGS_MASK; bits != 0; bits &= bits - 1) {
+            final AccessFlag flag = flagByBit[Integer.numberOfTrailingZeros(bits)];
+            if (flag != null) flags.add(flag);
+        }
+        return flags;
+    }
+
+    /**
+     * Returns the bit mask of all bits which have a meaning for the given kind of element.
+     *
+     * @param target the kind of element
+     * @return the bit mask
+     */
+    public static int getTargetMask(final Target target) {
+        return MASK_BY_TARGET[target.ordinal()];
+    }
+
+    /**
+     * Returns the access flag of the given single bit for the given kind of element.
+     *
+     * @param bitMask the bit mask of a single bit
+     * @param target  the kind of element
+     * @return the access flag, or {@code null} if the bit has no meaning for the kind of element
+     * @throws IllegalArgumentException if the bit mask is not a single bit used by access flags
+     */
+    @Nullable
+    public static AccessFlag forBit(final int bitMask, final Target target) {
+        if (Integer.bitCount(bitMask) != 1 || (bitMask & ~ALL_FLAGS_MASK) != 0) {
+            throw new IllegalArgumentException("Not a single access flag bit: 0x" + Integer.toHexString(bitMask));
+        }
+        return FLAG_BY_TARGET_BIT[target.ordinal()][Integer.numberOfTrailingZeros(bitMask)];
     }
 
     public static int toSecuritySpecification(final EnumSet<AccessFlag> accessFlags) {
+        return toSecuritySpecification((Collection<AccessFlag>) accessFlags);
+    }
+
+    /**
+     * Returns the bit field of the given access flags.
+     *
+     * @param accessFlags the access flags
+     * @return the bit field
+     */
+    public static int toSecuritySpecification(final Collection<AccessFlag> accessFlags) {
         int bitField = 0;
 
         for (final AccessFlag accessFlag : accessFlags) {
@@ -52,4 +208,66 @@ public enum AccessFlag {
 
         return bitField;
     }
+
+    /**
+     * Returns the bit field of the given access flags.
+     *
+     * @param accessFlags the access flags
+     * @return the bit field
+     */
+    public static int mask(final AccessFlag... accessFlags) {
+        int bitField = 0;
+        for (final AccessFlag accessFlag : accessFlags) {
+            bitField |= accessFlag.bitMask;
+        }
+        return bitField;
+    }
+
+    /**
+     * Merges the given bit fields, so that the result has every access flag which is set in either of them.
+     *
+     * <p>This is equivalent to decoding both bit fields, taking the union of their access flags and encoding it
+     * again, without any allocation. Bits which are not used by any access flag are dropped.</p>
+     *
+     * @param first  the first bit field
+     * @param second the second bit field
+     * @return the merged bit field
+     */
+    public static int merge(final int first, final int second) {
+        return (first | second) & ALL_FLAGS_MASK;
+    }
+
+    /**
+     * Returns whether all bits of the given mask are set in the given bit field.
+     *
+     * @param bitField the bit field
+     * @param mask     the mask, such as from {@link #mask(AccessFlag...)}
+     * @return {@code true} if all bits of the mask are set
+     */
+    public static boolean test(final int bitField, final int mask) {
+        return (bitField & mask) == mask;
+    }
+
+    /**
+     * Returns whether any bit of the given mask is set in the given bit field.
+     *
+     * @param bitField the bit field
+     * @param mask     the mask, such as from {@link #mask(AccessFlag...)}
+     * @return {@code true} if any bit of the mask is set
+     */
+    public static boolean testAny(final int bitField, final int mask) {
+        return (bitField & mask) != 0;
+    }
+
+    /**
+     * The kinds of elements which access flags apply to.
+     */
+    public enum Target {
+        CLASS,
+        FIELD,
+        METHOD,
+        PARAMETER,
+        MODULE,
+        MODULE_REQUIRES
+    }
 }
@@ -0,0 +1,140 @@
+package org.parchmentmc.feather.util;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.parchmentmc.feather.util.AccessFlag.Target;
+
+import java.util.EnumSet;
+import java.util.Objects;
+
+/**
+ * An immutable view of the access flags bit field of a specific {@linkplain Target kind of element}.
+ *
+ * <p>Bits which have no meaning for the kind of element are dropped, so that queries can not confuse flags which
+ * share the same bit, such as {@link AccessFlag#SUPER} and {@link AccessFlag#SYNCHRONIZED}. All queries work on the
+ * bit field directly and never allocate, except for {@link #toSet()}.</p>
+ *
+ * @see ClassAccessFlags
+ * @see MethodAccessFlags
+ * @see FieldAccessFlags
+ * @see ParameterAccessFlags
+ * @see GenericAccessFlags
+ */
+public abstract class AccessFlags {
+    private final int bitField;
+
+    AccessFlags(final int bitField, @Nullable final Target target) {
+        this.bitField = bitField & (target != null ? AccessFlag.getTargetMask(target) : AccessFlag.ALL_FLAGS_MASK);
+    }
+
+    /**
+     * Returns the kind of element which these access flags belong to.
+     *
+     * @return the kind of element, or {@code null} for {@linkplain GenericAccessFlags generic access flags}
+     */
+    @Nullable
+    public abstract Target getTarget();
+
+    /**
+     * Returns the bit field of these access flags, without the bits which have no meaning for the kind of element.
+     *
+     * @return the bit field
+     */
+    public int getBitField() {
+        return bitField;
+    }
+
+    /**
+     * Returns whether the given access flag is set. This is always {@code false} if the flag does not apply to the
+     * kind of element.
+     *
+     * @param flag the access flag
+     * @return {@code true} if the flag is set
+     */
+    public boolean has(final AccessFlag flag) {
+        return flag.isActive(bitField, getTarget());
+    }
+
+    /**
+     * Returns whether all bits of the given mask are set.
+     *
+     * @param mask the mask, such as from {@link AccessFlag#mask(AccessFlag...)}
+     * @return {@code true} if all bits of the mask are set
+     */
+    public boolean hasAll(final int mask) {
+        return AccessFlag.test(bitField, mask);
+    }
+
+    /**
+     * Returns whether any bit of the given mask is set.
+     *
+     * @param mask the mask, such as from {@link AccessFlag#mask(AccessFlag...)}
+     * @return {@code true} if any bit of the mask is set
+     */
+    public boolean hasAny(final int mask) {
+        return AccessFlag.testAny(bitField, mask);
+    }
+
+    /**
+     * Returns whether all bits of the required mask are set, and none of the bits of the forbidden mask.
+     *
+     * <p>For example, public methods which are not synthetic match {@code matches(AccessFlag.mask(PUBLIC),
+     * AccessFlag.mask(SYNTHETIC))}.</p>
+     *
+     * @param required  the mask of bits which must be set
+     * @param forbidden the mask of bits which must not be set
+     * @return {@code true} if these access flags match
+     */
+    public boolean matches(final int required, final int forbidden) {
+        return (bitField & (required | forbidden)) == required;
+    }
+
+    /**
+     * Decodes these access flags into a set.
+     *
+     * @return a new set of the access flags
+     */
+    public EnumSet<AccessFlag> toSet() {
+        return AccessFlag.getAccessFlags(bitField, getTarget());
+    }
+
+    public boolean isPublic() {
+        return has(AccessFlag.PUBLIC);
+    }
+
+    public boolean isPrivate() {
+        return has(AccessFlag.PRIVATE);
+    }
+
+    public boolean isProtected() {
+        return has(AccessFlag.PROTECTED);
+    }
+
+    public boolean isStatic() {
+        return has(AccessFlag.STATIC);
+    }
+
+    public boolean isFinal() {
+        return has(AccessFlag.FINAL);
+    }
+
+    public boolean isSynthetic() {
+        return has(AccessFlag.SYNTHETIC);
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        return bitField == ((AccessFlags) o).bitField;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Objects.hashCode(getTarget()) + bitField;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + toSet();
+    }
+}
@@ -0,0 +1,51 @@
+package org.parchmentmc.feather.util;
+
+import org.parchmentmc.feather.util.AccessFlag.Target;
+
+/**
+ * The access flags of a class.
+ */
+public final class ClassAccessFlags extends AccessFlags {
+    private ClassAccessFlags(final int bitField) {
+        super(bitField, Target.CLASS);
+    }
+
+    /**
+     * Returns the access flags of a class with the given bit field.
+     *
+     * @param bitField the bit field
+     * @return the access flags
+     */
+    public static ClassAccessFlags of(final int bitField) {
+        return new ClassAccessFlags(bitField);
+    }
+
+    @Override
+    public Target getTarget() {
+        return Target.CLASS;
+    }
+
+    public boolean isSuper() {
+        return has(AccessFlag.SUPER);
+    }
+
+    public boolean isInterface() {
+        return has(AccessFlag.INTERFACE);
+    }
+
+    public boolean isAbstract() {
+        return has(AccessFlag.ABSTRACT);
+    }
+
+    public boolean isAnnotation() {
+        return has(AccessFlag.ANNOTATION);
+    }
+
+    public boolean isEnum() {
+        return has(AccessFlag.ENUM);
+    }
+
+    public boolean isModule() {
+        return has(AccessFlag.MODULE);
+    }
+}
@@ -0,0 +1,95 @@
+package org.parchmentmc.feather.util;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Compression-transparent streams for reading and writing serialized data.
+ *
+ * <p>When reading, gzip-compressed data is detected by its magic bytes, so callers can pass the returned stream
+ * to any JSON adapter regardless of whether the data was compressed. Decompression of gzip data is pipelined on a
+ * separate thread, so that inflating the next chunks of data overlaps with parsing the previous chunks.</p>
+ *
+ * @see Compression
+ */
+public final class CompressedStreams {
+    private static final int GZIP_MAGIC_FIRST = 0x1f;
+    private static final int GZIP_MAGIC_SECOND = 0x8b;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final ExecutorService DECOMPRESSION_EXECUTOR = Executors.newCachedThreadPool(new DaemonThreadFactory());
+
+    private CompressedStreams() {
+        throw new IllegalStateException("Can not instantiate an instance of: CompressedStreams. This is a utility class");
+    }
+
+    /**
+     * Wraps the given input stream to transparently decompress its data, using a shared pool of daemon threads for
+     * decompression.
+     *
+     * @param in the input stream, which may or may not be compressed
+     * @return an input stream of the uncompressed data
+     * @throws IOException if an I/O error occurs while detecting the compression format
+     * @see #decompress(InputStream, Executor)
+     */
+    public static InputStream decompress(InputStream in) throws IOException {
+        return decompress(in, DECOMPRESSION_EXECUTOR);
+    }
+
+    /**
+     * Wraps the given input stream to transparently decompress its data.
+     *
+     * <p>If the data begins with the gzip magic bytes, the returned stream inflates the data on a task submitted to
+     * the given executor, which hands the inflated chunks over to the reading thread. Otherwise, the returned stream
+     * reads the data as-is.</p>
+     *
+     * <p>Closing the returned stream closes the given stream, and stops any running decompression task.</p>
+     *
+     * @param in       the input stream, which may or may not be compressed
+     * @param executor the executor to run the decompression task on
+     * @return an input stream of the uncompressed data
+     * @throws IOException if an I/O error occurs while detecting the compression format
+     */
+    public static InputStream decompress(InputStream in, Executor executor) throws IOException {
+        final BufferedInputStream buffered = new BufferedInputStream(in, BUFFER_SIZE);
+        if (!isGzip(buffered)) return buffered;
+        return new PipelinedInputStream(new GZIPInputStream(buffered, BUFFER_SIZE), executor, BUFFER_SIZE);
+    }
+
+    /**
+     * Returns whether the given data begins with the gzip magic bytes.
+     *
+     * @param data the data
+     * @return if the data is gzip-compressed
+     */
+    public static boolean isGzip(byte[] data) {
+        return data.length >= 2 && (data[0] & 0xFF) == GZIP_MAGIC_FIRST && (data[1] & 0xFF) == GZIP_MAGIC_SECOND;
+    }
+
+    private static boolean isGzip(BufferedInputStream in) throws IOException {
+        in.mark(2);
+        try {
+            return in.read() == GZIP_MAGIC_FIRST && in.read() == GZIP_MAGIC_SECOND;
+        } finally {
+            in.reset();
+        }
+    }
+
+    private static class DaemonThreadFactory implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            final Thread thread = new Thread(runnable, "Feather-Decompression-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
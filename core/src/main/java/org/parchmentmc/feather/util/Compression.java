@@ -0,0 +1,61 @@
+package org.parchmentmc.feather.util;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The compression formats which data can be written with.
+ *
+ * <p>All compressed formats produce standard gzip streams, so any of them can be read back with
+ * {@link CompressedStreams#decompress(java.io.InputStream)}, and by any other gzip reader.</p>
+ *
+ * @see CompressedStreams
+ */
+public enum Compression {
+    /**
+     * No compression; data is written as-is.
+     */
+    NONE(Deflater.NO_COMPRESSION),
+    /**
+     * Gzip compression, using the default compression level.
+     */
+    GZIP(Deflater.DEFAULT_COMPRESSION),
+    /**
+     * Gzip compression, using the fastest compression level.
+     *
+     * <p>This trades a slightly larger output for a much lower compression time, which is preferable when writing to
+     * storage where throughput matters more than size, such as a local artifact cache.</p>
+     */
+    GZIP_FAST(Deflater.BEST_SPEED);
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final int level;
+
+    Compression(int level) {
+        this.level = level;
+    }
+
+    /**
+     * Wraps the given output stream to compress the data written to it using this format.
+     *
+     * <p>Closing the returned stream finishes the compressed data and closes the given stream.</p>
+     *
+     * @param out the output stream to write the compressed data to
+     * @return an output stream which compresses data written to it
+     * @throws IOException if an I/O error occurs while writing the header of the compressed data
+     */
+    public OutputStream compress(OutputStream out) throws IOException {
+        if (this == NONE) return out;
+        return new LeveledGZIPOutputStream(out, level);
+    }
+
+    private static class LeveledGZIPOutputStream extends GZIPOutputStream {
+        LeveledGZIPOutputStream(OutputStream out, int level) throws IOException {
+            super(out, BUFFER_SIZE);
+            def.setLevel(level);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package org.parchmentmc.feather.util;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * An output stream which computes the hash of the bytes written through it, while passing them on to the underlying
+ * stream. The hash algorithm is SHA-256 unless another is given.
+ *
+ * <p>The hash is finished by the first call to {@link #getHash()}, after which no more bytes may be written.</p>
+ */
+public class ContentHashOutputStream extends FilterOutputStream {
+    /**
+     * The name of the SHA-1 algorithm, which is used by the launcher and version manifests.
+     */
+    public static final String SHA_1 = "SHA-1";
+    /**
+     * The name of the SHA-256 algorithm, which is used by default.
+     */
+    public static final String SHA_256 = "SHA-256";
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private final MessageDigest digest;
+    private long byteCount = 0;
+    private String hash = null;
+
+    /**
+     * Creates a stream which hashes the written bytes with the given algorithm, and passes them on to the given stream.
+     *
+     * @param out       the underlying output stream
+     * @param algorithm the name of the hash algorithm, such as {@link #SHA_1}
+     * @throws IllegalArgumentException if the algorithm is not available
+     */
+    public ContentHashOutputStream(OutputStream out, String algorithm) {
+        super(out);
+        this.digest = digest(algorithm);
+    }
+
+    /**
+     * Creates a stream which hashes the written bytes and passes them on to the given stream.
+     *
+     * @param out the underlying output stream
+     */
+    public ContentHashOutputStream(OutputStream out) {
+        this(out, SHA_256);
+    }
+
+    /**
+     * Creates a stream which only hashes the written bytes, and discards them.
+     */
+    public ContentHashOutputStream() {
+        this(new OutputStream() {
+            @Override
+            public void write(int b) {
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+            }
+        });
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        checkNotFinished();
+        out.write(b);
+        digest.update((byte) b);
+        byteCount++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        // FilterOutputStream writes arrays one byte at a time
+        checkNotFinished();
+        out.write(b, off, len);
+        digest.update(b, off, len);
+        byteCount += len;
+    }
+
+    private void checkNotFinished() {
+        if (hash != null) throw new IllegalStateException("Hash has already been computed");
+    }
+
+    /**
+     * Returns the number of bytes written through this stream.
+     *
+     * @return the number of written bytes
+     */
+    public long getByteCount() {
+        return byteCount;
+    }
+
+    /**
+     * Returns the lowercase hexadecimal hash of the bytes written through this stream, finishing the hash.
+     *
+     * @return the hash of the written bytes
+     */
+    public String getHash() {
+        if (hash == null) {
+            hash = toHex(digest.digest());
+        }
+        return hash;
+    }
+
+    /**
+     * Returns the lowercase hexadecimal SHA-256 hash of the given bytes.
+     *
+     * @param input the input bytes
+     * @return the hash of the input
+     */
+    public static String hash(byte[] input) {
+        return hash(input, SHA_256);
+    }
+
+    /**
+     * Returns the lowercase hexadecimal hash of the given bytes, using the given algorithm.
+     *
+     * @param input     the input bytes
+     * @param algorithm the name of the hash algorithm, such as {@link #SHA_1}
+     * @return the hash of the input
+     * @throws IllegalArgumentException if the algorithm is not available
+     */
+    public static String hash(byte[] input, String algorithm) {
+        return toHex(digest(algorithm).digest(input));
+    }
+
+    /**
+     * Returns a new message digest for the given algorithm.
+     *
+     * @param algorithm the name of the hash algorithm, such as {@link #SHA_1}
+     * @return the message digest
+     * @throws IllegalArgumentException if the algorithm is not available
+     */
+    public static MessageDigest digest(String algorithm) {
+        try {
+            return MessageDigest.getInstance(algorithm);
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-1 and SHA-256
+            throw new IllegalArgumentException("Hash algorithm is not available: " + algorithm, e);
+        }
+    }
+
+    /**
+     * Returns the lowercase hexadecimal representation of the given bytes, such as a finished digest.
+     *
+     * @param bytes the bytes
+     * @return the hexadecimal representation
+     */
+    public static String toHex(byte[] bytes) {
+        final char[] chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            chars[i * 2] = HEX_DIGITS[(bytes[i] >> 4) & 0xF];
+            chars[i * 2 + 1] = HEX_DIGITS[bytes[i] & 0xF];
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,39 @@
+package org.parchmentmc.feather.util;
+
+import org.parchmentmc.feather.util.AccessFlag.Target;
+
+/**
+ * The access flags of a field.
+ */
+public final class FieldAccessFlags extends AccessFlags {
+    private FieldAccessFlags(final int bitField) {
+        super(bitField, Target.FIELD);
+    }
+
+    /**
+     * Returns the access flags of a field with the given bit field.
+     *
+     * @param bitField the bit field
+     * @return the access flags
+     */
+    public static FieldAccessFlags of(final int bitField) {
+        return new FieldAccessFlags(bitField);
+    }
+
+    @Override
+    public Target getTarget() {
+        return Target.FIELD;
+    }
+
+    public boolean isVolatile() {
+        return has(AccessFlag.VOLATILE);
+    }
+
+    public boolean isTransient() {
+        return has(AccessFlag.TRANSIENT);
+    }
+
+    public boolean isEnum() {
+        return has(AccessFlag.ENUM);
+    }
+}
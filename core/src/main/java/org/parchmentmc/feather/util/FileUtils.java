@@ -0,0 +1,35 @@
+package org.parchmentmc.feather.util;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Helper methods for writing files.
+ */
+public final class FileUtils {
+
+    private FileUtils() {
+        throw new IllegalStateException("Can not instantiate an instance of: FileUtils. This is a utility class");
+    }
+
+    /**
+     * Moves the given file to the target, replacing the target if it exists.
+     *
+     * <p>The move is atomic where the file system supports it, so that readers of the target never see a partially
+     * written file. Otherwise, this falls back to a non-atomic move.</p>
+     *
+     * @param source the file to move, usually a temporary file in the same directory as the target
+     * @param target the target file
+     * @throws IOException if the file could not be moved
+     */
+    public static void moveReplacing(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package org.parchmentmc.feather.util;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.parchmentmc.feather.util.AccessFlag.Target;
+
+import java.util.EnumSet;
+
+/**
+ * The access flags of an element of unknown kind.
+ *
+ * <p>Unlike the views for a specific kind of element, no bits are dropped, and every flag whose bit is set is reported
+ * as set, even where flags share the same bit.</p>
+ */
+public final class GenericAccessFlags extends AccessFlags {
+    private GenericAccessFlags(final int bitField) {
+        super(bitField, null);
+    }
+
+    /**
+     * Returns the access flags of an element of unknown kind with the given bit field.
+     *
+     * @param bitField the bit field
+     * @return the access flags
+     */
+    public static GenericAccessFlags of(final int bitField) {
+        return new GenericAccessFlags(bitField);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@code null}, as the kind of element is unknown
+     */
+    @Nullable
+    @Override
+    public Target getTarget() {
+        return null;
+    }
+
+    @Override
+    public boolean has(final AccessFlag flag) {
+        return flag.isActive(getBitField());
+    }
+
+    @Override
+    public EnumSet<AccessFlag> toSet() {
+        return AccessFlag.getAccessFlags(getBitField());
+    }
+}
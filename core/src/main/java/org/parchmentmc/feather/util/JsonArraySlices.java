@@ -0,0 +1,349 @@
+package org.parchmentmc.feather.util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * The elements of an array property of a top-level JSON object, as slices of the UTF-8 encoded JSON document.
+ *
+ * <p>The slices are found by a structural scan over the raw bytes, which only tracks strings and nesting depth without
+ * decoding any values. Each slice is a complete JSON value, so the slices can be decoded independently and
+ * concurrently by any JSON library, using {@link #decode(SliceDecoder, Executor)}. The rest of the document is
+ * available as {@linkplain #getRemainder() the remainder}, where the array is replaced by an empty array.</p>
+ *
+ * <p>The scan does not validate the JSON beyond what is needed to find the slices; malformed values are reported by
+ * the decoders.</p>
+ */
+public final class JsonArraySlices {
+    private static final int BATCHES_PER_PROCESSOR = 4;
+    private static final byte[] EMPTY_ARRAY = {'[', ']'};
+
+    private final byte[] data;
+    private final int[] bounds;
+    private final int size;
+    private final byte[] remainder;
+
+    private JsonArraySlices(byte[] data, int[] bounds, int size, byte[] remainder) {
+        this.data = data;
+        this.bounds = bounds;
+        this.size = size;
+        this.remainder = remainder;
+    }
+
+    /**
+     * Finds the elements of the array with the given property name in the top-level object of the given UTF-8 encoded
+     * JSON document.
+     *
+     * <p>If the top-level object has no such property, or its value is not an array, then there are no slices, and
+     * the remainder is the whole document. The property name is compared against the raw bytes of each key, so keys
+     * written with escape sequences are not matched.</p>
+     *
+     * @param json     the UTF-8 encoded JSON document
+     * @param property the name of the array property
+     * @return the slices of the array elements
+     * @throws IllegalArgumentException if the document is not a JSON object, or is truncated
+     */
+    public static JsonArraySlices of(byte[] json, String property) {
+        try {
+            return new Scanner(json).scan(property.getBytes(StandardCharsets.UTF_8));
+        } catch (ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Unexpected end of JSON document", e);
+        }
+    }
+
+    /**
+     * Returns the number of array elements.
+     *
+     * @return the number of elements
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the UTF-8 encoded JSON document which the slices refer to.
+     *
+     * @return the JSON document
+     */
+    public byte[] getData() {
+        return data;
+    }
+
+    /**
+     * Returns the offset of the first byte of the given element in the JSON document.
+     *
+     * @param index the index of the element
+     * @return the start offset of the element
+     */
+    public int getStart(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        return bounds[index << 1];
+    }
+
+    /**
+     * Returns the offset after the last byte of the given element in the JSON document.
+     *
+     * @param index the index of the element
+     * @return the end offset of the element
+     */
+    public int getEnd(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        return bounds[(index << 1) + 1];
+    }
+
+    /**
+     * Returns the JSON document with the array replaced by an empty array, for decoding the other properties of the
+     * top-level object.
+     *
+     * @return the remainder of the JSON document
+     */
+    public byte[] getRemainder() {
+        return remainder;
+    }
+
+    /**
+     * Decodes all slices on the common fork-join pool.
+     *
+     * @param decoder the decoder for a single slice
+     * @param <T>     the type of decoded elements
+     * @return the list of decoded elements, in the order of the array
+     * @throws IOException if any of the slices fails to decode
+     * @see #decode(SliceDecoder, Executor)
+     */
+    public <T> List<T> decode(SliceDecoder<? extends T> decoder) throws IOException {
+        return decode(decoder, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Decodes all slices, concurrently on the given executor.
+     *
+     * <p>The slices are split into contiguous batches, a few per available processor, so that each task decodes
+     * enough elements to outweigh its scheduling cost. If there are too few elements for more than one batch, they are
+     * decoded on the calling thread.</p>
+     *
+     * @param decoder  the decoder for a single slice, which must be safe to call concurrently
+     * @param executor the executor to run the decoding tasks on
+     * @param <T>      the type of decoded elements
+     * @return the list of decoded elements, in the order of the array
+     * @throws IOException if any of the slices fails to decode
+     */
+    public <T> List<T> decode(SliceDecoder<? extends T> decoder, Executor executor) throws IOException {
+        final int batches = Math.min(size, Runtime.getRuntime().availableProcessors() * BATCHES_PER_PROCESSOR);
+        if (batches <= 1) {
+            final List<T> elements = new ArrayList<>(size);
+            decodeBatch(decoder, 0, size, elements);
+            return elements;
+        }
+
+        final List<CompletableFuture<List<T>>> futures = new ArrayList<>(batches);
+        for (int batch = 0; batch < batches; batch++) {
+            final int from = (int) ((long) size * batch / batches);
+            final int to = (int) ((long) size * (batch + 1) / batches);
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                final List<T> elements = new ArrayList<>(to - from);
+                try {
+                    decodeBatch(decoder, from, to, elements);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return elements;
+            }, executor));
+        }
+
+        final List<T> elements = new ArrayList<>(size);
+        try {
+            for (CompletableFuture<List<T>> future : futures) {
+                elements.addAll(future.join());
+            }
+        } catch (CompletionException e) {
+            futures.forEach(future -> future.cancel(false));
+            final Throwable cause = e.getCause();
+            if (cause instanceof UncheckedIOException) throw ((UncheckedIOException) cause).getCause();
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if (cause instanceof Error) throw (Error) cause;
+            throw e;
+        }
+        return elements;
+    }
+
+    private <T> void decodeBatch(SliceDecoder<? extends T> decoder, int from, int to, List<T> elements)
+            throws IOException {
+        for (int i = from; i < to; i++) {
+            final int start = bounds[i << 1];
+            final T element = decoder.decode(data, start, bounds[(i << 1) + 1] - start);
+            if (element != null) elements.add(element);
+        }
+    }
+
+    /**
+     * Decodes a single JSON value from a slice of a UTF-8 encoded JSON document.
+     *
+     * @param <T> the type of the decoded value
+     */
+    @FunctionalInterface
+    public interface SliceDecoder<T> {
+        /**
+         * Decodes the JSON value in the given slice.
+         *
+         * @param data   the UTF-8 encoded JSON document
+         * @param offset the offset of the first byte of the value
+         * @param length the length of the value in bytes
+         * @return the decoded value, or {@code null} to leave the value out of the decoded elements
+         * @throws IOException if the value is malformed
+         */
+        T decode(byte[] data, int offset, int length) throws IOException;
+    }
+
+    /**
+     * A structural scanner over a UTF-8 encoded JSON document. Multi-byte UTF-8 sequences never contain bytes in the
+     * ASCII range, so scanning the raw bytes for structural characters is safe.
+     */
+    private static final class Scanner {
+        private final byte[] json;
+        private int pos = 0;
+
+        Scanner(byte[] json) {
+            this.json = json;
+        }
+
+        JsonArraySlices scan(byte[] property) {
+            // Skip the UTF-8 byte order mark, if present
+            if (json.length >= 3 && (json[0] & 0xFF) == 0xEF && (json[1] & 0xFF) == 0xBB && (json[2] & 0xFF) == 0xBF) {
+                pos = 3;
+            }
+            skipWhitespace();
+            expect('{');
+            skipWhitespace();
+            if (json[pos] == '}') return notFound();
+
+            while (true) {
+                skipWhitespace();
+                expect('"');
+                final int keyStart = pos;
+                skipString();
+                final int keyEnd = pos - 1;
+                skipWhitespace();
+                expect(':');
+                skipWhitespace();
+
+                if (json[pos] == '[' && matches(keyStart, keyEnd, property)) {
+                    return scanArray();
+                }
+                skipValue();
+                skipWhitespace();
+                if (json[pos] == '}') return notFound();
+                expect(',');
+            }
+        }
+
+        private JsonArraySlices notFound() {
+            return new JsonArraySlices(json, new int[0], 0, json);
+        }
+
+        private JsonArraySlices scanArray() {
+            final int arrayStart = pos;
+            expect('[');
+
+            int[] bounds = new int[64];
+            int size = 0;
+            skipWhitespace();
+            if (json[pos] != ']') {
+                while (true) {
+                    skipWhitespace();
+                    final int start = pos;
+                    skipValue();
+                    if (size << 1 == bounds.length) bounds = Arrays.copyOf(bounds, bounds.length << 1);
+                    bounds[size << 1] = start;
+                    bounds[(size << 1) + 1] = pos;
+                    size++;
+
+                    skipWhitespace();
+                    if (json[pos] == ']') break;
+                    expect(',');
+                }
+            }
+            expect(']');
+            final int arrayEnd = pos;
+
+            final byte[] remainder = new byte[json.length - (arrayEnd - arrayStart) + EMPTY_ARRAY.length];
+            System.arraycopy(json, 0, remainder, 0, arrayStart);
+            System.arraycopy(EMPTY_ARRAY, 0, remainder, arrayStart, EMPTY_ARRAY.length);
+            System.arraycopy(json, arrayEnd, remainder, arrayStart + EMPTY_ARRAY.length, json.length - arrayEnd);
+            return new JsonArraySlices(json, bounds, size, remainder);
+        }
+
+        private boolean matches(int start, int end, byte[] expected) {
+            if (end - start != expected.length) return false;
+            for (int i = 0; i < expected.length; i++) {
+                if (json[start + i] != expected[i]) return false;
+            }
+            return true;
+        }
+
+        private void expect(char expected) {
+            if (json[pos] != expected) {
+                throw new IllegalArgumentException("Expected '" + expected + "' at offset " + pos + " but found '"
+                        + (char) (json[pos] & 0xFF) + "'");
+            }
+            pos++;
+        }
+
+        private void skipWhitespace() {
+            byte b;
+            while ((b = json[pos]) == ' ' || b == '\n' || b == '\r' || b == '\t') {
+                pos++;
+            }
+        }
+
+        /**
+         * Skips a string, starting at the byte after the opening quote and ending after the closing quote.
+         */
+        private void skipString() {
+            byte b;
+            while ((b = json[pos]) != '"') {
+                pos += b == '\\' ? 2 : 1;
+            }
+            pos++;
+        }
+
+        private void skipValue() {
+            final byte first = json[pos];
+            if (first == '"') {
+                pos++;
+                skipString();
+            } else if (first == '{' || first == '[') {
+                int depth = 0;
+                do {
+                    final byte b = json[pos++];
+                    if (b == '"') {
+                        skipString();
+                    } else if (b == '{' || b == '[') {
+                        depth++;
+                    } else if (b == '}' || b == ']') {
+                        depth--;
+                    }
+                } while (depth > 0);
+            } else {
+                // A literal or number, which ends at the next structural character or whitespace
+                byte b;
+                while ((b = json[pos]) != ',' && b != '}' && b != ']' && b != ' ' && b != '\n' && b != '\r' && b != '\t') {
+                    pos++;
+                }
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "JsonArraySlices{size=" + size + '}';
+    }
+
+}
@@ -0,0 +1,51 @@
+package org.parchmentmc.feather.util;
+
+import org.parchmentmc.feather.util.AccessFlag.Target;
+
+/**
+ * The access flags of a method.
+ */
+public final class MethodAccessFlags extends AccessFlags {
+    private MethodAccessFlags(final int bitField) {
+        super(bitField, Target.METHOD);
+    }
+
+    /**
+     * Returns the access flags of a method with the given bit field.
+     *
+     * @param bitField the bit field
+     * @return the access flags
+     */
+    public static MethodAccessFlags of(final int bitField) {
+        return new MethodAccessFlags(bitField);
+    }
+
+    @Override
+    public Target getTarget() {
+        return Target.METHOD;
+    }
+
+    public boolean isSynchronized() {
+        return has(AccessFlag.SYNCHRONIZED);
+    }
+
+    public boolean isBridge() {
+        return has(AccessFlag.BRIDGE);
+    }
+
+    public boolean isVarargs() {
+        return has(AccessFlag.VARARGS);
+    }
+
+    public boolean isNative() {
+        return has(AccessFlag.NATIVE);
+    }
+
+    public boolean isAbstract() {
+        return has(AccessFlag.ABSTRACT);
+    }
+
+    public boolean isStrict() {
+        return has(AccessFlag.STRICT);
+    }
+}
@@ -0,0 +1,31 @@
+package org.parchmentmc.feather.util;
+
+import org.parchmentmc.feather.util.AccessFlag.Target;
+
+/**
+ * The access flags of a method parameter.
+ */
+public final class ParameterAccessFlags extends AccessFlags {
+    private ParameterAccessFlags(final int bitField) {
+        super(bitField, Target.PARAMETER);
+    }
+
+    /**
+     * Returns the access flags of a method parameter with the given bit field.
+     *
+     * @param bitField the bit field
+     * @return the access flags
+     */
+    public static ParameterAccessFlags of(final int bitField) {
+        return new ParameterAccessFlags(bitField);
+    }
+
+    @Override
+    public Target getTarget() {
+        return Target.PARAMETER;
+    }
+
+    public boolean isMandated() {
+        return has(AccessFlag.MANDATED);
+    }
+}
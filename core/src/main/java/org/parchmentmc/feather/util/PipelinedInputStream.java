@@ -0,0 +1,196 @@
+package org.parchmentmc.feather.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * An input stream which reads ahead from a source stream on a separate task, handing chunks of data over to the reading
+ * thread through a bounded queue.
+ *
+ * <p>The read-ahead task is submitted to the executor on the first read. If the executor runs the task on the reading
+ * thread itself, such as a direct executor, this stream reads from the source stream synchronously instead, as reading
+ * ahead would fill the queue with no thread to drain it.</p>
+ *
+ * <p>The source stream is owned by whichever of the read-ahead task or {@link #close()} comes first: the task closes
+ * it when it finishes, and closing this stream before the task has started closes it directly.</p>
+ *
+ * @see CompressedStreams#decompress(InputStream, Executor)
+ */
+final class PipelinedInputStream extends InputStream {
+    private static final int QUEUE_CAPACITY = 16;
+    private static final long POLL_MILLIS = 100;
+    private static final Object END = new Object();
+
+    private final InputStream source;
+    private final Executor executor;
+    private final int chunkSize;
+    private final BlockingQueue<Object> chunks = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final AtomicBoolean owned = new AtomicBoolean();
+    private volatile boolean closed = false;
+
+    // Only accessed by the reading thread, including a read-ahead task run inline by the executor
+    private Thread launcher;
+    private boolean started = false;
+    private boolean synchronous = false;
+    private byte[] current = new byte[0];
+    private int position = 0;
+    private int limit = 0;
+    private boolean ended = false;
+
+    PipelinedInputStream(InputStream source, Executor executor, int chunkSize) {
+        this.source = source;
+        this.executor = executor;
+        this.chunkSize = chunkSize;
+    }
+
+    private void start() throws IOException {
+        started = true;
+        launcher = Thread.currentThread();
+        try {
+            executor.execute(this::readAhead);
+        } catch (RejectedExecutionException e) {
+            close();
+            throw new IOException("Could not start reading ahead from source stream", e);
+        } finally {
+            launcher = null;
+        }
+    }
+
+    private void readAhead() {
+        if (Thread.currentThread() == launcher) {
+            synchronous = true;
+            return;
+        }
+        if (!owned.compareAndSet(false, true)) return;
+
+        Object terminal = END;
+        try (InputStream in = source) {
+            while (!closed) {
+                final byte[] chunk = new byte[chunkSize];
+                int length = 0;
+                int read;
+                while (length < chunkSize && (read = in.read(chunk, length, chunkSize - length)) != -1) {
+                    length += read;
+                }
+                if (length > 0) hand(length == chunkSize ? chunk : Arrays.copyOf(chunk, length));
+                if (length < chunkSize) break;
+            }
+        } catch (Throwable t) {
+            terminal = t;
+        }
+        finish(terminal);
+    }
+
+    /**
+     * Hands the given chunk over to the reading thread, waiting for space in the queue while this stream is open.
+     */
+    private void hand(byte[] chunk) throws InterruptedIOException {
+        try {
+            while (!closed && !chunks.offer(chunk, POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                // Wait for the reading thread to take a chunk, or to close this stream
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while reading ahead from source stream");
+        }
+    }
+
+    /**
+     * Hands the given terminal marker over to the reading thread, which otherwise waits for it until closed. If the
+     * task is interrupted, the pending chunks are dropped to make room for a failure, as the data is incomplete.
+     */
+    private void finish(Object terminal) {
+        try {
+            while (!closed && !chunks.offer(terminal, POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                // Wait for the reading thread to take a chunk, or to close this stream
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            chunks.clear();
+            // This task is the only producer, so the cleared queue has room
+            chunks.offer(new InterruptedIOException("Interrupted while reading ahead from source stream"));
+        }
+    }
+
+    private boolean fill() throws IOException {
+        if (closed) throw new IOException("Stream closed");
+        if (!started) start();
+        while (position >= limit) {
+            if (ended) return false;
+            if (synchronous) {
+                if (current.length < chunkSize) current = new byte[chunkSize];
+                final int read = source.read(current, 0, chunkSize);
+                if (read == -1) {
+                    ended = true;
+                    return false;
+                }
+                position = 0;
+                limit = read;
+                continue;
+            }
+
+            final Object next;
+            try {
+                next = chunks.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for data");
+            }
+
+            if (next == null) {
+                if (closed) throw new IOException("Stream closed");
+                continue;
+            } else if (next == END) {
+                ended = true;
+                return false;
+            } else if (next instanceof Throwable) {
+                ended = true;
+                if (next instanceof Error) throw (Error) next;
+                throw new IOException("Exception while reading ahead from source stream", (Throwable) next);
+            }
+            current = (byte[]) next;
+            position = 0;
+            limit = current.length;
+        }
+        return true;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!fill()) return -1;
+        return current[position++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (off < 0 || len < 0 || len > b.length - off) throw new IndexOutOfBoundsException();
+        if (len == 0) return 0;
+        if (!fill()) return -1;
+
+        final int count = Math.min(len, limit - position);
+        System.arraycopy(current, position, b, off, count);
+        position += count;
+        return count;
+    }
+
+    @Override
+    public int available() {
+        return limit - position;
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        chunks.clear();
+        // Unless the read-ahead task has taken ownership of the source stream, it will never close it
+        if (owned.compareAndSet(false, true)) source.close();
+    }
+}
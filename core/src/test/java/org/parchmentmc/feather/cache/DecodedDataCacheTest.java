@@ -0,0 +1,162 @@
+package org.parchmentmc.feather.cache;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.parchmentmc.feather.manifests.MDCTestConstants;
+import org.parchmentmc.feather.mapping.ImmutableMappingDataContainer.ImmutableClassData;
+import org.parchmentmc.feather.mapping.ImmutableMappingDataContainer.ImmutableFieldData;
+import org.parchmentmc.feather.mapping.ImmutableVersionedMappingDataContainer;
+import org.parchmentmc.feather.mapping.VersionedMappingDataContainer;
+import org.parchmentmc.feather.metadata.MetadataTestConstants;
+import org.parchmentmc.feather.metadata.SourceMetadata;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DecodedDataCacheTest implements MDCTestConstants, MetadataTestConstants {
+    private static byte[] utf8(String input) {
+        return input.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testMemoryHit() throws IOException {
+        final DecodedDataCache cache = new DecodedDataCache(1024);
+        final AtomicInteger decodes = new AtomicInteger();
+        final DecodedDataCache.Decoder<String> decoder = input -> {
+            decodes.incrementAndGet();
+            return new String(input, StandardCharsets.UTF_8).toUpperCase();
+        };
+
+        assertEquals("FIRST", cache.get(utf8("first"), String.class, decoder));
+        assertEquals("FIRST", cache.get(utf8("first"), String.class, decoder));
+        assertEquals("SECOND", cache.get(utf8("second"), String.class, decoder));
+
+        assertEquals(2, decodes.get());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+        assertEquals(2, cache.size());
+        assertEquals(11, cache.getWeight());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEviction() throws IOException {
+        final DecodedDataCache cache = new DecodedDataCache(12);
+        final DecodedDataCache.Decoder<String> decoder = input -> new String(input, StandardCharsets.UTF_8);
+
+        cache.get(utf8("aaaa"), String.class, decoder);
+        cache.get(utf8("bbbb"), String.class, decoder);
+        cache.get(utf8("cccc"), String.class, decoder);
+        // Use the first entry, so the second one is the least recently used
+        cache.get(utf8("aaaa"), String.class, decoder);
+        cache.get(utf8("dddd"), String.class, decoder);
+
+        assertEquals(3, cache.size());
+        assertEquals(12, cache.getWeight());
+
+        final long misses = cache.getMissCount();
+        cache.get(utf8("aaaa"), String.class, decoder);
+        assertEquals(misses, cache.getMissCount());
+        cache.get(utf8("bbbb"), String.class, decoder);
+        assertEquals(misses + 1, cache.getMissCount());
+
+        // Inputs larger than the cache are decoded but not held
+        cache.get(utf8("larger than the cache"), String.class, decoder);
+        assertEquals(3, cache.size());
+    }
+
+    @Test
+    public void testSameInputDifferentTypes() throws IOException {
+        final DecodedDataCache cache = new DecodedDataCache(1024);
+        final byte[] input = utf8("42");
+
+        assertEquals("42", cache.get(input, String.class, in -> new String(in, StandardCharsets.UTF_8)));
+        assertEquals(42, cache.get(input, Integer.class, in -> Integer.parseInt(new String(in, StandardCharsets.UTF_8))));
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    public void testSpill(@TempDir Path directory) throws IOException {
+        for (VersionedMappingDataContainer container : DATA_CONTAINERS) {
+            final byte[] mappingInput = utf8("mapping data " + DATA_CONTAINERS.indexOf(container));
+            new DecodedDataCache(0, directory).get(mappingInput, VersionedMappingDataContainer.class, in -> container);
+
+            final DecodedDataCache cache = new DecodedDataCache(1024, directory);
+            final VersionedMappingDataContainer read = cache.get(mappingInput, VersionedMappingDataContainer.class,
+                    in -> fail("Spilled value was not read"));
+            assertEquals(container, read);
+            assertEquals(1, cache.getSpillHitCount());
+        }
+
+        int index = 0;
+        for (SourceMetadata metadata : SOURCE_METADATA) {
+            final byte[] metadataInput = utf8("source metadata " + index++);
+            new DecodedDataCache(0, directory).get(metadataInput, SourceMetadata.class, in -> metadata);
+
+            final SourceMetadata read = new DecodedDataCache(1024, directory).get(metadataInput, SourceMetadata.class,
+                    in -> fail("Spilled value was not read"));
+            assertEquals(metadata, read);
+        }
+    }
+
+    @Test
+    public void testCorruptSpill(@TempDir Path directory) throws IOException {
+        final byte[] input = utf8("mapping data");
+        new DecodedDataCache(0, directory).get(input, VersionedMappingDataContainer.class, in -> DATA_CONTAINERS.get(3));
+
+        final Path spillFile;
+        try (Stream<Path> files = Files.list(directory)) {
+            spillFile = files.filter(path -> path.toString().endsWith(".bin")).findFirst().orElseThrow(AssertionError::new);
+        }
+        assertTrue(spillFile.getFileName().toString().startsWith(DecodedDataCache.hash(input)));
+        Files.write(spillFile, utf8("garbage"));
+
+        final DecodedDataCache cache = new DecodedDataCache(1024, directory);
+        assertEquals(DATA_CONTAINERS.get(3), cache.get(input, VersionedMappingDataContainer.class, in -> DATA_CONTAINERS.get(3)));
+        assertEquals(1, cache.getMissCount());
+        assertEquals(0, cache.getSpillHitCount());
+    }
+
+    @Test
+    public void testDiscriminators(@TempDir Path directory) throws IOException {
+        final byte[] input = utf8("mapping data");
+        final VersionedMappingDataContainer full = DATA_CONTAINERS.get(3);
+        final VersionedMappingDataContainer filtered = DATA_CONTAINERS.get(0);
+
+        final DecodedDataCache cache = new DecodedDataCache(1024, directory);
+        assertEquals(full, cache.get(input, VersionedMappingDataContainer.class, "full", in -> full));
+        assertEquals(filtered, cache.get(input, VersionedMappingDataContainer.class, "filtered", in -> filtered));
+        assertEquals(2, cache.getMissCount());
+
+        // Spill files are also kept apart
+        final DecodedDataCache reopened = new DecodedDataCache(1024, directory);
+        assertEquals(full, reopened.get(input, VersionedMappingDataContainer.class, "full",
+                in -> fail("Spilled value was not read")));
+        assertEquals(filtered, reopened.get(input, VersionedMappingDataContainer.class, "filtered",
+                in -> fail("Spilled value was not read")));
+        assertEquals(2, reopened.getSpillHitCount());
+    }
+
+    @Test
+    public void testSpillNullFieldDescriptor(@TempDir Path directory) throws IOException {
+        final byte[] input = utf8("mapping data");
+        final VersionedMappingDataContainer container = new ImmutableVersionedMappingDataContainer(
+                DATA_CONTAINERS.get(0).getFormatVersion(), Collections.emptyList(),
+                Collections.singletonList(new ImmutableClassData("a/Class", Collections.emptyList(),
+                        Collections.singletonList(new ImmutableFieldData("field", null, Collections.emptyList())),
+                        Collections.emptyList())));
+        new DecodedDataCache(0, directory).get(input, VersionedMappingDataContainer.class, in -> container);
+
+        final DecodedDataCache cache = new DecodedDataCache(1024, directory);
+        assertEquals(container, cache.get(input, VersionedMappingDataContainer.class,
+                in -> fail("Spilled value was not read")));
+        assertEquals(1, cache.getSpillHitCount());
+    }
+}
+
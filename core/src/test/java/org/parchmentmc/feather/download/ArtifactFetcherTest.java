@@ -0,0 +1,174 @@
+package org.parchmentmc.feather.download;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.parchmentmc.feather.download.ArtifactFetcher.FetchResult;
+import org.parchmentmc.feather.download.ArtifactFetcher.Status;
+import org.parchmentmc.feather.manifests.ManifestTestConstants;
+import org.parchmentmc.feather.util.ContentHashOutputStream;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ArtifactFetcherTest implements ManifestTestConstants {
+    @TempDir
+    Path mirror;
+    @TempDir
+    Path target;
+
+    @Test
+    public void testFetchAll() throws IOException {
+        final List<Artifact> artifacts = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            artifacts.add(mirrored("libraries/lib" + i + "/lib" + i + ".jar", "contents of library " + i));
+        }
+        artifacts.add(artifacts.get(0)); // Duplicates are only fetched once
+
+        final AtomicInteger opened = new AtomicInteger();
+        final ArtifactSource mirrorSource = ArtifactSources.mirror(mirror);
+        final ArtifactFetcher fetcher = new ArtifactFetcher(artifact -> {
+            opened.incrementAndGet();
+            return mirrorSource.open(artifact);
+        }, target, 4);
+
+        final List<FetchResult> results = ArtifactFetcher.requireSuccess(fetcher.fetchAll(artifacts));
+        assertEquals(20, results.size());
+        assertEquals(20, opened.get());
+        for (int i = 0; i < 20; i++) {
+            assertEquals(Status.FETCHED, results.get(i).getStatus());
+            assertEquals("contents of library " + i,
+                    new String(Files.readAllBytes(results.get(i).getTarget()), StandardCharsets.UTF_8));
+        }
+
+        // Present files are verified and skipped, without opening the source
+        final List<FetchResult> again = fetcher.fetchAll(artifacts);
+        assertTrue(again.stream().allMatch(result -> result.getStatus() == Status.PRESENT));
+        assertEquals(20, opened.get());
+    }
+
+    @Test
+    public void testStaleFile() throws IOException {
+        final Artifact artifact = mirrored("versions/1.17.1/1.17.1-client.jar", "client");
+        final ArtifactFetcher fetcher = new ArtifactFetcher(ArtifactSources.mirror(mirror), target);
+
+        Files.createDirectories(fetcher.getTarget(artifact).getParent());
+        Files.write(fetcher.getTarget(artifact), "CLIENT".getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(Status.FETCHED, fetcher.fetch(artifact).getStatus());
+        assertEquals("client", new String(Files.readAllBytes(fetcher.getTarget(artifact)), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testVerification() throws IOException {
+        final Artifact artifact = mirrored("assets/indexes/1.17.json", "{}");
+        Files.write(mirror.resolve(artifact.getPath()), "[]".getBytes(StandardCharsets.UTF_8));
+        final Artifact larger = new Artifact("https://example.com/larger", "larger", null, 1);
+        Files.write(mirror.resolve("larger"), "larger".getBytes(StandardCharsets.UTF_8));
+        final Artifact missing = new Artifact("https://example.com/missing", "missing", null, -1);
+
+        final ArtifactFetcher fetcher = new ArtifactFetcher(ArtifactSources.mirror(mirror), target);
+        final List<FetchResult> results = fetcher.fetchAll(Arrays.asList(artifact, larger, missing));
+
+        assertEquals(Arrays.asList(Status.FAILED, Status.FAILED, Status.FAILED),
+                results.stream().map(FetchResult::getStatus).collect(Collectors.toList()));
+        assertTrue(results.get(0).getFailure() instanceof ArtifactVerificationException);
+        assertTrue(results.get(1).getFailure() instanceof ArtifactVerificationException);
+        assertTrue(results.get(2).getFailure() instanceof FileNotFoundException);
+        assertThrows(IOException.class, () -> ArtifactFetcher.requireSuccess(results));
+
+        // Nothing is left behind by failed fetches
+        try (Stream<Path> files = Files.walk(target)) {
+            assertTrue(files.noneMatch(Files::isRegularFile));
+        }
+    }
+
+    @Test
+    public void testUncheckedFailure() throws IOException {
+        final Artifact artifact = mirrored("a/b.txt", "b");
+        final Artifact broken = mirrored("a/c.txt", "c");
+        final ArtifactSource mirrorSource = ArtifactSources.mirror(mirror);
+        final ArtifactFetcher fetcher = new ArtifactFetcher(a -> {
+            if (a == broken) throw new IllegalStateException("Broken source");
+            return mirrorSource.open(a);
+        }, target, 2);
+
+        // An unchecked failure fails only its own artifact
+        final List<FetchResult> results = fetcher.fetchAll(Arrays.asList(artifact, broken));
+        assertEquals(Status.FETCHED, results.get(0).getStatus());
+        assertEquals(Status.FAILED, results.get(1).getStatus());
+        assertTrue(results.get(1).getFailure().getCause() instanceof IllegalStateException);
+    }
+
+    @Test
+    public void testFallbackSource() throws IOException {
+        final Artifact artifact = mirrored("a/b.txt", "b");
+        final ArtifactSource failing = a -> {
+            throw new FileNotFoundException(a.getPath());
+        };
+        final ArtifactFetcher fetcher = new ArtifactFetcher(ArtifactSources.firstOf(failing,
+                ArtifactSources.mirror(mirror)), target);
+
+        assertEquals(Status.FETCHED, fetcher.fetch(artifact).getStatus());
+        assertThrows(FileNotFoundException.class, () -> ArtifactSources.firstOf(failing, failing).open(artifact));
+    }
+
+    @Test
+    public void testArtifactPath() {
+        assertThrows(IllegalArgumentException.class, () -> new Artifact("https://example.com", "../escape", null, -1));
+        assertThrows(IllegalArgumentException.class, () -> new Artifact("https://example.com", "/absolute", null, -1));
+        assertThrows(IllegalArgumentException.class, () -> new Artifact("https://example.com", "a/../../b", null, -1));
+    }
+
+    @Test
+    public void testTargetContainment() throws IOException {
+        final ArtifactFetcher fetcher = new ArtifactFetcher(ArtifactSources.mirror(mirror), target);
+
+        // Paths are normalized, and must resolve to a file within the directory
+        final Artifact normalized = mirrored("a/./b.txt", "b");
+        assertEquals(target.resolve("a/b.txt"), fetcher.getTarget(normalized));
+        assertEquals(Status.FETCHED, fetcher.fetch(normalized).getStatus());
+
+        final Artifact directory = new Artifact("https://example.com", ".", null, -1);
+        assertThrows(ArtifactVerificationException.class, () -> fetcher.getTarget(directory));
+        assertThrows(ArtifactVerificationException.class, () -> ArtifactSources.mirror(mirror).open(directory));
+        final FetchResult result = fetcher.fetch(directory);
+        assertEquals(Status.FAILED, result.getStatus());
+        assertTrue(result.getFailure() instanceof ArtifactVerificationException);
+    }
+
+    @Test
+    public void testManifestArtifacts() {
+        final List<String> paths = ManifestArtifacts.all(VERSION_MANIFESTS.get(0)).stream()
+                .map(Artifact::getPath).collect(Collectors.toList());
+
+        assertEquals(Arrays.asList(
+                "assets/indexes/1.17.json",
+                "versions/1.17.1/1.17.1-client.jar",
+                "versions/1.17.1/1.17.1-server.jar",
+                "libraries/com/mojang/blocklist/1.0.5/blocklist-1.0.5.jar",
+                "libraries/org/lwjgl/lwjgl/3.2.2/lwjgl-3.2.2.jar",
+                "libraries/org/lwjgl/lwjgl/lwjgl-platform/2.9.4-nightly-20150209/lwjgl-platform-2.9.4-nightly-20150209-natives-linux.jar",
+                "libraries/org/lwjgl/lwjgl/lwjgl-platform/2.9.4-nightly-20150209/lwjgl-platform-2.9.4-nightly-20150209-natives-windows.jar"),
+                paths);
+    }
+
+    private Artifact mirrored(String path, String contents) throws IOException {
+        final byte[] bytes = contents.getBytes(StandardCharsets.UTF_8);
+        final Path file = mirror.resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.write(file, bytes);
+        return new Artifact("https://example.com/" + path, path,
+                ContentHashOutputStream.hash(bytes, ContentHashOutputStream.SHA_1), bytes.length);
+    }
+}
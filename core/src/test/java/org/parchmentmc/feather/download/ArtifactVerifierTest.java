@@ -0,0 +1,121 @@
+package org.parchmentmc.feather.download;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.parchmentmc.feather.download.ArtifactVerifier.Status;
+import org.parchmentmc.feather.download.ArtifactVerifier.VerificationResult;
+import org.parchmentmc.feather.util.ContentHashOutputStream;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ArtifactVerifierTest {
+    @TempDir
+    Path directory;
+    @TempDir
+    Path state;
+
+    @Test
+    public void testVerifyAll() throws IOException {
+        final List<Artifact> artifacts = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            artifacts.add(write("lib" + i + ".jar", ("library " + i).getBytes(StandardCharsets.UTF_8)));
+        }
+        // Larger than the read buffer, so it is hashed over several reads
+        final byte[] large = new byte[1024 * 1024 + 7];
+        new Random(0).nextBytes(large);
+        artifacts.add(write("large.jar", large));
+
+        final ArtifactVerifier verifier = new ArtifactVerifier(directory, null, 4, Runnable::run);
+        assertTrue(verifier.verifyAll(artifacts).stream().allMatch(VerificationResult::isValid));
+        assertEquals(17, verifier.getHashedCount());
+
+        // Unchanged files are not hashed again
+        assertTrue(verifier.verifyAll(artifacts).stream().allMatch(VerificationResult::isValid));
+        assertEquals(17, verifier.getHashedCount());
+        assertEquals(17, verifier.getIndexHitCount());
+    }
+
+    @Test
+    public void testMismatches() throws IOException {
+        final Artifact valid = write("valid.jar", bytes("valid"));
+        final Artifact wrongSize = new Artifact(valid.getUrl(), valid.getPath(), valid.getSHA1(), 100);
+        final Artifact wrongHash = new Artifact(valid.getUrl(), valid.getPath(),
+                ContentHashOutputStream.hash(bytes("VALID"), ContentHashOutputStream.SHA_1), valid.getSize());
+        final Artifact missing = new Artifact(valid.getUrl(), "missing.jar", valid.getSHA1(), valid.getSize());
+        final Artifact unverified = new Artifact(valid.getUrl(), valid.getPath(), null, -1);
+
+        final ArtifactVerifier verifier = new ArtifactVerifier(directory);
+        assertEquals(Arrays.asList(Status.VALID, Status.SIZE_MISMATCH, Status.HASH_MISMATCH, Status.MISSING, Status.VALID),
+                verifier.verifyAll(Arrays.asList(valid, wrongSize, wrongHash, missing, unverified)).stream()
+                        .map(VerificationResult::getStatus).collect(Collectors.toList()));
+        // The size precheck avoids hashing, and the index is reused for the wrong hash
+        assertEquals(1, verifier.getHashedCount());
+    }
+
+    @Test
+    public void testTargetContainment() {
+        final Artifact artifact = new Artifact("https://example.com", ".", null, -1);
+        final VerificationResult result = new ArtifactVerifier(directory).verify(artifact);
+        assertEquals(Status.FAILED, result.getStatus());
+        assertEquals(directory, result.getFile());
+        assertTrue(result.getFailure() instanceof ArtifactVerificationException);
+    }
+
+    @Test
+    public void testModifiedFile() throws IOException {
+        final Artifact artifact = write("file.jar", bytes("before"));
+        final ArtifactVerifier verifier = new ArtifactVerifier(directory);
+        assertTrue(verifier.verify(artifact).isValid());
+
+        final Path file = directory.resolve(artifact.getPath());
+        final FileTime modified = Files.getLastModifiedTime(file);
+        Files.write(file, bytes("BEFORE"));
+        Files.setLastModifiedTime(file, FileTime.fromMillis(modified.toMillis() + 2000));
+
+        assertEquals(Status.HASH_MISMATCH, verifier.verify(artifact).getStatus());
+        assertEquals(2, verifier.getHashedCount());
+    }
+
+    @Test
+    public void testPersistedIndex() throws IOException {
+        final Path indexFile = state.resolve("verified.bin");
+        final Artifact artifact = write("file.jar", bytes("contents"));
+
+        final ArtifactVerifier first = new ArtifactVerifier(directory, indexFile);
+        assertTrue(first.verify(artifact).isValid());
+        first.save();
+
+        final ArtifactVerifier second = new ArtifactVerifier(directory, indexFile);
+        assertEquals(1, second.getIndexSize());
+        assertTrue(second.verify(artifact).isValid());
+        assertEquals(0, second.getHashedCount());
+
+        // A corrupt index is ignored
+        Files.write(indexFile, bytes("corrupt"));
+        final ArtifactVerifier third = new ArtifactVerifier(directory, indexFile);
+        assertEquals(0, third.getIndexSize());
+        assertTrue(third.verify(artifact).isValid());
+        assertEquals(1, third.getHashedCount());
+    }
+
+    private Artifact write(String path, byte[] contents) throws IOException {
+        Files.write(directory.resolve(path), contents);
+        return new Artifact("https://example.com/" + path, path,
+                ContentHashOutputStream.hash(contents, ContentHashOutputStream.SHA_1), contents.length);
+    }
+
+    private static byte[] bytes(String string) {
+        return string.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,73 @@
+package org.parchmentmc.feather.manifests;
+
+import org.junit.jupiter.api.Test;
+import org.parchmentmc.feather.manifests.LauncherManifest.VersionData;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LauncherManifestIndexTest implements ManifestTestConstants {
+    private final LauncherManifestIndex index = LAUNCHER_MANIFESTS.get(1).getIndex();
+
+    @Test
+    public void testLookup() {
+        assertSame(LAUNCHER_MANIFESTS.get(1).getIndex(), index);
+        assertEquals(VERSION_DATA.get(1), index.get("21w44a").orElse(null));
+        assertFalse(index.get("1.0").isPresent());
+        assertTrue(index.contains("b1.8.1"));
+
+        assertEquals(OptionalInt.of(0), index.getSequenceNumber("1.17.1"));
+        assertEquals(OptionalInt.of(2), index.getSequenceNumber("b1.8.1"));
+        assertEquals(OptionalInt.empty(), index.getSequenceNumber("1.0"));
+
+        final List<String> ids = new ArrayList<>(Arrays.asList("1.0", "b1.8.1", "21w44a", "1.17.1"));
+        ids.sort(index.sequenceOrder());
+        assertEquals(Arrays.asList("1.17.1", "21w44a", "b1.8.1", "1.0"), ids);
+    }
+
+    @Test
+    public void testReleaseTime() {
+        assertEquals(Arrays.asList("b1.8.1", "1.17.1", "21w44a"), ids(index.getVersionsByReleaseTime()));
+
+        // Inclusive on both ends, and compared by instant regardless of offset
+        assertEquals(Arrays.asList("b1.8.1", "1.17.1"), ids(index.getReleasedBetween(
+                OffsetDateTime.parse("2011-09-18T22:00:00Z"), OffsetDateTime.parse("2021-07-06T12:01:34Z"))));
+        assertEquals(Collections.singletonList("21w44a"), ids(index.getReleasedBetween(
+                OffsetDateTime.parse("2021-07-06T12:01:35Z"), OffsetDateTime.MAX)));
+        assertEquals(Collections.emptyList(), index.getReleasedBetween(OffsetDateTime.MAX, OffsetDateTime.MIN));
+        assertEquals(Collections.emptyList(), index.getReleasedBetween(
+                OffsetDateTime.parse("2012-01-01T00:00:00Z"), OffsetDateTime.parse("2013-01-01T00:00:00Z")));
+    }
+
+    @Test
+    public void testTypes() {
+        assertEquals(Collections.singletonList("1.17.1"), ids(index.getReleases()));
+        assertEquals(Collections.singletonList("21w44a"), ids(index.getSnapshots()));
+        assertEquals(Collections.singletonList("b1.8.1"), ids(index.getVersionsOfType("old_beta")));
+        assertEquals(Collections.emptyList(), index.getVersionsOfType("old_alpha"));
+
+        assertEquals(Collections.singletonList("21w44a"), ids(index.getReleasedBetween(LauncherManifestIndex.SNAPSHOT,
+                OffsetDateTime.MIN, OffsetDateTime.MAX)));
+        assertEquals(Collections.emptyList(), index.getReleasedBetween(LauncherManifestIndex.RELEASE,
+                OffsetDateTime.parse("2021-07-07T00:00:00Z"), OffsetDateTime.MAX));
+    }
+
+    @Test
+    public void testEmpty() {
+        final LauncherManifestIndex empty = LAUNCHER_MANIFESTS.get(0).getIndex();
+        assertTrue(empty.getVersions().isEmpty());
+        assertTrue(empty.getReleases().isEmpty());
+        assertTrue(empty.getReleasedBetween(OffsetDateTime.MIN, OffsetDateTime.MAX).isEmpty());
+    }
+
+    private static List<String> ids(List<VersionData> versions) {
+        return versions.stream().map(VersionData::getId).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,70 @@
+package org.parchmentmc.feather.manifests;
+
+import org.junit.jupiter.api.Test;
+import org.parchmentmc.feather.manifests.LibraryResolver.ResolvedArtifact;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LibraryResolverTest implements ManifestTestConstants {
+    private static final LibraryEnvironment LINUX = new LibraryEnvironment(LibraryEnvironment.LINUX, "5.15.0", "amd64");
+    private static final LibraryEnvironment WINDOWS = new LibraryEnvironment(LibraryEnvironment.WINDOWS, "10.0", "x86");
+    private static final LibraryEnvironment OLD_OSX = new LibraryEnvironment(LibraryEnvironment.OSX, "10.5.8", "x86_64");
+    private static final LibraryEnvironment OSX = new LibraryEnvironment(LibraryEnvironment.OSX, "10.15.7", "x86_64");
+
+    private final LibraryResolver resolver = new LibraryResolver();
+    private final VersionManifest manifest = VERSION_MANIFESTS.get(0);
+
+    @Test
+    public void testResolve() {
+        assertEquals(Arrays.asList("com.mojang:blocklist:1.0.5", "org.lwjgl.lwjgl:lwjgl-platform:2.9.4-nightly-20150209:natives-linux"),
+                names(resolver.resolve(manifest, LINUX)));
+        assertEquals(Arrays.asList("com.mojang:blocklist:1.0.5", "org.lwjgl.lwjgl:lwjgl-platform:2.9.4-nightly-20150209:natives-windows"),
+                names(resolver.resolve(manifest, WINDOWS)));
+        assertEquals(Arrays.asList("com.mojang:blocklist:1.0.5", "org.lwjgl:lwjgl:3.2.2"),
+                names(resolver.resolve(manifest, OLD_OSX)));
+        // Allowed, but has no native for OS X
+        assertEquals(Arrays.asList("com.mojang:blocklist:1.0.5", "org.lwjgl:lwjgl:3.2.2"),
+                names(resolver.resolve(manifest, OSX)));
+
+        final List<ResolvedArtifact> linux = resolver.resolve(manifest, LINUX);
+        assertFalse(linux.get(0).isNative());
+        assertTrue(linux.get(1).isNative());
+        assertEquals(LIBRARIES.get(2).getDownloads().getClassifiers().get("natives-linux"), linux.get(1).getDownload());
+    }
+
+    @Test
+    public void testCache() {
+        final List<ResolvedArtifact> first = resolver.resolve(manifest, LINUX);
+        assertSame(first, resolver.resolve(manifest, new LibraryEnvironment(LibraryEnvironment.LINUX, "5.15.0", "amd64")));
+        assertNotSame(first, resolver.resolve(manifest, WINDOWS));
+        assertThrows(UnsupportedOperationException.class, () -> first.remove(0));
+
+        resolver.invalidateAll();
+        assertNotSame(first, resolver.resolve(manifest, LINUX));
+        assertEquals(first, resolver.resolve(manifest, LINUX));
+    }
+
+    @Test
+    public void testArchPlaceholder() {
+        final Library library = new Library("tv.twitch:twitch-platform:5.16", null, new Library.LibraryDownloads(null,
+                Collections.singletonMap("natives-windows-32", new Library.ArtifactDownload(SHA1, 1,
+                        "https://libraries.minecraft.net/twitch-platform-natives-windows-32.jar", "twitch-platform.jar"))),
+                new Library.NativesInfo("natives-linux", "natives-osx", "natives-windows-${arch}"), Collections.emptyList());
+        final VersionManifest twitch = new VersionManifest("1.7.10", "release", 0, 14, manifest.getTime(),
+                manifest.getReleaseTime(), manifest.getMainClass(), null, "1.7.10", manifest.getAssetIndex(),
+                manifest.getDownloads(), Collections.singletonList(library), null);
+
+        assertEquals(Collections.singletonList("tv.twitch:twitch-platform:5.16:natives-windows-32"),
+                names(resolver.resolve(twitch, WINDOWS)));
+        assertTrue(resolver.resolve(twitch, new LibraryEnvironment(LibraryEnvironment.WINDOWS, "10.0", "amd64")).isEmpty());
+    }
+
+    private static List<String> names(List<ResolvedArtifact> artifacts) {
+        return artifacts.stream().map(ResolvedArtifact::toString).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,78 @@
+package org.parchmentmc.feather.mapping;
+
+import org.junit.jupiter.api.Test;
+import org.parchmentmc.feather.manifests.MDCTestConstants;
+import org.parchmentmc.feather.mapping.MappingDataContainer.ClassData;
+import org.parchmentmc.feather.mapping.MappingDataContainer.FieldData;
+import org.parchmentmc.feather.mapping.MappingDataContainer.MethodData;
+import org.parchmentmc.feather.mapping.MappingDataContainer.ParameterData;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FlatMappingDataContainerTest implements MDCTestConstants {
+    @Test
+    public void testEquality() {
+        DATA_CONTAINERS.forEach(container -> {
+            final MappingDataContainer expected = new ImmutableMappingDataContainer(container.getPackages(), container.getClasses());
+            final FlatMappingDataContainer flat = FlatMappingDataContainer.copyOf(container);
+
+            assertEquals(expected, flat);
+            assertEquals(flat, expected);
+            assertEquals(expected.hashCode(), flat.hashCode());
+            assertEquals(MappingDataBuilder.copyOf(container), flat);
+            assertSame(flat, FlatMappingDataContainer.copyOf(flat));
+        });
+    }
+
+    @Test
+    public void testOrdering() {
+        final FlatMappingDataContainer flat = FlatMappingDataContainer.copyOf(DATA_CONTAINERS.get(3));
+        final List<ClassData> expected = new ArrayList<>(CLASSES);
+        expected.sort(ClassData.COMPARATOR);
+
+        assertEquals(expected, new ArrayList<>(flat.getClasses()));
+        for (ClassData cls : flat.getClasses()) {
+            final List<MethodData> methods = new ArrayList<>(cls.getMethods());
+            final List<MethodData> sortedMethods = new ArrayList<>(methods);
+            sortedMethods.sort(MethodData.COMPARATOR);
+            assertEquals(sortedMethods, methods);
+        }
+    }
+
+    @Test
+    public void testLookups() {
+        final MappingDataContainer container = DATA_CONTAINERS.get(3);
+        final FlatMappingDataContainer flat = FlatMappingDataContainer.copyOf(container);
+
+        PACKAGES.forEach(pkg -> assertEquals(pkg, flat.getPackage(pkg.getName())));
+        assertNull(flat.getPackage("com/missing"));
+        assertNull(flat.getClass("com/missing/Class"));
+
+        for (ClassData cls : container.getClasses()) {
+            final ClassData flatClass = flat.getClass(cls.getName());
+            assertNotNull(flatClass);
+            assertEquals(cls, flatClass);
+            assertEquals(cls.hashCode(), flatClass.hashCode());
+
+            for (FieldData field : cls.getFields()) {
+                assertEquals(field, flatClass.getField(field.getName()));
+            }
+            assertNull(flatClass.getField("missing"));
+
+            for (MethodData method : cls.getMethods()) {
+                final MethodData flatMethod = flatClass.getMethod(method.getName(), method.getDescriptor());
+                assertNotNull(flatMethod);
+                assertEquals(method, flatMethod);
+                assertNull(flatClass.getMethod(method.getName(), "(Lmissing;)V"));
+
+                for (ParameterData param : method.getParameters()) {
+                    assertEquals(param, flatMethod.getParameter(param.getIndex()));
+                }
+                assertNull(flatMethod.getParameter((byte) 100));
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package org.parchmentmc.feather.mapping;
+
+import org.junit.jupiter.api.Test;
+import org.parchmentmc.feather.manifests.MDCTestConstants;
+import org.parchmentmc.feather.mapping.MappingDataBuilder.MutableMethodData;
+import org.parchmentmc.feather.mapping.MappingDataContainer.ParameterData;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MappingDataBuilderTest implements MDCTestConstants {
+    @Test
+    public void testParameters() {
+        final MutableMethodData method = new MappingDataBuilder().createClass("Test").createMethod("test", "(IJI)V");
+
+        method.createParameter((byte) 4).setName("c");
+        method.createParameter((byte) 1).setName("a");
+        method.getOrCreateParameter((byte) 2).setName("b");
+
+        assertEquals(3, method.getParameters().size());
+        assertEquals("a", method.getParameter((byte) 1).getName());
+        assertNull(method.getParameter((byte) 0));
+        assertNull(method.getParameter((byte) 100));
+        assertSame(method.getParameter((byte) 2), method.getOrCreateParameter((byte) 2));
+
+        final List<Byte> indexes = method.getParameters().stream().map(ParameterData::getIndex).collect(Collectors.toList());
+        assertEquals(indexes.stream().sorted().collect(Collectors.toList()), indexes);
+
+        assertTrue(method.removeParameter((byte) 2));
+        assertFalse(method.removeParameter((byte) 2));
+        assertEquals(2, method.getParameters().size());
+
+        assertThrows(UnsupportedOperationException.class, () -> method.getParameters().clear());
+
+        method.clearParameters();
+        assertTrue(method.getParameters().isEmpty());
+    }
+
+    @Test
+    public void testParameterOrder() {
+        final MappingDataBuilder builder = new MappingDataBuilder();
+        final MutableMethodData method = builder.createClass("Test").createMethod("test", "()V");
+        // Indexes of 128 and above are negative as bytes, and sort before the others
+        method.createParameter((byte) 200).setName("c");
+        method.createParameter((byte) 1).setName("a");
+        method.createParameter((byte) 130).setName("b");
+        method.createParameter((byte) 0).setName("z");
+        method.createParameter((byte) 127).setName("d");
+
+        final List<ParameterData> expected = method.getParameters().stream()
+                .sorted(ParameterData.COMPARATOR)
+                .collect(Collectors.toList());
+        assertEquals(expected, new ArrayList<>(method.getParameters()));
+        assertEquals((byte) 130, expected.get(0).getIndex());
+
+        final MappingDataContainer flat = FlatMappingDataContainer.copyOf(builder);
+        assertEquals(expected, new ArrayList<>(flat.getClass("Test").getMethod("test", "()V").getParameters()));
+    }
+
+    @Test
+    public void testCopyEquality() {
+        DATA_CONTAINERS.forEach(container -> {
+            final MappingDataBuilder copy = MappingDataBuilder.copyOf(container);
+
+            assertEquals(container, copy);
+            assertEquals(copy, container);
+            assertEquals(container.hashCode(), copy.hashCode());
+        });
+
+        METHODS.forEach(method -> {
+            final List<ParameterData> params = new ArrayList<>(method.getParameters());
+            final List<ParameterData> sorted = new ArrayList<>(params);
+            sorted.sort(ParameterData.COMPARATOR);
+            assertEquals(sorted, params);
+        });
+    }
+}
@@ -0,0 +1,70 @@
+package org.parchmentmc.feather.mapping;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MappingDataFilterTest {
+    @Test
+    public void testAll() {
+        final MappingDataFilter filter = MappingDataFilter.all();
+
+        assertTrue(filter.isAll());
+        assertFalse(filter.excludesEntries());
+        assertTrue(filter.includesJavadoc());
+        assertTrue(filter.includesPackage("net/minecraft"));
+        assertTrue(filter.includesClass("Main"));
+    }
+
+    @Test
+    public void testPackagePrefixes() {
+        final MappingDataFilter filter = MappingDataFilter.all()
+                .withPackagePrefixes(Collections.singletonList("net/minecraft/world/level"));
+
+        assertFalse(filter.isAll());
+        assertTrue(filter.excludesEntries());
+
+        assertTrue(filter.includesPackage("net/minecraft/world/level"));
+        assertTrue(filter.includesPackage("net/minecraft/world/level/block"));
+        assertFalse(filter.includesPackage("net/minecraft/world/levelgen"));
+        assertFalse(filter.includesPackage("net/minecraft/world"));
+
+        assertTrue(filter.includesClass("net/minecraft/world/level/Level"));
+        assertTrue(filter.includesClass("net/minecraft/world/level/block/Block$Properties"));
+        assertFalse(filter.includesClass("net/minecraft/world/levelgen/Heightmap"));
+        assertFalse(filter.includesClass("net/minecraft/world/Level"));
+        assertFalse(filter.includesClass("Level"));
+
+        final MappingDataFilter added = filter.withPackagePrefixes(Collections.singletonList("com/mojang"));
+        assertTrue(added.includesClass("com/mojang/math/Vector3f"));
+        assertTrue(added.includesClass("net/minecraft/world/level/Level"));
+    }
+
+    @Test
+    public void testClassFilter() {
+        final MappingDataFilter filter = MappingDataFilter.all()
+                .withPackagePrefixes(Arrays.asList("a", "b"))
+                .withClassFilter(name -> !name.contains("$"))
+                .withClassFilter(name -> !name.endsWith("Test"));
+
+        assertTrue(filter.includesClass("a/Foo"));
+        assertFalse(filter.includesClass("a/Foo$Bar"));
+        assertFalse(filter.includesClass("b/FooTest"));
+        assertFalse(filter.includesClass("c/Foo"));
+        // Packages are unaffected by the class predicate
+        assertTrue(filter.includesPackage("b/Test"));
+    }
+
+    @Test
+    public void testWithoutJavadoc() {
+        final MappingDataFilter filter = MappingDataFilter.all().withoutJavadoc();
+
+        assertFalse(filter.isAll());
+        assertFalse(filter.excludesEntries());
+        assertFalse(filter.includesJavadoc());
+        assertTrue(filter.includesClass("a/Foo"));
+    }
+}
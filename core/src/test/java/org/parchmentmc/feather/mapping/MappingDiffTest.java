@@ -0,0 +1,73 @@
+package org.parchmentmc.feather.mapping;
+
+import org.junit.jupiter.api.Test;
+import org.parchmentmc.feather.manifests.MDCTestConstants;
+import org.parchmentmc.feather.mapping.MappingChange.Element;
+import org.parchmentmc.feather.mapping.MappingChange.Type;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MappingDiffTest implements MDCTestConstants {
+    @Test
+    public void testIdenticalContainers() {
+        DATA_CONTAINERS.forEach(container -> {
+            assertEquals(0, MappingUtil.diff(container, container).count());
+            assertEquals(0, MappingUtil.diff(container, FlatMappingDataContainer.copyOf(container)).count());
+        });
+    }
+
+    @Test
+    public void testChanges() {
+        final MappingDataContainer base = DATA_CONTAINERS.get(3);
+        final MappingDataBuilder target = MappingDataBuilder.copyOf(base);
+
+        target.removePackage("com/example");
+        target.createPackage("com/added");
+        target.getClass("ClassOne").addJavadoc("New javadoc");
+        target.getClass("ClassOne").removeField("aField");
+        target.getClass("ClassOne").getMethod("test2", "(IIIS)Z").getParameter((byte) 2).setName("renamed");
+        target.getClass("ClassOne").getMethod("test2", "(IIIS)Z").createParameter((byte) 5);
+        target.removeClass("c/ClassOne");
+        target.createClass("z/Added");
+
+        final List<String> changes = MappingUtil.diff(base, target).map(Object::toString).collect(Collectors.toList());
+        assertEquals(Arrays.asList(
+                "ADDED PACKAGE com/added",
+                "REMOVED PACKAGE com/example",
+                "JAVADOC_CHANGED CLASS ClassOne",
+                "REMOVED FIELD ClassOne#aField:F",
+                "NAME_CHANGED PARAMETER ClassOne#test2(IIIS)Z@2",
+                "ADDED PARAMETER ClassOne#test2(IIIS)Z@5",
+                "REMOVED CLASS c/ClassOne",
+                "ADDED CLASS z/Added"
+        ), changes);
+    }
+
+    @Test
+    public void testChangeValues() {
+        final MappingDataContainer base = DATA_CONTAINERS.get(3);
+        final MappingDataBuilder target = MappingDataBuilder.copyOf(base);
+        target.getClass("ClassOne").getMethod("test2", "(IIIS)Z").getParameter((byte) 3).setJavadoc("Changed");
+
+        final MappingChange<?> change = MappingUtil.diff(base, target).findFirst().orElseThrow(AssertionError::new);
+        assertEquals(Type.JAVADOC_CHANGED, change.getType());
+        assertEquals(Element.PARAMETER, change.getElement());
+        assertEquals("ClassOne", change.getName());
+        assertEquals("test2", change.getMemberName());
+        assertEquals("(IIIS)Z", change.getMemberDescriptor());
+        assertEquals(3, change.getParameterIndex());
+        assertNull(change.getOldValue());
+        assertEquals("Changed", change.getNewValue());
+
+        final MappingChange<?> removed = MappingUtil.diff(base, new MappingDataBuilder())
+                .filter(c -> c.getElement() == Element.CLASS).findFirst().orElseThrow(AssertionError::new);
+        assertEquals(Type.REMOVED, removed.getType());
+        assertEquals(base.getClass(removed.getName()), removed.getOldValue());
+        assertEquals(Collections.emptyList(), MappingUtil.diff(new MappingDataBuilder(), new MappingDataBuilder()).collect(Collectors.toList()));
+    }
+}
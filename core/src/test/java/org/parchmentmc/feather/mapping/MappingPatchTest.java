@@ -0,0 +1,83 @@
+package org.parchmentmc.feather.mapping;
+
+import org.junit.jupiter.api.Test;
+import org.parchmentmc.feather.manifests.MDCTestConstants;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MappingPatchTest implements MDCTestConstants {
+    @Test
+    public void testDiffAndApply() {
+        DATA_CONTAINERS.forEach(base -> DATA_CONTAINERS.forEach(target -> {
+            final MappingPatch patch = MappingPatch.diff(base, target);
+            final MappingDataContainer result = patch.apply(base);
+
+            assertEquals(new ImmutableMappingDataContainer(target.getPackages(), target.getClasses()), result);
+            assertTrue(patch.getChanges().stream().allMatch(change -> change.getOldValue() == null));
+        }));
+    }
+
+    @Test
+    public void testSharesUntouchedData() {
+        final VersionedMappingDataContainer base = DATA_CONTAINERS.get(3);
+        final MappingDataBuilder target = MappingDataBuilder.copyOf(base);
+        target.getClass("ClassOne").getMethod("test2", "(IIIS)Z").getParameter((byte) 1).setJavadoc("Changed");
+
+        final MappingPatch patch = MappingPatch.diff(base, target);
+        assertEquals(1, patch.getChanges().size());
+
+        final MappingDataContainer result = patch.apply(base);
+        assertEquals(target, result);
+        assertTrue(result instanceof VersionedMappingDataContainer);
+        assertEquals(base.getFormatVersion(), ((VersionedMappingDataContainer) result).getFormatVersion());
+
+        for (MappingDataContainer.ClassData cls : base.getClasses()) {
+            if (!cls.getName().equals("ClassOne")) {
+                assertSame(cls, result.getClass(cls.getName()));
+            }
+        }
+        final MappingDataContainer.ClassData patchedClass = result.getClass("ClassOne");
+        assertNotNull(patchedClass);
+        assertSame(base.getClass("ClassOne").getField("aField"), patchedClass.getField("aField"));
+        assertSame(base.getClass("ClassOne").getMethod("<init>", "(Ljava/lang/String;BBZ)V"),
+                patchedClass.getMethod("<init>", "(Ljava/lang/String;BBZ)V"));
+        assertSame(base.getClass("ClassOne").getMethod("test2", "(IIIS)Z").getParameter((byte) 2),
+                patchedClass.getMethod("test2", "(IIIS)Z").getParameter((byte) 2));
+    }
+
+    @Test
+    public void testSnapshotsValues() {
+        final VersionedMappingDataContainer base = DATA_CONTAINERS.get(3);
+        final MappingDataBuilder target = MappingDataBuilder.copyOf(base);
+        target.createClass("Added").addJavadoc("Added class")
+                .createMethod("added", "(I)V").createParameter((byte) 1).setName("value");
+        target.getClass("ClassOne").addJavadoc("Changed");
+
+        final MappingPatch patch = MappingPatch.diff(base, target);
+        final MappingDataContainer expected = patch.apply(base);
+        assertEquals(target, expected);
+
+        // Changing the target after diffing does not change the patch
+        target.getClass("Added").clearJavadoc().getMethod("added", "(I)V").getParameter((byte) 1).setName("changed");
+        target.getClass("ClassOne").clearJavadoc();
+        assertEquals(expected, patch.apply(base));
+    }
+
+    @Test
+    public void testApplyConstantPatch() {
+        final MappingDataContainer result = PATCHES.get(3).apply(DATA_CONTAINERS.get(3));
+        final MappingDataContainer.ClassData cls = result.getClass("ClassOne");
+
+        assertEquals(MULTILINE_JAVADOC, result.getPackage("com/example").getJavadoc());
+        assertEquals("D", cls.getField("aField").getDescriptor());
+        assertNull(cls.getMethod("isTestable", "()Z"));
+        assertEquals("renamed", cls.getMethod("test2", "(IIIS)Z").getParameter((byte) 1).getName());
+        assertNull(cls.getMethod("test2", "(IIIS)Z").getParameter((byte) 2).getJavadoc());
+        assertNotNull(cls.getMethod("test2", "(IIIS)Z").getParameter((byte) 5));
+    }
+
+    @Test
+    public void testMissingEntry() {
+        assertThrows(IllegalArgumentException.class, () -> PATCHES.get(3).apply(DATA_CONTAINERS.get(0)));
+    }
+}
@@ -0,0 +1,66 @@
+package org.parchmentmc.feather.metadata;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.parchmentmc.feather.util.TestConstantsHelper.named;
+
+public class FlattenedClassesTest {
+    private static ClassMetadata cls(String name, ClassMetadata... innerClasses) {
+        final ClassMetadataBuilder builder = ClassMetadataBuilder.create().withName(named(name));
+        for (ClassMetadata inner : innerClasses) {
+            builder.addInnerClass(inner);
+        }
+        return builder.build();
+    }
+
+    @Test
+    public void testFlattening() {
+        final ClassMetadata deep = cls("a$b$c");
+        final ClassMetadata middle = cls("a$b", deep);
+        final ClassMetadata sibling = cls("a$d");
+        final ClassMetadata outer = cls("a", middle, sibling);
+        final ClassMetadata other = cls("e");
+        final SourceMetadata metadata = SourceMetadataBuilder.create().addClass(outer).addClass(other).build();
+
+        final FlattenedClasses flattened = metadata.getFlattenedClasses();
+        assertEquals(5, flattened.size());
+        final List<ClassMetadata> iterated = new ArrayList<>();
+        flattened.forEach(iterated::add);
+        assertEquals(iterated, flattened);
+
+        assertSame(outer, flattened.get(0));
+        assertSame(middle, flattened.get(1));
+        assertSame(deep, flattened.get(2));
+        assertSame(sibling, flattened.get(3));
+        assertSame(other, flattened.get(4));
+
+        assertEquals(-1, flattened.getParentIndex(0));
+        assertNull(flattened.getParent(0));
+        assertSame(middle, flattened.getParent(2));
+        assertSame(outer, flattened.getParent(3));
+        assertSame(outer, flattened.getTopLevel(2));
+        assertSame(other, flattened.getTopLevel(4));
+
+        assertEquals(0, flattened.getDepth(0));
+        assertEquals(2, flattened.getDepth(2));
+        assertEquals(1, flattened.getDepth(3));
+
+        assertEquals(4, flattened.getSubtreeEnd(0));
+        assertEquals(3, flattened.getSubtreeEnd(1));
+        assertEquals(3, flattened.getSubtreeEnd(2));
+        assertEquals(5, flattened.getSubtreeEnd(4));
+
+        // The immutable metadata flattens its classes once
+        assertSame(flattened, metadata.getFlattenedClasses());
+        assertThrows(UnsupportedOperationException.class, () -> flattened.add(other));
+    }
+
+    @Test
+    public void testEmpty() {
+        assertTrue(SourceMetadataBuilder.create().build().getFlattenedClasses().isEmpty());
+    }
+}
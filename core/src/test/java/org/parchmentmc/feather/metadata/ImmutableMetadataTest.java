@@ -0,0 +1,95 @@
+package org.parchmentmc.feather.metadata;
+
+import org.junit.jupiter.api.Test;
+import org.parchmentmc.feather.named.Named;
+import org.parchmentmc.feather.named.NamedBuilder;
+
+import java.lang.reflect.Modifier;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.parchmentmc.feather.util.TestConstantsHelper.named;
+
+public class ImmutableMetadataTest implements MetadataTestConstants {
+    @Test
+    public void testClassMetadataHashCodeEquals() {
+        CLASS_METADATA.forEach(data -> {
+            final ClassMetadata copy = ClassMetadataBuilder.create(data).build();
+
+            assertNotSame(data, copy);
+            assertEquals(data, copy);
+            assertEquals(data.hashCode(), copy.hashCode());
+        });
+
+        final ClassMetadata original = CLASS_METADATA.iterator().next();
+        final ClassMetadata changed = ClassMetadataBuilder.create(original)
+                .withSecuritySpecifications(original.getSecuritySpecification() | Modifier.FINAL)
+                .build();
+        assertNotEquals(original, changed);
+    }
+
+    @Test
+    public void testMethodMetadataHashCodeEquals() {
+        METHOD_METADATA.forEach(data -> {
+            final MethodMetadata copy = MethodMetadataBuilder.create(data).build();
+
+            assertNotSame(data, copy);
+            assertEquals(data, copy);
+            assertEquals(data.hashCode(), copy.hashCode());
+        });
+
+        final MethodMetadata original = METHOD_METADATA.iterator().next();
+        final MethodMetadata changed = MethodMetadataBuilder.create(original)
+                .withSignature(named("()Ljava/util/Set<[J>;"))
+                .build();
+        assertNotEquals(original, changed);
+    }
+
+    @Test
+    public void testNamedHashCodeEquals() {
+        final Named named = named("a", "Test");
+        final Named copy = NamedBuilder.create(named).build();
+
+        assertNotSame(named, copy);
+        assertEquals(named, copy);
+        assertEquals(named.hashCode(), copy.hashCode());
+        assertNotEquals(named, named("a", "Other"));
+
+        assertThrows(UnsupportedOperationException.class, () -> named.getNames().put("moj", "Modified"));
+    }
+
+    @Test
+    public void testSetsAreUnmodifiable() {
+        final MethodMetadata method = MethodMetadataBuilder.create()
+                .withOwner(named("a"))
+                .withName(named("m"))
+                .withDescriptor(named("()V"))
+                .build();
+        final ClassMetadata cls = ClassMetadataBuilder.create()
+                .withName(named("a"))
+                .addMethod(method)
+                .build();
+        final int hashCode = cls.hashCode();
+
+        assertThrows(UnsupportedOperationException.class, () -> cls.getMethods().add(method));
+        assertThrows(UnsupportedOperationException.class, () -> cls.getMethods().remove(method));
+        assertThrows(UnsupportedOperationException.class, () -> cls.getInterfaces().add(named("b")));
+        assertThrows(UnsupportedOperationException.class, () -> cls.getInnerClasses().clear());
+        final Iterator<MethodMetadata> iterator = cls.getMethods().iterator();
+        iterator.next();
+        assertThrows(UnsupportedOperationException.class, iterator::remove);
+        assertThrows(UnsupportedOperationException.class, () -> method.getOverrides().clear());
+
+        final SourceMetadata source = SourceMetadataBuilder.create().addClass(cls).build();
+        assertThrows(UnsupportedOperationException.class, () -> source.getClasses().clear());
+
+        // Copies are modifiable, and the original is unaffected
+        @SuppressWarnings("unchecked") final LinkedHashSet<MethodMetadata> copy =
+                (LinkedHashSet<MethodMetadata>) cls.getMethods().clone();
+        copy.clear();
+        assertEquals(1, cls.getMethods().size());
+        assertEquals(hashCode, cls.hashCode());
+        assertEquals(cls, ClassMetadataBuilder.create(cls).build());
+    }
+}
@@ -0,0 +1,60 @@
+package org.parchmentmc.feather.metadata;
+
+import org.junit.jupiter.api.Test;
+import org.parchmentmc.feather.named.Named;
+import org.parchmentmc.feather.named.NamedBuilder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.parchmentmc.feather.util.TestConstantsHelper.named;
+import static org.parchmentmc.feather.util.TestConstantsHelper.reversed;
+
+public class MetadataOrderingTest implements MetadataTestConstants {
+    @Test
+    public void testCanonicalFormIsEqual() {
+        SOURCE_METADATA.forEach(data -> assertEquals(data, MetadataOrdering.canonicalize(data)));
+        CLASS_METADATA.forEach(data -> assertEquals(data, MetadataOrdering.canonicalize(data)));
+    }
+
+    @Test
+    public void testCanonicalFormIsOrdered() {
+        SOURCE_METADATA.forEach(data -> {
+            final SourceMetadata canonical = MetadataOrdering.canonicalize(data);
+            final SourceMetadata reversedCanonical = MetadataOrdering.canonicalize(reversed(data));
+
+            assertEquals(new ArrayList<>(canonical.getClasses()), new ArrayList<>(reversedCanonical.getClasses()));
+            final List<ClassMetadata> classes = new ArrayList<>(canonical.getClasses());
+            for (int i = 0; i < classes.size(); i++) {
+                final ClassMetadata cls = classes.get(i);
+                final ClassMetadata reversedCls = new ArrayList<>(reversedCanonical.getClasses()).get(i);
+                assertEquals(new ArrayList<>(cls.getMethods()), new ArrayList<>(reversedCls.getMethods()));
+                assertEquals(new ArrayList<>(cls.getFields()), new ArrayList<>(reversedCls.getFields()));
+                assertEquals(new ArrayList<>(cls.getInterfaces()), new ArrayList<>(reversedCls.getInterfaces()));
+                assertEquals(new ArrayList<>(cls.getName().getNames().keySet()),
+                        new ArrayList<>(reversedCls.getName().getNames().keySet()));
+                if (i > 0) {
+                    assertTrue(MetadataOrdering.CLASS_COMPARATOR.compare(classes.get(i - 1), cls) <= 0);
+                }
+            }
+        });
+    }
+
+    @Test
+    public void testNamedComparator() {
+        final Named mojang = NamedBuilder.create().withMojang("a").build();
+        final Named obfuscated = named("a");
+        final Named both = named("a", "a");
+        final Named bothReversed = NamedBuilder.create().withMojang("a").withObfuscated("a").build();
+
+        assertEquals(0, MetadataOrdering.NAMED_COMPARATOR.compare(both, bothReversed));
+        assertEquals(Arrays.asList("moj", "obf"),
+                new ArrayList<>(MetadataOrdering.canonicalize(bothReversed).getNames().keySet()));
+
+        final List<Named> names = new ArrayList<>(Arrays.asList(obfuscated, both, Named.empty(), mojang, named("b")));
+        names.sort(MetadataOrdering.NAMED_COMPARATOR);
+        assertEquals(Arrays.asList(Named.empty(), mojang, both, obfuscated, named("b")), names);
+    }
+}
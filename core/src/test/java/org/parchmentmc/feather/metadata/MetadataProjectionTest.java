@@ -0,0 +1,35 @@
+package org.parchmentmc.feather.metadata;
+
+import org.junit.jupiter.api.Test;
+import org.parchmentmc.feather.metadata.MetadataProjection.Property;
+
+import java.util.EnumSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MetadataProjectionTest {
+    @Test
+    public void testAllAndNone() {
+        assertTrue(MetadataProjection.all().isAll());
+        assertEquals(EnumSet.allOf(Property.class), MetadataProjection.all().getProperties());
+        assertEquals(EnumSet.noneOf(Property.class), MetadataProjection.none().getProperties());
+        for (Property property : Property.values()) {
+            assertTrue(MetadataProjection.all().includes(property));
+            assertFalse(MetadataProjection.none().includes(property));
+        }
+    }
+
+    @Test
+    public void testWithAndWithout() {
+        final MetadataProjection projection = MetadataProjection.of(Property.SIGNATURES, Property.SECURITY);
+
+        assertFalse(projection.isAll());
+        assertEquals(EnumSet.of(Property.SIGNATURES, Property.SECURITY), projection.getProperties());
+        assertEquals(EnumSet.of(Property.SECURITY), projection.without(Property.SIGNATURES).getProperties());
+        assertEquals(EnumSet.of(Property.SIGNATURES, Property.SECURITY, Property.OVERRIDES),
+                projection.with(Property.OVERRIDES).getProperties());
+
+        assertEquals(MetadataProjection.all(), MetadataProjection.none().with(Property.values()));
+        assertEquals(MetadataProjection.none(), MetadataProjection.all().without(Property.values()));
+    }
+}
@@ -0,0 +1,123 @@
+package org.parchmentmc.feather.spi;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IOAdapterRegistryTest {
+    @Test
+    public void testAdapters() throws IOException {
+        final AtomicInteger created = new AtomicInteger();
+        final IOAdapterRegistry registry = IOAdapterRegistry.of(Arrays.asList(
+                new StringAdapterFactory("first", 0, created), new StringAdapterFactory("second", 0, created)));
+
+        assertEquals("first", registry.getAdapters(String.class).get(0).name());
+        assertEquals("second", registry.getAdapters(String.class).get(1).name());
+        assertEquals("first", registry.getAdapter(String.class).name());
+        assertEquals("second", registry.getAdapter(String.class, "second").map(IOAdapter::name).orElse(null));
+        assertEquals(2, created.get());
+
+        assertEquals(Collections.emptyList(), registry.getAdapters(Integer.class));
+        assertThrows(IllegalArgumentException.class, () -> registry.getAdapter(Integer.class));
+
+        final IOAdapter<String> adapter = registry.getAdapter(String.class);
+        assertEquals("\"value\"", adapter.toJson("value"));
+        assertEquals("value", adapter.fromJson("\"value\""));
+    }
+
+    @Test
+    public void testSelectFastest() {
+        final IOAdapterRegistry registry = IOAdapterRegistry.of(Arrays.asList(
+                new StringAdapterFactory("slow", 2, new AtomicInteger()),
+                new StringAdapterFactory("fast", 0, new AtomicInteger()),
+                new StringAdapterFactory("broken", -1, new AtomicInteger()),
+                new StringAdapterFactory("lossy", -2, new AtomicInteger())));
+
+        assertEquals("slow", registry.getAdapter(String.class).name());
+        // The lossy adapter is as fast, but does not read back the sample
+        assertEquals("fast", registry.selectFastest(String.class, "sample").name());
+        assertEquals("fast", registry.getAdapter(String.class).name());
+    }
+
+    @Test
+    public void testPriority() {
+        final IOAdapterRegistry registry = IOAdapterRegistry.of(Arrays.asList(
+                new StringAdapterFactory("first", 0, new AtomicInteger()),
+                new StringAdapterFactory("second", 0, new AtomicInteger()),
+                new StringAdapterFactory("preferred", 0, new AtomicInteger()) {
+                    @Override
+                    public int priority() {
+                        return 1;
+                    }
+                }));
+
+        assertEquals("preferred", registry.getAdapter(String.class).name());
+        assertEquals(Arrays.asList("preferred", "first", "second"), registry.getAdapters(String.class).stream()
+                .map(IOAdapter::name).collect(Collectors.toList()));
+    }
+
+    /**
+     * Creates adapters for strings, which write them as quoted JSON strings without escaping. A delay of {@code -1}
+     * creates a broken adapter which fails to read, and {@code -2} a lossy adapter which reads back a different value.
+     */
+    private static class StringAdapterFactory implements IOAdapterFactory {
+        private final String name;
+        private final long delayMillis;
+        private final AtomicInteger created;
+
+        StringAdapterFactory(String name, long delayMillis, AtomicInteger created) {
+            this.name = name;
+            this.delayMillis = delayMillis;
+            this.created = created;
+        }
+
+        @Override
+        public boolean supports(Class<?> clazz) {
+            return clazz == String.class;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> IOAdapter<T> create(Class<T> clazz) {
+            created.incrementAndGet();
+            return (IOAdapter<T>) new IOAdapter<String>() {
+                @Override
+                public String name() {
+                    return name;
+                }
+
+                @Override
+                public String read(InputStream in) throws IOException {
+                    if (delayMillis == -1) throw new IOException("Broken adapter");
+                    final StringBuilder builder = new StringBuilder();
+                    for (int b = in.read(); b != -1; b = in.read()) {
+                        builder.append((char) b);
+                    }
+                    // The lossy adapter drops the last character of the value
+                    return builder.substring(1, builder.length() - (delayMillis == -2 ? 2 : 1));
+                }
+
+                @Override
+                public void write(OutputStream out, String value) throws IOException {
+                    if (delayMillis > 0) {
+                        try {
+                            Thread.sleep(delayMillis);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                    }
+                    out.write(('"' + value + '"').getBytes(StandardCharsets.UTF_8));
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package org.parchmentmc.feather.util;
+
+import org.junit.jupiter.api.Test;
+import org.parchmentmc.feather.util.AccessFlag.Target;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.parchmentmc.feather.util.AccessFlag.*;
+
+public class AccessFlagTest {
+    @Test
+    public void testGetAccessFlags() {
+        // Matches the previous decoding, which checked every flag against the bit field
+        for (int bitField = 0; bitField <= ALL_FLAGS_MASK; bitField += 0x3F) {
+            final int value = bitField;
+            final EnumSet<AccessFlag> expected = Arrays.stream(values()).filter(a -> a.isActive(value))
+                    .collect(Collectors.toCollection(() -> EnumSet.noneOf(AccessFlag.class)));
+            assertEquals(expected, getAccessFlags(value));
+            assertEquals(value, toSecuritySpecification(getAccessFlags(value)));
+        }
+    }
+
+    @Test
+    public void testTargets() {
+        final int bitField = mask(PUBLIC, SYNCHRONIZED, BRIDGE, ABSTRACT);
+
+        assertEquals(EnumSet.of(PUBLIC, SUPER, ABSTRACT), getAccessFlags(bitField, Target.CLASS));
+        assertEquals(EnumSet.of(PUBLIC, SYNCHRONIZED, BRIDGE, ABSTRACT), getAccessFlags(bitField, Target.METHOD));
+        assertEquals(EnumSet.of(PUBLIC, VOLATILE), getAccessFlags(bitField, Target.FIELD));
+
+        assertEquals(TRANSIENT, forBit(0x0080, Target.FIELD));
+        assertEquals(VARARGS, forBit(0x0080, Target.METHOD));
+        assertNull(forBit(0x0080, Target.CLASS));
+        assertThrows(IllegalArgumentException.class, () -> forBit(0x0003, Target.CLASS));
+
+        assertTrue(SUPER.appliesTo(Target.CLASS));
+        assertFalse(SUPER.appliesTo(Target.METHOD));
+        // Every flag applies to some kind of element, and no two flags of a kind share a bit
+        for (Target target : Target.values()) {
+            for (AccessFlag flag : values()) {
+                if (flag.appliesTo(target)) assertEquals(flag, forBit(flag.getBitMask(), target));
+            }
+        }
+    }
+
+    @Test
+    public void testBitFieldOperations() {
+        final int first = mask(PUBLIC, STATIC);
+        final int second = mask(STATIC, FINAL) | 0x10000;
+
+        final EnumSet<AccessFlag> union = getAccessFlags(first);
+        union.addAll(getAccessFlags(second));
+        assertEquals(toSecuritySpecification(union), merge(first, second));
+
+        assertTrue(test(first, mask(PUBLIC, STATIC)));
+        assertFalse(test(first, mask(PUBLIC, FINAL)));
+        assertTrue(testAny(first, mask(PUBLIC, FINAL)));
+        assertFalse(testAny(first, mask(PRIVATE, FINAL)));
+    }
+}
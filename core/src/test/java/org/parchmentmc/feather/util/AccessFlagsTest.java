@@ -0,0 +1,81 @@
+package org.parchmentmc.feather.util;
+
+import org.junit.jupiter.api.Test;
+import org.parchmentmc.feather.metadata.MethodMetadata;
+import org.parchmentmc.feather.metadata.MethodMetadataBuilder;
+import org.parchmentmc.feather.metadata.WithSecurity;
+
+import java.util.EnumSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.parchmentmc.feather.util.AccessFlag.*;
+
+public class AccessFlagsTest {
+    @Test
+    public void testSharedBits() {
+        // 0x0020 and 0x0040 mean different flags for classes, methods and fields
+        final int bitField = mask(PUBLIC, SUPER, BRIDGE);
+
+        final ClassAccessFlags classFlags = ClassAccessFlags.of(bitField);
+        assertTrue(classFlags.isSuper());
+        assertFalse(classFlags.has(SYNCHRONIZED));
+        assertFalse(classFlags.has(BRIDGE));
+        assertEquals(mask(PUBLIC, SUPER), classFlags.getBitField());
+
+        final MethodAccessFlags methodFlags = MethodAccessFlags.of(bitField);
+        assertTrue(methodFlags.isSynchronized());
+        assertTrue(methodFlags.isBridge());
+        assertFalse(methodFlags.has(SUPER));
+        assertEquals(EnumSet.of(PUBLIC, SYNCHRONIZED, BRIDGE), methodFlags.toSet());
+
+        final FieldAccessFlags fieldFlags = FieldAccessFlags.of(bitField);
+        assertTrue(fieldFlags.isVolatile());
+        assertEquals(EnumSet.of(PUBLIC, VOLATILE), fieldFlags.toSet());
+
+        final ParameterAccessFlags parameterFlags = ParameterAccessFlags.of(mask(FINAL, MANDATED));
+        assertTrue(parameterFlags.isFinal());
+        assertTrue(parameterFlags.isMandated());
+        assertFalse(parameterFlags.has(MODULE));
+    }
+
+    @Test
+    public void testQueries() {
+        final MethodAccessFlags flags = MethodAccessFlags.of(mask(PUBLIC, STATIC, SYNTHETIC));
+
+        assertTrue(flags.hasAll(mask(PUBLIC, STATIC)));
+        assertFalse(flags.hasAll(mask(PUBLIC, FINAL)));
+        assertTrue(flags.hasAny(mask(PRIVATE, STATIC)));
+        assertTrue(flags.matches(mask(PUBLIC), 0));
+        assertFalse(flags.matches(mask(PUBLIC), mask(SYNTHETIC)));
+        assertTrue(MethodAccessFlags.of(mask(PUBLIC, FINAL)).matches(mask(PUBLIC), mask(SYNTHETIC)));
+
+        assertEquals(flags, MethodAccessFlags.of(mask(PUBLIC, STATIC, SYNTHETIC)));
+        assertNotEquals(flags, FieldAccessFlags.of(mask(PUBLIC, STATIC, SYNTHETIC)));
+    }
+
+    @Test
+    public void testMetadata() {
+        final MethodMetadataBuilder builder = MethodMetadataBuilder.create()
+                .withSecuritySpecification(mask(PUBLIC, SYNCHRONIZED));
+
+        assertTrue(builder.getAccessFlags().isSynchronized());
+        assertFalse(builder.isSuper());
+        final MethodMetadata metadata = builder.build();
+        assertEquals(builder.getAccessFlags(), metadata.getAccessFlags());
+        assertSame(metadata.getAccessFlags(), metadata.getAccessFlags());
+    }
+
+    @Test
+    public void testGenericView() {
+        // Implementations outside of the metadata interfaces get a generic view, which keeps every flag of a bit
+        final WithSecurity secured = () -> mask(PUBLIC, SUPER);
+        final AccessFlags flags = secured.getAccessFlags();
+
+        assertEquals(GenericAccessFlags.of(mask(PUBLIC, SUPER)), flags);
+        assertNull(flags.getTarget());
+        assertTrue(secured.isPublic());
+        assertTrue(secured.isSuper());
+        assertTrue(secured.hasAccessFlag(SYNCHRONIZED));
+        assertEquals(EnumSet.of(PUBLIC, SUPER, SYNCHRONIZED, OPEN, TRANSITIVE), flags.toSet());
+    }
+}
@@ -0,0 +1,136 @@
+package org.parchmentmc.feather.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CompressedStreamsTest {
+    private static final byte[] DATA = createData();
+
+    private static byte[] createData() {
+        // Repetitive JSON-like data, larger than a few pipelined chunks
+        final StringBuilder builder = new StringBuilder();
+        final Random random = new Random(0);
+        for (int i = 0; i < 20000; i++) {
+            builder.append("{\"name\":\"net/minecraft/Class").append(random.nextInt(500)).append("\"},");
+        }
+        return builder.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] compress(Compression compression, byte[] data) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream out = compression.compress(bytes)) {
+            out.write(data);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static byte[] readAll(InputStream in) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[1000];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            bytes.write(buffer, 0, read);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        for (Compression compression : Compression.values()) {
+            final byte[] compressed = compress(compression, DATA);
+            assertEquals(compression != Compression.NONE, CompressedStreams.isGzip(compressed), compression.name());
+
+            try (InputStream in = CompressedStreams.decompress(new ByteArrayInputStream(compressed))) {
+                assertArrayEquals(DATA, readAll(in), compression.name());
+                assertEquals(-1, in.read(), compression.name());
+            }
+        }
+    }
+
+    @Test
+    public void testFastIsSmallerThanUncompressed() throws IOException {
+        assertTrue(compress(Compression.GZIP_FAST, DATA).length < DATA.length / 4);
+        assertTrue(compress(Compression.GZIP, DATA).length <= compress(Compression.GZIP_FAST, DATA).length);
+    }
+
+    @Test
+    public void testEarlyClose() throws IOException {
+        final InputStream in = CompressedStreams.decompress(new ByteArrayInputStream(compress(Compression.GZIP, DATA)));
+        assertEquals(DATA[0] & 0xFF, in.read());
+        in.close();
+        assertThrows(IOException.class, in::read);
+    }
+
+    @Test
+    public void testCorruptData() throws IOException {
+        final byte[] compressed = compress(Compression.GZIP, DATA);
+        compressed[compressed.length / 2] ^= 0x55;
+        try (InputStream in = CompressedStreams.decompress(new ByteArrayInputStream(compressed))) {
+            assertThrows(IOException.class, () -> readAll(in));
+        }
+    }
+
+    @Test
+    public void testDirectExecutor() throws IOException {
+        // More chunks than the queue holds, which would block a read-ahead task run on the reading thread
+        final byte[] data = new byte[64 * 1024];
+        new Random(0).nextBytes(data);
+        try (InputStream in = new PipelinedInputStream(new ByteArrayInputStream(data), Runnable::run, 1024)) {
+            assertArrayEquals(data, readAll(in));
+        }
+    }
+
+    @Test
+    public void testSourceClosed() throws IOException {
+        final AtomicBoolean closed = new AtomicBoolean();
+        final InputStream unstarted = new PipelinedInputStream(closingSource(closed), task -> fail("Started"), 1024);
+        unstarted.close();
+        assertTrue(closed.get(), "Source closed before reading");
+
+        closed.set(false);
+        final InputStream rejected = new PipelinedInputStream(closingSource(closed), task -> {
+            throw new RejectedExecutionException();
+        }, 1024);
+        assertThrows(IOException.class, rejected::read);
+        assertTrue(closed.get(), "Source closed on rejection");
+    }
+
+    @Test
+    public void testSourceError() throws IOException {
+        final InputStream source = new InputStream() {
+            @Override
+            public int read() {
+                throw new AssertionError("Source failed");
+            }
+        };
+        try (InputStream in = new PipelinedInputStream(source, CompressedStreamsTest::runAsync, 1024)) {
+            assertThrows(AssertionError.class, in::read);
+        }
+    }
+
+    private static InputStream closingSource(AtomicBoolean closed) {
+        return new ByteArrayInputStream(DATA) {
+            @Override
+            public void close() {
+                closed.set(true);
+            }
+        };
+    }
+
+    private static void runAsync(Runnable task) {
+        final Thread thread = new Thread(task);
+        thread.setDaemon(true);
+        thread.start();
+    }
+}
@@ -0,0 +1,31 @@
+package org.parchmentmc.feather.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ContentHashOutputStreamTest {
+    private static final String EMPTY_HASH = "e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855";
+    private static final String ABC_HASH = "ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad";
+
+    @Test
+    public void testHash() throws IOException {
+        assertEquals(EMPTY_HASH, new ContentHashOutputStream().getHash());
+        assertEquals(ABC_HASH, ContentHashOutputStream.hash("abc".getBytes(StandardCharsets.UTF_8)));
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final ContentHashOutputStream stream = new ContentHashOutputStream(bytes);
+        stream.write('a');
+        stream.write("xbcx".getBytes(StandardCharsets.UTF_8), 1, 2);
+
+        assertEquals("abc", new String(bytes.toByteArray(), StandardCharsets.UTF_8));
+        assertEquals(3, stream.getByteCount());
+        assertEquals(ABC_HASH, stream.getHash());
+        assertEquals(ABC_HASH, stream.getHash());
+        assertThrows(IllegalStateException.class, () -> stream.write('d'));
+    }
+}
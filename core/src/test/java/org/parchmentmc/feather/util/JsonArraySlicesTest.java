@@ -0,0 +1,98 @@
+package org.parchmentmc.feather.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JsonArraySlicesTest {
+    private static byte[] utf8(String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String slice(JsonArraySlices slices, int index) {
+        return new String(slices.getData(), slices.getStart(index), slices.getEnd(index) - slices.getStart(index),
+                StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testSlices() {
+        final JsonArraySlices slices = JsonArraySlices.of(utf8("{\"version\": \"1.0.0\", \"classes\": [ {\"name\": \"a]}\"},"
+                + " {\"name\":\"b\\\"\", \"fields\": [{}, []]} ,null, 12 ], \"packages\": []}"), "classes");
+
+        assertEquals(4, slices.size());
+        assertEquals("{\"name\": \"a]}\"}", slice(slices, 0));
+        assertEquals("{\"name\":\"b\\\"\", \"fields\": [{}, []]}", slice(slices, 1));
+        assertEquals("null", slice(slices, 2));
+        assertEquals("12", slice(slices, 3));
+        assertEquals("{\"version\": \"1.0.0\", \"classes\": [], \"packages\": []}",
+                new String(slices.getRemainder(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testNestedPropertyIsIgnored() {
+        final byte[] json = utf8("{\"packages\": [{\"classes\": [1, 2]}]}");
+        final JsonArraySlices slices = JsonArraySlices.of(json, "classes");
+
+        assertEquals(0, slices.size());
+        assertSame(json, slices.getRemainder());
+    }
+
+    @Test
+    public void testEmptyArray() {
+        final JsonArraySlices slices = JsonArraySlices.of(utf8("﻿{\"classes\":[]}"), "classes");
+
+        assertEquals(0, slices.size());
+        assertEquals("﻿{\"classes\":[]}", new String(slices.getRemainder(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testMalformed() {
+        assertThrows(IllegalArgumentException.class, () -> JsonArraySlices.of(utf8("[]"), "classes"));
+        assertThrows(IllegalArgumentException.class, () -> JsonArraySlices.of(utf8("{\"classes\": [{}, "), "classes"));
+    }
+
+    @Test
+    public void testDecodeInOrder() throws IOException {
+        final StringBuilder json = new StringBuilder("{\"classes\": [");
+        for (int i = 0; i < 1000; i++) {
+            if (i > 0) json.append(',');
+            json.append(i);
+        }
+        final JsonArraySlices slices = JsonArraySlices.of(utf8(json.append("]}").toString()), "classes");
+
+        final List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            if (i % 3 != 0) expected.add(i);
+        }
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            // Skips every third element by decoding it to null
+            final List<Integer> decoded = slices.decode((data, offset, length) -> {
+                final int value = Integer.parseInt(new String(data, offset, length, StandardCharsets.UTF_8));
+                return value % 3 != 0 ? value : null;
+            }, executor);
+            assertEquals(expected, decoded);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testDecodeFailure() {
+        final JsonArraySlices slices = JsonArraySlices.of(utf8("{\"classes\": [1, 2, 3, 4, 5, 6, 7, 8]}"), "classes");
+
+        final IOException exception = assertThrows(IOException.class, () -> slices.decode((data, offset, length) -> {
+            if (data[offset] == '7') throw new IOException("Bad element");
+            return data[offset];
+        }));
+        assertEquals("Bad element", exception.getMessage());
+    }
+}
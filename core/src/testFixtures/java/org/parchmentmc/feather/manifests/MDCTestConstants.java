@@ -2,7 +2,9 @@ package org.parchmentmc.feather.manifests;
 
 import org.parchmentmc.feather.mapping.ImmutableMappingDataContainer;
 import org.parchmentmc.feather.mapping.ImmutableVersionedMappingDataContainer;
+import org.parchmentmc.feather.mapping.MappingChange;
 import org.parchmentmc.feather.mapping.MappingDataContainer;
+import org.parchmentmc.feather.mapping.MappingPatch;
 import org.parchmentmc.feather.mapping.VersionedMappingDataContainer;
 import org.parchmentmc.feather.util.SimpleVersion;
 
@@ -67,4 +69,19 @@ public interface MDCTestConstants {
             new ImmutableVersionedMappingDataContainer(CURRENT_FORMAT, of(), CLASSES),
             new ImmutableVersionedMappingDataContainer(SimpleVersion.of("1.0.1"), PACKAGES, CLASSES)
     );
+
+    List<MappingPatch> PATCHES = of(
+            new MappingPatch(of()),
+            MappingPatch.diff(DATA_CONTAINERS.get(1), DATA_CONTAINERS.get(3)),
+            MappingPatch.diff(DATA_CONTAINERS.get(3), DATA_CONTAINERS.get(0)),
+            new MappingPatch(of(
+                    new MappingChange<>(MappingChange.Type.JAVADOC_CHANGED, MappingChange.Element.PACKAGE, "com/example", null, null, (byte) 0, null, MULTILINE_JAVADOC),
+                    new MappingChange<>(MappingChange.Type.JAVADOC_CHANGED, MappingChange.Element.CLASS, "ClassOne", null, null, (byte) 0, null, of()),
+                    new MappingChange<>(MappingChange.Type.DESCRIPTOR_CHANGED, MappingChange.Element.FIELD, "ClassOne", "aField", "F", (byte) 0, null, "D"),
+                    new MappingChange<>(MappingChange.Type.REMOVED, MappingChange.Element.METHOD, "ClassOne", "isTestable", "()Z", (byte) 0, null, null),
+                    new MappingChange<>(MappingChange.Type.NAME_CHANGED, MappingChange.Element.PARAMETER, "ClassOne", "test2", "(IIIS)Z", (byte) 1, null, "renamed"),
+                    new MappingChange<>(MappingChange.Type.JAVADOC_CHANGED, MappingChange.Element.PARAMETER, "ClassOne", "test2", "(IIIS)Z", (byte) 2, null, null),
+                    new MappingChange<>(MappingChange.Type.ADDED, MappingChange.Element.PARAMETER, "ClassOne", "test2", "(IIIS)Z", (byte) 5, null, new ImmutableMappingDataContainer.ImmutableParameterData((byte) 5, "added", null))
+            ))
+    );
 }
@@ -0,0 +1,82 @@
+package org.parchmentmc.feather.manifests;
+
+import com.google.common.collect.ImmutableMap;
+import org.parchmentmc.feather.manifests.LauncherManifest.LatestVersionInfo;
+import org.parchmentmc.feather.manifests.LauncherManifest.VersionData;
+import org.parchmentmc.feather.manifests.Library.ArtifactDownload;
+import org.parchmentmc.feather.manifests.Library.ExtractInfo;
+import org.parchmentmc.feather.manifests.Library.LibraryDownloads;
+import org.parchmentmc.feather.manifests.Library.NativesInfo;
+import org.parchmentmc.feather.manifests.Library.Rule;
+import org.parchmentmc.feather.manifests.VersionManifest.AssetIndexInfo;
+import org.parchmentmc.feather.manifests.VersionManifest.DownloadInfo;
+import org.parchmentmc.feather.manifests.VersionManifest.JavaVersionInfo;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static com.google.common.collect.ImmutableList.of;
+
+/**
+ * Constants of {@link LauncherManifest}, {@link VersionManifest} and {@link Library}, for use in tests.
+ */
+public interface ManifestTestConstants {
+    String SHA1 = "0123456789abcdef0123456789abcdef01234567";
+
+    List<VersionData> VERSION_DATA = of(
+            new VersionData("1.17.1", "release",
+                    "https://piston-meta.mojang.com/v1/packages/" + SHA1 + "/1.17.1.json",
+                    OffsetDateTime.parse("2021-07-06T12:01:34+00:00"), OffsetDateTime.parse("2021-07-06T12:01:34+00:00"),
+                    SHA1, 1),
+            new VersionData("21w44a", "snapshot",
+                    "https://piston-meta.mojang.com/v1/packages/" + SHA1 + "/21w44a.json",
+                    OffsetDateTime.parse("2021-11-03T14:38:14+00:00"), OffsetDateTime.parse("2021-11-03T14:38:14+00:00"),
+                    SHA1, 1),
+            new VersionData("b1.8.1", "old_beta",
+                    "https://piston-meta.mojang.com/v1/packages/" + SHA1 + "/b1.8.1.json",
+                    OffsetDateTime.parse("2011-09-19T00:00:00+02:00"), OffsetDateTime.parse("2011-09-19T00:00:00+02:00"),
+                    SHA1, 0)
+    );
+
+    List<LauncherManifest> LAUNCHER_MANIFESTS = of(
+            new LauncherManifest(new LatestVersionInfo("1.17.1", "21w44a"), of()),
+            new LauncherManifest(new LatestVersionInfo("1.17.1", "21w44a"), VERSION_DATA)
+    );
+
+    List<Library> LIBRARIES = of(
+            new Library("com.mojang:blocklist:1.0.5", null, new LibraryDownloads(
+                    new ArtifactDownload(SHA1, 964, "https://libraries.minecraft.net/com/mojang/blocklist/1.0.5/blocklist-1.0.5.jar",
+                            "com/mojang/blocklist/1.0.5/blocklist-1.0.5.jar"), null), null, of()),
+            new Library("org.lwjgl:lwjgl:3.2.2", null, new LibraryDownloads(
+                    new ArtifactDownload(SHA1, 321900, "https://libraries.minecraft.net/org/lwjgl/lwjgl/3.2.2/lwjgl-3.2.2.jar",
+                            "org/lwjgl/lwjgl/3.2.2/lwjgl-3.2.2.jar"), null), null,
+                    of(new Rule("allow", new Rule.OSCondition("osx", null)))),
+            new Library("org.lwjgl.lwjgl:lwjgl-platform:2.9.4-nightly-20150209",
+                    new ExtractInfo(of("META-INF/")),
+                    new LibraryDownloads(null, ImmutableMap.of(
+                            "natives-linux", new ArtifactDownload(SHA1, 578680, "https://libraries.minecraft.net/natives-linux.jar",
+                                    "org/lwjgl/lwjgl/lwjgl-platform/2.9.4-nightly-20150209/lwjgl-platform-2.9.4-nightly-20150209-natives-linux.jar"),
+                            "natives-windows", new ArtifactDownload(SHA1, 613748, "https://libraries.minecraft.net/natives-windows.jar",
+                                    "org/lwjgl/lwjgl/lwjgl-platform/2.9.4-nightly-20150209/lwjgl-platform-2.9.4-nightly-20150209-natives-windows.jar"))),
+                    new NativesInfo("natives-linux", null, "natives-windows"),
+                    of(new Rule("allow", null), new Rule("disallow", new Rule.OSCondition("osx", "^10\\.5\\.\\d$"))))
+    );
+
+    List<VersionManifest> VERSION_MANIFESTS = of(
+            new VersionManifest("1.17.1", "release", 1, 21,
+                    OffsetDateTime.parse("2021-07-06T12:01:34+00:00"), OffsetDateTime.parse("2021-07-06T12:01:34+00:00"),
+                    "net.minecraft.client.main.Main", new JavaVersionInfo("java-runtime-alpha", 16), "1.17",
+                    new AssetIndexInfo(SHA1, 330678, "https://piston-meta.mojang.com/v1/packages/" + SHA1 + "/1.17.json", "1.17", 346958013),
+                    ImmutableMap.of(
+                            "client", new DownloadInfo(SHA1, 19546774, "https://piston-data.mojang.com/v1/objects/" + SHA1 + "/client.jar"),
+                            "server", new DownloadInfo(SHA1, 43626592, "https://piston-data.mojang.com/v1/objects/" + SHA1 + "/server.jar")),
+                    LIBRARIES, null),
+            new VersionManifest("b1.8.1", "old_beta", 0, 4,
+                    OffsetDateTime.parse("2011-09-19T00:00:00+02:00"), OffsetDateTime.parse("2011-09-19T00:00:00+02:00"),
+                    "net.minecraft.launchwrapper.Launch", null, "pre-1.6",
+                    new AssetIndexInfo(SHA1, 73813, "https://launchermeta.mojang.com/v1/packages/" + SHA1 + "/pre-1.6.json", "pre-1.6", 49505710),
+                    ImmutableMap.of(
+                            "client", new DownloadInfo(SHA1, 1552011, "https://launcher.mojang.com/v1/objects/" + SHA1 + "/client.jar")),
+                    of(), "${auth_player_name} ${auth_session} --gameDir ${game_directory} --tweakClass \"Tweaker\"")
+    );
+}
@@ -1,8 +1,20 @@
 package org.parchmentmc.feather.util;
 
+import org.parchmentmc.feather.metadata.ClassMetadata;
+import org.parchmentmc.feather.metadata.ClassMetadataBuilder;
+import org.parchmentmc.feather.metadata.SourceMetadata;
+import org.parchmentmc.feather.metadata.SourceMetadataBuilder;
 import org.parchmentmc.feather.named.Named;
 import org.parchmentmc.feather.named.NamedBuilder;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
 public final class TestConstantsHelper {
     public static Named named(final String obfuscatedName) {
         return NamedBuilder.create().withObfuscated(obfuscatedName).build();
@@ -14,4 +26,40 @@ public final class TestConstantsHelper {
                 .withMojang(mojangName)
                 .build();
     }
+
+    /**
+     * Returns source metadata which is equal to the given metadata, but with its classes, their contents, and their
+     * names in reverse order.
+     */
+    public static SourceMetadata reversed(final SourceMetadata metadata) {
+        return SourceMetadataBuilder.create(metadata)
+                .withClasses(reversed(metadata.getClasses(), TestConstantsHelper::reversed))
+                .build();
+    }
+
+    private static ClassMetadata reversed(final ClassMetadata cls) {
+        return ClassMetadataBuilder.create(cls)
+                .withName(reversed(cls.getName()))
+                .withInterfaces(reversed(cls.getInterfaces(), TestConstantsHelper::reversed))
+                .withFields(reversed(cls.getFields(), Function.identity()))
+                .withMethods(reversed(cls.getMethods(), Function.identity()))
+                .withInnerClasses(reversed(cls.getInnerClasses(), TestConstantsHelper::reversed))
+                .withIsRecord(cls.isRecord())
+                .build();
+    }
+
+    private static Named reversed(final Named named) {
+        final List<Map.Entry<String, String>> entries = new ArrayList<>(named.getNames().entrySet());
+        Collections.reverse(entries);
+        final NamedBuilder builder = NamedBuilder.create();
+        entries.forEach(entry -> builder.with(entry.getKey(), entry.getValue()));
+        return builder.build();
+    }
+
+    private static <T> LinkedHashSet<T> reversed(final Collection<T> values, final Function<T, T> mapper) {
+        final List<T> list = new ArrayList<>();
+        values.forEach(value -> list.add(mapper.apply(value)));
+        Collections.reverse(list);
+        return new LinkedHashSet<>(list);
+    }
 }
@@ -7,25 +7,40 @@ import com.google.gson.stream.JsonWriter;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.parchmentmc.feather.mapping.ImmutableMappingDataContainer;
 import org.parchmentmc.feather.mapping.ImmutableVersionedMappingDataContainer;
+import org.parchmentmc.feather.mapping.MappingChange;
 import org.parchmentmc.feather.mapping.MappingDataContainer;
+import org.parchmentmc.feather.mapping.MappingDataFilter;
+import org.parchmentmc.feather.mapping.MappingPatch;
 import org.parchmentmc.feather.mapping.VersionedMappingDataContainer;
 import org.parchmentmc.feather.util.SimpleVersion;
 
 import java.io.IOException;
 import java.lang.reflect.Type;
 import java.lang.reflect.WildcardType;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 
 /**
- * GSON adapter factory for {@link VersionedMappingDataContainer}s and its inner data classes.
+ * GSON adapter factory for {@link VersionedMappingDataContainer}s and its inner data classes, and for
+ * {@link MappingPatch}es.
+ *
+ * <p>If a {@link MappingDataFilter} is given, the adapters skip excluded packages and classes (and javadocs, if
+ * excluded) while reading, without materializing them. Excluded entries are read as {@code null} by the adapters for
+ * single entries, and are left out of the mapping data container.</p>
  */
 public class MDCGsonAdapterFactory implements TypeAdapterFactory {
     private final boolean ignoreNonDocumented;
+    private final MappingDataFilter filter;
 
-    public MDCGsonAdapterFactory(boolean ignoreNonDocumented) {
+    public MDCGsonAdapterFactory(boolean ignoreNonDocumented, MappingDataFilter filter) {
         this.ignoreNonDocumented = ignoreNonDocumented;
+        this.filter = filter;
+    }
+
+    public MDCGsonAdapterFactory(boolean ignoreNonDocumented) {
+        this(ignoreNonDocumented, MappingDataFilter.all());
     }
 
     public MDCGsonAdapterFactory() {
@@ -41,6 +56,15 @@ public class MDCGsonAdapterFactory implements TypeAdapterFactory {
         return ignoreNonDocumented;
     }
 
+    /**
+     * Returns the filter for reading mapping data.
+     *
+     * @return the filter for reading
+     */
+    public MappingDataFilter getFilter() {
+        return filter;
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     @Nullable
@@ -53,17 +77,23 @@ public class MDCGsonAdapterFactory implements TypeAdapterFactory {
             }
         }
         if (type.equals(VersionedMappingDataContainer.class)) {
-            return (TypeAdapter<T>) new VersionedMappingDataContainerAdapter(gson).nullSafe();
+            return (TypeAdapter<T>) new VersionedMappingDataContainerAdapter(gson, filter).nullSafe();
         } else if (type.equals(MappingDataContainer.PackageData.class)) {
-            return (TypeAdapter<T>) new PackageDataAdapter(gson, ignoreNonDocumented).nullSafe();
+            return (TypeAdapter<T>) new PackageDataAdapter(gson, ignoreNonDocumented, filter).nullSafe();
         } else if (type.equals(MappingDataContainer.ClassData.class)) {
-            return (TypeAdapter<T>) new ClassDataAdapter(gson, ignoreNonDocumented).nullSafe();
+            return (TypeAdapter<T>) new ClassDataAdapter(gson, ignoreNonDocumented, filter).nullSafe();
         } else if (type.equals(MappingDataContainer.FieldData.class)) {
-            return (TypeAdapter<T>) new FieldDataAdapter(gson, ignoreNonDocumented).nullSafe();
+            return (TypeAdapter<T>) new FieldDataAdapter(gson, ignoreNonDocumented, filter).nullSafe();
         } else if (type.equals(MappingDataContainer.MethodData.class)) {
-            return (TypeAdapter<T>) new MethodDataAdapter(gson, ignoreNonDocumented).nullSafe();
+            return (TypeAdapter<T>) new MethodDataAdapter(gson, ignoreNonDocumented, filter).nullSafe();
         } else if (type.equals(MappingDataContainer.ParameterData.class)) {
-            return (TypeAdapter<T>) new ParameterDataAdapter(ignoreNonDocumented).nullSafe();
+            return (TypeAdapter<T>) new ParameterDataAdapter(ignoreNonDocumented, filter).nullSafe();
+        } else if (type.equals(MappingPatch.class)) {
+            // Added entries are written and read in full, regardless of the documentation and filter settings
+            final Gson dataGson = ignoreNonDocumented || !filter.isAll()
+                    ? gson.newBuilder().registerTypeAdapterFactory(new MDCGsonAdapterFactory()).create()
+                    : gson;
+            return (TypeAdapter<T>) new MappingPatchAdapter(gson, dataGson).nullSafe();
         }
         return null;
     }
@@ -79,9 +109,11 @@ public class MDCGsonAdapterFactory implements TypeAdapterFactory {
                 new TypeToken<Collection<? extends MappingDataContainer.ClassData>>() {
                 };
         private final Gson gson;
+        private final MappingDataFilter filter;
 
-        VersionedMappingDataContainerAdapter(Gson gson) {
+        VersionedMappingDataContainerAdapter(Gson gson, MappingDataFilter filter) {
             this.gson = gson;
+            this.filter = filter;
         }
 
         @Override
@@ -128,6 +160,11 @@ public class MDCGsonAdapterFactory implements TypeAdapterFactory {
             if (packages == null) packages = Collections.emptyList();
             if (classes == null) classes = Collections.emptyList();
             if (version == null) throw new JsonParseException("No version found");
+            if (filter.excludesEntries()) {
+                // Excluded entries are read as nulls
+                packages = withoutNulls(packages);
+                classes = withoutNulls(classes);
+            }
 
             return new ImmutableVersionedMappingDataContainer(version, packages, classes);
         }
@@ -136,16 +173,37 @@ public class MDCGsonAdapterFactory implements TypeAdapterFactory {
     static final TypeToken<List<String>> STRING_LIST_TOKEN = new TypeToken<List<String>>() {
     };
 
+    static <T> List<T> withoutNulls(Collection<? extends T> collection) {
+        final List<T> list = new ArrayList<>(collection.size());
+        for (T element : collection) {
+            if (element != null) list.add(element);
+        }
+        return list;
+    }
+
+    /**
+     * Skips the remaining properties of the current object, and consumes its end.
+     */
+    static void skipObject(JsonReader reader) throws IOException {
+        while (reader.hasNext()) {
+            reader.nextName();
+            reader.skipValue();
+        }
+        reader.endObject();
+    }
+
     /**
      * GSON adapter for {@link MappingDataContainer.PackageData}s.
      */
     static class PackageDataAdapter extends TypeAdapter<MappingDataContainer.PackageData> {
         private final Gson gson;
         private final boolean ignoreNonDocumented;
+        private final MappingDataFilter filter;
 
-        PackageDataAdapter(Gson gson, boolean ignoreNonDocumented) {
+        PackageDataAdapter(Gson gson, boolean ignoreNonDocumented, MappingDataFilter filter) {
             this.gson = gson;
             this.ignoreNonDocumented = ignoreNonDocumented;
+            this.filter = filter;
         }
 
         @Override
@@ -175,9 +233,17 @@ public class MDCGsonAdapterFactory implements TypeAdapterFactory {
                 switch (propertyName) {
                     case "name":
                         name = reader.nextString();
+                        if (!filter.includesPackage(name)) {
+                            skipObject(reader);
+                            return null;
+                        }
                         break;
                     case "javadoc":
-                        javadoc = gson.getAdapter(STRING_LIST_TOKEN).read(reader);
+                        if (filter.includesJavadoc()) {
+                            javadoc = gson.getAdapter(STRING_LIST_TOKEN).read(reader);
+                        } else {
+                            reader.skipValue();
+                        }
                         break;
                     default:
                         reader.skipValue();
@@ -205,10 +271,12 @@ public class MDCGsonAdapterFactory implements TypeAdapterFactory {
                 };
         private final Gson gson;
         private final boolean ignoreNonDocumented;
+        private final MappingDataFilter filter;
 
-        ClassDataAdapter(Gson gson, boolean ignoreNonDocumented) {
+        ClassDataAdapter(Gson gson, boolean ignoreNonDocumented, MappingDataFilter filter) {
             this.gson = gson;
             this.ignoreNonDocumented = ignoreNonDocumented;
+            this.filter = filter;
         }
 
         @Override
@@ -252,9 +320,17 @@ public class MDCGsonAdapterFactory implements TypeAdapterFactory {
                 switch (propertyName) {
                     case "name":
                         name = reader.nextString();
+                        if (!filter.includesClass(name)) {
+                            skipObject(reader);
+                            return null;
+                        }
                         break;
                     case "javadoc":
-                        javadoc = gson.getAdapter(STRING_LIST_TOKEN).read(reader);
+                        if (filter.includesJavadoc()) {
+                            javadoc = gson.getAdapter(STRING_LIST_TOKEN).read(reader);
+                        } else {
+                            reader.skipValue();
+                        }
                         break;
                     case "fields":
                         fields = gson.getAdapter(FIELD_DATA_COLLECTION).read(reader);
@@ -284,10 +360,12 @@ public class MDCGsonAdapterFactory implements TypeAdapterFactory {
     static class FieldDataAdapter extends TypeAdapter<MappingDataContainer.FieldData> {
         private final Gson gson;
         private final boolean ignoreNonDocumented;
+        private final MappingDataFilter filter;
 
-        FieldDataAdapter(Gson gson, boolean ignoreNonDocumented) {
+        FieldDataAdapter(Gson gson, boolean ignoreNonDocumented, MappingDataFilter filter) {
             this.gson = gson;
             this.ignoreNonDocumented = ignoreNonDocumented;
+            this.filter = filter;
         }
 
         @Override
@@ -324,7 +402,11 @@ public class MDCGsonAdapterFactory implements TypeAdapterFactory {
                         descriptor = reader.nextString();
                         break;
                     case "javadoc":
-                        javadoc = gson.getAdapter(STRING_LIST_TOKEN).read(reader);
+                        if (filter.includesJavadoc()) {
+                            javadoc = gson.getAdapter(STRING_LIST_TOKEN).read(reader);
+                        } else {
+                            reader.skipValue();
+                        }
                         break;
                     default:
                         reader.skipValue();
@@ -350,10 +432,12 @@ public class MDCGsonAdapterFactory implements TypeAdapterFactory {
                 };
         private final Gson gson;
         private final boolean ignoreNonDocumented;
+        private final MappingDataFilter filter;
 
-        MethodDataAdapter(Gson gson, boolean ignoreNonDocumented) {
+        MethodDataAdapter(Gson gson, boolean ignoreNonDocumented, MappingDataFilter filter) {
             this.gson = gson;
             this.ignoreNonDocumented = ignoreNonDocumented;
+            this.filter = filter;
         }
 
         @Override
@@ -397,7 +481,11 @@ public class MDCGsonAdapterFactory implements TypeAdapterFactory {
                         descriptor = reader.nextString();
                         break;
                     case "javadoc":
-                        javadoc = gson.getAdapter(STRING_LIST_TOKEN).read(reader);
+                        if (filter.includesJavadoc()) {
+                            javadoc = gson.getAdapter(STRING_LIST_TOKEN).read(reader);
+                        } else {
+                            reader.skipValue();
+                        }
                         break;
                     case "parameters":
                         parameters = gson.getAdapter(PARAMETER_DATA_COLLECTION).read(reader);
@@ -423,9 +511,11 @@ public class MDCGsonAdapterFactory implements TypeAdapterFactory {
      */
     static class ParameterDataAdapter extends TypeAdapter<MappingDataContainer.ParameterData> {
         private final boolean ignoreNonDocumented;
+        private final MappingDataFilter filter;
 
-        ParameterDataAdapter(boolean ignoreNonDocumented) {
+        ParameterDataAdapter(boolean ignoreNonDocumented, MappingDataFilter filter) {
             this.ignoreNonDocumented = ignoreNonDocumented;
+            this.filter = filter;
         }
 
         @Override
@@ -464,7 +554,11 @@ public class MDCGsonAdapterFactory implements TypeAdapterFactory {
                         name = reader.nextString();
                         break;
                     case "javadoc":
-                        javadoc = reader.nextString();
+                        if (filter.includesJavadoc()) {
+                            javadoc = reader.nextString();
+                        } else {
+                            reader.skipValue();
+                        }
                         break;
                     default:
                         reader.skipValue();
@@ -478,4 +572,188 @@ public class MDCGsonAdapterFactory implements TypeAdapterFactory {
             return new ImmutableMappingDataContainer.ImmutableParameterData(index, name, javadoc);
         }
     }
+
+    /**
+     * GSON adapter for {@link MappingPatch}es.
+     *
+     * <p>The value of {@linkplain MappingChange.Type#ADDED added} entries is written and read using the adapters of
+     * the data GSON instance, which should neither ignore non-documented entries nor filter entries, so that no added
+     * entries are lost from the patch.</p>
+     */
+    static class MappingPatchAdapter extends TypeAdapter<MappingPatch> {
+        private final Gson gson;
+        private final Gson dataGson;
+
+        MappingPatchAdapter(Gson gson, Gson dataGson) {
+            this.gson = gson;
+            this.dataGson = dataGson;
+        }
+
+        private static Class<?> dataType(MappingChange.Element element) {
+            switch (element) {
+                case PACKAGE:
+                    return MappingDataContainer.PackageData.class;
+                case CLASS:
+                    return MappingDataContainer.ClassData.class;
+                case FIELD:
+                    return MappingDataContainer.FieldData.class;
+                case METHOD:
+                    return MappingDataContainer.MethodData.class;
+                case PARAMETER:
+                    return MappingDataContainer.ParameterData.class;
+            }
+            throw new IllegalArgumentException("Unknown element: " + element);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Nullable
+        private JsonElement valueToJson(MappingChange<?> change) {
+            final Object value = change.getNewValue();
+            switch (change.getType()) {
+                case ADDED:
+                    return dataGson.getAdapter((Class<Object>) dataType(change.getElement())).toJsonTree(value);
+                case JAVADOC_CHANGED:
+                    if (change.getElement() != MappingChange.Element.PARAMETER) {
+                        return gson.getAdapter(STRING_LIST_TOKEN).toJsonTree((List<String>) value);
+                    }
+                    // Parameter javadocs are a single string
+                    return value == null ? JsonNull.INSTANCE : new JsonPrimitive((String) value);
+                case NAME_CHANGED:
+                case DESCRIPTOR_CHANGED:
+                    return value == null ? JsonNull.INSTANCE : new JsonPrimitive((String) value);
+                default:
+                    return null;
+            }
+        }
+
+        @Nullable
+        private Object valueFromJson(MappingChange.Type type, MappingChange.Element element, @Nullable JsonElement value) {
+            if (value == null || value.isJsonNull()) {
+                if (type == MappingChange.Type.ADDED) throw new JsonParseException("Added entry must have a value");
+                if (type == MappingChange.Type.JAVADOC_CHANGED && element != MappingChange.Element.PARAMETER)
+                    return Collections.emptyList();
+                return null;
+            }
+            switch (type) {
+                case ADDED:
+                    return dataGson.getAdapter(dataType(element)).fromJsonTree(value);
+                case JAVADOC_CHANGED:
+                    if (element != MappingChange.Element.PARAMETER) {
+                        return gson.getAdapter(STRING_LIST_TOKEN).fromJsonTree(value);
+                    }
+                    // Parameter javadocs are a single string
+                    return value.getAsString();
+                case NAME_CHANGED:
+                case DESCRIPTOR_CHANGED:
+                    return value.getAsString();
+                default:
+                    return null;
+            }
+        }
+
+        @Override
+        public void write(JsonWriter writer, MappingPatch patch) throws IOException {
+            writer.beginObject();
+            writer.name("changes");
+            writer.beginArray();
+            for (MappingChange<?> change : patch.getChanges()) {
+                final JsonElement value = valueToJson(change);
+
+                writer.beginObject()
+                        .name("type").value(change.getType().name())
+                        .name("element").value(change.getElement().name())
+                        .name("name").value(change.getName());
+                if (change.getMemberName() != null) {
+                    writer.name("member").value(change.getMemberName());
+                }
+                if (change.getMemberDescriptor() != null) {
+                    writer.name("descriptor").value(change.getMemberDescriptor());
+                }
+                if (change.getElement() == MappingChange.Element.PARAMETER) {
+                    writer.name("index").value(change.getParameterIndex());
+                }
+                if (value != null && !value.isJsonNull()) {
+                    writer.name("value");
+                    gson.toJson(value, writer);
+                }
+                writer.endObject();
+            }
+            writer.endArray();
+            writer.endObject();
+        }
+
+        @Override
+        public MappingPatch read(JsonReader reader) throws IOException {
+            List<MappingChange<?>> changes = new ArrayList<>();
+
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if (reader.nextName().equals("changes")) {
+                    reader.beginArray();
+                    while (reader.hasNext()) {
+                        changes.add(readChange(reader));
+                    }
+                    reader.endArray();
+                } else {
+                    reader.skipValue();
+                }
+            }
+            reader.endObject();
+
+            return new MappingPatch(changes);
+        }
+
+        private MappingChange<?> readChange(JsonReader reader) throws IOException {
+            MappingChange.Type type = null;
+            MappingChange.Element element = null;
+            String name = null;
+            String member = null;
+            String descriptor = null;
+            byte index = 0;
+            JsonElement value = null;
+
+            reader.beginObject();
+            while (reader.hasNext()) {
+                String propertyName = reader.nextName();
+                try {
+                    switch (propertyName) {
+                        case "type":
+                            type = MappingChange.Type.valueOf(reader.nextString());
+                            break;
+                        case "element":
+                            element = MappingChange.Element.valueOf(reader.nextString());
+                            break;
+                        case "name":
+                            name = reader.nextString();
+                            break;
+                        case "member":
+                            member = reader.nextString();
+                            break;
+                        case "descriptor":
+                            descriptor = reader.nextString();
+                            break;
+                        case "index":
+                            index = (byte) reader.nextInt();
+                            break;
+                        case "value":
+                            value = gson.getAdapter(JsonElement.class).read(reader);
+                            break;
+                        default:
+                            reader.skipValue();
+                            break;
+                    }
+                } catch (IllegalArgumentException e) {
+                    throw new JsonParseException("Invalid value for property '" + propertyName + "'", e);
+                }
+            }
+            reader.endObject();
+
+            if (type == null) throw new JsonParseException("Change type must not be null");
+            if (element == null) throw new JsonParseException("Change element must not be null");
+            if (name == null) throw new JsonParseException("Change name must not be null");
+
+            return new MappingChange<>(type, element, name, member, descriptor, index, null,
+                    valueFromJson(type, element, value));
+        }
+    }
 }
@@ -0,0 +1,179 @@
+package org.parchmentmc.feather.io.gson.manifests;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import org.parchmentmc.feather.manifests.LauncherManifest;
+import org.parchmentmc.feather.manifests.LauncherManifest.LatestVersionInfo;
+import org.parchmentmc.feather.manifests.LauncherManifest.VersionData;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * GSON adapter for {@link LauncherManifest} objects.
+ *
+ * <p>For internal use. Users should use {@link ManifestsAdapterFactory} instead.</p>
+ */
+class LauncherManifestAdapter extends TypeAdapter<LauncherManifest> {
+    private final TypeAdapter<OffsetDateTime> dateTimeAdapter;
+
+    public LauncherManifestAdapter(Gson gson) {
+        this.dateTimeAdapter = gson.getAdapter(OffsetDateTime.class);
+    }
+
+    @Override
+    public void write(final JsonWriter out, final LauncherManifest value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+
+        out.name("latest").beginObject();
+        out.name("release").value(value.getLatest().getRelease());
+        out.name("snapshot").value(value.getLatest().getSnapshot());
+        out.endObject();
+
+        out.name("versions").beginArray();
+        for (VersionData version : value.getVersions()) {
+            writeVersion(out, version);
+        }
+        out.endArray();
+
+        out.endObject();
+    }
+
+    private void writeVersion(final JsonWriter out, final VersionData version) throws IOException {
+        out.beginObject();
+        out.name("id").value(version.getId());
+        out.name("type").value(version.getType());
+        out.name("url").value(version.getUrl());
+        out.name("time");
+        dateTimeAdapter.write(out, version.getTime());
+        out.name("releaseTime");
+        dateTimeAdapter.write(out, version.getReleaseTime());
+        out.name("sha1").value(version.getSHA1());
+        out.name("complianceLevel").value(version.getComplianceLevel());
+        out.endObject();
+    }
+
+    @Override
+    public LauncherManifest read(final JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        LatestVersionInfo latest = null;
+        final List<VersionData> versions = new ArrayList<>();
+
+        in.beginObject();
+        while (in.hasNext()) {
+            final String propertyName = in.nextName();
+            switch (propertyName) {
+                case "latest":
+                    latest = readLatest(in);
+                    break;
+                case "versions":
+                    in.beginArray();
+                    while (in.hasNext()) {
+                        versions.add(readVersion(in));
+                    }
+                    in.endArray();
+                    break;
+                default:
+                    in.skipValue();
+            }
+        }
+        in.endObject();
+
+        if (latest == null) {
+            throw new JsonParseException("Launcher manifest latest is not present");
+        }
+
+        return new LauncherManifest(latest, versions);
+    }
+
+    private static LatestVersionInfo readLatest(final JsonReader in) throws IOException {
+        String release = null;
+        String snapshot = null;
+
+        in.beginObject();
+        while (in.hasNext()) {
+            final String propertyName = in.nextName();
+            switch (propertyName) {
+                case "release":
+                    release = in.nextString();
+                    break;
+                case "snapshot":
+                    snapshot = in.nextString();
+                    break;
+                default:
+                    in.skipValue();
+            }
+        }
+        in.endObject();
+
+        if (release == null) throw new JsonParseException("Latest release is not present");
+        if (snapshot == null) throw new JsonParseException("Latest snapshot is not present");
+
+        return new LatestVersionInfo(release, snapshot);
+    }
+
+    private VersionData readVersion(final JsonReader in) throws IOException {
+        String id = null;
+        String type = null;
+        String url = null;
+        OffsetDateTime time = null;
+        OffsetDateTime releaseTime = null;
+        String sha1 = null;
+        int complianceLevel = 0;
+
+        in.beginObject();
+        while (in.hasNext()) {
+            final String propertyName = in.nextName();
+            switch (propertyName) {
+                case "id":
+                    id = in.nextString();
+                    break;
+                case "type":
+                    type = in.nextString();
+                    break;
+                case "url":
+                    url = in.nextString();
+                    break;
+                case "time":
+                    time = dateTimeAdapter.read(in);
+                    break;
+                case "releaseTime":
+                    releaseTime = dateTimeAdapter.read(in);
+                    break;
+                case "sha1":
+                    sha1 = in.nextString();
+                    break;
+                case "complianceLevel":
+                    complianceLevel = in.nextInt();
+                    break;
+                default:
+                    in.skipValue();
+            }
+        }
+        in.endObject();
+
+        if (id == null) throw new JsonParseException("Version id is not present");
+        if (type == null) throw new JsonParseException("Version type is not present for " + id);
+        if (url == null) throw new JsonParseException("Version url is not present for " + id);
+        if (time == null) throw new JsonParseException("Version time is not present for " + id);
+        if (releaseTime == null) throw new JsonParseException("Version releaseTime is not present for " + id);
+        if (sha1 == null) throw new JsonParseException("Version sha1 is not present for " + id);
+
+        return new VersionData(id, type, url, time, releaseTime, sha1, complianceLevel);
+    }
+}
@@ -0,0 +1,315 @@
+package org.parchmentmc.feather.io.gson.manifests;
+
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import org.parchmentmc.feather.manifests.Library;
+import org.parchmentmc.feather.manifests.Library.ArtifactDownload;
+import org.parchmentmc.feather.manifests.Library.ExtractInfo;
+import org.parchmentmc.feather.manifests.Library.LibraryDownloads;
+import org.parchmentmc.feather.manifests.Library.NativesInfo;
+import org.parchmentmc.feather.manifests.Library.Rule;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * GSON adapter for {@link Library} objects.
+ *
+ * <p>For internal use. Users should use {@link ManifestsAdapterFactory} instead.</p>
+ */
+class LibraryAdapter extends TypeAdapter<Library> {
+    @Override
+    public void write(final JsonWriter out, final Library value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+
+        out.name("downloads").beginObject();
+        final LibraryDownloads downloads = value.getDownloads();
+        if (downloads.getArtifact() != null) {
+            out.name("artifact");
+            writeArtifact(out, downloads.getArtifact());
+        }
+        if (downloads.getClassifiers() != null) {
+            out.name("classifiers").beginObject();
+            for (Map.Entry<String, ArtifactDownload> entry : downloads.getClassifiers().entrySet()) {
+                out.name(entry.getKey());
+                writeArtifact(out, entry.getValue());
+            }
+            out.endObject();
+        }
+        out.endObject();
+
+        if (value.getExtract() != null) {
+            out.name("extract").beginObject();
+            out.name("exclude").beginArray();
+            for (String exclude : value.getExtract().getExclude()) {
+                out.value(exclude);
+            }
+            out.endArray();
+            out.endObject();
+        }
+
+        out.name("name").value(value.getName());
+
+        final NativesInfo natives = value.getNatives();
+        if (natives != null) {
+            out.name("natives").beginObject();
+            if (natives.getLinux() != null) out.name("linux").value(natives.getLinux());
+            if (natives.getOSX() != null) out.name("osx").value(natives.getOSX());
+            if (natives.getWindows() != null) out.name("windows").value(natives.getWindows());
+            out.endObject();
+        }
+
+        if (!value.getRules().isEmpty()) {
+            out.name("rules").beginArray();
+            for (Rule rule : value.getRules()) {
+                writeRule(out, rule);
+            }
+            out.endArray();
+        }
+
+        out.endObject();
+    }
+
+    private static void writeArtifact(final JsonWriter out, final ArtifactDownload artifact) throws IOException {
+        out.beginObject();
+        out.name("path").value(artifact.getPath());
+        out.name("sha1").value(artifact.getSHA1());
+        out.name("size").value(artifact.getSize());
+        out.name("url").value(artifact.getUrl());
+        out.endObject();
+    }
+
+    private static void writeRule(final JsonWriter out, final Rule rule) throws IOException {
+        out.beginObject();
+        out.name("action").value(rule.getAction());
+        final Rule.OSCondition os = rule.getOS();
+        if (os != null) {
+            out.name("os").beginObject();
+            if (os.getName() != null) out.name("name").value(os.getName());
+            if (os.getVersion() != null) out.name("version").value(os.getVersion());
+            out.endObject();
+        }
+        out.endObject();
+    }
+
+    @Override
+    public Library read(final JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        String name = null;
+        ExtractInfo extract = null;
+        LibraryDownloads downloads = null;
+        NativesInfo natives = null;
+        List<Rule> rules = Collections.emptyList();
+
+        in.beginObject();
+        while (in.hasNext()) {
+            final String propertyName = in.nextName();
+            switch (propertyName) {
+                case "name":
+                    name = in.nextString();
+                    break;
+                case "extract":
+                    extract = readExtract(in);
+                    break;
+                case "downloads":
+                    downloads = readDownloads(in);
+                    break;
+                case "natives":
+                    natives = readNatives(in);
+                    break;
+                case "rules":
+                    rules = readRules(in);
+                    break;
+                default:
+                    in.skipValue();
+            }
+        }
+        in.endObject();
+
+        if (name == null) throw new JsonParseException("Library name is not present");
+        if (downloads == null) throw new JsonParseException("Library downloads is not present for " + name);
+
+        return new Library(name, extract, downloads, natives, rules);
+    }
+
+    private static LibraryDownloads readDownloads(final JsonReader in) throws IOException {
+        ArtifactDownload artifact = null;
+        Map<String, ArtifactDownload> classifiers = null;
+
+        in.beginObject();
+        while (in.hasNext()) {
+            final String propertyName = in.nextName();
+            switch (propertyName) {
+                case "artifact":
+                    artifact = readArtifact(in);
+                    break;
+                case "classifiers":
+                    classifiers = new LinkedHashMap<>();
+                    in.beginObject();
+                    while (in.hasNext()) {
+                        final String classifier = in.nextName();
+                        classifiers.put(classifier, readArtifact(in));
+                    }
+                    in.endObject();
+                    break;
+                default:
+                    in.skipValue();
+            }
+        }
+        in.endObject();
+
+        return new LibraryDownloads(artifact, classifiers);
+    }
+
+    private static ArtifactDownload readArtifact(final JsonReader in) throws IOException {
+        String path = null;
+        String sha1 = null;
+        int size = 0;
+        String url = null;
+
+        in.beginObject();
+        while (in.hasNext()) {
+            final String propertyName = in.nextName();
+            switch (propertyName) {
+                case "path":
+                    path = in.nextString();
+                    break;
+                case "sha1":
+                    sha1 = in.nextString();
+                    break;
+                case "size":
+                    size = in.nextInt();
+                    break;
+                case "url":
+                    url = in.nextString();
+                    break;
+                default:
+                    in.skipValue();
+            }
+        }
+        in.endObject();
+
+        if (sha1 == null) throw new JsonParseException("Artifact sha1 is not present");
+        if (url == null) throw new JsonParseException("Artifact url is not present");
+
+        return new ArtifactDownload(sha1, size, url, path);
+    }
+
+    private static ExtractInfo readExtract(final JsonReader in) throws IOException {
+        final List<String> exclude = new ArrayList<>();
+
+        in.beginObject();
+        while (in.hasNext()) {
+            if (in.nextName().equals("exclude")) {
+                in.beginArray();
+                while (in.hasNext()) {
+                    exclude.add(in.nextString());
+                }
+                in.endArray();
+            } else {
+                in.skipValue();
+            }
+        }
+        in.endObject();
+
+        return new ExtractInfo(exclude);
+    }
+
+    private static NativesInfo readNatives(final JsonReader in) throws IOException {
+        String linux = null;
+        String osx = null;
+        String windows = null;
+
+        in.beginObject();
+        while (in.hasNext()) {
+            final String propertyName = in.nextName();
+            switch (propertyName) {
+                case "linux":
+                    linux = in.nextString();
+                    break;
+                case "osx":
+                    osx = in.nextString();
+                    break;
+                case "windows":
+                    windows = in.nextString();
+                    break;
+                default:
+                    in.skipValue();
+            }
+        }
+        in.endObject();
+
+        return new NativesInfo(linux, osx, windows);
+    }
+
+    private static List<Rule> readRules(final JsonReader in) throws IOException {
+        final List<Rule> rules = new ArrayList<>();
+
+        in.beginArray();
+        while (in.hasNext()) {
+            String action = null;
+            Rule.OSCondition os = null;
+
+            in.beginObject();
+            while (in.hasNext()) {
+                final String propertyName = in.nextName();
+                switch (propertyName) {
+                    case "action":
+                        action = in.nextString();
+                        break;
+                    case "os":
+                        os = readOSCondition(in);
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+
+            if (action == null) throw new JsonParseException("Rule action is not present");
+            rules.add(new Rule(action, os));
+        }
+        in.endArray();
+
+        return rules;
+    }
+
+    private static Rule.OSCondition readOSCondition(final JsonReader in) throws IOException {
+        String name = null;
+        String version = null;
+
+        in.beginObject();
+        while (in.hasNext()) {
+            final String propertyName = in.nextName();
+            switch (propertyName) {
+                case "name":
+                    name = in.nextString();
+                    break;
+                case "version":
+                    version = in.nextString();
+                    break;
+                default:
+                    in.skipValue();
+            }
+        }
+        in.endObject();
+
+        return new Rule.OSCondition(name, version);
+    }
+}
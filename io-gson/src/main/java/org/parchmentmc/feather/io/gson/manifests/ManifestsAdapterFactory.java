@@ -0,0 +1,43 @@
+package org.parchmentmc.feather.io.gson.manifests;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import org.parchmentmc.feather.manifests.LauncherManifest;
+import org.parchmentmc.feather.manifests.Library;
+import org.parchmentmc.feather.manifests.VersionManifest;
+
+import java.lang.reflect.Type;
+
+/**
+ * GSON adapter factory for the launcher and version manifests.
+ *
+ * <p>The created adapters read and write the manifests in the format used by Mojang, without reflection. The nested
+ * types of the manifests are handled by the adapters of their enclosing manifest. Unknown properties are skipped while
+ * reading, and {@code null} values are omitted while writing.</p>
+ *
+ * <p>The adapters use the {@link java.time.OffsetDateTime} adapter of the {@link Gson} instance they are created for,
+ * so one must be registered with it.</p>
+ *
+ * @see LauncherManifest
+ * @see VersionManifest
+ * @see Library
+ */
+public class ManifestsAdapterFactory implements TypeAdapterFactory {
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> typeToken) {
+        Type type = typeToken.getType();
+
+        if (type.equals(LauncherManifest.class)) {
+            return (TypeAdapter<T>) new LauncherManifestAdapter(gson);
+        } else if (type.equals(VersionManifest.class)) {
+            return (TypeAdapter<T>) new VersionManifestAdapter(gson);
+        } else if (type.equals(Library.class)) {
+            return (TypeAdapter<T>) new LibraryAdapter();
+        }
+
+        return null;
+    }
+}
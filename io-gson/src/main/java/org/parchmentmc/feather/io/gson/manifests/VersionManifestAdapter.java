@@ -0,0 +1,282 @@
+package org.parchmentmc.feather.io.gson.manifests;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import org.parchmentmc.feather.manifests.Library;
+import org.parchmentmc.feather.manifests.VersionManifest;
+import org.parchmentmc.feather.manifests.VersionManifest.AssetIndexInfo;
+import org.parchmentmc.feather.manifests.VersionManifest.DownloadInfo;
+import org.parchmentmc.feather.manifests.VersionManifest.JavaVersionInfo;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * GSON adapter for {@link VersionManifest} objects.
+ *
+ * <p>For internal use. Users should use {@link ManifestsAdapterFactory} instead.</p>
+ */
+class VersionManifestAdapter extends TypeAdapter<VersionManifest> {
+    private final TypeAdapter<OffsetDateTime> dateTimeAdapter;
+    private final TypeAdapter<Library> libraryAdapter;
+
+    public VersionManifestAdapter(Gson gson) {
+        this.dateTimeAdapter = gson.getAdapter(OffsetDateTime.class);
+        this.libraryAdapter = gson.getAdapter(Library.class);
+    }
+
+    @Override
+    public void write(final JsonWriter out, final VersionManifest value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+
+        final AssetIndexInfo assetIndex = value.getAssetIndex();
+        out.name("assetIndex").beginObject();
+        out.name("id").value(assetIndex.getId());
+        out.name("sha1").value(assetIndex.getSHA1());
+        out.name("size").value(assetIndex.getSize());
+        out.name("totalSize").value(assetIndex.getTotalSize());
+        out.name("url").value(assetIndex.getUrl());
+        out.endObject();
+
+        out.name("assets").value(value.getAssets());
+        out.name("complianceLevel").value(value.getComplianceLevel());
+
+        out.name("downloads").beginObject();
+        for (Map.Entry<String, DownloadInfo> entry : value.getDownloads().entrySet()) {
+            final DownloadInfo download = entry.getValue();
+            out.name(entry.getKey()).beginObject();
+            out.name("sha1").value(download.getSHA1());
+            out.name("size").value(download.getSize());
+            out.name("url").value(download.getUrl());
+            out.endObject();
+        }
+        out.endObject();
+
+        out.name("id").value(value.getId());
+
+        final JavaVersionInfo javaVersion = value.getJavaVersionInfo();
+        if (javaVersion != null) {
+            out.name("javaVersion").beginObject();
+            out.name("component").value(javaVersion.getComponent());
+            out.name("majorVersion").value(javaVersion.getMajorVersion());
+            out.endObject();
+        }
+
+        out.name("libraries").beginArray();
+        for (Library library : value.getLibraries()) {
+            libraryAdapter.write(out, library);
+        }
+        out.endArray();
+
+        out.name("mainClass").value(value.getMainClass());
+        if (value.getMinecraftArguments() != null) {
+            out.name("minecraftArguments").value(value.getMinecraftArguments());
+        }
+        out.name("minimumLauncherVersion").value(value.getMinimumLauncherVersion());
+        out.name("releaseTime");
+        dateTimeAdapter.write(out, value.getReleaseTime());
+        out.name("time");
+        dateTimeAdapter.write(out, value.getTime());
+        out.name("type").value(value.getType());
+
+        out.endObject();
+    }
+
+    @Override
+    public VersionManifest read(final JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        String id = null;
+        String type = null;
+        int complianceLevel = 0;
+        int minimumLauncherVersion = 0;
+        OffsetDateTime time = null;
+        OffsetDateTime releaseTime = null;
+        String mainClass = null;
+        JavaVersionInfo javaVersion = null;
+        String assets = null;
+        AssetIndexInfo assetIndex = null;
+        final Map<String, DownloadInfo> downloads = new LinkedHashMap<>();
+        final List<Library> libraries = new ArrayList<>();
+        String minecraftArguments = null;
+
+        in.beginObject();
+        while (in.hasNext()) {
+            final String propertyName = in.nextName();
+            switch (propertyName) {
+                case "id":
+                    id = in.nextString();
+                    break;
+                case "type":
+                    type = in.nextString();
+                    break;
+                case "complianceLevel":
+                    complianceLevel = in.nextInt();
+                    break;
+                case "minimumLauncherVersion":
+                    minimumLauncherVersion = in.nextInt();
+                    break;
+                case "time":
+                    time = dateTimeAdapter.read(in);
+                    break;
+                case "releaseTime":
+                    releaseTime = dateTimeAdapter.read(in);
+                    break;
+                case "mainClass":
+                    mainClass = in.nextString();
+                    break;
+                case "javaVersion":
+                    javaVersion = readJavaVersion(in);
+                    break;
+                case "assets":
+                    assets = in.nextString();
+                    break;
+                case "assetIndex":
+                    assetIndex = readAssetIndex(in);
+                    break;
+                case "downloads":
+                    in.beginObject();
+                    while (in.hasNext()) {
+                        final String key = in.nextName();
+                        downloads.put(key, readDownload(in));
+                    }
+                    in.endObject();
+                    break;
+                case "libraries":
+                    in.beginArray();
+                    while (in.hasNext()) {
+                        libraries.add(libraryAdapter.read(in));
+                    }
+                    in.endArray();
+                    break;
+                case "minecraftArguments":
+                    minecraftArguments = in.nextString();
+                    break;
+                default:
+                    in.skipValue();
+            }
+        }
+        in.endObject();
+
+        if (id == null) throw new JsonParseException("Version manifest id is not present");
+        if (type == null) throw new JsonParseException("Version manifest type is not present for " + id);
+        if (time == null) throw new JsonParseException("Version manifest time is not present for " + id);
+        if (releaseTime == null) throw new JsonParseException("Version manifest releaseTime is not present for " + id);
+        if (mainClass == null) throw new JsonParseException("Version manifest mainClass is not present for " + id);
+        if (assets == null) throw new JsonParseException("Version manifest assets is not present for " + id);
+        if (assetIndex == null) throw new JsonParseException("Version manifest assetIndex is not present for " + id);
+
+        return new VersionManifest(id, type, complianceLevel, minimumLauncherVersion, time, releaseTime, mainClass,
+                javaVersion, assets, assetIndex, downloads, libraries, minecraftArguments);
+    }
+
+    private static JavaVersionInfo readJavaVersion(final JsonReader in) throws IOException {
+        String component = null;
+        int majorVersion = 0;
+
+        in.beginObject();
+        while (in.hasNext()) {
+            final String propertyName = in.nextName();
+            switch (propertyName) {
+                case "component":
+                    component = in.nextString();
+                    break;
+                case "majorVersion":
+                    majorVersion = in.nextInt();
+                    break;
+                default:
+                    in.skipValue();
+            }
+        }
+        in.endObject();
+
+        if (component == null) throw new JsonParseException("Java version component is not present");
+
+        return new JavaVersionInfo(component, majorVersion);
+    }
+
+    private static AssetIndexInfo readAssetIndex(final JsonReader in) throws IOException {
+        String id = null;
+        String sha1 = null;
+        int size = 0;
+        int totalSize = 0;
+        String url = null;
+
+        in.beginObject();
+        while (in.hasNext()) {
+            final String propertyName = in.nextName();
+            switch (propertyName) {
+                case "id":
+                    id = in.nextString();
+                    break;
+                case "sha1":
+                    sha1 = in.nextString();
+                    break;
+                case "size":
+                    size = in.nextInt();
+                    break;
+                case "totalSize":
+                    totalSize = in.nextInt();
+                    break;
+                case "url":
+                    url = in.nextString();
+                    break;
+                default:
+                    in.skipValue();
+            }
+        }
+        in.endObject();
+
+        if (id == null) throw new JsonParseException("Asset index id is not present");
+        if (sha1 == null) throw new JsonParseException("Asset index sha1 is not present for " + id);
+        if (url == null) throw new JsonParseException("Asset index url is not present for " + id);
+
+        return new AssetIndexInfo(sha1, size, url, id, totalSize);
+    }
+
+    private static DownloadInfo readDownload(final JsonReader in) throws IOException {
+        String sha1 = null;
+        int size = 0;
+        String url = null;
+
+        in.beginObject();
+        while (in.hasNext()) {
+            final String propertyName = in.nextName();
+            switch (propertyName) {
+                case "sha1":
+                    sha1 = in.nextString();
+                    break;
+                case "size":
+                    size = in.nextInt();
+                    break;
+                case "url":
+                    url = in.nextString();
+                    break;
+                default:
+                    in.skipValue();
+            }
+        }
+        in.endObject();
+
+        if (sha1 == null) throw new JsonParseException("Download sha1 is not present");
+        if (url == null) throw new JsonParseException("Download url is not present");
+
+        return new DownloadInfo(sha1, size, url);
+    }
+}
@@ -17,10 +17,10 @@ import java.io.IOException;
  * <p>For internal use. Users should use {@link MetadataAdapterFactory} instead.</p>
  */
 class BouncingTargetMetadataAdapter extends TypeAdapter<BouncingTargetMetadata> {
-    private final Gson gson;
+    private final TypeAdapter<Reference> referenceAdapter;
 
     public BouncingTargetMetadataAdapter(Gson gson) {
-        this.gson = gson;
+        this.referenceAdapter = gson.getAdapter(Reference.class);
     }
 
     @Override
@@ -33,12 +33,12 @@ class BouncingTargetMetadataAdapter extends TypeAdapter<BouncingTargetMetadata>
         out.beginObject();
         if (value.getTarget().isPresent()) {
             out.name("target");
-            gson.toJson(value.getTarget().get(), Reference.class, out);
+            referenceAdapter.write(out, value.getTarget().get());
         }
 
         if (value.getOwner().isPresent()) {
             out.name("owner");
-            gson.toJson(value.getOwner().get(), Reference.class, out);
+            referenceAdapter.write(out, value.getOwner().get());
         }
         out.endObject();
     }
@@ -57,12 +57,12 @@ class BouncingTargetMetadataAdapter extends TypeAdapter<BouncingTargetMetadata>
             switch (propertyName) {
                 case "target":
                     builder.withTarget(
-                            gson.fromJson(in, Reference.class)
+                            referenceAdapter.read(in)
                     );
                     break;
                 case "owner":
                     builder.withOwner(
-                            gson.fromJson(in, Reference.class)
+                            referenceAdapter.read(in)
                     );
                     break;
                 default:
@@ -3,11 +3,11 @@ package org.parchmentmc.feather.io.gson.metadata;
 import com.google.gson.Gson;
 import com.google.gson.JsonParseException;
 import com.google.gson.TypeAdapter;
-import com.google.gson.reflect.TypeToken;
 import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonToken;
 import com.google.gson.stream.JsonWriter;
 import org.parchmentmc.feather.metadata.*;
+import org.parchmentmc.feather.metadata.MetadataProjection.Property;
 import org.parchmentmc.feather.named.Named;
 
 import java.io.IOException;
@@ -19,21 +19,22 @@ import java.util.LinkedHashSet;
  * <p>For internal use. Users should use {@link MetadataAdapterFactory} instead.</p>
  */
 class ClassMetadataAdapter extends TypeAdapter<ClassMetadata> {
-    private static final TypeToken<LinkedHashSet<Named>> NAMED_Set_TOKEN = new TypeToken<LinkedHashSet<Named>>() {
-    };
-    private static final TypeToken<LinkedHashSet<MethodMetadata>> METHOD_METADATA_Set_TOKEN = new TypeToken<LinkedHashSet<MethodMetadata>>() {
-    };
-    private static final TypeToken<LinkedHashSet<FieldMetadata>> FIELD_METADATA_Set_TOKEN = new TypeToken<LinkedHashSet<FieldMetadata>>() {
-    };
-    private static final TypeToken<LinkedHashSet<RecordMetadata>> RECORD_METADATA_Set_TOKEN = new TypeToken<LinkedHashSet<RecordMetadata>>() {
-    };
-    private static final TypeToken<LinkedHashSet<ClassMetadata>> CLASS_METADATA_Set_TOKEN = new TypeToken<LinkedHashSet<ClassMetadata>>() {
-    };
+    private final TypeAdapter<Named> namedAdapter;
+    private final TypeAdapter<LinkedHashSet<Named>> namedSetAdapter;
+    private final TypeAdapter<LinkedHashSet<FieldMetadata>> fieldSetAdapter;
+    private final TypeAdapter<LinkedHashSet<MethodMetadata>> methodSetAdapter;
+    private final TypeAdapter<LinkedHashSet<RecordMetadata>> recordSetAdapter;
+    private final TypeAdapter<LinkedHashSet<ClassMetadata>> classSetAdapter;
+    private final MetadataProjection projection;
 
-    private final Gson gson;
-
-    public ClassMetadataAdapter(Gson gson) {
-        this.gson = gson;
+    public ClassMetadataAdapter(Gson gson, MetadataProjection projection) {
+        this.projection = projection;
+        this.namedAdapter = gson.getAdapter(Named.class);
+        this.namedSetAdapter = new LinkedHashSetAdapter<>(namedAdapter);
+        this.fieldSetAdapter = new LinkedHashSetAdapter<>(gson.getAdapter(FieldMetadata.class));
+        this.methodSetAdapter = new LinkedHashSetAdapter<>(gson.getAdapter(MethodMetadata.class));
+        this.recordSetAdapter = new LinkedHashSetAdapter<>(gson.getAdapter(RecordMetadata.class));
+        this.classSetAdapter = new LinkedHashSetAdapter<>(gson.getAdapter(ClassMetadata.class));
     }
 
     @Override
@@ -45,24 +46,24 @@ class ClassMetadataAdapter extends TypeAdapter<ClassMetadata> {
 
         out.beginObject();
         out.name("name");
-        gson.toJson(value.getName(), Named.class, out);
+        namedAdapter.write(out, value.getName());
         out.name("owner");
-        gson.toJson(value.getOwner(), Named.class, out);
+        namedAdapter.write(out, value.getOwner());
         out.name("security").value(value.getSecuritySpecification());
         out.name("extends");
-        gson.toJson(value.getSuperName(), Named.class, out);
+        namedAdapter.write(out, value.getSuperName());
         out.name("implements");
-        gson.toJson(value.getInterfaces(), NAMED_Set_TOKEN.getType(), out);
+        namedSetAdapter.write(out, value.getInterfaces());
         out.name("fields");
-        gson.toJson(value.getFields(), FIELD_METADATA_Set_TOKEN.getType(), out);
+        fieldSetAdapter.write(out, value.getFields());
         out.name("methods");
-        gson.toJson(value.getMethods(), METHOD_METADATA_Set_TOKEN.getType(), out);
+        methodSetAdapter.write(out, value.getMethods());
         out.name("records");
-        gson.toJson(value.getRecords(), RECORD_METADATA_Set_TOKEN.getType(), out);
+        recordSetAdapter.write(out, value.getRecords());
         out.name("inner");
-        gson.toJson(value.getInnerClasses(), CLASS_METADATA_Set_TOKEN.getType(), out);
+        classSetAdapter.write(out, value.getInnerClasses());
         out.name("signature");
-        gson.toJson(value.getSignature(), Named.class, out);
+        namedAdapter.write(out, value.getSignature());
         out.name("record").value(value.isRecord());
         out.endObject();
     }
@@ -91,34 +92,54 @@ class ClassMetadataAdapter extends TypeAdapter<ClassMetadata> {
             final String propertyName = in.nextName();
             switch (propertyName) {
                 case "name":
-                    name = gson.fromJson(in, Named.class);
+                    name = namedAdapter.read(in);
                     break;
                 case "owner":
-                    owner = gson.fromJson(in, Named.class);
+                    owner = namedAdapter.read(in);
                     break;
                 case "security":
-                    security = in.nextInt();
+                    if (projection.includes(Property.SECURITY)) {
+                        security = in.nextInt();
+                    } else {
+                        in.skipValue();
+                    }
                     break;
                 case "extends":
-                    superName = gson.fromJson(in, Named.class);
+                    if (projection.includes(Property.SUPER_TYPES)) {
+                        superName = namedAdapter.read(in);
+                    } else {
+                        in.skipValue();
+                    }
                     break;
                 case "implements":
-                    interfaces = gson.fromJson(in, NAMED_Set_TOKEN.getType());
+                    if (projection.includes(Property.SUPER_TYPES)) {
+                        interfaces = namedSetAdapter.read(in);
+                    } else {
+                        in.skipValue();
+                    }
                     break;
                 case "fields":
-                    fields = gson.fromJson(in, FIELD_METADATA_Set_TOKEN.getType());
+                    fields = fieldSetAdapter.read(in);
                     break;
                 case "records":
-                    records = gson.fromJson(in, RECORD_METADATA_Set_TOKEN.getType());
+                    if (projection.includes(Property.RECORDS)) {
+                        records = recordSetAdapter.read(in);
+                    } else {
+                        in.skipValue();
+                    }
                     break;
                 case "methods":
-                    methods = gson.fromJson(in, METHOD_METADATA_Set_TOKEN.getType());
+                    methods = methodSetAdapter.read(in);
                     break;
                 case "inner":
-                    innerClasses = gson.fromJson(in, CLASS_METADATA_Set_TOKEN.getType());
+                    innerClasses = classSetAdapter.read(in);
                     break;
                 case "signature":
-                    signature = gson.fromJson(in, Named.class);
+                    if (projection.includes(Property.SIGNATURES)) {
+                        signature = namedAdapter.read(in);
+                    } else {
+                        in.skipValue();
+                    }
                     break;
                 case "record":
                     isRecord = in.nextBoolean();
@@ -134,11 +155,14 @@ class ClassMetadataAdapter extends TypeAdapter<ClassMetadata> {
         }
         // owner can be empty
         if (security == -1) {
-            throw new JsonParseException("Class metadata security specification is not present");
+            if (projection.includes(Property.SECURITY)) {
+                throw new JsonParseException("Class metadata security specification is not present");
+            }
+            security = 0;
         }
         // superName can be empty
         if (interfaces == null) {
-            methods = new LinkedHashSet<>();
+            interfaces = new LinkedHashSet<>();
         }
         if (fields == null) {
             fields = new LinkedHashSet<>();
@@ -8,6 +8,8 @@ import com.google.gson.stream.JsonToken;
 import com.google.gson.stream.JsonWriter;
 import org.parchmentmc.feather.metadata.FieldMetadata;
 import org.parchmentmc.feather.metadata.FieldMetadataBuilder;
+import org.parchmentmc.feather.metadata.MetadataProjection;
+import org.parchmentmc.feather.metadata.MetadataProjection.Property;
 import org.parchmentmc.feather.named.Named;
 
 import java.io.IOException;
@@ -18,10 +20,12 @@ import java.io.IOException;
  * <p>For internal use. Users should use {@link MetadataAdapterFactory} instead.</p>
  */
 class FieldMetadataAdapter extends TypeAdapter<FieldMetadata> {
-    private final Gson gson;
+    private final TypeAdapter<Named> namedAdapter;
+    private final MetadataProjection projection;
 
-    public FieldMetadataAdapter(Gson gson) {
-        this.gson = gson;
+    public FieldMetadataAdapter(Gson gson, MetadataProjection projection) {
+        this.projection = projection;
+        this.namedAdapter = gson.getAdapter(Named.class);
     }
 
     @Override
@@ -33,14 +37,14 @@ class FieldMetadataAdapter extends TypeAdapter<FieldMetadata> {
 
         out.beginObject();
         out.name("name");
-        gson.toJson(value.getName(), Named.class, out);
+        namedAdapter.write(out, value.getName());
         out.name("owner");
-        gson.toJson(value.getOwner(), Named.class, out);
+        namedAdapter.write(out, value.getOwner());
         out.name("security").value(value.getSecuritySpecification());
         out.name("descriptor");
-        gson.toJson(value.getDescriptor(), Named.class, out);
+        namedAdapter.write(out, value.getDescriptor());
         out.name("signature");
-        gson.toJson(value.getSignature(), Named.class, out);
+        namedAdapter.write(out, value.getSignature());
         out.endObject();
     }
 
@@ -62,19 +66,27 @@ class FieldMetadataAdapter extends TypeAdapter<FieldMetadata> {
             final String propertyName = in.nextName();
             switch (propertyName) {
                 case "name":
-                    name = gson.fromJson(in, Named.class);
+                    name = namedAdapter.read(in);
                     break;
                 case "owner":
-                    owner = gson.fromJson(in, Named.class);
+                    owner = namedAdapter.read(in);
                     break;
                 case "security":
-                    security = in.nextInt();
+                    if (projection.includes(Property.SECURITY)) {
+                        security = in.nextInt();
+                    } else {
+                        in.skipValue();
+                    }
                     break;
                 case "descriptor":
-                    descriptor = gson.fromJson(in, Named.class);
+                    descriptor = namedAdapter.read(in);
                     break;
                 case "signature":
-                    signature = gson.fromJson(in, Named.class);
+                    if (projection.includes(Property.SIGNATURES)) {
+                        signature = namedAdapter.read(in);
+                    } else {
+                        in.skipValue();
+                    }
                     break;
                 default:
                     in.skipValue();
@@ -84,7 +96,12 @@ class FieldMetadataAdapter extends TypeAdapter<FieldMetadata> {
 
         if (name.isEmpty()) throw new JsonParseException("Field name is not present or empty");
         if (owner.isEmpty()) throw new JsonParseException("Field owner is not present or empty");
-        if (security == -1) throw new JsonParseException("Field security specification is not present");
+        if (security == -1) {
+            if (projection.includes(Property.SECURITY)) {
+                throw new JsonParseException("Field security specification is not present");
+            }
+            security = 0;
+        }
         if (descriptor.isEmpty()) throw new JsonParseException("Field descriptor is not present or empty");
 
         return FieldMetadataBuilder.create()
@@ -0,0 +1,57 @@
+package org.parchmentmc.feather.io.gson.metadata;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.util.LinkedHashSet;
+
+/**
+ * GSON adapter for {@link LinkedHashSet}s of metadata, as JSON arrays.
+ *
+ * <p>Unlike the collection adapters of GSON, which look up the adapter for the runtime type of each element, this
+ * calls the given element adapter directly for every element.</p>
+ *
+ * <p>For internal use. Users should use {@link MetadataAdapterFactory} instead.</p>
+ *
+ * @param <E> the type of elements
+ */
+class LinkedHashSetAdapter<E> extends TypeAdapter<LinkedHashSet<E>> {
+    private final TypeAdapter<E> elementAdapter;
+
+    public LinkedHashSetAdapter(TypeAdapter<E> elementAdapter) {
+        this.elementAdapter = elementAdapter;
+    }
+
+    @Override
+    public void write(JsonWriter out, LinkedHashSet<E> value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginArray();
+        for (E element : value) {
+            elementAdapter.write(out, element);
+        }
+        out.endArray();
+    }
+
+    @Override
+    public LinkedHashSet<E> read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        final LinkedHashSet<E> set = new LinkedHashSet<>();
+        in.beginArray();
+        while (in.hasNext()) {
+            set.add(elementAdapter.read(in));
+        }
+        in.endArray();
+        return set;
+    }
+}
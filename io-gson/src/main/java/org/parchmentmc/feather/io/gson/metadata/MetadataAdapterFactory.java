@@ -14,6 +14,13 @@ import java.lang.reflect.WildcardType;
 /**
  * GSON adapter factory for {@link Named} and the metadata classes.
  *
+ * <p>Each created adapter resolves the adapters for its nested values once, from the {@link Gson} instance it is
+ * created for, and calls them directly when reading and writing. This includes the elements of nested sets, which
+ * GSON's own collection adapters would look up by the runtime type of each element.</p>
+ *
+ * <p>If a {@link MetadataProjection} is given, the adapters skip the properties which are not included by the
+ * projection while reading, and leave them at their defaults.</p>
+ *
  * @see SourceMetadata
  * @see ClassMetadata
  * @see MethodMetadata
@@ -23,6 +30,27 @@ import java.lang.reflect.WildcardType;
  * @see RecordMetadata
  */
 public class MetadataAdapterFactory implements TypeAdapterFactory {
+    private static final NamedAdapter NAMED_ADAPTER = new NamedAdapter();
+
+    private final MetadataProjection projection;
+
+    public MetadataAdapterFactory(MetadataProjection projection) {
+        this.projection = projection;
+    }
+
+    public MetadataAdapterFactory() {
+        this(MetadataProjection.all());
+    }
+
+    /**
+     * Returns the projection of the properties which are read.
+     *
+     * @return the projection for reading
+     */
+    public MetadataProjection getProjection() {
+        return projection;
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> typeToken) {
@@ -35,15 +63,15 @@ public class MetadataAdapterFactory implements TypeAdapterFactory {
         }
 
         if (type.equals(Named.class)) {
-            return (TypeAdapter<T>) new NamedAdapter();
+            return (TypeAdapter<T>) NAMED_ADAPTER;
         } else if (type.equals(SourceMetadata.class)) {
             return (TypeAdapter<T>) new SourceMetadataAdapter(gson);
         } else if (type.equals(ClassMetadata.class)) {
-            return (TypeAdapter<T>) new ClassMetadataAdapter(gson);
+            return (TypeAdapter<T>) new ClassMetadataAdapter(gson, projection);
         } else if (type.equals(FieldMetadata.class)) {
-            return (TypeAdapter<T>) new FieldMetadataAdapter(gson);
+            return (TypeAdapter<T>) new FieldMetadataAdapter(gson, projection);
         } else if (type.equals(MethodMetadata.class)) {
-            return (TypeAdapter<T>) new MethodMetadataAdapter(gson);
+            return (TypeAdapter<T>) new MethodMetadataAdapter(gson, projection);
         } else if (type.equals(Reference.class)) {
             return (TypeAdapter<T>) new ReferenceAdapter(gson);
         } else if (type.equals(BouncingTargetMetadata.class)) {
@@ -3,13 +3,14 @@ package org.parchmentmc.feather.io.gson.metadata;
 import com.google.gson.Gson;
 import com.google.gson.JsonParseException;
 import com.google.gson.TypeAdapter;
-import com.google.gson.reflect.TypeToken;
 import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonToken;
 import com.google.gson.stream.JsonWriter;
 import org.parchmentmc.feather.metadata.BouncingTargetMetadata;
 import org.parchmentmc.feather.metadata.MethodMetadata;
 import org.parchmentmc.feather.metadata.MethodMetadataBuilder;
+import org.parchmentmc.feather.metadata.MetadataProjection;
+import org.parchmentmc.feather.metadata.MetadataProjection.Property;
 import org.parchmentmc.feather.metadata.Reference;
 import org.parchmentmc.feather.named.Named;
 
@@ -22,12 +23,18 @@ import java.util.LinkedHashSet;
  * <p>For internal use. Users should use {@link MetadataAdapterFactory} instead.</p>
  */
 class MethodMetadataAdapter extends TypeAdapter<MethodMetadata> {
-    private static final TypeToken<LinkedHashSet<Reference>> METHOD_REFERENCE_Set_TOKEN = new TypeToken<LinkedHashSet<Reference>>() {
-    };
-    private final Gson gson;
+    private final TypeAdapter<Named> namedAdapter;
+    private final TypeAdapter<BouncingTargetMetadata> bouncingTargetAdapter;
+    private final TypeAdapter<Reference> referenceAdapter;
+    private final TypeAdapter<LinkedHashSet<Reference>> referenceSetAdapter;
+    private final MetadataProjection projection;
 
-    public MethodMetadataAdapter(Gson gson) {
-        this.gson = gson;
+    public MethodMetadataAdapter(Gson gson, MetadataProjection projection) {
+        this.projection = projection;
+        this.namedAdapter = gson.getAdapter(Named.class);
+        this.bouncingTargetAdapter = gson.getAdapter(BouncingTargetMetadata.class);
+        this.referenceAdapter = gson.getAdapter(Reference.class);
+        this.referenceSetAdapter = new LinkedHashSetAdapter<>(gson.getAdapter(Reference.class));
     }
 
     @Override
@@ -39,26 +46,26 @@ class MethodMetadataAdapter extends TypeAdapter<MethodMetadata> {
 
         out.beginObject();
         out.name("name");
-        gson.toJson(value.getName(), Named.class, out);
+        namedAdapter.write(out, value.getName());
         out.name("owner");
-        gson.toJson(value.getOwner(), Named.class, out);
+        namedAdapter.write(out, value.getOwner());
         out.name("security").value(value.getSecuritySpecification());
         out.name("descriptor");
-        gson.toJson(value.getDescriptor(), Named.class, out);
+        namedAdapter.write(out, value.getDescriptor());
         out.name("signature");
-        gson.toJson(value.getSignature(), Named.class, out);
+        namedAdapter.write(out, value.getSignature());
         out.name("lambda").value(value.isLambda());
         if (value.getBouncingTarget().isPresent()) {
             out.name("bouncingTarget");
-            gson.toJson(value.getBouncingTarget().get(), BouncingTargetMetadata.class, out);
+            bouncingTargetAdapter.write(out, value.getBouncingTarget().get());
         }
         if (value.getParent().isPresent()) {
             out.name("parent");
-            gson.toJson(value.getParent().get(), Reference.class, out);
+            referenceAdapter.write(out, value.getParent().get());
         }
         if (!value.getOverrides().isEmpty()) {
             out.name("overrides");
-            gson.toJson(value.getOverrides(), METHOD_REFERENCE_Set_TOKEN.getType(), out);
+            referenceSetAdapter.write(out, value.getOverrides());
         }
         if (value.getStartLine().isPresent()) {
             out.name("startLine");
@@ -95,37 +102,65 @@ class MethodMetadataAdapter extends TypeAdapter<MethodMetadata> {
             final String propertyName = in.nextName();
             switch (propertyName) {
                 case "name":
-                    name = gson.fromJson(in, Named.class);
+                    name = namedAdapter.read(in);
                     break;
                 case "owner":
-                    owner = gson.fromJson(in, Named.class);
+                    owner = namedAdapter.read(in);
                     break;
                 case "security":
-                    security = in.nextInt();
+                    if (projection.includes(Property.SECURITY)) {
+                        security = in.nextInt();
+                    } else {
+                        in.skipValue();
+                    }
                     break;
                 case "descriptor":
-                    descriptor = gson.fromJson(in, Named.class);
+                    descriptor = namedAdapter.read(in);
                     break;
                 case "signature":
-                    signature = gson.fromJson(in, Named.class);
+                    if (projection.includes(Property.SIGNATURES)) {
+                        signature = namedAdapter.read(in);
+                    } else {
+                        in.skipValue();
+                    }
                     break;
                 case "lambda":
                     lambda = in.nextBoolean();
                     break;
                 case "bouncingTarget":
-                    bouncingTarget = gson.fromJson(in, BouncingTargetMetadata.class);
+                    if (projection.includes(Property.BOUNCING_TARGETS)) {
+                        bouncingTarget = bouncingTargetAdapter.read(in);
+                    } else {
+                        in.skipValue();
+                    }
                     break;
                 case "parent":
-                    parent = gson.fromJson(in, Reference.class);
+                    if (projection.includes(Property.PARENTS)) {
+                        parent = referenceAdapter.read(in);
+                    } else {
+                        in.skipValue();
+                    }
                     break;
                 case "overrides":
-                    overrides = gson.fromJson(in, METHOD_REFERENCE_Set_TOKEN.getType());
+                    if (projection.includes(Property.OVERRIDES)) {
+                        overrides = referenceSetAdapter.read(in);
+                    } else {
+                        in.skipValue();
+                    }
                     break;
                 case "startLine":
-                    startLine = in.nextInt();
+                    if (projection.includes(Property.LINE_NUMBERS)) {
+                        startLine = in.nextInt();
+                    } else {
+                        in.skipValue();
+                    }
                     break;
                 case "endLine":
-                    endLine = in.nextInt();
+                    if (projection.includes(Property.LINE_NUMBERS)) {
+                        endLine = in.nextInt();
+                    } else {
+                        in.skipValue();
+                    }
                     break;
                 default:
                     in.skipValue();
@@ -136,7 +171,12 @@ class MethodMetadataAdapter extends TypeAdapter<MethodMetadata> {
         if (name.isEmpty()) throw new JsonParseException("Method metadata name is not present or empty");
         if (owner.isEmpty()) throw new JsonParseException("Method metadata owner is not present or empty");
         if (descriptor.isEmpty()) throw new JsonParseException("Method metadata descriptor is not present or empty");
-        if (security == -1) throw new JsonParseException("Method metadata security specification is not present");
+        if (security == -1) {
+            if (projection.includes(Property.SECURITY)) {
+                throw new JsonParseException("Method metadata security specification is not present");
+            }
+            security = 0;
+        }
         // lambda is a primitive
         // bouncingTarget can be null
         if (overrides == null) overrides = new LinkedHashSet<>();
@@ -19,21 +19,23 @@ import java.io.IOException;
  * <p>For internal use. Users should use {@link MetadataAdapterFactory} instead.</p>
  */
 class RecordMetadataAdapter extends TypeAdapter<RecordMetadata> {
-    private final Gson gson;
+    private final TypeAdapter<Named> namedAdapter;
+    private final TypeAdapter<Reference> referenceAdapter;
 
     public RecordMetadataAdapter(Gson gson) {
-        this.gson = gson;
+        this.namedAdapter = gson.getAdapter(Named.class);
+        this.referenceAdapter = gson.getAdapter(Reference.class);
     }
 
     @Override
     public void write(final JsonWriter out, final RecordMetadata value) throws IOException {
         out.beginObject();
         out.name("owner");
-        gson.toJson(value.getOwner(), Named.class, out);
+        namedAdapter.write(out, value.getOwner());
         out.name("field");
-        gson.toJson(value.getField(), Reference.class, out);
+        referenceAdapter.write(out, value.getField());
         out.name("getter");
-        gson.toJson(value.getGetter(), Reference.class, out);
+        referenceAdapter.write(out, value.getGetter());
         out.endObject();
     }
 
@@ -53,13 +55,13 @@ class RecordMetadataAdapter extends TypeAdapter<RecordMetadata> {
             final String propertyName = in.nextName();
             switch (propertyName) {
                 case "owner":
-                    owner = gson.fromJson(in, Named.class);
+                    owner = namedAdapter.read(in);
                     break;
                 case "field":
-                    field = gson.fromJson(in, Reference.class);
+                    field = referenceAdapter.read(in);
                     break;
                 case "getter":
-                    getter = gson.fromJson(in, Reference.class);
+                    getter = referenceAdapter.read(in);
                     break;
                 default:
                     in.skipValue();
@@ -18,10 +18,10 @@ import java.io.IOException;
  * <p>For internal use. Users should use {@link MetadataAdapterFactory} instead.</p>
  */
 class ReferenceAdapter extends TypeAdapter<Reference> {
-    private final Gson gson;
+    private final TypeAdapter<Named> namedAdapter;
 
     public ReferenceAdapter(Gson gson) {
-        this.gson = gson;
+        this.namedAdapter = gson.getAdapter(Named.class);
     }
 
     @Override
@@ -33,13 +33,13 @@ class ReferenceAdapter extends TypeAdapter<Reference> {
 
         out.beginObject();
         out.name("name");
-        gson.toJson(value.getName(), Named.class, out);
+        namedAdapter.write(out, value.getName());
         out.name("owner");
-        gson.toJson(value.getOwner(), Named.class, out);
+        namedAdapter.write(out, value.getOwner());
         out.name("descriptor");
-        gson.toJson(value.getDescriptor(), Named.class, out);
+        namedAdapter.write(out, value.getDescriptor());
         out.name("signature");
-        gson.toJson(value.getSignature(), Named.class, out);
+        namedAdapter.write(out, value.getSignature());
         out.endObject();
     }
 
@@ -60,16 +60,16 @@ class ReferenceAdapter extends TypeAdapter<Reference> {
             final String propertyName = in.nextName();
             switch (propertyName) {
                 case "name":
-                    name = gson.fromJson(in, Named.class);
+                    name = namedAdapter.read(in);
                     break;
                 case "owner":
-                    owner = gson.fromJson(in, Named.class);
+                    owner = namedAdapter.read(in);
                     break;
                 case "descriptor":
-                    descriptor = gson.fromJson(in, Named.class);
+                    descriptor = namedAdapter.read(in);
                     break;
                 case "signature":
-                    signature = gson.fromJson(in, Named.class);
+                    signature = namedAdapter.read(in);
                     break;
                 default:
                     in.skipValue();
@@ -3,7 +3,6 @@ package org.parchmentmc.feather.io.gson.metadata;
 import com.google.gson.Gson;
 import com.google.gson.JsonParseException;
 import com.google.gson.TypeAdapter;
-import com.google.gson.reflect.TypeToken;
 import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonToken;
 import com.google.gson.stream.JsonWriter;
@@ -21,13 +20,12 @@ import java.util.LinkedHashSet;
  * <p>For internal use. Users should use {@link MetadataAdapterFactory} instead.</p>
  */
 class SourceMetadataAdapter extends TypeAdapter<SourceMetadata> {
-    private static final TypeToken<LinkedHashSet<ClassMetadata>> CLASS_METADATA_Set_TOKEN = new TypeToken<LinkedHashSet<ClassMetadata>>() {
-    };
-
-    private final Gson gson;
+    private final TypeAdapter<SimpleVersion> versionAdapter;
+    private final TypeAdapter<LinkedHashSet<ClassMetadata>> classSetAdapter;
 
     public SourceMetadataAdapter(Gson gson) {
-        this.gson = gson;
+        this.versionAdapter = gson.getAdapter(SimpleVersion.class);
+        this.classSetAdapter = new LinkedHashSetAdapter<>(gson.getAdapter(ClassMetadata.class));
     }
 
     @Override
@@ -39,10 +37,10 @@ class SourceMetadataAdapter extends TypeAdapter<SourceMetadata> {
 
         out.beginObject();
         out.name("specVersion");
-        gson.toJson(value.getSpecificationVersion(), SimpleVersion.class, out);
+        versionAdapter.write(out, value.getSpecificationVersion());
         out.name("minecraftVersion").value(value.getMinecraftVersion());
         out.name("classes");
-        gson.toJson(value.getClasses(), CLASS_METADATA_Set_TOKEN.getType(), out);
+        classSetAdapter.write(out, value.getClasses());
         out.endObject();
     }
 
@@ -62,13 +60,13 @@ class SourceMetadataAdapter extends TypeAdapter<SourceMetadata> {
             final String name = in.nextName();
             switch (name) {
                 case "specVersion":
-                    specVersion = gson.fromJson(in, SimpleVersion.class); // TODO: version checking
+                    specVersion = versionAdapter.read(in); // TODO: version checking
                     break;
                 case "minecraftVersion":
                     minecraftVersion = in.nextString();
                     break;
                 case "classes":
-                    classes = gson.fromJson(in, CLASS_METADATA_Set_TOKEN.getType());
+                    classes = classSetAdapter.read(in);
                     break;
                 default:
                     in.skipValue();
@@ -0,0 +1,128 @@
+package org.parchmentmc.feather.io.gson.spi;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import org.parchmentmc.feather.io.gson.MDCGsonAdapterFactory;
+import org.parchmentmc.feather.io.gson.OffsetDateTimeAdapter;
+import org.parchmentmc.feather.io.gson.SimpleVersionAdapter;
+import org.parchmentmc.feather.io.gson.manifests.ManifestsAdapterFactory;
+import org.parchmentmc.feather.io.gson.metadata.MetadataAdapterFactory;
+import org.parchmentmc.feather.spi.IOAdapter;
+import org.parchmentmc.feather.spi.IOAdapterFactory;
+import org.parchmentmc.feather.util.SimpleVersion;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+
+/**
+ * {@link IOAdapterFactory} for GSON, using the adapters of this module.
+ */
+public class GsonAdapterFactory implements IOAdapterFactory {
+
+    private static final Gson DEFAULT_GSON = new GsonBuilder()
+            .registerTypeAdapterFactory(new MDCGsonAdapterFactory())
+            .registerTypeAdapterFactory(new MetadataAdapterFactory())
+            .registerTypeAdapterFactory(new ManifestsAdapterFactory())
+            .registerTypeAdapter(OffsetDateTime.class, new OffsetDateTimeAdapter())
+            .registerTypeAdapter(SimpleVersion.class, new SimpleVersionAdapter())
+            .disableHtmlEscaping()
+            .create();
+
+    private final Gson gson;
+
+    public GsonAdapterFactory(Gson gson) {
+        this.gson = gson;
+    }
+
+    public GsonAdapterFactory() {
+        this(DEFAULT_GSON);
+    }
+
+    @Override
+    public int priority() {
+        return 10;
+    }
+
+    @Override
+    public <T> IOAdapter<T> create(Class<T> clazz) {
+        return new GsonWrapper<>(gson, gson.getAdapter(clazz));
+    }
+
+    static class GsonWrapper<T> implements IOAdapter<T> {
+
+        private final Gson gson;
+        private final TypeAdapter<T> adapter;
+
+        GsonWrapper(Gson gson, TypeAdapter<T> adapter) {
+            this.gson = gson;
+            this.adapter = adapter;
+        }
+
+        @Override
+        public String name() {
+            return "gson";
+        }
+
+        @Override
+        public T read(InputStream in) throws IOException {
+            return read(new InputStreamReader(in, StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void write(OutputStream out, T value) throws IOException {
+            final Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+            write(writer, value);
+            writer.flush();
+        }
+
+        @Override
+        public T fromJson(String input) throws IOException {
+            return read(new StringReader(input));
+        }
+
+        @Override
+        public String toJson(T value) throws IOException {
+            final StringWriter writer = new StringWriter();
+            write(writer, value);
+            return writer.toString();
+        }
+
+        private T read(Reader reader) throws IOException {
+            final JsonReader jsonReader = gson.newJsonReader(reader);
+            try {
+                final T value = adapter.read(jsonReader);
+                if (jsonReader.peek() != JsonToken.END_DOCUMENT) {
+                    throw new JsonSyntaxException("JSON document was not fully consumed.");
+                }
+                return value;
+            } catch (JsonIOException e) {
+                throw e.getCause() instanceof IOException ? (IOException) e.getCause() : new IOException(e);
+            } catch (JsonParseException | IllegalStateException e) {
+                throw new IOException(e.getMessage(), e);
+            }
+        }
+
+        private void write(Writer writer, T value) throws IOException {
+            final JsonWriter jsonWriter = gson.newJsonWriter(writer);
+            adapter.write(jsonWriter, value);
+            jsonWriter.flush();
+        }
+    }
+
+}
@@ -0,0 +1,70 @@
+package org.parchmentmc.feather.io.gson;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.junit.jupiter.api.Test;
+import org.parchmentmc.feather.io.gson.metadata.MetadataAdapterFactory;
+import org.parchmentmc.feather.manifests.MDCTestConstants;
+import org.parchmentmc.feather.mapping.MappingDataBuilder;
+import org.parchmentmc.feather.mapping.VersionedMDCDelegate;
+import org.parchmentmc.feather.mapping.VersionedMappingDataContainer;
+import org.parchmentmc.feather.metadata.MetadataTestConstants;
+import org.parchmentmc.feather.metadata.SourceMetadata;
+import org.parchmentmc.feather.util.ContentHashOutputStream;
+import org.parchmentmc.feather.util.SimpleVersion;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.parchmentmc.feather.util.TestConstantsHelper.reversed;
+
+public class CanonicalGsonWriterTest implements MDCTestConstants, MetadataTestConstants {
+    private final Gson gson = new GsonBuilder()
+            .registerTypeAdapter(SimpleVersion.class, new SimpleVersionAdapter())
+            .registerTypeAdapterFactory(new MDCGsonAdapterFactory())
+            .registerTypeAdapterFactory(new MetadataAdapterFactory())
+            .setPrettyPrinting()
+            .create();
+    private final CanonicalGsonWriter writer = new CanonicalGsonWriter(gson);
+
+    @Test
+    public void testMappingData() throws IOException {
+        for (VersionedMappingDataContainer data : DATA_CONTAINERS) {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            final String hash = writer.write(data, out);
+            final byte[] bytes = out.toByteArray();
+
+            assertEquals(ContentHashOutputStream.hash(bytes), hash);
+            assertEquals(hash, writer.hash(data));
+            assertEquals(data, gson.fromJson(new String(bytes, StandardCharsets.UTF_8), VersionedMappingDataContainer.class));
+            assertFalse(new String(bytes, StandardCharsets.UTF_8).contains("\n"));
+        }
+    }
+
+    @Test
+    public void testEscaping() throws IOException {
+        final MappingDataBuilder builder = new MappingDataBuilder();
+        builder.createClass("a/Example").addJavadoc("Returns <b>this</b> & \"that\" — or\tnot");
+        final VersionedMappingDataContainer data = new VersionedMDCDelegate<>(SimpleVersion.of("1.0.0"), builder);
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer.write(data, out);
+        assertEquals("{\"version\":\"1.0.0\",\"packages\":[],\"classes\":[{\"name\":\"a/Example\","
+                        + "\"javadoc\":[\"Returns <b>this</b> & \\\"that\\\" — or\\tnot\"]}]}",
+                new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testSourceMetadata() throws IOException {
+        for (SourceMetadata data : SOURCE_METADATA) {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            final ByteArrayOutputStream reversedOut = new ByteArrayOutputStream();
+
+            assertEquals(writer.write(data, out), writer.write(reversed(data), reversedOut));
+            assertArrayEquals(out.toByteArray(), reversedOut.toByteArray());
+            assertEquals(data, gson.fromJson(new String(out.toByteArray(), StandardCharsets.UTF_8), SourceMetadata.class));
+        }
+    }
+}
@@ -1,13 +1,22 @@
 package org.parchmentmc.feather.io.gson;
 
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
 import org.junit.jupiter.api.Test;
 import org.parchmentmc.feather.manifests.MDCTestConstants;
 import org.parchmentmc.feather.mapping.MappingDataContainer.ClassData;
 import org.parchmentmc.feather.mapping.MappingDataContainer.FieldData;
 import org.parchmentmc.feather.mapping.MappingDataContainer.MethodData;
 import org.parchmentmc.feather.mapping.MappingDataContainer.PackageData;
+import org.parchmentmc.feather.mapping.MappingDataFilter;
+import org.parchmentmc.feather.mapping.MappingPatch;
 import org.parchmentmc.feather.mapping.VersionedMappingDataContainer;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
 import static org.parchmentmc.feather.mapping.ImmutableMappingDataContainer.ParameterData;
 
 public class MDCGsonAdapterFactoryTest extends GSONTest implements MDCTestConstants {
@@ -44,4 +53,55 @@ public class MDCGsonAdapterFactoryTest extends GSONTest implements MDCTestConsta
     public void testDataContainers() {
         DATA_CONTAINERS.forEach(data -> test(VersionedMappingDataContainer.class, data));
     }
+
+    @Test
+    public void testPatches() {
+        PATCHES.forEach(data -> test(MappingPatch.class, data));
+    }
+
+    @Test
+    public void testFilter() {
+        final MappingDataFilter filter = MappingDataFilter.all()
+                .withPackagePrefixes(Collections.singletonList("com/example"))
+                .withClassFilter(name -> !name.endsWith("$Inner"))
+                .withoutJavadoc();
+        final Gson filteringGson = new GsonBuilder()
+                .registerTypeAdapterFactory(new MDCGsonAdapterFactory(false, filter))
+                .create();
+        final VersionedMappingDataContainer result = filteringGson.fromJson(
+                gson.toJson(DATA_CONTAINERS.get(3), VersionedMappingDataContainer.class), VersionedMappingDataContainer.class);
+        assertNotNull(result);
+
+        assertEquals(Arrays.asList("com/example", "com/example/test"),
+                result.getPackages().stream().map(PackageData::getName).collect(Collectors.toList()));
+        assertEquals(Arrays.asList("com/example/ClassTwo", "com/example/test/ClassyClass"),
+                result.getClasses().stream().map(ClassData::getName).collect(Collectors.toList()));
+
+        // Javadocs are skipped, but members are kept
+        assertTrue(result.getPackage("com/example/test").getJavadoc().isEmpty());
+        final ClassData cls = result.getClass("com/example/test/ClassyClass");
+        assertNotNull(cls);
+        assertTrue(cls.getJavadoc().isEmpty());
+        assertEquals(FIELDS.size(), cls.getFields().size());
+        assertEquals(METHODS.size(), cls.getMethods().size());
+        assertTrue(cls.getMethods().stream().allMatch(method -> method.getJavadoc().isEmpty()));
+        final MethodData method = cls.getMethod("test2", "(IIIS)Z");
+        assertNotNull(method);
+        assertEquals("1testName", method.getParameter((byte) 1).getName());
+        assertNull(method.getParameter((byte) 1).getJavadoc());
+    }
+
+    @Test
+    public void testPatchesWithIgnoringAndFilteringFactories() {
+        final MappingDataFilter filter = MappingDataFilter.all()
+                .withPackagePrefixes(Collections.singletonList("com/example"))
+                .withoutJavadoc();
+        final Gson ignoringGson = new GsonBuilder()
+                .registerTypeAdapterFactory(new MDCGsonAdapterFactory(true, filter))
+                .create();
+
+        // Added entries are written and read in full, even if undocumented or excluded by the filter
+        PATCHES.forEach(patch -> assertEquals(patch,
+                ignoringGson.fromJson(ignoringGson.toJson(patch, MappingPatch.class), MappingPatch.class)));
+    }
 }
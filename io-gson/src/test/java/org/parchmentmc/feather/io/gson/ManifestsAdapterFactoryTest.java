@@ -0,0 +1,52 @@
+package org.parchmentmc.feather.io.gson;
+
+import com.google.gson.JsonParseException;
+import org.junit.jupiter.api.Test;
+import org.parchmentmc.feather.io.gson.manifests.ManifestsAdapterFactory;
+import org.parchmentmc.feather.manifests.LauncherManifest;
+import org.parchmentmc.feather.manifests.Library;
+import org.parchmentmc.feather.manifests.ManifestTestConstants;
+import org.parchmentmc.feather.manifests.VersionManifest;
+
+import java.time.OffsetDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ManifestsAdapterFactoryTest extends GSONTest implements ManifestTestConstants {
+    public ManifestsAdapterFactoryTest() {
+        super(b -> b.registerTypeAdapter(OffsetDateTime.class, new OffsetDateTimeAdapter())
+                .registerTypeAdapterFactory(new ManifestsAdapterFactory()));
+    }
+
+    @Test
+    public void testLauncherManifests() {
+        LAUNCHER_MANIFESTS.forEach(data -> test(LauncherManifest.class, data));
+    }
+
+    @Test
+    public void testVersionManifests() {
+        VERSION_MANIFESTS.forEach(data -> test(VersionManifest.class, data));
+    }
+
+    @Test
+    public void testLibraries() {
+        LIBRARIES.forEach(data -> test(Library.class, data));
+    }
+
+    @Test
+    public void testUnknownProperties() {
+        final Library library = gson.fromJson("{\"downloads\":{\"artifact\":{\"path\":\"a.jar\",\"sha1\":\"" + SHA1
+                + "\",\"size\":1,\"url\":\"https://example.com/a.jar\",\"extra\":[1,2]}},\"name\":\"a:a:1\","
+                + "\"downloadsExtra\":{\"nested\":{}}}", Library.class);
+
+        assertEquals("a:a:1", library.getName());
+        assertNotNull(library.getDownloads().getArtifact());
+        assertEquals("a.jar", library.getDownloads().getArtifact().getPath());
+        assertTrue(library.getRules().isEmpty());
+    }
+
+    @Test
+    public void testMissingName() {
+        assertThrows(JsonParseException.class, () -> gson.fromJson("{\"downloads\":{}}", Library.class));
+    }
+}
@@ -1,10 +1,16 @@
 package org.parchmentmc.feather.io.gson;
 
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
 import org.junit.jupiter.api.Test;
 import org.parchmentmc.feather.io.gson.metadata.MetadataAdapterFactory;
 import org.parchmentmc.feather.metadata.*;
 import org.parchmentmc.feather.util.SimpleVersion;
 
+import java.util.Iterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
 public class MetadataAdapterFactoryTest extends GSONTest implements MetadataTestConstants {
     public MetadataAdapterFactoryTest() {
         super(b -> b.registerTypeAdapter(SimpleVersion.class, new SimpleVersionAdapter())
@@ -35,4 +41,52 @@ public class MetadataAdapterFactoryTest extends GSONTest implements MetadataTest
     public void testSourceMetadata() {
         SOURCE_METADATA.forEach(data -> test(SourceMetadata.class, data));
     }
+
+    @Test
+    public void testProjection() {
+        final Gson projectingGson = new GsonBuilder()
+                .registerTypeAdapter(SimpleVersion.class, new SimpleVersionAdapter())
+                .registerTypeAdapterFactory(new MetadataAdapterFactory(MetadataProjection.none()))
+                .create();
+
+        for (ClassMetadata original : CLASS_METADATA) {
+            final ClassMetadata read = projectingGson.fromJson(gson.toJson(original, ClassMetadata.class), ClassMetadata.class);
+            assertProjectedOut(original, read);
+        }
+    }
+
+    private static void assertProjectedOut(ClassMetadata original, ClassMetadata read) {
+        assertEquals(original.getName(), read.getName());
+        assertEquals(original.getOwner(), read.getOwner());
+        assertEquals(0, read.getSecuritySpecification());
+        assertTrue(read.getSignature().isEmpty());
+        assertTrue(read.getSuperName().isEmpty());
+        assertTrue(read.getInterfaces().isEmpty());
+
+        assertEquals(original.getFields().size(), read.getFields().size());
+        for (FieldMetadata field : read.getFields()) {
+            assertEquals(0, field.getSecuritySpecification());
+            assertTrue(field.getSignature().isEmpty());
+        }
+
+        assertEquals(original.getMethods().size(), read.getMethods().size());
+        final Iterator<MethodMetadata> originalMethods = original.getMethods().iterator();
+        for (MethodMetadata method : read.getMethods()) {
+            final MethodMetadata originalMethod = originalMethods.next();
+            assertEquals(originalMethod.getName(), method.getName());
+            assertEquals(originalMethod.getDescriptor(), method.getDescriptor());
+            assertEquals(originalMethod.isLambda(), method.isLambda());
+            assertEquals(0, method.getSecuritySpecification());
+            assertTrue(method.getSignature().isEmpty());
+            assertTrue(method.getOverrides().isEmpty());
+            assertFalse(method.getBouncingTarget().isPresent());
+            assertFalse(method.getParent().isPresent());
+        }
+
+        assertEquals(original.getInnerClasses().size(), read.getInnerClasses().size());
+        final Iterator<ClassMetadata> originalInner = original.getInnerClasses().iterator();
+        for (ClassMetadata inner : read.getInnerClasses()) {
+            assertProjectedOut(originalInner.next(), inner);
+        }
+    }
 }
@@ -0,0 +1,92 @@
+package org.parchmentmc.feather.io.gson;
+
+import com.google.gson.JsonParseException;
+import org.junit.jupiter.api.Test;
+import org.parchmentmc.feather.io.gson.metadata.MetadataAdapterFactory;
+import org.parchmentmc.feather.manifests.MDCTestConstants;
+import org.parchmentmc.feather.mapping.ImmutableMappingDataContainer.ImmutableClassData;
+import org.parchmentmc.feather.mapping.ImmutableVersionedMappingDataContainer;
+import org.parchmentmc.feather.mapping.MappingDataContainer.ClassData;
+import org.parchmentmc.feather.mapping.VersionedMappingDataContainer;
+import org.parchmentmc.feather.metadata.ClassMetadata;
+import org.parchmentmc.feather.metadata.MetadataTestConstants;
+import org.parchmentmc.feather.metadata.SourceMetadata;
+import org.parchmentmc.feather.util.SimpleVersion;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.parchmentmc.feather.mapping.VersionedMappingDataContainer.CURRENT_FORMAT;
+
+public class ParallelGsonReaderTest extends GSONTest implements MDCTestConstants, MetadataTestConstants {
+    public ParallelGsonReaderTest() {
+        super(b -> b.registerTypeAdapter(SimpleVersion.class, new SimpleVersionAdapter())
+                .registerTypeAdapterFactory(new MDCGsonAdapterFactory())
+                .registerTypeAdapterFactory(new MetadataAdapterFactory()));
+    }
+
+    private static byte[] utf8(String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testDataContainers() throws IOException {
+        final ParallelGsonReader reader = new ParallelGsonReader(gson);
+        for (VersionedMappingDataContainer container : DATA_CONTAINERS) {
+            final byte[] json = utf8(gson.toJson(container, VersionedMappingDataContainer.class));
+            assertEquals(container, reader.readMappingData(json));
+        }
+    }
+
+    @Test
+    public void testPrettyPrinted() throws IOException {
+        final String json = gson.newBuilder().setPrettyPrinting().create().toJson(DATA_CONTAINERS.get(3), VersionedMappingDataContainer.class);
+        assertEquals(DATA_CONTAINERS.get(3), new ParallelGsonReader(gson).readMappingData(utf8(json)));
+    }
+
+    @Test
+    public void testManyClasses() throws IOException {
+        final List<ClassData> classes = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            classes.add(new ImmutableClassData("net/minecraft/Class" + i, Collections.singletonList("Javadoc for class " + i),
+                    Collections.emptyList(), Collections.emptyList()));
+        }
+        final VersionedMappingDataContainer container = new ImmutableVersionedMappingDataContainer(CURRENT_FORMAT,
+                PACKAGES, classes);
+        final byte[] json = utf8(gson.toJson(container, VersionedMappingDataContainer.class));
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final VersionedMappingDataContainer read = new ParallelGsonReader(gson, executor).readMappingData(json);
+            assertEquals(container, read);
+            assertEquals(gson.fromJson(new String(json, StandardCharsets.UTF_8), VersionedMappingDataContainer.class), read);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testSourceMetadata() throws IOException {
+        final ParallelGsonReader reader = new ParallelGsonReader(gson);
+        for (SourceMetadata metadata : SOURCE_METADATA) {
+            final SourceMetadata read = reader.readSourceMetadata(utf8(gson.toJson(metadata, SourceMetadata.class)));
+            assertEquals(metadata, read);
+            // The classes are kept in input order
+            assertEquals(new ArrayList<ClassMetadata>(metadata.getClasses()), new ArrayList<ClassMetadata>(read.getClasses()));
+        }
+    }
+
+    @Test
+    public void testMalformed() {
+        final ParallelGsonReader reader = new ParallelGsonReader(gson);
+        assertThrows(JsonParseException.class, () -> reader.readMappingData(utf8("{\"version\": \"1.0.0\", \"classes\": [")));
+        assertThrows(JsonParseException.class, () -> reader.readMappingData(utf8("{\"classes\": []}")));
+        assertThrows(JsonParseException.class, () -> reader.readSourceMetadata(utf8("{\"classes\": [{}")));
+    }
+}
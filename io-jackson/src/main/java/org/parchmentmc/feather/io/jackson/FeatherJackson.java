@@ -0,0 +1,256 @@
+package org.parchmentmc.feather.io.jackson;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.StreamReadFeature;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import org.parchmentmc.feather.util.SimpleVersion;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.time.OffsetDateTime;
+
+/**
+ * Reads and writes the Feather data objects using the Jackson streaming API and the hand-written codecs of this
+ * module.
+ *
+ * <p>Reading and writing through {@code byte} arrays and streams uses Jackson's UTF-8 parser and generator directly,
+ * without decoding to or encoding from characters first. Streams passed to this class are not closed.</p>
+ *
+ * <p>If name canonicalization is enabled, each read uses a new {@link NameTable}, so all equal names (such as
+ * owners, descriptors and class names) within the read data share a single {@code String} instance.</p>
+ *
+ * @see MDCJacksonCodecs
+ * @see MetadataJacksonCodecs
+ * @see ManifestsJacksonCodecs
+ */
+public class FeatherJackson {
+    private static final SimpleVersionCodec VERSION_CODEC = new SimpleVersionCodec();
+    private static final OffsetDateTimeCodec DATE_TIME_CODEC = new OffsetDateTimeCodec();
+
+    private final JsonFactory factory;
+    private final boolean canonicalizeNames;
+    private final MDCJacksonCodecs mdcCodecs;
+    private final MetadataJacksonCodecs metadataCodecs = new MetadataJacksonCodecs();
+    private final ManifestsJacksonCodecs manifestsCodecs = new ManifestsJacksonCodecs();
+
+    public FeatherJackson(boolean ignoreNonDocumented, boolean canonicalizeNames) {
+        this.factory = JsonFactory.builder()
+                .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+                .disable(StreamReadFeature.AUTO_CLOSE_SOURCE)
+                .build();
+        this.canonicalizeNames = canonicalizeNames;
+        this.mdcCodecs = new MDCJacksonCodecs(ignoreNonDocumented);
+    }
+
+    public FeatherJackson() {
+        this(false, false);
+    }
+
+    /**
+     * Returns the Jackson factory used to create parsers and generators.
+     *
+     * @return the Jackson factory
+     */
+    public JsonFactory getFactory() {
+        return factory;
+    }
+
+    /**
+     * Returns whether mapping data entries which have no javadocs are ignored when writing.
+     *
+     * @return if ignoring entries without javadocs
+     */
+    public boolean isIgnoreNonDocumented() {
+        return mdcCodecs.isIgnoreNonDocumented();
+    }
+
+    /**
+     * Returns whether names are canonicalized when reading.
+     *
+     * @return if canonicalizing names
+     * @see NameTable
+     */
+    public boolean isCanonicalizeNames() {
+        return canonicalizeNames;
+    }
+
+    /**
+     * Returns whether the given type is supported.
+     *
+     * @param type the type
+     * @return if the type is supported
+     */
+    public boolean supports(Class<?> type) {
+        return findCodec(type) != null;
+    }
+
+    /**
+     * Returns the codec for the given type.
+     *
+     * @param type the type
+     * @param <T>  the type
+     * @return the codec for the type
+     * @throws IllegalArgumentException if the type is not supported
+     */
+    public <T> JsonCodec<T> getCodec(Class<T> type) {
+        final JsonCodec<T> codec = findCodec(type);
+        if (codec == null) throw new IllegalArgumentException("No codec for type " + type.getName());
+        return codec;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> JsonCodec<T> findCodec(Class<T> type) {
+        if (type.equals(SimpleVersion.class)) {
+            return (JsonCodec<T>) VERSION_CODEC;
+        } else if (type.equals(OffsetDateTime.class)) {
+            return (JsonCodec<T>) DATE_TIME_CODEC;
+        }
+        JsonCodec<T> codec = mdcCodecs.getCodec(type);
+        if (codec == null) codec = metadataCodecs.getCodec(type);
+        return codec != null ? codec : manifestsCodecs.getCodec(type);
+    }
+
+    private NameTable newNameTable() {
+        return canonicalizeNames ? NameTable.create() : NameTable.NONE;
+    }
+
+    /**
+     * Writes the given value as UTF-8 encoded JSON to the output stream.
+     *
+     * @param out   the output stream
+     * @param type  the type of the value
+     * @param value the value
+     * @param <T>   the type of the value
+     * @throws IOException if an I/O error occurs while writing
+     */
+    public <T> void write(OutputStream out, Class<T> type, T value) throws IOException {
+        write(out, getCodec(type), value);
+    }
+
+    /**
+     * Writes the given value as UTF-8 encoded JSON to the output stream, using the given codec.
+     *
+     * @param out   the output stream
+     * @param codec the codec for the value, such as one returned by {@link #getCodec(Class)}
+     * @param value the value
+     * @param <T>   the type of the value
+     * @throws IOException if an I/O error occurs while writing
+     */
+    public <T> void write(OutputStream out, JsonCodec<T> codec, T value) throws IOException {
+        try (JsonGenerator generator = factory.createGenerator(out, JsonEncoding.UTF8)) {
+            codec.write(generator, value);
+        }
+    }
+
+    /**
+     * Reads a value from the UTF-8 encoded JSON in the input stream.
+     *
+     * @param in   the input stream
+     * @param type the type of the value
+     * @param <T>  the type of the value
+     * @return the read value
+     * @throws IOException if an I/O error occurs while reading, or the JSON is malformed
+     */
+    public <T> T read(InputStream in, Class<T> type) throws IOException {
+        return read(in, getCodec(type));
+    }
+
+    /**
+     * Reads a value from the UTF-8 encoded JSON in the input stream, using the given codec.
+     *
+     * @param in    the input stream
+     * @param codec the codec for the value, such as one returned by {@link #getCodec(Class)}
+     * @param <T>   the type of the value
+     * @return the read value
+     * @throws IOException if an I/O error occurs while reading, or the JSON is malformed
+     */
+    public <T> T read(InputStream in, JsonCodec<T> codec) throws IOException {
+        try (JsonParser parser = factory.createParser(in)) {
+            return read(parser, codec);
+        }
+    }
+
+    /**
+     * Writes the given value as UTF-8 encoded JSON.
+     *
+     * @param value the value
+     * @param type  the type of the value
+     * @param <T>   the type of the value
+     * @return the UTF-8 encoded JSON
+     * @throws IOException if an I/O error occurs while writing
+     */
+    public <T> byte[] toJsonBytes(T value, Class<T> type) throws IOException {
+        final JsonCodec<T> codec = getCodec(type);
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (JsonGenerator generator = factory.createGenerator(bytes, JsonEncoding.UTF8)) {
+            codec.write(generator, value);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Reads a value from UTF-8 encoded JSON.
+     *
+     * @param json the UTF-8 encoded JSON
+     * @param type the type of the value
+     * @param <T>  the type of the value
+     * @return the read value
+     * @throws IOException if the JSON is malformed
+     */
+    public <T> T fromJson(byte[] json, Class<T> type) throws IOException {
+        final JsonCodec<T> codec = getCodec(type);
+        try (JsonParser parser = factory.createParser(json)) {
+            return read(parser, codec);
+        }
+    }
+
+    /**
+     * Writes the given value as JSON.
+     *
+     * @param value the value
+     * @param type  the type of the value
+     * @param <T>   the type of the value
+     * @return the JSON
+     * @throws IOException if an I/O error occurs while writing
+     */
+    public <T> String toJson(T value, Class<T> type) throws IOException {
+        final JsonCodec<T> codec = getCodec(type);
+        final StringWriter writer = new StringWriter();
+        try (JsonGenerator generator = factory.createGenerator(writer)) {
+            codec.write(generator, value);
+        }
+        return writer.toString();
+    }
+
+    /**
+     * Reads a value from JSON.
+     *
+     * @param json the JSON
+     * @param type the type of the value
+     * @param <T>  the type of the value
+     * @return the read value
+     * @throws IOException if the JSON is malformed
+     */
+    public <T> T fromJson(String json, Class<T> type) throws IOException {
+        final JsonCodec<T> codec = getCodec(type);
+        try (JsonParser parser = factory.createParser(json)) {
+            return read(parser, codec);
+        }
+    }
+
+    private <T> T read(JsonParser parser, JsonCodec<T> codec) throws IOException {
+        if (parser.nextToken() == null) throw new JsonParseException(parser, "No content to read");
+        final T value = codec.read(parser, newNameTable());
+        if (parser.nextToken() != null) {
+            throw new JsonParseException(parser, "Unexpected trailing content: " + parser.currentToken());
+        }
+        return value;
+    }
+}
@@ -0,0 +1,155 @@
+package org.parchmentmc.feather.io.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Helper methods shared by the Jackson codecs.
+ */
+final class JacksonUtil {
+    private JacksonUtil() { // Prevent instantiation
+    }
+
+    /**
+     * Checks that the parser is positioned on the expected token.
+     *
+     * @param parser   the parser
+     * @param expected the expected token
+     * @throws JsonParseException if the current token is not the expected token
+     */
+    static void expect(JsonParser parser, JsonToken expected) throws JsonParseException {
+        if (parser.currentToken() != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but was " + parser.currentToken());
+        }
+    }
+
+    /**
+     * Advances the parser to the next property of the current object, and to the property's value.
+     *
+     * @param parser the parser, positioned on the start of the object or the last token of the previous value
+     * @return the property name, or {@code null} if the end of the object was reached
+     * @throws IOException if an I/O error occurs while reading
+     */
+    static String nextProperty(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.FIELD_NAME) {
+            expect(parser, JsonToken.END_OBJECT);
+            return null;
+        }
+        final String name = parser.currentName();
+        parser.nextToken();
+        return name;
+    }
+
+    /**
+     * Reads the current {@code int} value of the parser.
+     *
+     * @param parser the parser, positioned on a number token
+     * @return the {@code int} value
+     * @throws IOException if an I/O error occurs while reading, or the token is not a number
+     */
+    static int readInt(JsonParser parser) throws IOException {
+        expect(parser, JsonToken.VALUE_NUMBER_INT);
+        return parser.getIntValue();
+    }
+
+    /**
+     * Reads the current {@code boolean} value of the parser.
+     *
+     * @param parser the parser, positioned on a boolean token
+     * @return the {@code boolean} value
+     * @throws IOException if an I/O error occurs while reading, or the token is not a boolean
+     */
+    static boolean readBoolean(JsonParser parser) throws IOException {
+        if (!parser.currentToken().isBoolean()) {
+            throw new JsonParseException(parser, "Expected a boolean but was " + parser.currentToken());
+        }
+        return parser.getBooleanValue();
+    }
+
+    /**
+     * Reads an array of values into a collection, skipping any {@code null} elements.
+     *
+     * @param parser     the parser, positioned on the start of the array or a {@code null} token
+     * @param names      the name table
+     * @param codec      the codec for the elements
+     * @param collection the supplier of the collection to read into
+     * @param <T>        the type of the elements
+     * @param <C>        the type of the collection
+     * @return the collection of elements, or {@code null} for a {@code null} token
+     * @throws IOException if an I/O error occurs while reading
+     */
+    static <T, C extends Collection<T>> C readArray(JsonParser parser, NameTable names, JsonCodec<? extends T> codec,
+                                                     Supplier<C> collection) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) return null;
+        expect(parser, JsonToken.START_ARRAY);
+
+        final C elements = collection.get();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            final T element = codec.read(parser, names);
+            if (element != null) elements.add(element);
+        }
+        return elements;
+    }
+
+    /**
+     * Writes a collection of values as an array, using the given codec.
+     *
+     * @param generator the generator
+     * @param elements  the elements
+     * @param codec     the codec for the elements
+     * @param <T>       the type of the elements
+     * @throws IOException if an I/O error occurs while writing
+     */
+    static <T> void writeArray(JsonGenerator generator, Collection<? extends T> elements, JsonCodec<T> codec)
+            throws IOException {
+        generator.writeStartArray();
+        for (T element : elements) {
+            codec.write(generator, element);
+        }
+        generator.writeEndArray();
+    }
+
+    /**
+     * Reads an array of strings, such as javadoc lines.
+     *
+     * @param parser the parser, positioned on the start of the array or a {@code null} token
+     * @return the immutable list of strings, which is empty for a {@code null} token
+     * @throws IOException if an I/O error occurs while reading
+     */
+    static List<String> readStringList(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) return Collections.emptyList();
+        expect(parser, JsonToken.START_ARRAY);
+
+        final List<String> strings = new ArrayList<>();
+        String value;
+        while ((value = parser.nextTextValue()) != null) {
+            strings.add(value);
+        }
+        expect(parser, JsonToken.END_ARRAY);
+        return Collections.unmodifiableList(strings);
+    }
+
+    /**
+     * Writes a list of strings as an array.
+     *
+     * @param generator the generator
+     * @param strings   the strings
+     * @throws IOException if an I/O error occurs while writing
+     */
+    static void writeStringList(JsonGenerator generator, List<String> strings) throws IOException {
+        generator.writeStartArray();
+        for (String string : strings) {
+            generator.writeString(string);
+        }
+        generator.writeEndArray();
+    }
+}
@@ -0,0 +1,38 @@
+package org.parchmentmc.feather.io.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
+import java.io.IOException;
+
+/**
+ * A hand-written streaming codec for a single type, on top of the Jackson streaming API.
+ *
+ * <p>When reading, the parser is positioned on the first token of the value (such as the
+ * {@link com.fasterxml.jackson.core.JsonToken#START_OBJECT START_OBJECT} token of an object), and the codec leaves the
+ * parser positioned on the last token of the value (such as the matching
+ * {@link com.fasterxml.jackson.core.JsonToken#END_OBJECT END_OBJECT} token).</p>
+ *
+ * @param <T> the type of the value
+ * @see FeatherJackson
+ */
+public interface JsonCodec<T> {
+    /**
+     * Writes the given value to the generator.
+     *
+     * @param generator the generator to write to
+     * @param value     the value to write, which may be {@code null}
+     * @throws IOException if an I/O error occurs while writing
+     */
+    void write(JsonGenerator generator, T value) throws IOException;
+
+    /**
+     * Reads a value from the parser.
+     *
+     * @param parser the parser to read from, positioned on the first token of the value
+     * @param names  the name table for canonicalizing names read from the parser
+     * @return the read value, which may be {@code null}
+     * @throws IOException if an I/O error occurs while reading, or the input is malformed
+     */
+    T read(JsonParser parser, NameTable names) throws IOException;
+}
@@ -0,0 +1,701 @@
+package org.parchmentmc.feather.io.jackson;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.parchmentmc.feather.mapping.ImmutableMappingDataContainer;
+import org.parchmentmc.feather.mapping.ImmutableVersionedMappingDataContainer;
+import org.parchmentmc.feather.mapping.MappingChange;
+import org.parchmentmc.feather.mapping.MappingDataContainer;
+import org.parchmentmc.feather.mapping.MappingPatch;
+import org.parchmentmc.feather.mapping.VersionedMappingDataContainer;
+import org.parchmentmc.feather.util.SimpleVersion;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Jackson codecs for {@link VersionedMappingDataContainer}s and its inner data classes, and for
+ * {@link MappingPatch}es.
+ *
+ * <p>The JSON format is the same as the format used by the GSON and Moshi adapters.</p>
+ */
+public class MDCJacksonCodecs {
+    private static final SimpleVersionCodec VERSION_CODEC = new SimpleVersionCodec();
+
+    private final boolean ignoreNonDocumented;
+    private final VersionedMappingDataContainerCodec containerCodec = new VersionedMappingDataContainerCodec();
+    private final PackageDataCodec packageCodec = new PackageDataCodec();
+    private final ClassDataCodec classCodec = new ClassDataCodec();
+    private final FieldDataCodec fieldCodec = new FieldDataCodec();
+    private final MethodDataCodec methodCodec = new MethodDataCodec();
+    private final ParameterDataCodec parameterCodec = new ParameterDataCodec();
+    private final MappingPatchCodec patchCodec = new MappingPatchCodec();
+
+    public MDCJacksonCodecs(boolean ignoreNonDocumented) {
+        this.ignoreNonDocumented = ignoreNonDocumented;
+    }
+
+    public MDCJacksonCodecs() {
+        this(false);
+    }
+
+    /**
+     * Returns whether these codecs will ignore mapping data entries which have no javadocs.
+     *
+     * @return if ignoring entries without javadocs
+     */
+    public boolean isIgnoreNonDocumented() {
+        return ignoreNonDocumented;
+    }
+
+    /**
+     * Returns the codec for the given type, or {@code null} if the type is not supported by these codecs.
+     *
+     * @param type the type
+     * @param <T>  the type
+     * @return the codec for the type, or {@code null} if not supported
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable
+    public <T> JsonCodec<T> getCodec(Class<T> type) {
+        if (type.equals(VersionedMappingDataContainer.class)) {
+            return (JsonCodec<T>) containerCodec;
+        } else if (type.equals(MappingDataContainer.PackageData.class)) {
+            return (JsonCodec<T>) packageCodec;
+        } else if (type.equals(MappingDataContainer.ClassData.class)) {
+            return (JsonCodec<T>) classCodec;
+        } else if (type.equals(MappingDataContainer.FieldData.class)) {
+            return (JsonCodec<T>) fieldCodec;
+        } else if (type.equals(MappingDataContainer.MethodData.class)) {
+            return (JsonCodec<T>) methodCodec;
+        } else if (type.equals(MappingDataContainer.ParameterData.class)) {
+            return (JsonCodec<T>) parameterCodec;
+        } else if (type.equals(MappingPatch.class)) {
+            return (JsonCodec<T>) patchCodec;
+        }
+        return null;
+    }
+
+    /*
+     * Checks for whether an entry is written when ignoring non-documented entries. Undocumented entries are left out
+     * of arrays entirely, and written as null when written on their own.
+     */
+
+    private static boolean isDocumented(MappingDataContainer.PackageData packageData) {
+        return !packageData.getJavadoc().isEmpty();
+    }
+
+    private static boolean isDocumented(MappingDataContainer.ClassData classData) {
+        if (!classData.getJavadoc().isEmpty()) return true;
+        for (MappingDataContainer.FieldData field : classData.getFields()) {
+            if (isDocumented(field)) return true;
+        }
+        for (MappingDataContainer.MethodData method : classData.getMethods()) {
+            if (isDocumented(method)) return true;
+        }
+        return false;
+    }
+
+    private static boolean isDocumented(MappingDataContainer.FieldData fieldData) {
+        return !fieldData.getJavadoc().isEmpty();
+    }
+
+    private static boolean isDocumented(MappingDataContainer.MethodData methodData) {
+        if (!methodData.getJavadoc().isEmpty()) return true;
+        for (MappingDataContainer.ParameterData param : methodData.getParameters()) {
+            if (isDocumented(param)) return true;
+        }
+        return false;
+    }
+
+    private static boolean isDocumented(MappingDataContainer.ParameterData paramData) {
+        return paramData.getName() != null || paramData.getJavadoc() != null;
+    }
+
+    private <T> void writeEntries(JsonGenerator generator, Collection<? extends T> entries, JsonCodec<T> codec,
+                                  Predicate<? super T> documented) throws IOException {
+        generator.writeStartArray();
+        for (T entry : entries) {
+            if (ignoreNonDocumented && !documented.test(entry)) continue;
+            codec.write(generator, entry);
+        }
+        generator.writeEndArray();
+    }
+
+    /**
+     * Jackson codec for {@link VersionedMappingDataContainer}s.
+     */
+    class VersionedMappingDataContainerCodec implements JsonCodec<VersionedMappingDataContainer> {
+        @Override
+        public void write(JsonGenerator generator, VersionedMappingDataContainer value) throws IOException {
+            if (value == null) {
+                generator.writeNull();
+                return;
+            }
+
+            generator.writeStartObject();
+            generator.writeFieldName("version");
+            VERSION_CODEC.write(generator, value.getFormatVersion());
+            generator.writeFieldName("packages");
+            writeEntries(generator, value.getPackages(), packageCodec, MDCJacksonCodecs::isDocumented);
+            generator.writeFieldName("classes");
+            writeEntries(generator, value.getClasses(), classCodec, MDCJacksonCodecs::isDocumented);
+            generator.writeEndObject();
+        }
+
+        @Override
+        public VersionedMappingDataContainer read(JsonParser parser, NameTable names) throws IOException {
+            if (parser.currentToken() == JsonToken.VALUE_NULL) return null;
+            JacksonUtil.expect(parser, JsonToken.START_OBJECT);
+
+            SimpleVersion version = null;
+            Collection<MappingDataContainer.PackageData> packages = null;
+            Collection<MappingDataContainer.ClassData> classes = null;
+
+            String propertyName;
+            while ((propertyName = JacksonUtil.nextProperty(parser)) != null) {
+                switch (propertyName) {
+                    case "version":
+                        version = VERSION_CODEC.read(parser, names);
+                        if (version != null && !version.isCompatibleWith(VersionedMappingDataContainer.CURRENT_FORMAT))
+                            throw new JsonParseException(parser, "Version " + version
+                                    + " is incompatible with current version " + VersionedMappingDataContainer.CURRENT_FORMAT);
+                        break;
+                    case "packages":
+                        packages = JacksonUtil.readArray(parser, names, packageCodec, ArrayList::new);
+                        break;
+                    case "classes":
+                        classes = JacksonUtil.readArray(parser, names, classCodec, ArrayList::new);
+                        break;
+                    default:
+                        parser.skipChildren();
+                        break;
+                }
+            }
+
+            if (packages == null) packages = Collections.emptyList();
+            if (classes == null) classes = Collections.emptyList();
+            if (version == null) throw new JsonParseException(parser, "No version found");
+
+            return new ImmutableVersionedMappingDataContainer(version, packages, classes);
+        }
+    }
+
+    /**
+     * Jackson codec for {@link MappingDataContainer.PackageData}s.
+     */
+    class PackageDataCodec implements JsonCodec<MappingDataContainer.PackageData> {
+        @Override
+        public void write(JsonGenerator generator, MappingDataContainer.PackageData packageData) throws IOException {
+            if (packageData == null || (ignoreNonDocumented && !isDocumented(packageData))) {
+                generator.writeNull();
+                return;
+            }
+
+            generator.writeStartObject();
+            generator.writeStringField("name", packageData.getName());
+            if (!packageData.getJavadoc().isEmpty()) {
+                generator.writeFieldName("javadoc");
+                JacksonUtil.writeStringList(generator, packageData.getJavadoc());
+            }
+            generator.writeEndObject();
+        }
+
+        @Override
+        public MappingDataContainer.PackageData read(JsonParser parser, NameTable names) throws IOException {
+            if (parser.currentToken() == JsonToken.VALUE_NULL) return null;
+            JacksonUtil.expect(parser, JsonToken.START_OBJECT);
+
+            String name = null;
+            List<String> javadoc = null;
+
+            String propertyName;
+            while ((propertyName = JacksonUtil.nextProperty(parser)) != null) {
+                switch (propertyName) {
+                    case "name":
+                        name = names.read(parser);
+                        break;
+                    case "javadoc":
+                        javadoc = JacksonUtil.readStringList(parser);
+                        break;
+                    default:
+                        parser.skipChildren();
+                        break;
+                }
+            }
+
+            if (name == null) throw new IllegalArgumentException("Package name must not be null");
+            if (javadoc == null) javadoc = Collections.emptyList();
+
+            return new ImmutableMappingDataContainer.ImmutablePackageData(name, javadoc);
+        }
+    }
+
+    /**
+     * Jackson codec for {@link MappingDataContainer.ClassData}s.
+     */
+    class ClassDataCodec implements JsonCodec<MappingDataContainer.ClassData> {
+        @Override
+        public void write(JsonGenerator generator, MappingDataContainer.ClassData classData) throws IOException {
+            if (classData == null || (ignoreNonDocumented && !isDocumented(classData))) {
+                generator.writeNull();
+                return;
+            }
+
+            generator.writeStartObject();
+            generator.writeStringField("name", classData.getName());
+            if (!classData.getJavadoc().isEmpty()) {
+                generator.writeFieldName("javadoc");
+                JacksonUtil.writeStringList(generator, classData.getJavadoc());
+            }
+            if (!classData.getFields().isEmpty()) {
+                generator.writeFieldName("fields");
+                writeEntries(generator, classData.getFields(), fieldCodec, MDCJacksonCodecs::isDocumented);
+            }
+            if (!classData.getMethods().isEmpty()) {
+                generator.writeFieldName("methods");
+                writeEntries(generator, classData.getMethods(), methodCodec, MDCJacksonCodecs::isDocumented);
+            }
+            generator.writeEndObject();
+        }
+
+        @Override
+        public MappingDataContainer.ClassData read(JsonParser parser, NameTable names) throws IOException {
+            if (parser.currentToken() == JsonToken.VALUE_NULL) return null;
+            JacksonUtil.expect(parser, JsonToken.START_OBJECT);
+
+            String name = null;
+            List<String> javadoc = null;
+            Collection<MappingDataContainer.FieldData> fields = null;
+            Collection<MappingDataContainer.MethodData> methods = null;
+
+            String propertyName;
+            while ((propertyName = JacksonUtil.nextProperty(parser)) != null) {
+                switch (propertyName) {
+                    case "name":
+                        name = names.read(parser);
+                        break;
+                    case "javadoc":
+                        javadoc = JacksonUtil.readStringList(parser);
+                        break;
+                    case "fields":
+                        fields = JacksonUtil.readArray(parser, names, fieldCodec, ArrayList::new);
+                        break;
+                    case "methods":
+                        methods = JacksonUtil.readArray(parser, names, methodCodec, ArrayList::new);
+                        break;
+                    default:
+                        parser.skipChildren();
+                        break;
+                }
+            }
+
+            if (name == null) throw new IllegalArgumentException("Class name must not be null");
+            if (javadoc == null) javadoc = Collections.emptyList();
+            if (fields == null) fields = Collections.emptyList();
+            if (methods == null) methods = Collections.emptyList();
+
+            return new ImmutableMappingDataContainer.ImmutableClassData(name, javadoc, fields, methods);
+        }
+    }
+
+    /**
+     * Jackson codec for {@link MappingDataContainer.FieldData}s.
+     */
+    class FieldDataCodec implements JsonCodec<MappingDataContainer.FieldData> {
+        @Override
+        public void write(JsonGenerator generator, MappingDataContainer.FieldData fieldData) throws IOException {
+            if (fieldData == null || (ignoreNonDocumented && !isDocumented(fieldData))) {
+                generator.writeNull();
+                return;
+            }
+
+            generator.writeStartObject();
+            generator.writeStringField("name", fieldData.getName());
+            generator.writeStringField("descriptor", fieldData.getDescriptor());
+            if (!fieldData.getJavadoc().isEmpty()) {
+                generator.writeFieldName("javadoc");
+                JacksonUtil.writeStringList(generator, fieldData.getJavadoc());
+            }
+            generator.writeEndObject();
+        }
+
+        @Override
+        public MappingDataContainer.FieldData read(JsonParser parser, NameTable names) throws IOException {
+            if (parser.currentToken() == JsonToken.VALUE_NULL) return null;
+            JacksonUtil.expect(parser, JsonToken.START_OBJECT);
+
+            String name = null;
+            String descriptor = null;
+            List<String> javadoc = null;
+
+            String propertyName;
+            while ((propertyName = JacksonUtil.nextProperty(parser)) != null) {
+                switch (propertyName) {
+                    case "name":
+                        name = names.read(parser);
+                        break;
+                    case "descriptor":
+                        descriptor = names.read(parser);
+                        break;
+                    case "javadoc":
+                        javadoc = JacksonUtil.readStringList(parser);
+                        break;
+                    default:
+                        parser.skipChildren();
+                        break;
+                }
+            }
+
+            if (name == null) throw new IllegalArgumentException("Field name must not be null");
+            if (descriptor == null) throw new IllegalArgumentException("Field descriptor must not be null");
+            if (javadoc == null) javadoc = Collections.emptyList();
+
+            return new ImmutableMappingDataContainer.ImmutableFieldData(name, descriptor, javadoc);
+        }
+    }
+
+    /**
+     * Jackson codec for {@link MappingDataContainer.MethodData}s.
+     */
+    class MethodDataCodec implements JsonCodec<MappingDataContainer.MethodData> {
+        @Override
+        public void write(JsonGenerator generator, MappingDataContainer.MethodData methodData) throws IOException {
+            if (methodData == null || (ignoreNonDocumented && !isDocumented(methodData))) {
+                generator.writeNull();
+                return;
+            }
+
+            generator.writeStartObject();
+            generator.writeStringField("name", methodData.getName());
+            generator.writeStringField("descriptor", methodData.getDescriptor());
+            if (!methodData.getJavadoc().isEmpty()) {
+                generator.writeFieldName("javadoc");
+                JacksonUtil.writeStringList(generator, methodData.getJavadoc());
+            }
+            if (!methodData.getParameters().isEmpty()) {
+                generator.writeFieldName("parameters");
+                writeEntries(generator, methodData.getParameters(), parameterCodec, MDCJacksonCodecs::isDocumented);
+            }
+            generator.writeEndObject();
+        }
+
+        @Override
+        public MappingDataContainer.MethodData read(JsonParser parser, NameTable names) throws IOException {
+            if (parser.currentToken() == JsonToken.VALUE_NULL) return null;
+            JacksonUtil.expect(parser, JsonToken.START_OBJECT);
+
+            String name = null;
+            String descriptor = null;
+            List<String> javadoc = null;
+            Collection<MappingDataContainer.ParameterData> parameters = null;
+
+            String propertyName;
+            while ((propertyName = JacksonUtil.nextProperty(parser)) != null) {
+                switch (propertyName) {
+                    case "name":
+                        name = names.read(parser);
+                        break;
+                    case "descriptor":
+                        descriptor = names.read(parser);
+                        break;
+                    case "javadoc":
+                        javadoc = JacksonUtil.readStringList(parser);
+                        break;
+                    case "parameters":
+                        parameters = JacksonUtil.readArray(parser, names, parameterCodec, ArrayList::new);
+                        break;
+                    default:
+                        parser.skipChildren();
+                        break;
+                }
+            }
+
+            if (name == null) throw new IllegalArgumentException("Method name must not be null");
+            if (descriptor == null) throw new IllegalArgumentException("Method descriptor must not be null");
+            if (javadoc == null) javadoc = Collections.emptyList();
+            if (parameters == null) parameters = Collections.emptyList();
+
+            return new ImmutableMappingDataContainer.ImmutableMethodData(name, descriptor, javadoc, parameters);
+        }
+    }
+
+    /**
+     * Jackson codec for {@link MappingDataContainer.ParameterData}s.
+     */
+    class ParameterDataCodec implements JsonCodec<MappingDataContainer.ParameterData> {
+        @Override
+        public void write(JsonGenerator generator, MappingDataContainer.ParameterData paramData) throws IOException {
+            if (paramData == null || (ignoreNonDocumented && !isDocumented(paramData))) {
+                generator.writeNull();
+                return;
+            }
+
+            generator.writeStartObject();
+            generator.writeNumberField("index", paramData.getIndex());
+            if (paramData.getName() != null) {
+                generator.writeStringField("name", paramData.getName());
+            }
+            if (paramData.getJavadoc() != null) {
+                generator.writeStringField("javadoc", paramData.getJavadoc());
+            }
+            generator.writeEndObject();
+        }
+
+        @Override
+        public MappingDataContainer.ParameterData read(JsonParser parser, NameTable names) throws IOException {
+            if (parser.currentToken() == JsonToken.VALUE_NULL) return null;
+            JacksonUtil.expect(parser, JsonToken.START_OBJECT);
+
+            byte index = -1;
+            String name = null;
+            String javadoc = null;
+
+            String propertyName;
+            while ((propertyName = JacksonUtil.nextProperty(parser)) != null) {
+                switch (propertyName) {
+                    case "index":
+                        index = (byte) JacksonUtil.readInt(parser);
+                        break;
+                    case "name":
+                        name = names.read(parser);
+                        break;
+                    case "javadoc":
+                        javadoc = parser.getValueAsString();
+                        break;
+                    default:
+                        parser.skipChildren();
+                        break;
+                }
+            }
+
+            if (index < 0) throw new IllegalArgumentException("Parameter index must be present and positive");
+
+            return new ImmutableMappingDataContainer.ImmutableParameterData(index, name, javadoc);
+        }
+    }
+
+    /**
+     * Jackson codec for {@link MappingPatch}es.
+     *
+     * <p>The value of {@linkplain MappingChange.Type#ADDED added} entries is always written in full, so if these codecs
+     * ignore non-documented entries, the value is written using the codecs of a separate instance which does not, so
+     * that no added entries are lost from the patch.</p>
+     */
+    class MappingPatchCodec implements JsonCodec<MappingPatch> {
+        private final JsonFactory bufferFactory = new JsonFactory();
+        @Nullable
+        private MDCJacksonCodecs dataCodecs;
+
+        private JsonCodec<?> dataCodec(MappingChange.Element element) {
+            MDCJacksonCodecs codecs = MDCJacksonCodecs.this;
+            if (ignoreNonDocumented) {
+                // Created lazily, as ignoreNonDocumented is not yet assigned when this codec is constructed
+                if (dataCodecs == null) dataCodecs = new MDCJacksonCodecs();
+                codecs = dataCodecs;
+            }
+            switch (element) {
+                case PACKAGE:
+                    return codecs.packageCodec;
+                case CLASS:
+                    return codecs.classCodec;
+                case FIELD:
+                    return codecs.fieldCodec;
+                case METHOD:
+                    return codecs.methodCodec;
+                case PARAMETER:
+                    return codecs.parameterCodec;
+            }
+            throw new IllegalArgumentException("Unknown element: " + element);
+        }
+
+        @SuppressWarnings("unchecked")
+        private void writeValue(JsonGenerator generator, MappingChange<?> change) throws IOException {
+            final Object value = change.getNewValue();
+            switch (change.getType()) {
+                case ADDED:
+                    generator.writeFieldName("value");
+                    ((JsonCodec<Object>) dataCodec(change.getElement())).write(generator, value);
+                    break;
+                case JAVADOC_CHANGED:
+                    if (change.getElement() != MappingChange.Element.PARAMETER) {
+                        generator.writeFieldName("value");
+                        JacksonUtil.writeStringList(generator, (List<String>) value);
+                    } else if (value != null) {
+                        // Parameter javadocs are a single string
+                        generator.writeStringField("value", (String) value);
+                    }
+                    break;
+                case NAME_CHANGED:
+                case DESCRIPTOR_CHANGED:
+                    if (value != null) {
+                        generator.writeStringField("value", (String) value);
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        @Nullable
+        private Object readValue(JsonParser parser, NameTable names, MappingChange.Type type,
+                                 MappingChange.Element element) throws IOException {
+            if (parser.currentToken() == JsonToken.VALUE_NULL) return null;
+            switch (type) {
+                case ADDED:
+                    return dataCodec(element).read(parser, names);
+                case JAVADOC_CHANGED:
+                    if (element != MappingChange.Element.PARAMETER) {
+                        return JacksonUtil.readStringList(parser);
+                    }
+                    // Parameter javadocs are a single string
+                    return names.read(parser);
+                case NAME_CHANGED:
+                case DESCRIPTOR_CHANGED:
+                    return names.read(parser);
+                default:
+                    parser.skipChildren();
+                    return null;
+            }
+        }
+
+        @Override
+        public void write(JsonGenerator generator, MappingPatch patch) throws IOException {
+            if (patch == null) {
+                generator.writeNull();
+                return;
+            }
+
+            generator.writeStartObject();
+            generator.writeFieldName("changes");
+            generator.writeStartArray();
+            for (MappingChange<?> change : patch.getChanges()) {
+                generator.writeStartObject();
+                generator.writeStringField("type", change.getType().name());
+                generator.writeStringField("element", change.getElement().name());
+                generator.writeStringField("name", change.getName());
+                if (change.getMemberName() != null) {
+                    generator.writeStringField("member", change.getMemberName());
+                }
+                if (change.getMemberDescriptor() != null) {
+                    generator.writeStringField("descriptor", change.getMemberDescriptor());
+                }
+                if (change.getElement() == MappingChange.Element.PARAMETER) {
+                    generator.writeNumberField("index", change.getParameterIndex());
+                }
+                writeValue(generator, change);
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+
+        @Override
+        public MappingPatch read(JsonParser parser, NameTable names) throws IOException {
+            if (parser.currentToken() == JsonToken.VALUE_NULL) return null;
+            JacksonUtil.expect(parser, JsonToken.START_OBJECT);
+
+            final List<MappingChange<?>> changes = new ArrayList<>();
+            String propertyName;
+            while ((propertyName = JacksonUtil.nextProperty(parser)) != null) {
+                if (propertyName.equals("changes")) {
+                    JacksonUtil.expect(parser, JsonToken.START_ARRAY);
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        changes.add(readChange(parser, names));
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+
+            return new MappingPatch(changes);
+        }
+
+        private MappingChange<?> readChange(JsonParser parser, NameTable names) throws IOException {
+            JacksonUtil.expect(parser, JsonToken.START_OBJECT);
+
+            MappingChange.Type type = null;
+            MappingChange.Element element = null;
+            String name = null;
+            String member = null;
+            String descriptor = null;
+            byte index = 0;
+            Object value = null;
+            byte[] bufferedValue = null;
+
+            String propertyName;
+            while ((propertyName = JacksonUtil.nextProperty(parser)) != null) {
+                try {
+                    switch (propertyName) {
+                        case "type":
+                            type = MappingChange.Type.valueOf(parser.getText());
+                            break;
+                        case "element":
+                            element = MappingChange.Element.valueOf(parser.getText());
+                            break;
+                        case "name":
+                            name = names.read(parser);
+                            break;
+                        case "member":
+                            member = names.read(parser);
+                            break;
+                        case "descriptor":
+                            descriptor = names.read(parser);
+                            break;
+                        case "index":
+                            index = (byte) JacksonUtil.readInt(parser);
+                            break;
+                        case "value":
+                            if (type != null && element != null) {
+                                value = readValue(parser, names, type, element);
+                            } else {
+                                // The value is written last, but is not required to be; keep it until the type is known
+                                bufferedValue = buffer(parser);
+                            }
+                            break;
+                        default:
+                            parser.skipChildren();
+                            break;
+                    }
+                } catch (IllegalArgumentException e) {
+                    throw new JsonParseException(parser, "Invalid value for property '" + propertyName + "'", e);
+                }
+            }
+
+            if (type == null) throw new JsonParseException(parser, "Change type must not be null");
+            if (element == null) throw new JsonParseException(parser, "Change element must not be null");
+            if (name == null) throw new JsonParseException(parser, "Change name must not be null");
+
+            if (bufferedValue != null) {
+                try (JsonParser bufferParser = bufferFactory.createParser(bufferedValue)) {
+                    bufferParser.nextToken();
+                    value = readValue(bufferParser, names, type, element);
+                }
+            }
+            if (value == null) {
+                if (type == MappingChange.Type.ADDED) throw new JsonParseException(parser, "Added entry must have a value");
+                if (type == MappingChange.Type.JAVADOC_CHANGED && element != MappingChange.Element.PARAMETER)
+                    value = Collections.emptyList();
+            }
+
+            return new MappingChange<>(type, element, name, member, descriptor, index, null, value);
+        }
+
+        private byte[] buffer(JsonParser parser) throws IOException {
+            final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            try (JsonGenerator generator = bufferFactory.createGenerator(buffer)) {
+                generator.copyCurrentStructure(parser);
+            }
+            return buffer.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,694 @@
+package org.parchmentmc.feather.io.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.parchmentmc.feather.manifests.LauncherManifest;
+import org.parchmentmc.feather.manifests.LauncherManifest.LatestVersionInfo;
+import org.parchmentmc.feather.manifests.LauncherManifest.VersionData;
+import org.parchmentmc.feather.manifests.Library;
+import org.parchmentmc.feather.manifests.Library.ArtifactDownload;
+import org.parchmentmc.feather.manifests.Library.ExtractInfo;
+import org.parchmentmc.feather.manifests.Library.LibraryDownloads;
+import org.parchmentmc.feather.manifests.Library.NativesInfo;
+import org.parchmentmc.feather.manifests.Library.Rule;
+import org.parchmentmc.feather.manifests.VersionManifest;
+import org.parchmentmc.feather.manifests.VersionManifest.AssetIndexInfo;
+import org.parchmentmc.feather.manifests.VersionManifest.DownloadInfo;
+import org.parchmentmc.feather.manifests.VersionManifest.JavaVersionInfo;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Jackson codecs for the launcher and version manifests.
+ *
+ * <p>The JSON format is the same as the format used by the GSON and Moshi adapters, which is the format used by
+ * Mojang. Unknown properties are skipped while reading, and {@code null} values are omitted while writing.</p>
+ *
+ * @see LauncherManifest
+ * @see VersionManifest
+ * @see Library
+ */
+public class ManifestsJacksonCodecs {
+    private static final OffsetDateTimeCodec DATE_TIME_CODEC = new OffsetDateTimeCodec();
+
+    private final LauncherManifestCodec launcherManifestCodec = new LauncherManifestCodec();
+    private final VersionManifestCodec versionManifestCodec = new VersionManifestCodec();
+    private final LibraryCodec libraryCodec = new LibraryCodec();
+
+    /**
+     * Returns the codec for the given type, or {@code null} if the type is not supported by these codecs.
+     *
+     * @param type the type
+     * @param <T>  the type
+     * @return the codec for the type, or {@code null} if not supported
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable
+    public <T> JsonCodec<T> getCodec(Class<T> type) {
+        if (type.equals(LauncherManifest.class)) {
+            return (JsonCodec<T>) launcherManifestCodec;
+        } else if (type.equals(VersionManifest.class)) {
+            return (JsonCodec<T>) versionManifestCodec;
+        } else if (type.equals(Library.class)) {
+            return (JsonCodec<T>) libraryCodec;
+        }
+        return null;
+    }
+
+    /**
+     * Jackson codec for {@link LauncherManifest}s.
+     */
+    class LauncherManifestCodec implements JsonCodec<LauncherManifest> {
+        @Override
+        public void write(JsonGenerator generator, LauncherManifest manifest) throws IOException {
+            if (manifest == null) {
+                generator.writeNull();
+                return;
+            }
+
+            generator.writeStartObject();
+
+            generator.writeObjectFieldStart("latest");
+            generator.writeStringField("release", manifest.getLatest().getRelease());
+            generator.writeStringField("snapshot", manifest.getLatest().getSnapshot());
+            generator.writeEndObject();
+
+            generator.writeArrayFieldStart("versions");
+            for (VersionData version : manifest.getVersions()) {
+                generator.writeStartObject();
+                generator.writeStringField("id", version.getId());
+                generator.writeStringField("type", version.getType());
+                generator.writeStringField("url", version.getUrl());
+                generator.writeFieldName("time");
+                DATE_TIME_CODEC.write(generator, version.getTime());
+                generator.writeFieldName("releaseTime");
+                DATE_TIME_CODEC.write(generator, version.getReleaseTime());
+                generator.writeStringField("sha1", version.getSHA1());
+                generator.writeNumberField("complianceLevel", version.getComplianceLevel());
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+
+            generator.writeEndObject();
+        }
+
+        @Override
+        public LauncherManifest read(JsonParser parser, NameTable names) throws IOException {
+            if (parser.currentToken() == JsonToken.VALUE_NULL) return null;
+            JacksonUtil.expect(parser, JsonToken.START_OBJECT);
+
+            LatestVersionInfo latest = null;
+            final List<VersionData> versions = new ArrayList<>();
+
+            String propertyName;
+            while ((propertyName = JacksonUtil.nextProperty(parser)) != null) {
+                switch (propertyName) {
+                    case "latest":
+                        latest = readLatest(parser);
+                        break;
+                    case "versions":
+                        JacksonUtil.expect(parser, JsonToken.START_ARRAY);
+                        while (parser.nextToken() != JsonToken.END_ARRAY) {
+                            versions.add(readVersionData(parser, names));
+                        }
+                        break;
+                    default:
+                        parser.skipChildren();
+                }
+            }
+
+            if (latest == null) throw new JsonParseException(parser, "Launcher manifest latest is not present");
+
+            return new LauncherManifest(latest, versions);
+        }
+
+        private LatestVersionInfo readLatest(JsonParser parser) throws IOException {
+            JacksonUtil.expect(parser, JsonToken.START_OBJECT);
+
+            String release = null;
+            String snapshot = null;
+
+            String propertyName;
+            while ((propertyName = JacksonUtil.nextProperty(parser)) != null) {
+                switch (propertyName) {
+                    case "release":
+                        release = parser.getValueAsString();
+                        break;
+                    case "snapshot":
+                        snapshot = parser.getValueAsString();
+                        break;
+                    default:
+                        parser.skipChildren();
+                }
+            }
+
+            if (release == null) throw new JsonParseException(parser, "Latest release is not present");
+            if (snapshot == null) throw new JsonParseException(parser, "Latest snapshot is not present");
+
+            return new LatestVersionInfo(release, snapshot);
+        }
+
+        private VersionData readVersionData(JsonParser parser, NameTable names) throws IOException {
+            JacksonUtil.expect(parser, JsonToken.START_OBJECT);
+
+            String id = null;
+            String type = null;
+            String url = null;
+            OffsetDateTime time = null;
+            OffsetDateTime releaseTime = null;
+            String sha1 = null;
+            int complianceLevel = 0;
+
+            String propertyName;
+            while ((propertyName = JacksonUtil.nextProperty(parser)) != null) {
+                switch (propertyName) {
+                    case "id":
+                        id = parser.getValueAsString();
+                        break;
+                    case "type":
+                        type = parser.getValueAsString();
+                        break;
+                    case "url":
+                        url = parser.getValueAsString();
+                        break;
+                    case "time":
+                        time = DATE_TIME_CODEC.read(parser, names);
+                        break;
+                    case "releaseTime":
+                        releaseTime = DATE_TIME_CODEC.read(parser, names);
+                        break;
+                    case "sha1":
+                        sha1 = parser.getValueAsString();
+                        break;
+                    case "complianceLevel":
+                        complianceLevel = JacksonUtil.readInt(parser);
+                        break;
+                    default:
+                        parser.skipChildren();
+                }
+            }
+
+            if (id == null) throw new JsonParseException(parser, "Version id is not present");
+            if (type == null) throw new JsonParseException(parser, "Version type is not present for " + id);
+            if (url == null) throw new JsonParseException(parser, "Version url is not present for " + id);
+            if (time == null) throw new JsonParseException(parser, "Version time is not present for " + id);
+            if (releaseTime == null) {
+                throw new JsonParseException(parser, "Version releaseTime is not present for " + id);
+            }
+            if (sha1 == null) throw new JsonParseException(parser, "Version sha1 is not present for " + id);
+
+            return new VersionData(id, type, url, time, releaseTime, sha1, complianceLevel);
+        }
+    }
+
+    /**
+     * Jackson codec for {@link VersionManifest}s.
+     */
+    class VersionManifestCodec implements JsonCodec<VersionManifest> {
+        @Override
+        public void write(JsonGenerator generator, VersionManifest manifest) throws IOException {
+            if (manifest == null) {
+                generator.writeNull();
+                return;
+            }
+
+            generator.writeStartObject();
+
+            final AssetIndexInfo assetIndex = manifest.getAssetIndex();
+            generator.writeObjectFieldStart("assetIndex");
+            generator.writeStringField("id", assetIndex.getId());
+            generator.writeStringField("sha1", assetIndex.getSHA1());
+            generator.writeNumberField("size", assetIndex.getSize());
+            generator.writeNumberField("totalSize", assetIndex.getTotalSize());
+            generator.writeStringField("url", assetIndex.getUrl());
+            generator.writeEndObject();
+
+            generator.writeStringField("assets", manifest.getAssets());
+            generator.writeNumberField("complianceLevel", manifest.getComplianceLevel());
+
+            generator.writeObjectFieldStart("downloads");
+            for (Map.Entry<String, DownloadInfo> entry : manifest.getDownloads().entrySet()) {
+                final DownloadInfo download = entry.getValue();
+                generator.writeObjectFieldStart(entry.getKey());
+                generator.writeStringField("sha1", download.getSHA1());
+                generator.writeNumberField("size", download.getSize());
+                generator.writeStringField("url", download.getUrl());
+                generator.writeEndObject();
+            }
+            generator.writeEndObject();
+
+            generator.writeStringField("id", manifest.getId());
+
+            final JavaVersionInfo javaVersion = manifest.getJavaVersionInfo();
+            if (javaVersion != null) {
+                generator.writeObjectFieldStart("javaVersion");
+                generator.writeStringField("component", javaVersion.getComponent());
+                generator.writeNumberField("majorVersion", javaVersion.getMajorVersion());
+                generator.writeEndObject();
+            }
+
+            generator.writeFieldName("libraries");
+            JacksonUtil.writeArray(generator, manifest.getLibraries(), libraryCodec);
+
+            generator.writeStringField("mainClass", manifest.getMainClass());
+            if (manifest.getMinecraftArguments() != null) {
+                generator.writeStringField("minecraftArguments", manifest.getMinecraftArguments());
+            }
+            generator.writeNumberField("minimumLauncherVersion", manifest.getMinimumLauncherVersion());
+            generator.writeFieldName("releaseTime");
+            DATE_TIME_CODEC.write(generator, manifest.getReleaseTime());
+            generator.writeFieldName("time");
+            DATE_TIME_CODEC.write(generator, manifest.getTime());
+            generator.writeStringField("type", manifest.getType());
+
+            generator.writeEndObject();
+        }
+
+        @Override
+        public VersionManifest read(JsonParser parser, NameTable names) throws IOException {
+            if (parser.currentToken() == JsonToken.VALUE_NULL) return null;
+            JacksonUtil.expect(parser, JsonToken.START_OBJECT);
+
+            String id = null;
+            String type = null;
+            int complianceLevel = 0;
+            int minimumLauncherVersion = 0;
+            OffsetDateTime time = null;
+            OffsetDateTime releaseTime = null;
+            String mainClass = null;
+            JavaVersionInfo javaVersion = null;
+            String assets = null;
+            AssetIndexInfo assetIndex = null;
+            final Map<String, DownloadInfo> downloads = new LinkedHashMap<>();
+            List<Library> libraries = Collections.emptyList();
+            String minecraftArguments = null;
+
+            String propertyName;
+            while ((propertyName = JacksonUtil.nextProperty(parser)) != null) {
+                switch (propertyName) {
+                    case "id":
+                        id = parser.getValueAsString();
+                        break;
+                    case "type":
+                        type = parser.getValueAsString();
+                        break;
+                    case "complianceLevel":
+                        complianceLevel = JacksonUtil.readInt(parser);
+                        break;
+                    case "minimumLauncherVersion":
+                        minimumLauncherVersion = JacksonUtil.readInt(parser);
+                        break;
+                    case "time":
+                        time = DATE_TIME_CODEC.read(parser, names);
+                        break;
+                    case "releaseTime":
+                        releaseTime = DATE_TIME_CODEC.read(parser, names);
+                        break;
+                    case "mainClass":
+                        mainClass = parser.getValueAsString();
+                        break;
+                    case "javaVersion":
+                        javaVersion = readJavaVersion(parser);
+                        break;
+                    case "assets":
+                        assets = parser.getValueAsString();
+                        break;
+                    case "assetIndex":
+                        assetIndex = (AssetIndexInfo) readDownload(parser, DownloadKind.ASSET_INDEX);
+                        break;
+                    case "downloads":
+                        JacksonUtil.expect(parser, JsonToken.START_OBJECT);
+                        String key;
+                        while ((key = JacksonUtil.nextProperty(parser)) != null) {
+                            downloads.put(key, readDownload(parser, DownloadKind.DOWNLOAD));
+                        }
+                        break;
+                    case "libraries":
+                        libraries = JacksonUtil.readArray(parser, names, libraryCodec, ArrayList::new);
+                        break;
+                    case "minecraftArguments":
+                        minecraftArguments = parser.getValueAsString();
+                        break;
+                    default:
+                        parser.skipChildren();
+                }
+            }
+
+            if (id == null) throw new JsonParseException(parser, "Version manifest id is not present");
+            if (type == null) throw new JsonParseException(parser, "Version manifest type is not present for " + id);
+            if (time == null) throw new JsonParseException(parser, "Version manifest time is not present for " + id);
+            if (releaseTime == null) {
+                throw new JsonParseException(parser, "Version manifest releaseTime is not present for " + id);
+            }
+            if (mainClass == null) {
+                throw new JsonParseException(parser, "Version manifest mainClass is not present for " + id);
+            }
+            if (assets == null) throw new JsonParseException(parser, "Version manifest assets is not present for " + id);
+            if (assetIndex == null) {
+                throw new JsonParseException(parser, "Version manifest assetIndex is not present for " + id);
+            }
+            if (libraries == null) libraries = Collections.emptyList();
+
+            return new VersionManifest(id, type, complianceLevel, minimumLauncherVersion, time, releaseTime, mainClass,
+                    javaVersion, assets, assetIndex, downloads, libraries, minecraftArguments);
+        }
+
+        private JavaVersionInfo readJavaVersion(JsonParser parser) throws IOException {
+            JacksonUtil.expect(parser, JsonToken.START_OBJECT);
+
+            String component = null;
+            int majorVersion = 0;
+
+            String propertyName;
+            while ((propertyName = JacksonUtil.nextProperty(parser)) != null) {
+                switch (propertyName) {
+                    case "component":
+                        component = parser.getValueAsString();
+                        break;
+                    case "majorVersion":
+                        majorVersion = JacksonUtil.readInt(parser);
+                        break;
+                    default:
+                        parser.skipChildren();
+                }
+            }
+
+            if (component == null) throw new JsonParseException(parser, "Java version component is not present");
+
+            return new JavaVersionInfo(component, majorVersion);
+        }
+    }
+
+    /**
+     * Jackson codec for {@link Library} entries of version manifests.
+     */
+    class LibraryCodec implements JsonCodec<Library> {
+        @Override
+        public void write(JsonGenerator generator, Library library) throws IOException {
+            if (library == null) {
+                generator.writeNull();
+                return;
+            }
+
+            generator.writeStartObject();
+
+            generator.writeObjectFieldStart("downloads");
+            final LibraryDownloads downloads = library.getDownloads();
+            if (downloads.getArtifact() != null) {
+                generator.writeFieldName("artifact");
+                writeArtifact(generator, downloads.getArtifact());
+            }
+            if (downloads.getClassifiers() != null) {
+                generator.writeObjectFieldStart("classifiers");
+                for (Map.Entry<String, ArtifactDownload> entry : downloads.getClassifiers().entrySet()) {
+                    generator.writeFieldName(entry.getKey());
+                    writeArtifact(generator, entry.getValue());
+                }
+                generator.writeEndObject();
+            }
+            generator.writeEndObject();
+
+            if (library.getExtract() != null) {
+                generator.writeObjectFieldStart("extract");
+                generator.writeFieldName("exclude");
+                JacksonUtil.writeStringList(generator, library.getExtract().getExclude());
+                generator.writeEndObject();
+            }
+
+            generator.writeStringField("name", library.getName());
+
+            final NativesInfo natives = library.getNatives();
+            if (natives != null) {
+                generator.writeObjectFieldStart("natives");
+                writeOptionalString(generator, "linux", natives.getLinux());
+                writeOptionalString(generator, "osx", natives.getOSX());
+                writeOptionalString(generator, "windows", natives.getWindows());
+                generator.writeEndObject();
+            }
+
+            if (!library.getRules().isEmpty()) {
+                generator.writeArrayFieldStart("rules");
+                for (Rule rule : library.getRules()) {
+                    generator.writeStartObject();
+                    generator.writeStringField("action", rule.getAction());
+                    final Rule.OSCondition os = rule.getOS();
+                    if (os != null) {
+                        generator.writeObjectFieldStart("os");
+                        writeOptionalString(generator, "name", os.getName());
+                        writeOptionalString(generator, "version", os.getVersion());
+                        generator.writeEndObject();
+                    }
+                    generator.writeEndObject();
+                }
+                generator.writeEndArray();
+            }
+
+            generator.writeEndObject();
+        }
+
+        private void writeArtifact(JsonGenerator generator, ArtifactDownload artifact) throws IOException {
+            generator.writeStartObject();
+            writeOptionalString(generator, "path", artifact.getPath());
+            generator.writeStringField("sha1", artifact.getSHA1());
+            generator.writeNumberField("size", artifact.getSize());
+            generator.writeStringField("url", artifact.getUrl());
+            generator.writeEndObject();
+        }
+
+        @Override
+        public Library read(JsonParser parser, NameTable names) throws IOException {
+            if (parser.currentToken() == JsonToken.VALUE_NULL) return null;
+            JacksonUtil.expect(parser, JsonToken.START_OBJECT);
+
+            String name = null;
+            ExtractInfo extract = null;
+            LibraryDownloads downloads = null;
+            NativesInfo natives = null;
+            List<Rule> rules = Collections.emptyList();
+
+            String propertyName;
+            while ((propertyName = JacksonUtil.nextProperty(parser)) != null) {
+                switch (propertyName) {
+                    case "name":
+                        name = parser.getValueAsString();
+                        break;
+                    case "extract":
+                        extract = readExtract(parser);
+                        break;
+                    case "downloads":
+                        downloads = readLibraryDownloads(parser);
+                        break;
+                    case "natives":
+                        natives = readNatives(parser);
+                        break;
+                    case "rules":
+                        rules = readRules(parser);
+                        break;
+                    default:
+                        parser.skipChildren();
+                }
+            }
+
+            if (name == null) throw new JsonParseException(parser, "Library name is not present");
+            if (downloads == null) throw new JsonParseException(parser, "Library downloads is not present for " + name);
+
+            return new Library(name, extract, downloads, natives, rules);
+        }
+
+        private LibraryDownloads readLibraryDownloads(JsonParser parser) throws IOException {
+            JacksonUtil.expect(parser, JsonToken.START_OBJECT);
+
+            ArtifactDownload artifact = null;
+            Map<String, ArtifactDownload> classifiers = null;
+
+            String propertyName;
+            while ((propertyName = JacksonUtil.nextProperty(parser)) != null) {
+                switch (propertyName) {
+                    case "artifact":
+                        artifact = (ArtifactDownload) readDownload(parser, DownloadKind.ARTIFACT);
+                        break;
+                    case "classifiers":
+                        JacksonUtil.expect(parser, JsonToken.START_OBJECT);
+                        classifiers = new LinkedHashMap<>();
+                        String classifier;
+                        while ((classifier = JacksonUtil.nextProperty(parser)) != null) {
+                            classifiers.put(classifier, (ArtifactDownload) readDownload(parser, DownloadKind.ARTIFACT));
+                        }
+                        break;
+                    default:
+                        parser.skipChildren();
+                }
+            }
+
+            return new LibraryDownloads(artifact, classifiers);
+        }
+
+        private ExtractInfo readExtract(JsonParser parser) throws IOException {
+            JacksonUtil.expect(parser, JsonToken.START_OBJECT);
+
+            List<String> exclude = Collections.emptyList();
+
+            String propertyName;
+            while ((propertyName = JacksonUtil.nextProperty(parser)) != null) {
+                if (propertyName.equals("exclude")) {
+                    exclude = JacksonUtil.readStringList(parser);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+
+            return new ExtractInfo(new ArrayList<>(exclude));
+        }
+
+        private NativesInfo readNatives(JsonParser parser) throws IOException {
+            JacksonUtil.expect(parser, JsonToken.START_OBJECT);
+
+            String linux = null;
+            String osx = null;
+            String windows = null;
+
+            String propertyName;
+            while ((propertyName = JacksonUtil.nextProperty(parser)) != null) {
+                switch (propertyName) {
+                    case "linux":
+                        linux = parser.getValueAsString();
+                        break;
+                    case "osx":
+                        osx = parser.getValueAsString();
+                        break;
+                    case "windows":
+                        windows = parser.getValueAsString();
+                        break;
+                    default:
+                        parser.skipChildren();
+                }
+            }
+
+            return new NativesInfo(linux, osx, windows);
+        }
+
+        private List<Rule> readRules(JsonParser parser) throws IOException {
+            JacksonUtil.expect(parser, JsonToken.START_ARRAY);
+
+            final List<Rule> rules = new ArrayList<>();
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                JacksonUtil.expect(parser, JsonToken.START_OBJECT);
+
+                String action = null;
+                Rule.OSCondition os = null;
+
+                String propertyName;
+                while ((propertyName = JacksonUtil.nextProperty(parser)) != null) {
+                    switch (propertyName) {
+                        case "action":
+                            action = parser.getValueAsString();
+                            break;
+                        case "os":
+                            os = readOSCondition(parser);
+                            break;
+                        default:
+                            parser.skipChildren();
+                    }
+                }
+
+                if (action == null) throw new JsonParseException(parser, "Rule action is not present");
+                rules.add(new Rule(action, os));
+            }
+
+            return rules;
+        }
+
+        private Rule.OSCondition readOSCondition(JsonParser parser) throws IOException {
+            JacksonUtil.expect(parser, JsonToken.START_OBJECT);
+
+            String name = null;
+            String version = null;
+
+            String propertyName;
+            while ((propertyName = JacksonUtil.nextProperty(parser)) != null) {
+                switch (propertyName) {
+                    case "name":
+                        name = parser.getValueAsString();
+                        break;
+                    case "version":
+                        version = parser.getValueAsString();
+                        break;
+                    default:
+                        parser.skipChildren();
+                }
+            }
+
+            return new Rule.OSCondition(name, version);
+        }
+    }
+
+    private static void writeOptionalString(JsonGenerator generator, String name, @Nullable String value)
+            throws IOException {
+        if (value != null) generator.writeStringField(name, value);
+    }
+
+    private static DownloadInfo readDownload(JsonParser parser, DownloadKind kind) throws IOException {
+        JacksonUtil.expect(parser, JsonToken.START_OBJECT);
+
+        String sha1 = null;
+        int size = 0;
+        String url = null;
+        String path = null;
+        String id = null;
+        int totalSize = 0;
+
+        String propertyName;
+        while ((propertyName = JacksonUtil.nextProperty(parser)) != null) {
+            switch (propertyName) {
+                case "sha1":
+                    sha1 = parser.getValueAsString();
+                    break;
+                case "size":
+                    size = JacksonUtil.readInt(parser);
+                    break;
+                case "url":
+                    url = parser.getValueAsString();
+                    break;
+                case "path":
+                    path = parser.getValueAsString();
+                    break;
+                case "id":
+                    id = parser.getValueAsString();
+                    break;
+                case "totalSize":
+                    totalSize = JacksonUtil.readInt(parser);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        if (sha1 == null) throw new JsonParseException(parser, "Download sha1 is not present");
+        if (url == null) throw new JsonParseException(parser, "Download url is not present");
+
+        switch (kind) {
+            case ASSET_INDEX:
+                if (id == null) throw new JsonParseException(parser, "Asset index id is not present");
+                return new AssetIndexInfo(sha1, size, url, id, totalSize);
+            case ARTIFACT:
+                return new ArtifactDownload(sha1, size, url, path);
+            default:
+                return new DownloadInfo(sha1, size, url);
+        }
+    }
+
+    private enum DownloadKind {
+        DOWNLOAD,
+        ASSET_INDEX,
+        ARTIFACT
+    }
+}
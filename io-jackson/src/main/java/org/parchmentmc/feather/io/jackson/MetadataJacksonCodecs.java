@@ -0,0 +1,647 @@
+package org.parchmentmc.feather.io.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.parchmentmc.feather.metadata.*;
+import org.parchmentmc.feather.named.Named;
+import org.parchmentmc.feather.util.SimpleVersion;
+
+import java.io.IOException;
+import java.util.LinkedHashSet;
+
+/**
+ * Jackson codecs for {@link Named} and the metadata classes.
+ *
+ * <p>The JSON format is the same as the format used by the GSON and Moshi adapters.</p>
+ *
+ * @see SourceMetadata
+ * @see ClassMetadata
+ * @see MethodMetadata
+ * @see Reference
+ * @see FieldMetadata
+ * @see BouncingTargetMetadata
+ * @see RecordMetadata
+ */
+public class MetadataJacksonCodecs {
+    private static final SimpleVersionCodec VERSION_CODEC = new SimpleVersionCodec();
+
+    private final NamedCodec namedCodec = new NamedCodec();
+    private final ReferenceCodec referenceCodec = new ReferenceCodec();
+    private final BouncingTargetMetadataCodec bouncingTargetCodec = new BouncingTargetMetadataCodec();
+    private final FieldMetadataCodec fieldCodec = new FieldMetadataCodec();
+    private final MethodMetadataCodec methodCodec = new MethodMetadataCodec();
+    private final RecordMetadataCodec recordCodec = new RecordMetadataCodec();
+    private final ClassMetadataCodec classCodec = new ClassMetadataCodec();
+    private final SourceMetadataCodec sourceCodec = new SourceMetadataCodec();
+
+    /**
+     * Returns the codec for the given type, or {@code null} if the type is not supported by these codecs.
+     *
+     * @param type the type
+     * @param <T>  the type
+     * @return the codec for the type, or {@code null} if not supported
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable
+    public <T> JsonCodec<T> getCodec(Class<T> type) {
+        if (type.equals(Named.class)) {
+            return (JsonCodec<T>) namedCodec;
+        } else if (type.equals(SourceMetadata.class)) {
+            return (JsonCodec<T>) sourceCodec;
+        } else if (type.equals(ClassMetadata.class)) {
+            return (JsonCodec<T>) classCodec;
+        } else if (type.equals(FieldMetadata.class)) {
+            return (JsonCodec<T>) fieldCodec;
+        } else if (type.equals(MethodMetadata.class)) {
+            return (JsonCodec<T>) methodCodec;
+        } else if (type.equals(Reference.class)) {
+            return (JsonCodec<T>) referenceCodec;
+        } else if (type.equals(BouncingTargetMetadata.class)) {
+            return (JsonCodec<T>) bouncingTargetCodec;
+        } else if (type.equals(RecordMetadata.class)) {
+            return (JsonCodec<T>) recordCodec;
+        }
+        return null;
+    }
+
+    /**
+     * Jackson codec for {@link SourceMetadata} objects.
+     */
+    class SourceMetadataCodec implements JsonCodec<SourceMetadata> {
+        @Override
+        public void write(JsonGenerator generator, SourceMetadata value) throws IOException {
+            if (value == null) {
+                generator.writeNull();
+                return;
+            }
+
+            generator.writeStartObject();
+            generator.writeFieldName("specVersion");
+            VERSION_CODEC.write(generator, value.getSpecificationVersion());
+            generator.writeStringField("minecraftVersion", value.getMinecraftVersion());
+            generator.writeFieldName("classes");
+            JacksonUtil.writeArray(generator, value.getClasses(), classCodec);
+            generator.writeEndObject();
+        }
+
+        @Override
+        public SourceMetadata read(JsonParser parser, NameTable names) throws IOException {
+            if (parser.currentToken() == JsonToken.VALUE_NULL) return null;
+            JacksonUtil.expect(parser, JsonToken.START_OBJECT);
+
+            SimpleVersion specVersion = null;
+            String minecraftVersion = null;
+            LinkedHashSet<ClassMetadata> classes = null;
+
+            String propertyName;
+            while ((propertyName = JacksonUtil.nextProperty(parser)) != null) {
+                switch (propertyName) {
+                    case "specVersion":
+                        specVersion = VERSION_CODEC.read(parser, names);
+                        break;
+                    case "minecraftVersion":
+                        minecraftVersion = parser.getValueAsString();
+                        break;
+                    case "classes":
+                        classes = JacksonUtil.readArray(parser, names, classCodec, LinkedHashSet::new);
+                        break;
+                    default:
+                        parser.skipChildren();
+                }
+            }
+
+            if (specVersion == null) throw new JsonParseException(parser, "Specification version is not present");
+            if (minecraftVersion == null) throw new JsonParseException(parser, "Minecraft version is not present");
+            if (classes == null) throw new JsonParseException(parser, "Classes Set is not present");
+
+            return SourceMetadataBuilder.create()
+                    .withMinecraftVersion(minecraftVersion)
+                    .withSpecVersion(specVersion)
+                    .withClasses(classes)
+                    .build();
+        }
+    }
+
+    /**
+     * Jackson codec for {@link ClassMetadata} objects.
+     */
+    class ClassMetadataCodec implements JsonCodec<ClassMetadata> {
+        @Override
+        public void write(JsonGenerator generator, ClassMetadata value) throws IOException {
+            if (value == null) {
+                generator.writeNull();
+                return;
+            }
+
+            generator.writeStartObject();
+            generator.writeFieldName("name");
+            namedCodec.write(generator, value.getName());
+            generator.writeFieldName("owner");
+            namedCodec.write(generator, value.getOwner());
+            generator.writeNumberField("security", value.getSecuritySpecification());
+            generator.writeFieldName("extends");
+            namedCodec.write(generator, value.getSuperName());
+            generator.writeFieldName("implements");
+            JacksonUtil.writeArray(generator, value.getInterfaces(), namedCodec);
+            generator.writeFieldName("fields");
+            JacksonUtil.writeArray(generator, value.getFields(), fieldCodec);
+            generator.writeFieldName("methods");
+            JacksonUtil.writeArray(generator, value.getMethods(), methodCodec);
+            generator.writeFieldName("records");
+            JacksonUtil.writeArray(generator, value.getRecords(), recordCodec);
+            generator.writeFieldName("inner");
+            JacksonUtil.writeArray(generator, value.getInnerClasses(), this);
+            generator.writeFieldName("signature");
+            namedCodec.write(generator, value.getSignature());
+            generator.writeBooleanField("record", value.isRecord());
+            generator.writeEndObject();
+        }
+
+        @Override
+        public ClassMetadata read(JsonParser parser, NameTable names) throws IOException {
+            if (parser.currentToken() == JsonToken.VALUE_NULL) return null;
+            JacksonUtil.expect(parser, JsonToken.START_OBJECT);
+
+            Named name = Named.empty();
+            Named owner = Named.empty();
+            int security = -1;
+            Named superName = Named.empty();
+            LinkedHashSet<Named> interfaces = null;
+            LinkedHashSet<FieldMetadata> fields = null;
+            LinkedHashSet<MethodMetadata> methods = null;
+            LinkedHashSet<RecordMetadata> records = null;
+            LinkedHashSet<ClassMetadata> innerClasses = null;
+            Named signature = Named.empty();
+            boolean isRecord = false;
+
+            String propertyName;
+            while ((propertyName = JacksonUtil.nextProperty(parser)) != null) {
+                switch (propertyName) {
+                    case "name":
+                        name = namedCodec.read(parser, names);
+                        break;
+                    case "owner":
+                        owner = namedCodec.read(parser, names);
+                        break;
+                    case "security":
+                        security = JacksonUtil.readInt(parser);
+                        break;
+                    case "extends":
+                        superName = namedCodec.read(parser, names);
+                        break;
+                    case "implements":
+                        interfaces = JacksonUtil.readArray(parser, names, namedCodec, LinkedHashSet::new);
+                        break;
+                    case "fields":
+                        fields = JacksonUtil.readArray(parser, names, fieldCodec, LinkedHashSet::new);
+                        break;
+                    case "records":
+                        records = JacksonUtil.readArray(parser, names, recordCodec, LinkedHashSet::new);
+                        break;
+                    case "methods":
+                        methods = JacksonUtil.readArray(parser, names, methodCodec, LinkedHashSet::new);
+                        break;
+                    case "inner":
+                        innerClasses = JacksonUtil.readArray(parser, names, this, LinkedHashSet::new);
+                        break;
+                    case "signature":
+                        signature = namedCodec.read(parser, names);
+                        break;
+                    case "record":
+                        isRecord = JacksonUtil.readBoolean(parser);
+                        break;
+                    default:
+                        parser.skipChildren();
+                }
+            }
+
+            if (name == null || name.isEmpty()) {
+                throw new JsonParseException(parser, "Class metadata name is not present or empty");
+            }
+            // owner can be empty
+            if (security == -1) {
+                throw new JsonParseException(parser, "Class metadata security specification is not present");
+            }
+            // superName can be empty
+            if (interfaces == null) {
+                interfaces = new LinkedHashSet<>();
+            }
+            if (fields == null) {
+                fields = new LinkedHashSet<>();
+            }
+            if (records == null) {
+                records = new LinkedHashSet<>();
+            }
+            if (methods == null) {
+                methods = new LinkedHashSet<>();
+            }
+            if (innerClasses == null) {
+                innerClasses = new LinkedHashSet<>();
+            }
+            if (!records.isEmpty()) {
+                isRecord = true;
+            }
+
+            return ClassMetadataBuilder.create()
+                    .withSuperName(superName)
+                    .withInterfaces(interfaces)
+                    .withOwner(owner)
+                    .withMethods(methods)
+                    .withFields(fields)
+                    .withInnerClasses(innerClasses)
+                    .withName(name)
+                    .withSecuritySpecifications(security)
+                    .withSignature(signature)
+                    .withRecords(records)
+                    .withIsRecord(isRecord)
+                    .build();
+        }
+    }
+
+    /**
+     * Jackson codec for {@link FieldMetadata} objects.
+     */
+    class FieldMetadataCodec implements JsonCodec<FieldMetadata> {
+        @Override
+        public void write(JsonGenerator generator, FieldMetadata value) throws IOException {
+            if (value == null) {
+                generator.writeNull();
+                return;
+            }
+
+            generator.writeStartObject();
+            generator.writeFieldName("name");
+            namedCodec.write(generator, value.getName());
+            generator.writeFieldName("owner");
+            namedCodec.write(generator, value.getOwner());
+            generator.writeNumberField("security", value.getSecuritySpecification());
+            generator.writeFieldName("descriptor");
+            namedCodec.write(generator, value.getDescriptor());
+            generator.writeFieldName("signature");
+            namedCodec.write(generator, value.getSignature());
+            generator.writeEndObject();
+        }
+
+        @Override
+        public FieldMetadata read(JsonParser parser, NameTable names) throws IOException {
+            if (parser.currentToken() == JsonToken.VALUE_NULL) return null;
+            JacksonUtil.expect(parser, JsonToken.START_OBJECT);
+
+            Named name = Named.empty();
+            Named owner = Named.empty();
+            int security = -1;
+            Named descriptor = Named.empty();
+            Named signature = Named.empty();
+
+            String propertyName;
+            while ((propertyName = JacksonUtil.nextProperty(parser)) != null) {
+                switch (propertyName) {
+                    case "name":
+                        name = namedCodec.read(parser, names);
+                        break;
+                    case "owner":
+                        owner = namedCodec.read(parser, names);
+                        break;
+                    case "security":
+                        security = JacksonUtil.readInt(parser);
+                        break;
+                    case "descriptor":
+                        descriptor = namedCodec.read(parser, names);
+                        break;
+                    case "signature":
+                        signature = namedCodec.read(parser, names);
+                        break;
+                    default:
+                        parser.skipChildren();
+                }
+            }
+
+            if (name == null || name.isEmpty()) throw new JsonParseException(parser, "Field name is not present or empty");
+            if (owner == null || owner.isEmpty()) throw new JsonParseException(parser, "Field owner is not present or empty");
+            if (security == -1) throw new JsonParseException(parser, "Field security specification is not present");
+            if (descriptor == null || descriptor.isEmpty())
+                throw new JsonParseException(parser, "Field descriptor is not present or empty");
+
+            return FieldMetadataBuilder.create()
+                    .withOwner(owner)
+                    .withName(name)
+                    .withSecuritySpecification(security)
+                    .withSignature(signature)
+                    .withDescriptor(descriptor)
+                    .build();
+        }
+    }
+
+    /**
+     * Jackson codec for {@link MethodMetadata} objects.
+     */
+    class MethodMetadataCodec implements JsonCodec<MethodMetadata> {
+        @Override
+        public void write(JsonGenerator generator, MethodMetadata value) throws IOException {
+            if (value == null) {
+                generator.writeNull();
+                return;
+            }
+
+            generator.writeStartObject();
+            generator.writeFieldName("name");
+            namedCodec.write(generator, value.getName());
+            generator.writeFieldName("owner");
+            namedCodec.write(generator, value.getOwner());
+            generator.writeNumberField("security", value.getSecuritySpecification());
+            generator.writeFieldName("descriptor");
+            namedCodec.write(generator, value.getDescriptor());
+            generator.writeFieldName("signature");
+            namedCodec.write(generator, value.getSignature());
+            generator.writeBooleanField("lambda", value.isLambda());
+            if (value.getBouncingTarget().isPresent()) {
+                generator.writeFieldName("bouncingTarget");
+                bouncingTargetCodec.write(generator, value.getBouncingTarget().get());
+            }
+            if (value.getParent().isPresent()) {
+                generator.writeFieldName("parent");
+                referenceCodec.write(generator, value.getParent().get());
+            }
+            if (!value.getOverrides().isEmpty()) {
+                generator.writeFieldName("overrides");
+                JacksonUtil.writeArray(generator, value.getOverrides(), referenceCodec);
+            }
+            if (value.getStartLine().isPresent()) {
+                generator.writeNumberField("startLine", value.getStartLine().orElse(0));
+            }
+            if (value.getEndLine().isPresent()) {
+                generator.writeNumberField("endLine", value.getEndLine().orElse(0));
+            }
+            generator.writeEndObject();
+        }
+
+        @Override
+        public MethodMetadata read(JsonParser parser, NameTable names) throws IOException {
+            if (parser.currentToken() == JsonToken.VALUE_NULL) return null;
+            JacksonUtil.expect(parser, JsonToken.START_OBJECT);
+
+            Named name = Named.empty();
+            Named owner = Named.empty();
+            int security = -1;
+            Named descriptor = Named.empty();
+            Named signature = Named.empty();
+            boolean lambda = false;
+            BouncingTargetMetadata bouncingTarget = null;
+            LinkedHashSet<Reference> overrides = null;
+            int startLine = 0;
+            int endLine = 0;
+            Reference parent = null;
+
+            String propertyName;
+            while ((propertyName = JacksonUtil.nextProperty(parser)) != null) {
+                switch (propertyName) {
+                    case "name":
+                        name = namedCodec.read(parser, names);
+                        break;
+                    case "owner":
+                        owner = namedCodec.read(parser, names);
+                        break;
+                    case "security":
+                        security = JacksonUtil.readInt(parser);
+                        break;
+                    case "descriptor":
+                        descriptor = namedCodec.read(parser, names);
+                        break;
+                    case "signature":
+                        signature = namedCodec.read(parser, names);
+                        break;
+                    case "lambda":
+                        lambda = JacksonUtil.readBoolean(parser);
+                        break;
+                    case "bouncingTarget":
+                        bouncingTarget = bouncingTargetCodec.read(parser, names);
+                        break;
+                    case "parent":
+                        parent = referenceCodec.read(parser, names);
+                        break;
+                    case "overrides":
+                        overrides = JacksonUtil.readArray(parser, names, referenceCodec, LinkedHashSet::new);
+                        break;
+                    case "startLine":
+                        startLine = JacksonUtil.readInt(parser);
+                        break;
+                    case "endLine":
+                        endLine = JacksonUtil.readInt(parser);
+                        break;
+                    default:
+                        parser.skipChildren();
+                }
+            }
+
+            if (name == null || name.isEmpty())
+                throw new JsonParseException(parser, "Method metadata name is not present or empty");
+            if (owner == null || owner.isEmpty())
+                throw new JsonParseException(parser, "Method metadata owner is not present or empty");
+            if (descriptor == null || descriptor.isEmpty())
+                throw new JsonParseException(parser, "Method metadata descriptor is not present or empty");
+            if (security == -1) throw new JsonParseException(parser, "Method metadata security specification is not present");
+            // lambda is a primitive
+            // bouncingTarget can be null
+            if (overrides == null) overrides = new LinkedHashSet<>();
+            if (startLine < 0) throw new JsonParseException(parser, "Method metadata contains negative start line");
+            if (endLine < 0) throw new JsonParseException(parser, "Method metadata contains negative end line");
+            if (endLine < startLine) throw new JsonParseException(parser, "Method metadata contains end before start");
+
+            return MethodMetadataBuilder.create()
+                    .withBouncingTarget(bouncingTarget)
+                    .withName(name)
+                    .withOwner(owner)
+                    .withDescriptor(descriptor)
+                    .withSignature(signature)
+                    .withSecuritySpecification(security)
+                    .withParent(parent)
+                    .withOverrides(overrides)
+                    .withStartLine(startLine)
+                    .withEndLine(endLine)
+                    .withLambda(lambda)
+                    .build();
+        }
+    }
+
+    /**
+     * Jackson codec for {@link RecordMetadata} objects.
+     */
+    class RecordMetadataCodec implements JsonCodec<RecordMetadata> {
+        @Override
+        public void write(JsonGenerator generator, RecordMetadata value) throws IOException {
+            if (value == null) {
+                generator.writeNull();
+                return;
+            }
+
+            generator.writeStartObject();
+            generator.writeFieldName("owner");
+            namedCodec.write(generator, value.getOwner());
+            generator.writeFieldName("field");
+            referenceCodec.write(generator, value.getField());
+            generator.writeFieldName("getter");
+            referenceCodec.write(generator, value.getGetter());
+            generator.writeEndObject();
+        }
+
+        @Override
+        public RecordMetadata read(JsonParser parser, NameTable names) throws IOException {
+            if (parser.currentToken() == JsonToken.VALUE_NULL) return null;
+            JacksonUtil.expect(parser, JsonToken.START_OBJECT);
+
+            Named owner = Named.empty();
+            Reference field = null;
+            Reference getter = null;
+
+            String propertyName;
+            while ((propertyName = JacksonUtil.nextProperty(parser)) != null) {
+                switch (propertyName) {
+                    case "owner":
+                        owner = namedCodec.read(parser, names);
+                        break;
+                    case "field":
+                        field = referenceCodec.read(parser, names);
+                        break;
+                    case "getter":
+                        getter = referenceCodec.read(parser, names);
+                        break;
+                    default:
+                        parser.skipChildren();
+                }
+            }
+
+            if (owner == null || owner.isEmpty()) {
+                throw new JsonParseException(parser, "Record owner is not present or empty");
+            }
+            if (field == null) {
+                throw new JsonParseException(parser, "Record field is not present or empty");
+            }
+            if (getter == null) {
+                throw new JsonParseException(parser, "Record getter is not present or empty");
+            }
+
+            return RecordMetadataBuilder.create()
+                    .withOwner(owner)
+                    .withField(field)
+                    .withGetter(getter)
+                    .build();
+        }
+    }
+
+    /**
+     * Jackson codec for {@link Reference} objects.
+     */
+    class ReferenceCodec implements JsonCodec<Reference> {
+        @Override
+        public void write(JsonGenerator generator, Reference value) throws IOException {
+            if (value == null) {
+                generator.writeNull();
+                return;
+            }
+
+            generator.writeStartObject();
+            generator.writeFieldName("name");
+            namedCodec.write(generator, value.getName());
+            generator.writeFieldName("owner");
+            namedCodec.write(generator, value.getOwner());
+            generator.writeFieldName("descriptor");
+            namedCodec.write(generator, value.getDescriptor());
+            generator.writeFieldName("signature");
+            namedCodec.write(generator, value.getSignature());
+            generator.writeEndObject();
+        }
+
+        @Override
+        public Reference read(JsonParser parser, NameTable names) throws IOException {
+            if (parser.currentToken() == JsonToken.VALUE_NULL) return null;
+            JacksonUtil.expect(parser, JsonToken.START_OBJECT);
+
+            Named name = Named.empty();
+            Named owner = Named.empty();
+            Named descriptor = Named.empty();
+            Named signature = Named.empty();
+
+            String propertyName;
+            while ((propertyName = JacksonUtil.nextProperty(parser)) != null) {
+                switch (propertyName) {
+                    case "name":
+                        name = namedCodec.read(parser, names);
+                        break;
+                    case "owner":
+                        owner = namedCodec.read(parser, names);
+                        break;
+                    case "descriptor":
+                        descriptor = namedCodec.read(parser, names);
+                        break;
+                    case "signature":
+                        signature = namedCodec.read(parser, names);
+                        break;
+                    default:
+                        parser.skipChildren();
+                }
+            }
+
+            if (name == null || name.isEmpty()) throw new JsonParseException(parser, "Method reference name is not present");
+            if (owner == null || owner.isEmpty()) throw new JsonParseException(parser, "Method reference owner is not present");
+            if (descriptor == null || descriptor.isEmpty())
+                throw new JsonParseException(parser, "Method reference descriptor is not present");
+
+            return ReferenceBuilder.create()
+                    .withOwner(owner)
+                    .withName(name)
+                    .withSignature(signature)
+                    .withDescriptor(descriptor)
+                    .build();
+        }
+    }
+
+    /**
+     * Jackson codec for {@link BouncingTargetMetadata} objects.
+     */
+    class BouncingTargetMetadataCodec implements JsonCodec<BouncingTargetMetadata> {
+        @Override
+        public void write(JsonGenerator generator, BouncingTargetMetadata value) throws IOException {
+            if (value == null) {
+                generator.writeNull();
+                return;
+            }
+
+            generator.writeStartObject();
+            if (value.getTarget().isPresent()) {
+                generator.writeFieldName("target");
+                referenceCodec.write(generator, value.getTarget().get());
+            }
+            if (value.getOwner().isPresent()) {
+                generator.writeFieldName("owner");
+                referenceCodec.write(generator, value.getOwner().get());
+            }
+            generator.writeEndObject();
+        }
+
+        @Override
+        public BouncingTargetMetadata read(JsonParser parser, NameTable names) throws IOException {
+            if (parser.currentToken() == JsonToken.VALUE_NULL) return null;
+            JacksonUtil.expect(parser, JsonToken.START_OBJECT);
+
+            final BouncingTargetMetadataBuilder builder = BouncingTargetMetadataBuilder.create();
+            String propertyName;
+            while ((propertyName = JacksonUtil.nextProperty(parser)) != null) {
+                switch (propertyName) {
+                    case "target":
+                        builder.withTarget(referenceCodec.read(parser, names));
+                        break;
+                    case "owner":
+                        builder.withOwner(referenceCodec.read(parser, names));
+                        break;
+                    default:
+                        parser.skipChildren();
+                }
+            }
+
+            return builder.build();
+        }
+    }
+}
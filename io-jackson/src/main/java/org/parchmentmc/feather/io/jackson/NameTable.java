@@ -0,0 +1,123 @@
+package org.parchmentmc.feather.io.jackson;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+
+/**
+ * A table of canonical names, used to share a single {@code String} instance between all equal names read by the codecs.
+ *
+ * <p>Metadata and mapping exports repeat the same owners, descriptors and names many times over. When a name table is
+ * in use, names are looked up directly from the parser's text buffer, so a name which was already seen is returned
+ * without allocating a new string.</p>
+ *
+ * <p>A name table is not thread-safe, and is meant to be used for a single read. The {@link #NONE} table does not
+ * canonicalize names.</p>
+ */
+public class NameTable {
+    /**
+     * A name table which does not canonicalize names, and returns a new string for every name read.
+     */
+    public static final NameTable NONE = new NameTable(0);
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private String[] table;
+    private int size = 0;
+
+    private NameTable(int capacity) {
+        this.table = new String[capacity];
+    }
+
+    /**
+     * Creates a new, empty name table.
+     *
+     * @return a new name table
+     */
+    public static NameTable create() {
+        return new NameTable(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Returns the number of distinct names in this table.
+     *
+     * @return the number of names
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Reads the string value of the current token of the parser, canonicalized by this table.
+     *
+     * @param parser the parser, positioned on a string or {@code null} token
+     * @return the canonical string value, or {@code null} for a {@code null} token
+     * @throws IOException if an I/O error occurs while reading
+     */
+    public String read(JsonParser parser) throws IOException {
+        final JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) return null;
+        if (token != JsonToken.VALUE_STRING) {
+            throw new JsonParseException(parser, "Expected a string but was " + token);
+        }
+        if (table.length == 0) return parser.getText();
+        return canonicalize(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+    }
+
+    /**
+     * Returns the canonical string for the given string.
+     *
+     * @param name the string
+     * @return the canonical string equal to the given string
+     */
+    public String canonicalize(String name) {
+        if (table.length == 0) return name;
+        return canonicalize(name.toCharArray(), 0, name.length());
+    }
+
+    private String canonicalize(char[] chars, int offset, int length) {
+        int hash = 0;
+        for (int i = offset; i < offset + length; i++) {
+            hash = 31 * hash + chars[i];
+        }
+
+        int mask = table.length - 1;
+        int slot = spread(hash) & mask;
+        String existing;
+        while ((existing = table[slot]) != null) {
+            if (existing.hashCode() == hash && matches(existing, chars, offset, length)) return existing;
+            slot = (slot + 1) & mask;
+        }
+
+        final String name = new String(chars, offset, length);
+        table[slot] = name;
+        if (++size > table.length >> 1) rehash();
+        return name;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static boolean matches(String existing, char[] chars, int offset, int length) {
+        if (existing.length() != length) return false;
+        for (int i = 0; i < length; i++) {
+            if (existing.charAt(i) != chars[offset + i]) return false;
+        }
+        return true;
+    }
+
+    private void rehash() {
+        final String[] old = table;
+        table = new String[old.length << 1];
+        final int mask = table.length - 1;
+        for (String name : old) {
+            if (name == null) continue;
+            int slot = spread(name.hashCode()) & mask;
+            while (table[slot] != null) slot = (slot + 1) & mask;
+            table[slot] = name;
+        }
+    }
+}
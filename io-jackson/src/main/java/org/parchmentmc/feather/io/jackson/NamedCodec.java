@@ -0,0 +1,43 @@
+package org.parchmentmc.feather.io.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.parchmentmc.feather.named.Named;
+import org.parchmentmc.feather.named.NamedBuilder;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Jackson codec for {@link Named} objects.
+ */
+public class NamedCodec implements JsonCodec<Named> {
+    @Override
+    public void write(JsonGenerator generator, Named value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject();
+        for (final Map.Entry<String, String> schemaNameEntry : value.getNames().entrySet()) {
+            generator.writeStringField(schemaNameEntry.getKey(), schemaNameEntry.getValue());
+        }
+        generator.writeEndObject();
+    }
+
+    @Override
+    public Named read(JsonParser parser, NameTable names) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) return null;
+        JacksonUtil.expect(parser, JsonToken.START_OBJECT);
+
+        NamedBuilder builder = NamedBuilder.create();
+        String schema;
+        while ((schema = JacksonUtil.nextProperty(parser)) != null) {
+            builder.with(schema, names.read(parser));
+        }
+
+        return builder.build();
+    }
+}
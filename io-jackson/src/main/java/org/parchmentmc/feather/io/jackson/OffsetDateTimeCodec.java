@@ -0,0 +1,57 @@
+package org.parchmentmc.feather.io.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Jackson codec for {@link OffsetDateTime}s.
+ */
+public class OffsetDateTimeCodec implements JsonCodec<OffsetDateTime> {
+    private final DateTimeFormatter formatter;
+
+    /**
+     * Constructs this codec with the specified formatter.
+     *
+     * @param formatter the date time formatter
+     */
+    public OffsetDateTimeCodec(DateTimeFormatter formatter) {
+        this.formatter = formatter;
+    }
+
+    /**
+     * Constructs this codec, using the {@link DateTimeFormatter#ISO_OFFSET_DATE_TIME} formatter.
+     */
+    public OffsetDateTimeCodec() {
+        this(DateTimeFormatter.ISO_OFFSET_DATE_TIME);
+    }
+
+    /**
+     * Returns the date time formatter in use by this codec.
+     *
+     * @return the formatter used by this codec
+     */
+    public DateTimeFormatter getFormatter() {
+        return formatter;
+    }
+
+    @Override
+    public void write(JsonGenerator generator, OffsetDateTime value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeString(getFormatter().format(value));
+    }
+
+    @Override
+    public OffsetDateTime read(JsonParser parser, NameTable names) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) return null;
+        JacksonUtil.expect(parser, JsonToken.VALUE_STRING);
+        return OffsetDateTime.parse(parser.getText(), getFormatter());
+    }
+}
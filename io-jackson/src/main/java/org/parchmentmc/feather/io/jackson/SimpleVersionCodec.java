@@ -0,0 +1,29 @@
+package org.parchmentmc.feather.io.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.parchmentmc.feather.util.SimpleVersion;
+
+import java.io.IOException;
+
+/**
+ * Jackson codec for {@link SimpleVersion}s.
+ */
+public class SimpleVersionCodec implements JsonCodec<SimpleVersion> {
+    @Override
+    public void write(JsonGenerator generator, SimpleVersion value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeString(value.toString());
+    }
+
+    @Override
+    public SimpleVersion read(JsonParser parser, NameTable names) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) return null;
+        JacksonUtil.expect(parser, JsonToken.VALUE_STRING);
+        return SimpleVersion.of(parser.getText());
+    }
+}
@@ -0,0 +1,69 @@
+package org.parchmentmc.feather.io.jackson.spi;
+
+import org.parchmentmc.feather.io.jackson.FeatherJackson;
+import org.parchmentmc.feather.io.jackson.JsonCodec;
+import org.parchmentmc.feather.spi.IOAdapter;
+import org.parchmentmc.feather.spi.IOAdapterFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * {@link IOAdapterFactory} for the Jackson streaming API, using the codecs of this module.
+ */
+public class JacksonAdapterFactory implements IOAdapterFactory {
+
+    private final FeatherJackson jackson;
+
+    public JacksonAdapterFactory(FeatherJackson jackson) {
+        this.jackson = jackson;
+    }
+
+    public JacksonAdapterFactory() {
+        this(new FeatherJackson(false, true));
+    }
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return jackson.supports(clazz);
+    }
+
+    @Override
+    public int priority() {
+        return 30;
+    }
+
+    @Override
+    public <T> IOAdapter<T> create(Class<T> clazz) {
+        return new JacksonWrapper<>(jackson, jackson.getCodec(clazz));
+    }
+
+    static class JacksonWrapper<T> implements IOAdapter<T> {
+
+        private final FeatherJackson jackson;
+        private final JsonCodec<T> codec;
+
+        JacksonWrapper(FeatherJackson jackson, JsonCodec<T> codec) {
+            this.jackson = jackson;
+            this.codec = codec;
+        }
+
+        @Override
+        public String name() {
+            return "jackson";
+        }
+
+        @Override
+        public T read(InputStream in) throws IOException {
+            return jackson.read(in, codec);
+        }
+
+        @Override
+        public void write(OutputStream out, T value) throws IOException {
+            jackson.write(out, codec, value);
+            out.flush();
+        }
+    }
+
+}
@@ -0,0 +1,70 @@
+package org.parchmentmc.feather.io.jackson;
+
+import org.junit.jupiter.api.Test;
+import org.parchmentmc.feather.manifests.MDCTestConstants;
+import org.parchmentmc.feather.mapping.MappingDataContainer.ClassData;
+import org.parchmentmc.feather.mapping.MappingDataContainer.FieldData;
+import org.parchmentmc.feather.mapping.MappingDataContainer.MethodData;
+import org.parchmentmc.feather.mapping.MappingDataContainer.PackageData;
+import org.parchmentmc.feather.mapping.MappingPatch;
+import org.parchmentmc.feather.mapping.VersionedMappingDataContainer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.parchmentmc.feather.mapping.ImmutableMappingDataContainer.ParameterData;
+
+public class MDCJacksonCodecsTest extends JacksonTest implements MDCTestConstants {
+    @Test
+    public void testParameters() {
+        PARAMETERS.forEach(data -> test(ParameterData.class, data));
+    }
+
+    @Test
+    public void testMethods() {
+        METHODS.forEach(data -> test(MethodData.class, data));
+    }
+
+    @Test
+    public void testFields() {
+        FIELDS.forEach(data -> test(FieldData.class, data));
+    }
+
+    @Test
+    public void testClasses() {
+        CLASSES.forEach(data -> test(ClassData.class, data));
+    }
+
+    @Test
+    public void testPackages() {
+        PACKAGES.forEach(data -> test(PackageData.class, data));
+    }
+
+    @Test
+    public void testDataContainers() {
+        DATA_CONTAINERS.forEach(data -> test(VersionedMappingDataContainer.class, data));
+    }
+
+    @Test
+    public void testPatches() {
+        PATCHES.forEach(data -> test(MappingPatch.class, data));
+    }
+
+    @Test
+    public void testPatchValueBeforeType() throws Exception {
+        final String json = "{\"changes\":[{\"value\":[\"A javadoc\"],\"name\":\"ClassOne\",\"element\":\"CLASS\","
+                + "\"type\":\"JAVADOC_CHANGED\"}]}";
+        final String expected = "{\"changes\":[{\"type\":\"JAVADOC_CHANGED\",\"element\":\"CLASS\",\"name\":\"ClassOne\","
+                + "\"value\":[\"A javadoc\"]}]}";
+
+        assertEquals(expected, jackson.toJson(jackson.fromJson(json, MappingPatch.class), MappingPatch.class));
+    }
+
+    @Test
+    public void testPatchesWithIgnoringCodecs() throws Exception {
+        final FeatherJackson ignoringJackson = new FeatherJackson(true, false);
+
+        // Added entries are written and read in full, even if undocumented
+        for (MappingPatch patch : PATCHES) {
+            assertEquals(patch, ignoringJackson.fromJson(ignoringJackson.toJson(patch, MappingPatch.class), MappingPatch.class));
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package org.parchmentmc.feather.io.jackson;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import org.junit.jupiter.api.Test;
+import org.parchmentmc.feather.manifests.LauncherManifest;
+import org.parchmentmc.feather.manifests.Library;
+import org.parchmentmc.feather.manifests.ManifestTestConstants;
+import org.parchmentmc.feather.manifests.VersionManifest;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ManifestsJacksonCodecsTest extends JacksonTest implements ManifestTestConstants {
+    @Test
+    public void testLauncherManifests() {
+        LAUNCHER_MANIFESTS.forEach(data -> test(LauncherManifest.class, data));
+    }
+
+    @Test
+    public void testVersionManifests() {
+        VERSION_MANIFESTS.forEach(data -> test(VersionManifest.class, data));
+    }
+
+    @Test
+    public void testLibraries() {
+        LIBRARIES.forEach(data -> test(Library.class, data));
+    }
+
+    @Test
+    public void testUnknownProperties() throws IOException {
+        final Library library = jackson.fromJson("{\"downloads\":{\"artifact\":{\"path\":\"a.jar\","
+                + "\"sha1\":\"" + SHA1 + "\",\"size\":1,\"url\":\"https://example.com/a.jar\",\"extra\":[1,2]}},"
+                + "\"name\":\"a:a:1\",\"downloadsExtra\":{\"nested\":{}}}", Library.class);
+
+        assertNotNull(library);
+        assertEquals("a:a:1", library.getName());
+        assertNotNull(library.getDownloads().getArtifact());
+        assertEquals("a.jar", library.getDownloads().getArtifact().getPath());
+        assertTrue(library.getRules().isEmpty());
+    }
+
+    @Test
+    public void testMissingName() {
+        assertThrows(JsonParseException.class, () -> jackson.fromJson("{\"downloads\":{}}", Library.class));
+    }
+}
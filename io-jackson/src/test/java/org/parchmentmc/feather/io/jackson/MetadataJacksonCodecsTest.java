@@ -0,0 +1,55 @@
+package org.parchmentmc.feather.io.jackson;
+
+import org.junit.jupiter.api.Test;
+import org.parchmentmc.feather.metadata.*;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class MetadataJacksonCodecsTest extends JacksonTest implements MetadataTestConstants {
+    @Test
+    public void testMethodReferences() {
+        METHOD_REFERENCES.forEach(data -> test(Reference.class, data));
+    }
+
+    @Test
+    public void testMethodMetadata() {
+        METHOD_METADATA.forEach(data -> test(MethodMetadata.class, data));
+    }
+
+    @Test
+    public void testFieldMetadata() {
+        FIELD_METADATA.forEach(data -> test(FieldMetadata.class, data));
+    }
+
+    @Test
+    public void testClassMetadata() {
+        CLASS_METADATA.forEach(data -> test(ClassMetadata.class, data));
+    }
+
+    @Test
+    public void testSourceMetadata() {
+        SOURCE_METADATA.forEach(data -> test(SourceMetadata.class, data));
+    }
+
+    @Test
+    public void testCanonicalizedNames() throws Exception {
+        final String reference = "{\"name\":{\"obf\":\"a\"},\"owner\":{\"obf\":\"b\"},\"descriptor\":{\"obf\":\"()V\"},"
+                + "\"signature\":{}}";
+        final String json = "{\"name\":{\"obf\":\"m\"},\"owner\":{\"obf\":\"b\"},\"security\":0,"
+                + "\"descriptor\":{\"obf\":\"()V\"},\"signature\":{},\"lambda\":false,\"parent\":" + reference
+                + ",\"overrides\":[" + reference + "]}";
+
+        // Equal names within a single read share the same instance
+        final MethodMetadata method = new FeatherJackson(false, true)
+                .fromJson(json.getBytes(StandardCharsets.UTF_8), MethodMetadata.class);
+        final Reference parent = method.getParent().orElseThrow(AssertionError::new);
+        final Reference override = method.getOverrides().iterator().next();
+
+        assertSame(method.getOwner().getObfuscatedName().orElse(null), parent.getOwner().getObfuscatedName().orElse(null));
+        assertSame(method.getDescriptor().getObfuscatedName().orElse(null),
+                override.getDescriptor().getObfuscatedName().orElse(null));
+        assertSame(parent.getName().getObfuscatedName().orElse(null), override.getName().getObfuscatedName().orElse(null));
+    }
+}
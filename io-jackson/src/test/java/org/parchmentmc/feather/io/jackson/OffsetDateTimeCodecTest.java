@@ -0,0 +1,16 @@
+package org.parchmentmc.feather.io.jackson;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+public class OffsetDateTimeCodecTest extends JacksonTest {
+    @Test
+    public void testJackson() {
+        test(OffsetDateTime.class, OffsetDateTime.MIN);
+        test(OffsetDateTime.class, OffsetDateTime.MAX);
+        test(OffsetDateTime.class, OffsetDateTime.ofInstant(Instant.EPOCH, ZoneOffset.UTC));
+    }
+}
@@ -0,0 +1,12 @@
+package org.parchmentmc.feather.io.jackson;
+
+import org.junit.jupiter.api.Test;
+import org.parchmentmc.feather.util.SimpleVersion;
+
+public class SimpleVersionCodecTest extends JacksonTest {
+    @Test
+    public void testJackson() {
+        test(SimpleVersion.class, SimpleVersion.of(1, 2, 3));
+        test(SimpleVersion.class, SimpleVersion.of("1.4"));
+    }
+}
@@ -0,0 +1,69 @@
+package org.parchmentmc.feather.io.jackson;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.function.ThrowingSupplier;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Superclass for tests which use the Jackson codecs (such as de/serialization tests).
+ */
+public class JacksonTest {
+    protected final FeatherJackson jackson;
+
+    protected JacksonTest(FeatherJackson jackson) {
+        this.jackson = jackson;
+    }
+
+    protected JacksonTest() {
+        this(new FeatherJackson());
+    }
+
+    /**
+     * Tests the given object using the codec for the given class.
+     *
+     * <p>This method performs assertions based on the given class and object, and asserts that:</p>
+     * <ol>
+     *     <li>The codec {@linkplain Assertions#assertDoesNotThrow(ThrowingSupplier) does not throw an exception}
+     *     while serializing the original object.</li>
+     *     <li>The codec does not throw an exception while deserializing the resulting JSON from assertion #1.</li>
+     *     <li>The codec does not throw an exception while serializing the resulting object from assertion #2.</li>
+     *     <li>The codec does not throw an exception while deserializing the resulting JSON from assertion #3.</li>
+     *     <li>The original object and the resulting object from assertion #2 {@linkplain
+     *     Assertions#assertEquals(Object, Object) are equal}.</li>
+     *     <li>The resulting objects from assertions #2 and #4 are equal.</li>
+     *     <li>The original object and the resulting object from assertion #2 {@linkplain
+     *     Assertions#assertNotSame(Object, Object) are not the same object}.</li>
+     *     <li>The resulting objects from assertions #2 and #4 are not the same
+     *     object.</li>
+     *     <li>The resulting JSONs from assertions #1 and #4 are equal.</li>
+     *     <li>The JSON written as a string is equal to the UTF-8 encoded JSON from assertion #1.</li>
+     * </ol>
+     *
+     * @param typeClass The class of the object under test
+     * @param original  The original object
+     * @param <T>       The type of the object under test
+     */
+    protected <T> void test(Class<T> typeClass, T original) {
+        final byte[] originalJson = assertDoesNotThrow(() -> jackson.toJsonBytes(original, typeClass));
+
+        final T versionA = assertDoesNotThrow(() -> jackson.fromJson(originalJson, typeClass));
+
+        final byte[] versionAJson = assertDoesNotThrow(() -> jackson.toJsonBytes(versionA, typeClass));
+
+        final T versionB = assertDoesNotThrow(() -> jackson.fromJson(versionAJson, typeClass));
+
+        assertEquals(original, versionA);
+        assertEquals(versionA, versionB);
+
+        assertNotSame(original, versionA);
+        assertNotSame(versionA, versionB);
+
+        assertArrayEquals(originalJson, versionAJson);
+
+        final String originalString = assertDoesNotThrow(() -> jackson.toJson(original, typeClass));
+        assertArrayEquals(originalJson, originalString.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,96 @@
+package org.parchmentmc.feather.io.moshi;
+
+import com.squareup.moshi.JsonWriter;
+import com.squareup.moshi.Moshi;
+import okio.BufferedSink;
+import okio.Okio;
+import org.parchmentmc.feather.mapping.MappingUtil;
+import org.parchmentmc.feather.mapping.VersionedMappingDataContainer;
+import org.parchmentmc.feather.metadata.MetadataOrdering;
+import org.parchmentmc.feather.metadata.SourceMetadata;
+import org.parchmentmc.feather.util.ContentHashOutputStream;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes data as canonical JSON using the adapters of a {@link Moshi} instance, computing the SHA-256 hash of the
+ * written bytes along the way.
+ *
+ * <p>Canonical JSON is byte-stable: equal data is always written as the same bytes, and so has the same hash. The data
+ * is first converted into its canonical form (see {@link MappingUtil#canonicalize(VersionedMappingDataContainer)} and
+ * {@link MetadataOrdering#canonicalize(SourceMetadata)}), so that all entries are written in a defined order, and the
+ * properties of each object are written in the fixed order of the adapters. The JSON is written as UTF-8 without any
+ * insignificant whitespace, and without null properties.</p>
+ */
+public class CanonicalMoshiWriter {
+    private final Moshi moshi;
+
+    public CanonicalMoshiWriter(Moshi moshi) {
+        this.moshi = moshi;
+    }
+
+    /**
+     * Writes the canonical JSON of the given mapping data to the given stream. The stream is flushed, but not closed.
+     *
+     * @param data the mapping data
+     * @param out  the output stream
+     * @return the SHA-256 hash of the written bytes, in lowercase hexadecimal
+     * @throws IOException if an I/O error occurs while writing
+     */
+    public String write(VersionedMappingDataContainer data, OutputStream out) throws IOException {
+        return write(VersionedMappingDataContainer.class, MappingUtil.canonicalize(data), out);
+    }
+
+    /**
+     * Writes the canonical JSON of the given source metadata to the given stream. The stream is flushed, but not
+     * closed.
+     *
+     * @param metadata the source metadata
+     * @param out      the output stream
+     * @return the SHA-256 hash of the written bytes, in lowercase hexadecimal
+     * @throws IOException if an I/O error occurs while writing
+     */
+    public String write(SourceMetadata metadata, OutputStream out) throws IOException {
+        return write(SourceMetadata.class, MetadataOrdering.canonicalize(metadata), out);
+    }
+
+    /**
+     * Returns the SHA-256 hash of the canonical JSON of the given mapping data, without keeping the JSON.
+     *
+     * @param data the mapping data
+     * @return the hash of the canonical JSON, in lowercase hexadecimal
+     */
+    public String hash(VersionedMappingDataContainer data) {
+        try {
+            return write(data, new ContentHashOutputStream());
+        } catch (IOException e) {
+            throw new AssertionError("Discarding stream threw an exception", e);
+        }
+    }
+
+    /**
+     * Returns the SHA-256 hash of the canonical JSON of the given source metadata, without keeping the JSON.
+     *
+     * @param metadata the source metadata
+     * @return the hash of the canonical JSON, in lowercase hexadecimal
+     */
+    public String hash(SourceMetadata metadata) {
+        try {
+            return write(metadata, new ContentHashOutputStream());
+        } catch (IOException e) {
+            throw new AssertionError("Discarding stream threw an exception", e);
+        }
+    }
+
+    private <T> String write(Class<T> type, T value, OutputStream out) throws IOException {
+        final ContentHashOutputStream hashingStream = new ContentHashOutputStream(out);
+        final BufferedSink sink = Okio.buffer(Okio.sink(hashingStream));
+        final JsonWriter writer = JsonWriter.of(sink);
+        writer.setSerializeNulls(false);
+        moshi.adapter(type).toJson(writer, value);
+        // Closing the writer would close the given stream
+        writer.flush();
+        return hashingStream.getHash();
+    }
+}
@@ -3,24 +3,38 @@ package org.parchmentmc.feather.io.moshi;
 import com.squareup.moshi.*;
 import org.parchmentmc.feather.mapping.ImmutableMappingDataContainer;
 import org.parchmentmc.feather.mapping.ImmutableVersionedMappingDataContainer;
+import org.parchmentmc.feather.mapping.MappingChange;
 import org.parchmentmc.feather.mapping.MappingDataContainer;
+import org.parchmentmc.feather.mapping.MappingDataFilter;
+import org.parchmentmc.feather.mapping.MappingPatch;
 import org.parchmentmc.feather.mapping.VersionedMappingDataContainer;
 import org.parchmentmc.feather.util.SimpleVersion;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 
 /**
- * Moshi adapter for {@link VersionedMappingDataContainer}s and its inner data classes.
+ * Moshi adapter for {@link VersionedMappingDataContainer}s and its inner data classes, and for {@link MappingPatch}es.
+ *
+ * <p>If a {@link MappingDataFilter} is given, the adapter skips excluded packages and classes (and javadocs, if
+ * excluded) while reading, without materializing them. Excluded entries are read as {@code null} by the adapters for
+ * single entries, and are left out of the mapping data container.</p>
  */
 @SuppressWarnings("unused")
 public class MDCMoshiAdapter {
     private final boolean ignoreNonDocumented;
+    private final MappingDataFilter filter;
 
-    public MDCMoshiAdapter(boolean ignoreNonDocumented) {
+    public MDCMoshiAdapter(boolean ignoreNonDocumented, MappingDataFilter filter) {
         this.ignoreNonDocumented = ignoreNonDocumented;
+        this.filter = filter;
+    }
+
+    public MDCMoshiAdapter(boolean ignoreNonDocumented) {
+        this(ignoreNonDocumented, MappingDataFilter.all());
     }
 
     public MDCMoshiAdapter() {
@@ -36,6 +50,15 @@ public class MDCMoshiAdapter {
         return ignoreNonDocumented;
     }
 
+    /**
+     * Returns the filter for reading mapping data.
+     *
+     * @return the filter for reading
+     */
+    public MappingDataFilter getFilter() {
+        return filter;
+    }
+
     /* ****************** Serialization ****************** */
 
     @ToJson
@@ -45,9 +68,12 @@ public class MDCMoshiAdapter {
                          JsonAdapter<Collection<? extends MappingDataContainer.PackageData>> packageAdapter,
                          JsonAdapter<Collection<? extends MappingDataContainer.ClassData>> classAdapter) throws IOException {
         writer.beginObject();
-        writer.name("version").jsonValue(versionAdapter.toJsonValue(container.getFormatVersion()));
-        writer.name("packages").jsonValue(packageAdapter.toJsonValue(container.getPackages()));
-        writer.name("classes").jsonValue(classAdapter.toJsonValue(container.getClasses()));
+        writer.name("version");
+        versionAdapter.toJson(writer, container.getFormatVersion());
+        writer.name("packages");
+        packageAdapter.toJson(writer, container.getPackages());
+        writer.name("classes");
+        classAdapter.toJson(writer, container.getClasses());
         writer.endObject();
     }
 
@@ -55,12 +81,14 @@ public class MDCMoshiAdapter {
     void packageToJson(JsonWriter writer,
                        MappingDataContainer.PackageData packageData,
                        JsonAdapter<List<String>> stringListAdapter) throws IOException {
-        if (isIgnoreNonDocumented() && packageData.getJavadoc().isEmpty()) return;
+        if (isIgnoreNonDocumented() && !isDocumented(packageData)) return;
 
         writer.beginObject()
                 .name("name").value(packageData.getName());
-        if (!packageData.getJavadoc().isEmpty())
-            writer.name("javadoc").jsonValue(stringListAdapter.toJsonValue(packageData.getJavadoc()));
+        if (!packageData.getJavadoc().isEmpty()) {
+            writer.name("javadoc");
+            stringListAdapter.toJson(writer, packageData.getJavadoc());
+        }
         writer.endObject();
     }
 
@@ -70,21 +98,22 @@ public class MDCMoshiAdapter {
                      JsonAdapter<List<String>> stringListAdapter,
                      JsonAdapter<Collection<? extends MappingDataContainer.FieldData>> fieldAdapter,
                      JsonAdapter<Collection<? extends MappingDataContainer.MethodData>> methodAdapter) throws IOException {
-        Object fields = fieldAdapter.toJsonValue(classData.getFields());
-        Object methods = methodAdapter.toJsonValue(classData.getMethods());
-        if (isIgnoreNonDocumented()
-                && (fields == null || (fields instanceof Collection && ((Collection<?>) fields).isEmpty()))
-                && (methods == null || (methods instanceof Collection && ((Collection<?>) methods).isEmpty()))
-                && classData.getJavadoc().isEmpty()) return;
+        if (isIgnoreNonDocumented() && !isDocumented(classData)) return;
 
         writer.beginObject()
                 .name("name").value(classData.getName());
-        if (!classData.getJavadoc().isEmpty())
-            writer.name("javadoc").jsonValue(stringListAdapter.toJsonValue(classData.getJavadoc()));
-        if (!classData.getFields().isEmpty())
-            writer.name("fields").jsonValue(fields);
-        if (!classData.getMethods().isEmpty())
-            writer.name("methods").jsonValue(methods);
+        if (!classData.getJavadoc().isEmpty()) {
+            writer.name("javadoc");
+            stringListAdapter.toJson(writer, classData.getJavadoc());
+        }
+        if (!classData.getFields().isEmpty()) {
+            writer.name("fields");
+            fieldAdapter.toJson(writer, classData.getFields());
+        }
+        if (!classData.getMethods().isEmpty()) {
+            writer.name("methods");
+            methodAdapter.toJson(writer, classData.getMethods());
+        }
         writer.endObject();
     }
 
@@ -92,13 +121,15 @@ public class MDCMoshiAdapter {
     void fieldToJson(JsonWriter writer,
                      MappingDataContainer.FieldData fieldData,
                      JsonAdapter<List<String>> stringListAdapter) throws IOException {
-        if (isIgnoreNonDocumented() && fieldData.getJavadoc().isEmpty()) return;
+        if (isIgnoreNonDocumented() && !isDocumented(fieldData)) return;
 
         writer.beginObject()
                 .name("name").value(fieldData.getName())
                 .name("descriptor").value(fieldData.getDescriptor());
-        if (!fieldData.getJavadoc().isEmpty())
-            writer.name("javadoc").jsonValue(stringListAdapter.toJsonValue(fieldData.getJavadoc()));
+        if (!fieldData.getJavadoc().isEmpty()) {
+            writer.name("javadoc");
+            stringListAdapter.toJson(writer, fieldData.getJavadoc());
+        }
         writer.endObject();
     }
 
@@ -107,25 +138,26 @@ public class MDCMoshiAdapter {
                       MappingDataContainer.MethodData methodData,
                       JsonAdapter<List<String>> stringListAdapter,
                       JsonAdapter<Collection<? extends MappingDataContainer.ParameterData>> paramAdapter) throws IOException {
-        Object params = paramAdapter.toJsonValue(methodData.getParameters());
-        if (isIgnoreNonDocumented()
-                && (params == null || (params instanceof Collection && ((Collection<?>) params).isEmpty()))
-                && methodData.getJavadoc().isEmpty()) return;
+        if (isIgnoreNonDocumented() && !isDocumented(methodData)) return;
 
         writer.beginObject()
                 .name("name").value(methodData.getName())
                 .name("descriptor").value(methodData.getDescriptor());
-        if (!methodData.getJavadoc().isEmpty())
-            writer.name("javadoc").jsonValue(stringListAdapter.toJsonValue(methodData.getJavadoc()));
-        if (!methodData.getParameters().isEmpty())
-            writer.name("parameters").jsonValue(params);
+        if (!methodData.getJavadoc().isEmpty()) {
+            writer.name("javadoc");
+            stringListAdapter.toJson(writer, methodData.getJavadoc());
+        }
+        if (!methodData.getParameters().isEmpty()) {
+            writer.name("parameters");
+            paramAdapter.toJson(writer, methodData.getParameters());
+        }
         writer.endObject();
     }
 
     @ToJson
     void paramToJson(JsonWriter writer,
                      MappingDataContainer.ParameterData paramData) throws IOException {
-        if (isIgnoreNonDocumented() && paramData.getName() == null && paramData.getJavadoc() == null) return;
+        if (isIgnoreNonDocumented() && !isDocumented(paramData)) return;
 
         writer.beginObject()
                 .name("index").value(paramData.getIndex());
@@ -136,6 +168,149 @@ public class MDCMoshiAdapter {
         writer.endObject();
     }
 
+    /*
+     * Checks for whether an entry is written when ignoring non-documented entries. These scan the data directly rather
+     * than serializing the children first, so entries can be streamed straight to the writer.
+     */
+
+    private static boolean isDocumented(MappingDataContainer.PackageData packageData) {
+        return !packageData.getJavadoc().isEmpty();
+    }
+
+    private static boolean isDocumented(MappingDataContainer.ClassData classData) {
+        if (!classData.getJavadoc().isEmpty()) return true;
+        for (MappingDataContainer.FieldData field : classData.getFields()) {
+            if (isDocumented(field)) return true;
+        }
+        for (MappingDataContainer.MethodData method : classData.getMethods()) {
+            if (isDocumented(method)) return true;
+        }
+        return false;
+    }
+
+    private static boolean isDocumented(MappingDataContainer.FieldData fieldData) {
+        return !fieldData.getJavadoc().isEmpty();
+    }
+
+    private static boolean isDocumented(MappingDataContainer.MethodData methodData) {
+        if (!methodData.getJavadoc().isEmpty()) return true;
+        for (MappingDataContainer.ParameterData param : methodData.getParameters()) {
+            if (isDocumented(param)) return true;
+        }
+        return false;
+    }
+
+    private static boolean isDocumented(MappingDataContainer.ParameterData paramData) {
+        return paramData.getName() != null || paramData.getJavadoc() != null;
+    }
+
+    @ToJson
+    void patchToJson(JsonWriter writer,
+                     MappingPatch patch,
+                     JsonAdapter<List<String>> stringListAdapter,
+                     JsonAdapter<MappingDataContainer.PackageData> packageAdapter,
+                     JsonAdapter<MappingDataContainer.ClassData> classAdapter,
+                     JsonAdapter<MappingDataContainer.FieldData> fieldAdapter,
+                     JsonAdapter<MappingDataContainer.MethodData> methodAdapter,
+                     JsonAdapter<MappingDataContainer.ParameterData> paramAdapter) throws IOException {
+        writer.beginObject();
+        writer.name("changes").beginArray();
+        for (MappingChange<?> change : patch.getChanges()) {
+            final Object value = change.getNewValue();
+            writer.beginObject()
+                    .name("type").value(change.getType().name())
+                    .name("element").value(change.getElement().name())
+                    .name("name").value(change.getName());
+            if (change.getMemberName() != null)
+                writer.name("member").value(change.getMemberName());
+            if (change.getMemberDescriptor() != null)
+                writer.name("descriptor").value(change.getMemberDescriptor());
+            if (change.getElement() == MappingChange.Element.PARAMETER)
+                writer.name("index").value(change.getParameterIndex());
+            if (value != null) {
+                writer.name("value");
+                switch (change.getType()) {
+                    case ADDED:
+                        dataAdapter(change.getElement(), packageAdapter, classAdapter, fieldAdapter, methodAdapter,
+                                paramAdapter).toJson(writer, value);
+                        break;
+                    case JAVADOC_CHANGED:
+                        if (change.getElement() != MappingChange.Element.PARAMETER) {
+                            stringListAdapter.toJson(writer, castStringList(value));
+                        } else {
+                            // Parameter javadocs are a single string
+                            writer.value((String) value);
+                        }
+                        break;
+                    default:
+                        writer.value((String) value);
+                        break;
+                }
+            }
+            writer.endObject();
+        }
+        writer.endArray();
+        writer.endObject();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<String> castStringList(Object value) {
+        return (List<String>) value;
+    }
+
+    /**
+     * Returns the adapter for the value of an {@linkplain MappingChange.Type#ADDED added} entry in a patch. Added
+     * entries are written and read in full, so if this adapter ignores non-documented entries or filters entries, the
+     * adapters of an unfiltered Moshi instance are used instead of the given adapters.
+     */
+    @SuppressWarnings("unchecked")
+    private JsonAdapter<Object> dataAdapter(MappingChange.Element element,
+                                            JsonAdapter<MappingDataContainer.PackageData> packageAdapter,
+                                            JsonAdapter<MappingDataContainer.ClassData> classAdapter,
+                                            JsonAdapter<MappingDataContainer.FieldData> fieldAdapter,
+                                            JsonAdapter<MappingDataContainer.MethodData> methodAdapter,
+                                            JsonAdapter<MappingDataContainer.ParameterData> paramAdapter) {
+        if (ignoreNonDocumented || !filter.isAll()) {
+            return (JsonAdapter<Object>) Unfiltered.MOSHI.adapter(dataType(element));
+        }
+        switch (element) {
+            case PACKAGE:
+                return (JsonAdapter<Object>) (JsonAdapter<?>) packageAdapter;
+            case CLASS:
+                return (JsonAdapter<Object>) (JsonAdapter<?>) classAdapter;
+            case FIELD:
+                return (JsonAdapter<Object>) (JsonAdapter<?>) fieldAdapter;
+            case METHOD:
+                return (JsonAdapter<Object>) (JsonAdapter<?>) methodAdapter;
+            case PARAMETER:
+                return (JsonAdapter<Object>) (JsonAdapter<?>) paramAdapter;
+        }
+        throw new IllegalArgumentException("Unknown element: " + element);
+    }
+
+    private static Class<?> dataType(MappingChange.Element element) {
+        switch (element) {
+            case PACKAGE:
+                return MappingDataContainer.PackageData.class;
+            case CLASS:
+                return MappingDataContainer.ClassData.class;
+            case FIELD:
+                return MappingDataContainer.FieldData.class;
+            case METHOD:
+                return MappingDataContainer.MethodData.class;
+            case PARAMETER:
+                return MappingDataContainer.ParameterData.class;
+        }
+        throw new IllegalArgumentException("Unknown element: " + element);
+    }
+
+    /**
+     * Holder for the Moshi instance used for the values of added entries in patches, created on first use.
+     */
+    private static final class Unfiltered {
+        static final Moshi MOSHI = new Moshi.Builder().add(new MDCMoshiAdapter()).build();
+    }
+
     /* ***************** Deserialization ***************** */
 
     @FromJson
@@ -174,10 +349,42 @@ public class MDCMoshiAdapter {
         if (packages == null) packages = Collections.emptyList();
         if (classes == null) classes = Collections.emptyList();
         if (version == null) throw new JsonDataException("No version found");
+        if (filter.excludesEntries()) {
+            // Excluded entries are read as nulls
+            packages = withoutNulls(packages);
+            classes = withoutNulls(classes);
+        }
 
         return new ImmutableVersionedMappingDataContainer(version, packages, classes);
     }
 
+    private static <T> List<T> withoutNulls(Collection<? extends T> collection) {
+        final List<T> list = new ArrayList<>(collection.size());
+        for (T element : collection) {
+            if (element != null) list.add(element);
+        }
+        return list;
+    }
+
+    /**
+     * Skips the remaining properties of the current object, and consumes its end.
+     */
+    private static void skipObject(JsonReader reader) throws IOException {
+        while (reader.hasNext()) {
+            reader.skipName();
+            reader.skipValue();
+        }
+        reader.endObject();
+    }
+
+    private List<String> readJavadoc(JsonReader reader, JsonAdapter<List<String>> stringListAdapter) throws IOException {
+        if (filter.includesJavadoc()) {
+            return stringListAdapter.fromJson(reader);
+        }
+        reader.skipValue();
+        return null;
+    }
+
     @FromJson
     MappingDataContainer.PackageData packageFromJson(JsonReader reader,
                                                      JsonAdapter<List<String>> stringListAdapter) throws IOException {
@@ -191,9 +398,13 @@ public class MDCMoshiAdapter {
             switch (propertyName) {
                 case "name":
                     name = reader.nextString();
+                    if (!filter.includesPackage(name)) {
+                        skipObject(reader);
+                        return null;
+                    }
                     break;
                 case "javadoc":
-                    javadoc = stringListAdapter.fromJson(reader);
+                    javadoc = readJavadoc(reader, stringListAdapter);
                     break;
                 default:
                     reader.skipName();
@@ -225,9 +436,13 @@ public class MDCMoshiAdapter {
             switch (propertyName) {
                 case "name":
                     name = reader.nextString();
+                    if (!filter.includesClass(name)) {
+                        skipObject(reader);
+                        return null;
+                    }
                     break;
                 case "javadoc":
-                    javadoc = stringListAdapter.fromJson(reader);
+                    javadoc = readJavadoc(reader, stringListAdapter);
                     break;
                 case "fields":
                     fields = fieldAdapter.fromJson(reader);
@@ -268,7 +483,7 @@ public class MDCMoshiAdapter {
                     descriptor = reader.nextString();
                     break;
                 case "javadoc":
-                    javadoc = stringListAdapter.fromJson(reader);
+                    javadoc = readJavadoc(reader, stringListAdapter);
                     break;
                 default:
                     reader.skipName();
@@ -304,7 +519,7 @@ public class MDCMoshiAdapter {
                     descriptor = reader.nextString();
                     break;
                 case "javadoc":
-                    javadoc = stringListAdapter.fromJson(reader);
+                    javadoc = readJavadoc(reader, stringListAdapter);
                     break;
                 case "parameters":
                     parameters = paramAdapter.fromJson(reader);
@@ -342,7 +557,11 @@ public class MDCMoshiAdapter {
                     name = reader.nextString();
                     break;
                 case "javadoc":
-                    javadoc = reader.nextString();
+                    if (filter.includesJavadoc()) {
+                        javadoc = reader.nextString();
+                    } else {
+                        reader.skipValue();
+                    }
                     break;
                 default:
                     reader.skipName();
@@ -355,4 +574,111 @@ public class MDCMoshiAdapter {
 
         return new ImmutableMappingDataContainer.ImmutableParameterData(index, name, javadoc);
     }
+
+    @FromJson
+    MappingPatch patchFromJson(JsonReader reader,
+                               JsonAdapter<List<String>> stringListAdapter,
+                               JsonAdapter<MappingDataContainer.PackageData> packageAdapter,
+                               JsonAdapter<MappingDataContainer.ClassData> classAdapter,
+                               JsonAdapter<MappingDataContainer.FieldData> fieldAdapter,
+                               JsonAdapter<MappingDataContainer.MethodData> methodAdapter,
+                               JsonAdapter<MappingDataContainer.ParameterData> paramAdapter) throws IOException {
+        List<MappingChange<?>> changes = new ArrayList<>();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if (reader.nextName().equals("changes")) {
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    changes.add(changeFromJson(reader, stringListAdapter, packageAdapter, classAdapter, fieldAdapter,
+                            methodAdapter, paramAdapter));
+                }
+                reader.endArray();
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        return new MappingPatch(changes);
+    }
+
+    private MappingChange<?> changeFromJson(JsonReader reader,
+                                            JsonAdapter<List<String>> stringListAdapter,
+                                            JsonAdapter<MappingDataContainer.PackageData> packageAdapter,
+                                            JsonAdapter<MappingDataContainer.ClassData> classAdapter,
+                                            JsonAdapter<MappingDataContainer.FieldData> fieldAdapter,
+                                            JsonAdapter<MappingDataContainer.MethodData> methodAdapter,
+                                            JsonAdapter<MappingDataContainer.ParameterData> paramAdapter) throws IOException {
+        MappingChange.Type type = null;
+        MappingChange.Element element = null;
+        String name = null;
+        String member = null;
+        String descriptor = null;
+        byte index = 0;
+        Object value = null;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String propertyName = reader.nextName();
+            try {
+                switch (propertyName) {
+                    case "type":
+                        type = MappingChange.Type.valueOf(reader.nextString());
+                        break;
+                    case "element":
+                        element = MappingChange.Element.valueOf(reader.nextString());
+                        break;
+                    case "name":
+                        name = reader.nextString();
+                        break;
+                    case "member":
+                        member = reader.nextString();
+                        break;
+                    case "descriptor":
+                        descriptor = reader.nextString();
+                        break;
+                    case "index":
+                        index = (byte) reader.nextInt();
+                        break;
+                    case "value":
+                        value = reader.readJsonValue();
+                        break;
+                    default:
+                        reader.skipValue();
+                        break;
+                }
+            } catch (IllegalArgumentException e) {
+                throw new JsonDataException("Invalid value for property '" + propertyName + "' at " + reader.getPath(), e);
+            }
+        }
+        reader.endObject();
+
+        if (type == null) throw new JsonDataException("Change type must not be null");
+        if (element == null) throw new JsonDataException("Change element must not be null");
+        if (name == null) throw new JsonDataException("Change name must not be null");
+
+        Object newValue = null;
+        switch (type) {
+            case ADDED:
+                if (value == null) throw new JsonDataException("Added entry must have a value");
+                newValue = dataAdapter(element, packageAdapter, classAdapter, fieldAdapter, methodAdapter, paramAdapter)
+                        .fromJsonValue(value);
+                break;
+            case JAVADOC_CHANGED:
+                if (element != MappingChange.Element.PARAMETER) {
+                    newValue = value == null ? Collections.emptyList() : stringListAdapter.fromJsonValue(value);
+                } else {
+                    // Parameter javadocs are a single string
+                    newValue = value == null ? null : value.toString();
+                }
+                break;
+            case NAME_CHANGED:
+            case DESCRIPTOR_CHANGED:
+                newValue = value == null ? null : value.toString();
+                break;
+        }
+
+        return new MappingChange<>(type, element, name, member, descriptor, index, null, newValue);
+    }
 }
@@ -0,0 +1,717 @@
+package org.parchmentmc.feather.io.moshi;
+
+import com.squareup.moshi.FromJson;
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonDataException;
+import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.JsonWriter;
+import com.squareup.moshi.ToJson;
+import org.parchmentmc.feather.manifests.LauncherManifest;
+import org.parchmentmc.feather.manifests.LauncherManifest.LatestVersionInfo;
+import org.parchmentmc.feather.manifests.LauncherManifest.VersionData;
+import org.parchmentmc.feather.manifests.Library;
+import org.parchmentmc.feather.manifests.Library.ArtifactDownload;
+import org.parchmentmc.feather.manifests.Library.ExtractInfo;
+import org.parchmentmc.feather.manifests.Library.LibraryDownloads;
+import org.parchmentmc.feather.manifests.Library.NativesInfo;
+import org.parchmentmc.feather.manifests.Library.Rule;
+import org.parchmentmc.feather.manifests.VersionManifest;
+import org.parchmentmc.feather.manifests.VersionManifest.AssetIndexInfo;
+import org.parchmentmc.feather.manifests.VersionManifest.DownloadInfo;
+import org.parchmentmc.feather.manifests.VersionManifest.JavaVersionInfo;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Moshi adapter for the launcher and version manifests.
+ *
+ * <p>The manifests are read and written in the format used by Mojang, without reflection. Property names are matched
+ * using {@link JsonReader.Options}, unknown properties are skipped while reading, and {@code null} values are omitted
+ * while writing.</p>
+ *
+ * <p>The adapter uses the {@link OffsetDateTime} adapter of the {@link com.squareup.moshi.Moshi} instance it is added
+ * to, so one must be added to it.</p>
+ *
+ * @see LauncherManifest
+ * @see VersionManifest
+ * @see Library
+ */
+@SuppressWarnings("unused")
+public class ManifestsMoshiAdapter {
+    private static final JsonReader.Options LAUNCHER_MANIFEST_NAMES = JsonReader.Options.of("latest", "versions");
+    private static final JsonReader.Options LATEST_NAMES = JsonReader.Options.of("release", "snapshot");
+    private static final JsonReader.Options VERSION_DATA_NAMES = JsonReader.Options.of("id", "type", "url", "time",
+            "releaseTime", "sha1", "complianceLevel");
+    private static final JsonReader.Options VERSION_MANIFEST_NAMES = JsonReader.Options.of("id", "type",
+            "complianceLevel", "minimumLauncherVersion", "time", "releaseTime", "mainClass", "javaVersion", "assets",
+            "assetIndex", "downloads", "libraries", "minecraftArguments");
+    private static final JsonReader.Options JAVA_VERSION_NAMES = JsonReader.Options.of("component", "majorVersion");
+    private static final JsonReader.Options DOWNLOAD_NAMES = JsonReader.Options.of("sha1", "size", "url", "path",
+            "id", "totalSize");
+    private static final JsonReader.Options LIBRARY_NAMES = JsonReader.Options.of("name", "extract", "downloads",
+            "natives", "rules");
+    private static final JsonReader.Options LIBRARY_DOWNLOADS_NAMES = JsonReader.Options.of("artifact", "classifiers");
+    private static final JsonReader.Options EXTRACT_NAMES = JsonReader.Options.of("exclude");
+    private static final JsonReader.Options NATIVES_NAMES = JsonReader.Options.of("linux", "osx", "windows");
+    private static final JsonReader.Options RULE_NAMES = JsonReader.Options.of("action", "os");
+    private static final JsonReader.Options OS_NAMES = JsonReader.Options.of("name", "version");
+
+    /* ****************** Serialization ****************** */
+
+    @ToJson
+    void launcherManifestToJson(
+            JsonWriter writer,
+            LauncherManifest manifest,
+            JsonAdapter<OffsetDateTime> dateTimeAdapter) throws IOException {
+        if (manifest == null) {
+            writer.nullValue();
+            return;
+        }
+
+        writer.beginObject();
+
+        writer.name("latest").beginObject();
+        writer.name("release").value(manifest.getLatest().getRelease());
+        writer.name("snapshot").value(manifest.getLatest().getSnapshot());
+        writer.endObject();
+
+        writer.name("versions").beginArray();
+        for (VersionData version : manifest.getVersions()) {
+            writer.beginObject();
+            writer.name("id").value(version.getId());
+            writer.name("type").value(version.getType());
+            writer.name("url").value(version.getUrl());
+            writer.name("time");
+            dateTimeAdapter.toJson(writer, version.getTime());
+            writer.name("releaseTime");
+            dateTimeAdapter.toJson(writer, version.getReleaseTime());
+            writer.name("sha1").value(version.getSHA1());
+            writer.name("complianceLevel").value(version.getComplianceLevel());
+            writer.endObject();
+        }
+        writer.endArray();
+
+        writer.endObject();
+    }
+
+    @ToJson
+    void versionManifestToJson(
+            JsonWriter writer,
+            VersionManifest manifest,
+            JsonAdapter<OffsetDateTime> dateTimeAdapter,
+            JsonAdapter<Library> libraryAdapter) throws IOException {
+        if (manifest == null) {
+            writer.nullValue();
+            return;
+        }
+
+        writer.beginObject();
+
+        final AssetIndexInfo assetIndex = manifest.getAssetIndex();
+        writer.name("assetIndex").beginObject();
+        writer.name("id").value(assetIndex.getId());
+        writer.name("sha1").value(assetIndex.getSHA1());
+        writer.name("size").value(assetIndex.getSize());
+        writer.name("totalSize").value(assetIndex.getTotalSize());
+        writer.name("url").value(assetIndex.getUrl());
+        writer.endObject();
+
+        writer.name("assets").value(manifest.getAssets());
+        writer.name("complianceLevel").value(manifest.getComplianceLevel());
+
+        writer.name("downloads").beginObject();
+        for (Map.Entry<String, DownloadInfo> entry : manifest.getDownloads().entrySet()) {
+            final DownloadInfo download = entry.getValue();
+            writer.name(entry.getKey()).beginObject();
+            writer.name("sha1").value(download.getSHA1());
+            writer.name("size").value(download.getSize());
+            writer.name("url").value(download.getUrl());
+            writer.endObject();
+        }
+        writer.endObject();
+
+        writer.name("id").value(manifest.getId());
+
+        final JavaVersionInfo javaVersion = manifest.getJavaVersionInfo();
+        if (javaVersion != null) {
+            writer.name("javaVersion").beginObject();
+            writer.name("component").value(javaVersion.getComponent());
+            writer.name("majorVersion").value(javaVersion.getMajorVersion());
+            writer.endObject();
+        }
+
+        writer.name("libraries").beginArray();
+        for (Library library : manifest.getLibraries()) {
+            libraryAdapter.toJson(writer, library);
+        }
+        writer.endArray();
+
+        writer.name("mainClass").value(manifest.getMainClass());
+        if (manifest.getMinecraftArguments() != null) {
+            writer.name("minecraftArguments").value(manifest.getMinecraftArguments());
+        }
+        writer.name("minimumLauncherVersion").value(manifest.getMinimumLauncherVersion());
+        writer.name("releaseTime");
+        dateTimeAdapter.toJson(writer, manifest.getReleaseTime());
+        writer.name("time");
+        dateTimeAdapter.toJson(writer, manifest.getTime());
+        writer.name("type").value(manifest.getType());
+
+        writer.endObject();
+    }
+
+    @ToJson
+    void libraryToJson(
+            JsonWriter writer,
+            Library library) throws IOException {
+        if (library == null) {
+            writer.nullValue();
+            return;
+        }
+
+        writer.beginObject();
+
+        writer.name("downloads").beginObject();
+        final LibraryDownloads downloads = library.getDownloads();
+        if (downloads.getArtifact() != null) {
+            writer.name("artifact");
+            artifactToJson(writer, downloads.getArtifact());
+        }
+        if (downloads.getClassifiers() != null) {
+            writer.name("classifiers").beginObject();
+            for (Map.Entry<String, ArtifactDownload> entry : downloads.getClassifiers().entrySet()) {
+                writer.name(entry.getKey());
+                artifactToJson(writer, entry.getValue());
+            }
+            writer.endObject();
+        }
+        writer.endObject();
+
+        if (library.getExtract() != null) {
+            writer.name("extract").beginObject();
+            writer.name("exclude").beginArray();
+            for (String exclude : library.getExtract().getExclude()) {
+                writer.value(exclude);
+            }
+            writer.endArray();
+            writer.endObject();
+        }
+
+        writer.name("name").value(library.getName());
+
+        final NativesInfo natives = library.getNatives();
+        if (natives != null) {
+            writer.name("natives").beginObject();
+            if (natives.getLinux() != null) writer.name("linux").value(natives.getLinux());
+            if (natives.getOSX() != null) writer.name("osx").value(natives.getOSX());
+            if (natives.getWindows() != null) writer.name("windows").value(natives.getWindows());
+            writer.endObject();
+        }
+
+        if (!library.getRules().isEmpty()) {
+            writer.name("rules").beginArray();
+            for (Rule rule : library.getRules()) {
+                writer.beginObject();
+                writer.name("action").value(rule.getAction());
+                final Rule.OSCondition os = rule.getOS();
+                if (os != null) {
+                    writer.name("os").beginObject();
+                    if (os.getName() != null) writer.name("name").value(os.getName());
+                    if (os.getVersion() != null) writer.name("version").value(os.getVersion());
+                    writer.endObject();
+                }
+                writer.endObject();
+            }
+            writer.endArray();
+        }
+
+        writer.endObject();
+    }
+
+    private static void artifactToJson(JsonWriter writer, ArtifactDownload artifact) throws IOException {
+        writer.beginObject();
+        writer.name("path").value(artifact.getPath());
+        writer.name("sha1").value(artifact.getSHA1());
+        writer.name("size").value(artifact.getSize());
+        writer.name("url").value(artifact.getUrl());
+        writer.endObject();
+    }
+
+    /* ***************** Deserialization ***************** */
+
+    @FromJson
+    LauncherManifest launcherManifestFromJson(
+            JsonReader reader,
+            JsonAdapter<OffsetDateTime> dateTimeAdapter) throws IOException {
+        if (reader.peek() == JsonReader.Token.NULL) {
+            return reader.nextNull();
+        }
+
+        LatestVersionInfo latest = null;
+        final List<VersionData> versions = new ArrayList<>();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(LAUNCHER_MANIFEST_NAMES)) {
+                case 0:
+                    latest = latestFromJson(reader);
+                    break;
+                case 1:
+                    reader.beginArray();
+                    while (reader.hasNext()) {
+                        versions.add(versionDataFromJson(reader, dateTimeAdapter));
+                    }
+                    reader.endArray();
+                    break;
+                default:
+                    skipProperty(reader);
+                    break;
+            }
+        }
+        reader.endObject();
+
+        if (latest == null) {
+            throw new JsonDataException("Launcher manifest latest is not present at " + reader.getPath());
+        }
+
+        return new LauncherManifest(latest, versions);
+    }
+
+    private static LatestVersionInfo latestFromJson(JsonReader reader) throws IOException {
+        String release = null;
+        String snapshot = null;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(LATEST_NAMES)) {
+                case 0:
+                    release = reader.nextString();
+                    break;
+                case 1:
+                    snapshot = reader.nextString();
+                    break;
+                default:
+                    skipProperty(reader);
+                    break;
+            }
+        }
+        reader.endObject();
+
+        if (release == null) throw new JsonDataException("Latest release is not present at " + reader.getPath());
+        if (snapshot == null) throw new JsonDataException("Latest snapshot is not present at " + reader.getPath());
+
+        return new LatestVersionInfo(release, snapshot);
+    }
+
+    private static VersionData versionDataFromJson(JsonReader reader, JsonAdapter<OffsetDateTime> dateTimeAdapter)
+            throws IOException {
+        String id = null;
+        String type = null;
+        String url = null;
+        OffsetDateTime time = null;
+        OffsetDateTime releaseTime = null;
+        String sha1 = null;
+        int complianceLevel = 0;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(VERSION_DATA_NAMES)) {
+                case 0:
+                    id = reader.nextString();
+                    break;
+                case 1:
+                    type = reader.nextString();
+                    break;
+                case 2:
+                    url = reader.nextString();
+                    break;
+                case 3:
+                    time = dateTimeAdapter.fromJson(reader);
+                    break;
+                case 4:
+                    releaseTime = dateTimeAdapter.fromJson(reader);
+                    break;
+                case 5:
+                    sha1 = reader.nextString();
+                    break;
+                case 6:
+                    complianceLevel = reader.nextInt();
+                    break;
+                default:
+                    skipProperty(reader);
+                    break;
+            }
+        }
+        reader.endObject();
+
+        if (id == null) throw new JsonDataException("Version id is not present at " + reader.getPath());
+        if (type == null) throw new JsonDataException("Version type is not present for " + id);
+        if (url == null) throw new JsonDataException("Version url is not present for " + id);
+        if (time == null) throw new JsonDataException("Version time is not present for " + id);
+        if (releaseTime == null) throw new JsonDataException("Version releaseTime is not present for " + id);
+        if (sha1 == null) throw new JsonDataException("Version sha1 is not present for " + id);
+
+        return new VersionData(id, type, url, time, releaseTime, sha1, complianceLevel);
+    }
+
+    @FromJson
+    VersionManifest versionManifestFromJson(
+            JsonReader reader,
+            JsonAdapter<OffsetDateTime> dateTimeAdapter,
+            JsonAdapter<Library> libraryAdapter) throws IOException {
+        if (reader.peek() == JsonReader.Token.NULL) {
+            return reader.nextNull();
+        }
+
+        String id = null;
+        String type = null;
+        int complianceLevel = 0;
+        int minimumLauncherVersion = 0;
+        OffsetDateTime time = null;
+        OffsetDateTime releaseTime = null;
+        String mainClass = null;
+        JavaVersionInfo javaVersion = null;
+        String assets = null;
+        AssetIndexInfo assetIndex = null;
+        final Map<String, DownloadInfo> downloads = new LinkedHashMap<>();
+        final List<Library> libraries = new ArrayList<>();
+        String minecraftArguments = null;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(VERSION_MANIFEST_NAMES)) {
+                case 0:
+                    id = reader.nextString();
+                    break;
+                case 1:
+                    type = reader.nextString();
+                    break;
+                case 2:
+                    complianceLevel = reader.nextInt();
+                    break;
+                case 3:
+                    minimumLauncherVersion = reader.nextInt();
+                    break;
+                case 4:
+                    time = dateTimeAdapter.fromJson(reader);
+                    break;
+                case 5:
+                    releaseTime = dateTimeAdapter.fromJson(reader);
+                    break;
+                case 6:
+                    mainClass = reader.nextString();
+                    break;
+                case 7:
+                    javaVersion = javaVersionFromJson(reader);
+                    break;
+                case 8:
+                    assets = reader.nextString();
+                    break;
+                case 9:
+                    assetIndex = (AssetIndexInfo) downloadFromJson(reader, DownloadKind.ASSET_INDEX);
+                    break;
+                case 10:
+                    reader.beginObject();
+                    while (reader.hasNext()) {
+                        final String key = reader.nextName();
+                        downloads.put(key, downloadFromJson(reader, DownloadKind.DOWNLOAD));
+                    }
+                    reader.endObject();
+                    break;
+                case 11:
+                    reader.beginArray();
+                    while (reader.hasNext()) {
+                        libraries.add(libraryAdapter.fromJson(reader));
+                    }
+                    reader.endArray();
+                    break;
+                case 12:
+                    minecraftArguments = reader.nextString();
+                    break;
+                default:
+                    skipProperty(reader);
+                    break;
+            }
+        }
+        reader.endObject();
+
+        if (id == null) throw new JsonDataException("Version manifest id is not present at " + reader.getPath());
+        if (type == null) throw new JsonDataException("Version manifest type is not present for " + id);
+        if (time == null) throw new JsonDataException("Version manifest time is not present for " + id);
+        if (releaseTime == null) throw new JsonDataException("Version manifest releaseTime is not present for " + id);
+        if (mainClass == null) throw new JsonDataException("Version manifest mainClass is not present for " + id);
+        if (assets == null) throw new JsonDataException("Version manifest assets is not present for " + id);
+        if (assetIndex == null) throw new JsonDataException("Version manifest assetIndex is not present for " + id);
+
+        return new VersionManifest(id, type, complianceLevel, minimumLauncherVersion, time, releaseTime, mainClass,
+                javaVersion, assets, assetIndex, downloads, libraries, minecraftArguments);
+    }
+
+    private static JavaVersionInfo javaVersionFromJson(JsonReader reader) throws IOException {
+        String component = null;
+        int majorVersion = 0;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(JAVA_VERSION_NAMES)) {
+                case 0:
+                    component = reader.nextString();
+                    break;
+                case 1:
+                    majorVersion = reader.nextInt();
+                    break;
+                default:
+                    skipProperty(reader);
+                    break;
+            }
+        }
+        reader.endObject();
+
+        if (component == null) {
+            throw new JsonDataException("Java version component is not present at " + reader.getPath());
+        }
+
+        return new JavaVersionInfo(component, majorVersion);
+    }
+
+    private static DownloadInfo downloadFromJson(JsonReader reader, DownloadKind kind) throws IOException {
+        String sha1 = null;
+        int size = 0;
+        String url = null;
+        String path = null;
+        String id = null;
+        int totalSize = 0;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(DOWNLOAD_NAMES)) {
+                case 0:
+                    sha1 = reader.nextString();
+                    break;
+                case 1:
+                    size = reader.nextInt();
+                    break;
+                case 2:
+                    url = reader.nextString();
+                    break;
+                case 3:
+                    path = reader.nextString();
+                    break;
+                case 4:
+                    id = reader.nextString();
+                    break;
+                case 5:
+                    totalSize = reader.nextInt();
+                    break;
+                default:
+                    skipProperty(reader);
+                    break;
+            }
+        }
+        reader.endObject();
+
+        if (sha1 == null) throw new JsonDataException("Download sha1 is not present at " + reader.getPath());
+        if (url == null) throw new JsonDataException("Download url is not present at " + reader.getPath());
+
+        switch (kind) {
+            case ASSET_INDEX:
+                if (id == null) throw new JsonDataException("Asset index id is not present at " + reader.getPath());
+                return new AssetIndexInfo(sha1, size, url, id, totalSize);
+            case ARTIFACT:
+                return new ArtifactDownload(sha1, size, url, path);
+            default:
+                return new DownloadInfo(sha1, size, url);
+        }
+    }
+
+    @FromJson
+    Library libraryFromJson(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonReader.Token.NULL) {
+            return reader.nextNull();
+        }
+
+        String name = null;
+        ExtractInfo extract = null;
+        LibraryDownloads downloads = null;
+        NativesInfo natives = null;
+        List<Rule> rules = Collections.emptyList();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(LIBRARY_NAMES)) {
+                case 0:
+                    name = reader.nextString();
+                    break;
+                case 1:
+                    extract = extractFromJson(reader);
+                    break;
+                case 2:
+                    downloads = libraryDownloadsFromJson(reader);
+                    break;
+                case 3:
+                    natives = nativesFromJson(reader);
+                    break;
+                case 4:
+                    rules = rulesFromJson(reader);
+                    break;
+                default:
+                    skipProperty(reader);
+                    break;
+            }
+        }
+        reader.endObject();
+
+        if (name == null) throw new JsonDataException("Library name is not present at " + reader.getPath());
+        if (downloads == null) throw new JsonDataException("Library downloads is not present for " + name);
+
+        return new Library(name, extract, downloads, natives, rules);
+    }
+
+    private static LibraryDownloads libraryDownloadsFromJson(JsonReader reader) throws IOException {
+        ArtifactDownload artifact = null;
+        Map<String, ArtifactDownload> classifiers = null;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(LIBRARY_DOWNLOADS_NAMES)) {
+                case 0:
+                    artifact = (ArtifactDownload) downloadFromJson(reader, DownloadKind.ARTIFACT);
+                    break;
+                case 1:
+                    classifiers = new LinkedHashMap<>();
+                    reader.beginObject();
+                    while (reader.hasNext()) {
+                        final String classifier = reader.nextName();
+                        classifiers.put(classifier, (ArtifactDownload) downloadFromJson(reader, DownloadKind.ARTIFACT));
+                    }
+                    reader.endObject();
+                    break;
+                default:
+                    skipProperty(reader);
+                    break;
+            }
+        }
+        reader.endObject();
+
+        return new LibraryDownloads(artifact, classifiers);
+    }
+
+    private static ExtractInfo extractFromJson(JsonReader reader) throws IOException {
+        final List<String> exclude = new ArrayList<>();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if (reader.selectName(EXTRACT_NAMES) == 0) {
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    exclude.add(reader.nextString());
+                }
+                reader.endArray();
+            } else {
+                skipProperty(reader);
+            }
+        }
+        reader.endObject();
+
+        return new ExtractInfo(exclude);
+    }
+
+    private static NativesInfo nativesFromJson(JsonReader reader) throws IOException {
+        String linux = null;
+        String osx = null;
+        String windows = null;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(NATIVES_NAMES)) {
+                case 0:
+                    linux = reader.nextString();
+                    break;
+                case 1:
+                    osx = reader.nextString();
+                    break;
+                case 2:
+                    windows = reader.nextString();
+                    break;
+                default:
+                    skipProperty(reader);
+                    break;
+            }
+        }
+        reader.endObject();
+
+        return new NativesInfo(linux, osx, windows);
+    }
+
+    private static List<Rule> rulesFromJson(JsonReader reader) throws IOException {
+        final List<Rule> rules = new ArrayList<>();
+
+        reader.beginArray();
+        while (reader.hasNext()) {
+            String action = null;
+            Rule.OSCondition os = null;
+
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.selectName(RULE_NAMES)) {
+                    case 0:
+                        action = reader.nextString();
+                        break;
+                    case 1:
+                        os = osConditionFromJson(reader);
+                        break;
+                    default:
+                        skipProperty(reader);
+                        break;
+                }
+            }
+            reader.endObject();
+
+            if (action == null) throw new JsonDataException("Rule action is not present at " + reader.getPath());
+            rules.add(new Rule(action, os));
+        }
+        reader.endArray();
+
+        return rules;
+    }
+
+    private static Rule.OSCondition osConditionFromJson(JsonReader reader) throws IOException {
+        String name = null;
+        String version = null;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(OS_NAMES)) {
+                case 0:
+                    name = reader.nextString();
+                    break;
+                case 1:
+                    version = reader.nextString();
+                    break;
+                default:
+                    skipProperty(reader);
+                    break;
+            }
+        }
+        reader.endObject();
+
+        return new Rule.OSCondition(name, version);
+    }
+
+    private static void skipProperty(JsonReader reader) throws IOException {
+        reader.skipName();
+        reader.skipValue();
+    }
+
+    private enum DownloadKind {
+        DOWNLOAD,
+        ASSET_INDEX,
+        ARTIFACT
+    }
+}
@@ -2,6 +2,7 @@ package org.parchmentmc.feather.io.moshi;
 
 import com.squareup.moshi.*;
 import org.parchmentmc.feather.metadata.*;
+import org.parchmentmc.feather.metadata.MetadataProjection.Property;
 import org.parchmentmc.feather.named.Named;
 import org.parchmentmc.feather.named.NamedBuilder;
 import org.parchmentmc.feather.util.SimpleVersion;
@@ -10,8 +11,32 @@ import java.io.IOException;
 import java.util.LinkedHashSet;
 import java.util.Map;
 
+/**
+ * Moshi adapter for {@link Named} and the metadata classes.
+ *
+ * <p>If a {@link MetadataProjection} is given, the adapter skips the properties which are not included by the
+ * projection while reading, and leaves them at their defaults.</p>
+ */
 @SuppressWarnings("unused")
 public class MetadataMoshiAdapter {
+    private final MetadataProjection projection;
+
+    public MetadataMoshiAdapter(MetadataProjection projection) {
+        this.projection = projection;
+    }
+
+    public MetadataMoshiAdapter() {
+        this(MetadataProjection.all());
+    }
+
+    /**
+     * Returns the projection of the properties which are read.
+     *
+     * @return the projection for reading
+     */
+    public MetadataProjection getProjection() {
+        return projection;
+    }
 
     /* ****************** Serialization ****************** */
 
@@ -331,22 +356,38 @@ public class MetadataMoshiAdapter {
                     builder.withOwner(namedAdapter.fromJson(reader));
                     break;
                 case "extends":
-                    builder.withSuperName(namedAdapter.fromJson(reader));
+                    if (projection.includes(Property.SUPER_TYPES)) {
+                        builder.withSuperName(namedAdapter.fromJson(reader));
+                    } else {
+                        reader.skipValue();
+                    }
                     break;
                 case "security":
-                    builder.withSecuritySpecifications(reader.nextInt());
+                    if (projection.includes(Property.SECURITY)) {
+                        builder.withSecuritySpecifications(reader.nextInt());
+                    } else {
+                        reader.skipValue();
+                    }
                     break;
                 case "implements":
-                    final LinkedHashSet<? extends Named> interfaces = namedLinkedHashSetAdapter.fromJson(reader);
-                    builder.withInterfaces(interfaces == null ? new LinkedHashSet<>() : new LinkedHashSet<>(interfaces));
+                    if (projection.includes(Property.SUPER_TYPES)) {
+                        final LinkedHashSet<? extends Named> interfaces = namedLinkedHashSetAdapter.fromJson(reader);
+                        builder.withInterfaces(interfaces == null ? new LinkedHashSet<>() : new LinkedHashSet<>(interfaces));
+                    } else {
+                        reader.skipValue();
+                    }
                     break;
                 case "fields":
                     final LinkedHashSet<? extends FieldMetadata> fields = fieldLinkedHashSetAdapter.fromJson(reader);
                     builder.withFields(fields == null ? new LinkedHashSet<>() : new LinkedHashSet<>(fields));
                     break;
                 case "records":
-                    final LinkedHashSet<? extends RecordMetadata> records = recordLinkedHashSetAdapter.fromJson(reader);
-                    builder.withRecords(records == null ? new LinkedHashSet<>() : new LinkedHashSet<>(records));
+                    if (projection.includes(Property.RECORDS)) {
+                        final LinkedHashSet<? extends RecordMetadata> records = recordLinkedHashSetAdapter.fromJson(reader);
+                        builder.withRecords(records == null ? new LinkedHashSet<>() : new LinkedHashSet<>(records));
+                    } else {
+                        reader.skipValue();
+                    }
                     break;
                 case "methods":
                     final LinkedHashSet<? extends MethodMetadata> methods = methodLinkedHashSetAdapter.fromJson(reader);
@@ -357,7 +398,11 @@ public class MetadataMoshiAdapter {
                     builder.withInnerClasses(inner == null ? new LinkedHashSet<>() : new LinkedHashSet<>(inner));
                     break;
                 case "signature":
-                    builder.withSignature(namedAdapter.fromJson(reader));
+                    if (projection.includes(Property.SIGNATURES)) {
+                        builder.withSignature(namedAdapter.fromJson(reader));
+                    } else {
+                        reader.skipValue();
+                    }
                     break;
                 case "record":
                     builder.withIsRecord(reader.nextBoolean());
@@ -400,23 +445,43 @@ public class MetadataMoshiAdapter {
                     builder.withDescriptor(namedAdapter.fromJson(reader));
                     break;
                 case "signature":
-                    builder.withSignature(namedAdapter.fromJson(reader));
+                    if (projection.includes(Property.SIGNATURES)) {
+                        builder.withSignature(namedAdapter.fromJson(reader));
+                    } else {
+                        reader.skipValue();
+                    }
                     break;
                 case "security":
-                    builder.withSecuritySpecification(reader.nextInt());
+                    if (projection.includes(Property.SECURITY)) {
+                        builder.withSecuritySpecification(reader.nextInt());
+                    } else {
+                        reader.skipValue();
+                    }
                     break;
                 case "lambda":
                     builder.withLambda(reader.nextBoolean());
                     break;
                 case "bouncingTarget":
-                    builder.withBouncingTarget(bouncingTargetMetadataAdapter.fromJson(reader));
+                    if (projection.includes(Property.BOUNCING_TARGETS)) {
+                        builder.withBouncingTarget(bouncingTargetMetadataAdapter.fromJson(reader));
+                    } else {
+                        reader.skipValue();
+                    }
                     break;
                 case "overrides":
-                    final LinkedHashSet<? extends Reference> overrides = methodReferenceLinkedHashSetAdapter.fromJson(reader);
-                    builder.withOverrides(overrides == null ? new LinkedHashSet<>() : new LinkedHashSet<>(overrides));
+                    if (projection.includes(Property.OVERRIDES)) {
+                        final LinkedHashSet<? extends Reference> overrides = methodReferenceLinkedHashSetAdapter.fromJson(reader);
+                        builder.withOverrides(overrides == null ? new LinkedHashSet<>() : new LinkedHashSet<>(overrides));
+                    } else {
+                        reader.skipValue();
+                    }
                     break;
                 case "parent":
-                    builder.withParent(methodReferenceAdapter.fromJson(reader));
+                    if (projection.includes(Property.PARENTS)) {
+                        builder.withParent(methodReferenceAdapter.fromJson(reader));
+                    } else {
+                        reader.skipValue();
+                    }
                     break;
                 default:
                     reader.skipValue();
@@ -454,10 +519,18 @@ public class MetadataMoshiAdapter {
                     builder.withDescriptor(namedAdapter.fromJson(reader));
                     break;
                 case "signature":
-                    builder.withSignature(namedAdapter.fromJson(reader));
+                    if (projection.includes(Property.SIGNATURES)) {
+                        builder.withSignature(namedAdapter.fromJson(reader));
+                    } else {
+                        reader.skipValue();
+                    }
                     break;
                 case "security":
-                    builder.withSecuritySpecification(reader.nextInt());
+                    if (projection.includes(Property.SECURITY)) {
+                        builder.withSecuritySpecification(reader.nextInt());
+                    } else {
+                        reader.skipValue();
+                    }
                     break;
                 default:
                     reader.skipValue();
@@ -0,0 +1,106 @@
+package org.parchmentmc.feather.io.moshi;
+
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonDataException;
+import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.Moshi;
+import okio.Buffer;
+import org.parchmentmc.feather.mapping.ImmutableVersionedMappingDataContainer;
+import org.parchmentmc.feather.mapping.MappingDataContainer;
+import org.parchmentmc.feather.mapping.VersionedMappingDataContainer;
+import org.parchmentmc.feather.metadata.ClassMetadata;
+import org.parchmentmc.feather.metadata.SourceMetadata;
+import org.parchmentmc.feather.metadata.SourceMetadataBuilder;
+import org.parchmentmc.feather.util.JsonArraySlices;
+
+import java.io.IOException;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Reads large JSON documents by decoding the elements of their top-level arrays concurrently, using the adapters of a
+ * {@link Moshi} instance.
+ *
+ * <p>The document is first scanned for the boundaries of the array elements, then each element is decoded on its own
+ * by the executor. The result is equal to reading the whole document with the Moshi instance on a single thread.</p>
+ *
+ * @see JsonArraySlices
+ */
+public class ParallelMoshiReader {
+    private final Moshi moshi;
+    private final Executor executor;
+
+    public ParallelMoshiReader(Moshi moshi, Executor executor) {
+        this.moshi = moshi;
+        this.executor = executor;
+    }
+
+    public ParallelMoshiReader(Moshi moshi) {
+        this(moshi, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Reads a mapping data container from UTF-8 encoded JSON, decoding its classes concurrently.
+     *
+     * @param json the UTF-8 encoded JSON
+     * @return the read mapping data container
+     * @throws IOException if the JSON is malformed
+     */
+    public VersionedMappingDataContainer readMappingData(byte[] json) throws IOException {
+        final JsonArraySlices slices = slices(json, "classes");
+
+        final VersionedMappingDataContainer container = read(moshi.adapter(VersionedMappingDataContainer.class),
+                slices.getRemainder(), 0, slices.getRemainder().length);
+        if (container == null) throw new JsonDataException("No mapping data found");
+        if (slices.size() == 0) return container;
+
+        final JsonAdapter<MappingDataContainer.ClassData> classAdapter = moshi.adapter(MappingDataContainer.ClassData.class);
+        final List<MappingDataContainer.ClassData> classes = slices.decode(
+                (data, offset, length) -> read(classAdapter, data, offset, length), executor);
+
+        return new ImmutableVersionedMappingDataContainer(container.getFormatVersion(), container.getPackages(), classes);
+    }
+
+    /**
+     * Reads source metadata from UTF-8 encoded JSON, decoding its top-level classes (with their inner classes)
+     * concurrently.
+     *
+     * <p>The classes of the returned metadata are in the same order as in the JSON.</p>
+     *
+     * @param json the UTF-8 encoded JSON
+     * @return the read source metadata
+     * @throws IOException if the JSON is malformed
+     */
+    public SourceMetadata readSourceMetadata(byte[] json) throws IOException {
+        final JsonArraySlices slices = slices(json, "classes");
+
+        final SourceMetadata metadata = read(moshi.adapter(SourceMetadata.class),
+                slices.getRemainder(), 0, slices.getRemainder().length);
+        if (metadata == null) throw new JsonDataException("No source metadata found");
+        if (slices.size() == 0) return metadata;
+
+        final JsonAdapter<ClassMetadata> classAdapter = moshi.adapter(ClassMetadata.class);
+        final List<ClassMetadata> classes = slices.decode(
+                (data, offset, length) -> read(classAdapter, data, offset, length), executor);
+
+        return SourceMetadataBuilder.create(metadata)
+                .withClasses(new LinkedHashSet<>(classes))
+                .build();
+    }
+
+    static JsonArraySlices slices(byte[] json, String property) {
+        try {
+            return JsonArraySlices.of(json, property);
+        } catch (IllegalArgumentException e) {
+            throw new JsonDataException("Malformed JSON: " + e.getMessage(), e);
+        }
+    }
+
+    private static <T> T read(JsonAdapter<T> adapter, byte[] data, int offset, int length) throws IOException {
+        try (JsonReader reader = JsonReader.of(new Buffer().write(data, offset, length))) {
+            return adapter.fromJson(reader);
+        }
+    }
+}
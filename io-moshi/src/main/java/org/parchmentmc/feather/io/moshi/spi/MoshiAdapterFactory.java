@@ -0,0 +1,103 @@
+package org.parchmentmc.feather.io.moshi.spi;
+
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonDataException;
+import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.Moshi;
+import okio.BufferedSink;
+import okio.BufferedSource;
+import okio.Okio;
+import org.parchmentmc.feather.io.moshi.*;
+import org.parchmentmc.feather.spi.IOAdapter;
+import org.parchmentmc.feather.spi.IOAdapterFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * {@link IOAdapterFactory} for Moshi, using the adapters of this module.
+ */
+public class MoshiAdapterFactory implements IOAdapterFactory {
+
+    private static final Moshi DEFAULT_MOSHI = new Moshi.Builder()
+            .add(LinkedHashSetMoshiAdapter.FACTORY)
+            .add(new MDCMoshiAdapter())
+            .add(new MetadataMoshiAdapter())
+            .add(new ManifestsMoshiAdapter())
+            .add(new OffsetDateTimeAdapter())
+            .add(new SimpleVersionAdapter())
+            .build();
+
+    private final Moshi moshi;
+
+    public MoshiAdapterFactory(Moshi moshi) {
+        this.moshi = moshi;
+    }
+
+    public MoshiAdapterFactory() {
+        this(DEFAULT_MOSHI);
+    }
+
+    @Override
+    public int priority() {
+        return 20;
+    }
+
+    @Override
+    public <T> IOAdapter<T> create(Class<T> clazz) {
+        return new MoshiWrapper<>(moshi.adapter(clazz));
+    }
+
+    static class MoshiWrapper<T> implements IOAdapter<T> {
+
+        private final JsonAdapter<T> adapter;
+
+        MoshiWrapper(JsonAdapter<T> adapter) {
+            this.adapter = adapter;
+        }
+
+        @Override
+        public String name() {
+            return "moshi";
+        }
+
+        @Override
+        public T read(InputStream in) throws IOException {
+            // Not closed, as that would close the given stream
+            final BufferedSource source = Okio.buffer(Okio.source(in));
+            final JsonReader reader = JsonReader.of(source);
+            try {
+                final T value = adapter.fromJson(reader);
+                if (reader.peek() != JsonReader.Token.END_DOCUMENT) {
+                    throw new JsonDataException("JSON document was not fully consumed.");
+                }
+                return value;
+            } catch (JsonDataException e) {
+                throw new IOException(e.getMessage(), e);
+            }
+        }
+
+        @Override
+        public void write(OutputStream out, T value) throws IOException {
+            final BufferedSink sink = Okio.buffer(Okio.sink(out));
+            adapter.toJson(sink, value);
+            sink.flush();
+        }
+
+        @Override
+        public T fromJson(String input) throws IOException {
+            try {
+                return adapter.fromJson(input);
+            } catch (JsonDataException e) {
+                throw new IOException(e.getMessage(), e);
+            }
+        }
+
+        @Override
+        public String toJson(T value) {
+            return adapter.toJson(value);
+        }
+    }
+
+}
@@ -0,0 +1,68 @@
+package org.parchmentmc.feather.io.moshi;
+
+import com.squareup.moshi.Moshi;
+import org.junit.jupiter.api.Test;
+import org.parchmentmc.feather.manifests.MDCTestConstants;
+import org.parchmentmc.feather.mapping.MappingDataBuilder;
+import org.parchmentmc.feather.mapping.VersionedMDCDelegate;
+import org.parchmentmc.feather.mapping.VersionedMappingDataContainer;
+import org.parchmentmc.feather.metadata.MetadataTestConstants;
+import org.parchmentmc.feather.metadata.SourceMetadata;
+import org.parchmentmc.feather.util.ContentHashOutputStream;
+import org.parchmentmc.feather.util.SimpleVersion;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.parchmentmc.feather.util.TestConstantsHelper.reversed;
+
+public class CanonicalMoshiWriterTest implements MDCTestConstants, MetadataTestConstants {
+    private final Moshi moshi = new Moshi.Builder()
+            .add(new SimpleVersionAdapter())
+            .add(new MDCMoshiAdapter())
+            .add(new MetadataMoshiAdapter())
+            .add(LinkedHashSetMoshiAdapter.FACTORY)
+            .build();
+    private final CanonicalMoshiWriter writer = new CanonicalMoshiWriter(moshi);
+
+    @Test
+    public void testMappingData() throws IOException {
+        for (VersionedMappingDataContainer data : DATA_CONTAINERS) {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            final String hash = writer.write(data, out);
+            final byte[] bytes = out.toByteArray();
+
+            assertEquals(ContentHashOutputStream.hash(bytes), hash);
+            assertEquals(hash, writer.hash(data));
+            assertEquals(data, moshi.adapter(VersionedMappingDataContainer.class).fromJson(new String(bytes, StandardCharsets.UTF_8)));
+            assertFalse(new String(bytes, StandardCharsets.UTF_8).contains("\n"));
+        }
+    }
+
+    @Test
+    public void testEscaping() throws IOException {
+        final MappingDataBuilder builder = new MappingDataBuilder();
+        builder.createClass("a/Example").addJavadoc("Returns <b>this</b> & \"that\" — or\tnot");
+        final VersionedMappingDataContainer data = new VersionedMDCDelegate<>(SimpleVersion.of("1.0.0"), builder);
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer.write(data, out);
+        assertEquals("{\"version\":\"1.0.0\",\"packages\":[],\"classes\":[{\"name\":\"a/Example\","
+                        + "\"javadoc\":[\"Returns <b>this</b> & \\\"that\\\" — or\\tnot\"]}]}",
+                new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testSourceMetadata() throws IOException {
+        for (SourceMetadata data : SOURCE_METADATA) {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            final ByteArrayOutputStream reversedOut = new ByteArrayOutputStream();
+
+            assertEquals(writer.write(data, out), writer.write(reversed(data), reversedOut));
+            assertArrayEquals(out.toByteArray(), reversedOut.toByteArray());
+            assertEquals(data, moshi.adapter(SourceMetadata.class).fromJson(new String(out.toByteArray(), StandardCharsets.UTF_8)));
+        }
+    }
+}
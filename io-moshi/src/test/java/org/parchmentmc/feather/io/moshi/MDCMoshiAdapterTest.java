@@ -1,13 +1,23 @@
 package org.parchmentmc.feather.io.moshi;
 
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.Moshi;
 import org.junit.jupiter.api.Test;
 import org.parchmentmc.feather.manifests.MDCTestConstants;
 import org.parchmentmc.feather.mapping.MappingDataContainer.ClassData;
 import org.parchmentmc.feather.mapping.MappingDataContainer.FieldData;
 import org.parchmentmc.feather.mapping.MappingDataContainer.MethodData;
 import org.parchmentmc.feather.mapping.MappingDataContainer.PackageData;
+import org.parchmentmc.feather.mapping.MappingDataFilter;
+import org.parchmentmc.feather.mapping.MappingPatch;
 import org.parchmentmc.feather.mapping.VersionedMappingDataContainer;
 
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
 import static org.parchmentmc.feather.mapping.MappingDataContainer.ParameterData;
 
 public class MDCMoshiAdapterTest extends MoshiTest implements MDCTestConstants {
@@ -44,4 +54,96 @@ public class MDCMoshiAdapterTest extends MoshiTest implements MDCTestConstants {
     public void testDataContainers() {
         DATA_CONTAINERS.forEach(data -> test(VersionedMappingDataContainer.class, data));
     }
+
+    @Test
+    public void testPatches() {
+        PATCHES.forEach(data -> test(MappingPatch.class, data));
+    }
+
+    @Test
+    public void testIgnoreNonDocumented() throws IOException {
+        final JsonAdapter<VersionedMappingDataContainer> ignoringAdapter = new Moshi.Builder()
+                .add(new MDCMoshiAdapter(true))
+                .add(new SimpleVersionAdapter())
+                .build().adapter(VersionedMappingDataContainer.class);
+        final JsonAdapter<VersionedMappingDataContainer> adapter = new Moshi.Builder()
+                .add(new MDCMoshiAdapter())
+                .add(new SimpleVersionAdapter())
+                .build().adapter(VersionedMappingDataContainer.class);
+
+        final VersionedMappingDataContainer result = adapter.fromJson(ignoringAdapter.toJson(DATA_CONTAINERS.get(3)));
+        assertNotNull(result);
+
+        // No javadocs and no members
+        assertNull(result.getClass("c/ClassOne"));
+        // Javadocs but no members
+        assertNotNull(result.getClass("c/com/example/ClassTwo$Inner"));
+        // No javadocs, but has documented members
+        final ClassData cls = result.getClass("b/ClassOne");
+        assertNotNull(cls);
+        assertNull(cls.getMethod("<clinit>", "(V"));
+        assertNotNull(cls.getMethod("<init>", "(Ljava/lang/String;BBZ)V"));
+        assertNotNull(cls.getMethod("isTestable", "()Z"));
+        assertEquals(3, cls.getMethod("<init>", "(Ljava/lang/String;BBZ)V").getParameters().size());
+
+        final ClassData fieldsClass = result.getClass("a/ClassOne");
+        assertNotNull(fieldsClass);
+        assertNull(fieldsClass.getField("aField"));
+        assertNotNull(fieldsClass.getField("thirdTimes"));
+
+        assertNull(result.getPackage("com/example"));
+        assertNotNull(result.getPackage("com/example/test"));
+    }
+
+    @Test
+    public void testFilter() throws IOException {
+        final MappingDataFilter filter = MappingDataFilter.all()
+                .withPackagePrefixes(Collections.singletonList("com/example"))
+                .withClassFilter(name -> !name.endsWith("$Inner"))
+                .withoutJavadoc();
+        final JsonAdapter<VersionedMappingDataContainer> filteringAdapter = new Moshi.Builder()
+                .add(new MDCMoshiAdapter(false, filter))
+                .add(new SimpleVersionAdapter())
+                .build().adapter(VersionedMappingDataContainer.class);
+        final JsonAdapter<VersionedMappingDataContainer> adapter = new Moshi.Builder()
+                .add(new MDCMoshiAdapter())
+                .add(new SimpleVersionAdapter())
+                .build().adapter(VersionedMappingDataContainer.class);
+
+        final VersionedMappingDataContainer result = filteringAdapter.fromJson(adapter.toJson(DATA_CONTAINERS.get(3)));
+        assertNotNull(result);
+
+        assertEquals(Arrays.asList("com/example", "com/example/test"),
+                result.getPackages().stream().map(PackageData::getName).collect(Collectors.toList()));
+        assertEquals(Arrays.asList("com/example/ClassTwo", "com/example/test/ClassyClass"),
+                result.getClasses().stream().map(ClassData::getName).collect(Collectors.toList()));
+
+        // Javadocs are skipped, but members are kept
+        assertTrue(result.getPackage("com/example/test").getJavadoc().isEmpty());
+        final ClassData cls = result.getClass("com/example/test/ClassyClass");
+        assertNotNull(cls);
+        assertTrue(cls.getJavadoc().isEmpty());
+        assertEquals(FIELDS.size(), cls.getFields().size());
+        assertEquals(METHODS.size(), cls.getMethods().size());
+        assertTrue(cls.getMethods().stream().allMatch(method -> method.getJavadoc().isEmpty()));
+        final MethodData method = cls.getMethod("test2", "(IIIS)Z");
+        assertNotNull(method);
+        assertEquals("1testName", method.getParameter((byte) 1).getName());
+        assertNull(method.getParameter((byte) 1).getJavadoc());
+    }
+
+    @Test
+    public void testPatchesWithIgnoringAndFilteringAdapter() throws IOException {
+        final MappingDataFilter filter = MappingDataFilter.all()
+                .withPackagePrefixes(Collections.singletonList("com/example"))
+                .withoutJavadoc();
+        final JsonAdapter<MappingPatch> ignoringAdapter = new Moshi.Builder()
+                .add(new MDCMoshiAdapter(true, filter))
+                .build().adapter(MappingPatch.class);
+
+        // Added entries are written and read in full, even if undocumented or excluded by the filter
+        for (MappingPatch patch : PATCHES) {
+            assertEquals(patch, ignoringAdapter.fromJson(ignoringAdapter.toJson(patch)));
+        }
+    }
 }
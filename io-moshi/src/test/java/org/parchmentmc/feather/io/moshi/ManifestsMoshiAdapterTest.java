@@ -0,0 +1,53 @@
+package org.parchmentmc.feather.io.moshi;
+
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonDataException;
+import org.junit.jupiter.api.Test;
+import org.parchmentmc.feather.manifests.LauncherManifest;
+import org.parchmentmc.feather.manifests.Library;
+import org.parchmentmc.feather.manifests.ManifestTestConstants;
+import org.parchmentmc.feather.manifests.VersionManifest;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ManifestsMoshiAdapterTest extends MoshiTest implements ManifestTestConstants {
+    public ManifestsMoshiAdapterTest() {
+        super(b -> b.add(new OffsetDateTimeAdapter()).add(new ManifestsMoshiAdapter()));
+    }
+
+    @Test
+    public void testLauncherManifests() {
+        LAUNCHER_MANIFESTS.forEach(data -> test(LauncherManifest.class, data));
+    }
+
+    @Test
+    public void testVersionManifests() {
+        VERSION_MANIFESTS.forEach(data -> test(VersionManifest.class, data));
+    }
+
+    @Test
+    public void testLibraries() {
+        LIBRARIES.forEach(data -> test(Library.class, data));
+    }
+
+    @Test
+    public void testUnknownProperties() throws IOException {
+        final Library library = moshi.adapter(Library.class).fromJson("{\"downloads\":{\"artifact\":{\"path\":\"a.jar\","
+                + "\"sha1\":\"" + SHA1 + "\",\"size\":1,\"url\":\"https://example.com/a.jar\",\"extra\":[1,2]}},"
+                + "\"name\":\"a:a:1\",\"downloadsExtra\":{\"nested\":{}}}");
+
+        assertNotNull(library);
+        assertEquals("a:a:1", library.getName());
+        assertNotNull(library.getDownloads().getArtifact());
+        assertEquals("a.jar", library.getDownloads().getArtifact().getPath());
+        assertTrue(library.getRules().isEmpty());
+    }
+
+    @Test
+    public void testMissingName() {
+        final JsonAdapter<Library> adapter = moshi.adapter(Library.class);
+        assertThrows(JsonDataException.class, () -> adapter.fromJson("{\"downloads\":{}}"));
+    }
+}
@@ -1,8 +1,15 @@
 package org.parchmentmc.feather.io.moshi;
 
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.Moshi;
 import org.junit.jupiter.api.Test;
 import org.parchmentmc.feather.metadata.*;
 
+import java.io.IOException;
+import java.util.Iterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
 public class MetadataMoshiAdapterTest extends MoshiTest implements MetadataTestConstants {
     public MetadataMoshiAdapterTest() {
         super(b -> b.add(new SimpleVersionAdapter()).add(new MetadataMoshiAdapter()).add(LinkedHashSetMoshiAdapter.FACTORY));
@@ -32,4 +39,55 @@ public class MetadataMoshiAdapterTest extends MoshiTest implements MetadataTestC
     public void testSourceMetadata() {
         SOURCE_METADATA.forEach(data -> test(SourceMetadata.class, data));
     }
+
+    @Test
+    public void testProjection() throws IOException {
+        final JsonAdapter<ClassMetadata> projectingAdapter = new Moshi.Builder()
+                .add(new SimpleVersionAdapter())
+                .add(new MetadataMoshiAdapter(MetadataProjection.none()))
+                .add(LinkedHashSetMoshiAdapter.FACTORY)
+                .build().adapter(ClassMetadata.class);
+        final JsonAdapter<ClassMetadata> adapter = moshi.adapter(ClassMetadata.class);
+
+        for (ClassMetadata original : CLASS_METADATA) {
+            final ClassMetadata read = projectingAdapter.fromJson(adapter.toJson(original));
+            assertNotNull(read);
+            assertProjectedOut(original, read);
+        }
+    }
+
+    private static void assertProjectedOut(ClassMetadata original, ClassMetadata read) {
+        assertEquals(original.getName(), read.getName());
+        assertEquals(original.getOwner(), read.getOwner());
+        assertEquals(0, read.getSecuritySpecification());
+        assertTrue(read.getSignature().isEmpty());
+        assertTrue(read.getSuperName().isEmpty());
+        assertTrue(read.getInterfaces().isEmpty());
+
+        assertEquals(original.getFields().size(), read.getFields().size());
+        for (FieldMetadata field : read.getFields()) {
+            assertEquals(0, field.getSecuritySpecification());
+            assertTrue(field.getSignature().isEmpty());
+        }
+
+        assertEquals(original.getMethods().size(), read.getMethods().size());
+        final Iterator<MethodMetadata> originalMethods = original.getMethods().iterator();
+        for (MethodMetadata method : read.getMethods()) {
+            final MethodMetadata originalMethod = originalMethods.next();
+            assertEquals(originalMethod.getName(), method.getName());
+            assertEquals(originalMethod.getDescriptor(), method.getDescriptor());
+            assertEquals(originalMethod.isLambda(), method.isLambda());
+            assertEquals(0, method.getSecuritySpecification());
+            assertTrue(method.getSignature().isEmpty());
+            assertTrue(method.getOverrides().isEmpty());
+            assertFalse(method.getBouncingTarget().isPresent());
+            assertFalse(method.getParent().isPresent());
+        }
+
+        assertEquals(original.getInnerClasses().size(), read.getInnerClasses().size());
+        final Iterator<ClassMetadata> originalInner = original.getInnerClasses().iterator();
+        for (ClassMetadata inner : read.getInnerClasses()) {
+            assertProjectedOut(originalInner.next(), inner);
+        }
+    }
 }
@@ -0,0 +1,92 @@
+package org.parchmentmc.feather.io.moshi;
+
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonDataException;
+import org.junit.jupiter.api.Test;
+import org.parchmentmc.feather.manifests.MDCTestConstants;
+import org.parchmentmc.feather.mapping.ImmutableMappingDataContainer.ImmutableClassData;
+import org.parchmentmc.feather.mapping.ImmutableVersionedMappingDataContainer;
+import org.parchmentmc.feather.mapping.MappingDataContainer.ClassData;
+import org.parchmentmc.feather.mapping.VersionedMappingDataContainer;
+import org.parchmentmc.feather.metadata.ClassMetadata;
+import org.parchmentmc.feather.metadata.MetadataTestConstants;
+import org.parchmentmc.feather.metadata.SourceMetadata;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.parchmentmc.feather.mapping.VersionedMappingDataContainer.CURRENT_FORMAT;
+
+public class ParallelMoshiReaderTest extends MoshiTest implements MDCTestConstants, MetadataTestConstants {
+    public ParallelMoshiReaderTest() {
+        super(b -> b.add(new MDCMoshiAdapter()).add(new SimpleVersionAdapter())
+                .add(new MetadataMoshiAdapter()).add(LinkedHashSetMoshiAdapter.FACTORY));
+    }
+
+    private static byte[] utf8(String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testDataContainers() throws IOException {
+        final JsonAdapter<VersionedMappingDataContainer> adapter = moshi.adapter(VersionedMappingDataContainer.class);
+        final ParallelMoshiReader reader = new ParallelMoshiReader(moshi);
+        for (VersionedMappingDataContainer container : DATA_CONTAINERS) {
+            assertEquals(container, reader.readMappingData(utf8(adapter.toJson(container))));
+        }
+    }
+
+    @Test
+    public void testPrettyPrinted() throws IOException {
+        final String json = moshi.adapter(VersionedMappingDataContainer.class).indent("  ").toJson(DATA_CONTAINERS.get(3));
+        assertEquals(DATA_CONTAINERS.get(3), new ParallelMoshiReader(moshi).readMappingData(utf8(json)));
+    }
+
+    @Test
+    public void testManyClasses() throws IOException {
+        final List<ClassData> classes = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            classes.add(new ImmutableClassData("net/minecraft/Class" + i, Collections.singletonList("Javadoc for class " + i),
+                    Collections.emptyList(), Collections.emptyList()));
+        }
+        final VersionedMappingDataContainer container = new ImmutableVersionedMappingDataContainer(CURRENT_FORMAT,
+                PACKAGES, classes);
+        final JsonAdapter<VersionedMappingDataContainer> adapter = moshi.adapter(VersionedMappingDataContainer.class);
+        final String json = adapter.toJson(container);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final VersionedMappingDataContainer read = new ParallelMoshiReader(moshi, executor).readMappingData(utf8(json));
+            assertEquals(container, read);
+            assertEquals(adapter.fromJson(json), read);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testSourceMetadata() throws IOException {
+        final JsonAdapter<SourceMetadata> adapter = moshi.adapter(SourceMetadata.class);
+        final ParallelMoshiReader reader = new ParallelMoshiReader(moshi);
+        for (SourceMetadata metadata : SOURCE_METADATA) {
+            final SourceMetadata read = reader.readSourceMetadata(utf8(adapter.toJson(metadata)));
+            assertEquals(metadata, read);
+            // The classes are kept in input order
+            assertEquals(new ArrayList<ClassMetadata>(metadata.getClasses()), new ArrayList<ClassMetadata>(read.getClasses()));
+        }
+    }
+
+    @Test
+    public void testMalformed() {
+        final ParallelMoshiReader reader = new ParallelMoshiReader(moshi);
+        assertThrows(JsonDataException.class, () -> reader.readMappingData(utf8("{\"version\": \"1.0.0\", \"classes\": [")));
+        assertThrows(JsonDataException.class, () -> reader.readMappingData(utf8("{\"classes\": []}")));
+        assertThrows(JsonDataException.class, () -> reader.readSourceMetadata(utf8("{\"classes\": [{}")));
+    }
+}
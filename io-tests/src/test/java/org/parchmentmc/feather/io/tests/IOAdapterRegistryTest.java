@@ -0,0 +1,59 @@
+package org.parchmentmc.feather.io.tests;
+
+import org.junit.jupiter.api.Test;
+import org.parchmentmc.feather.manifests.MDCTestConstants;
+import org.parchmentmc.feather.mapping.VersionedMappingDataContainer;
+import org.parchmentmc.feather.spi.IOAdapter;
+import org.parchmentmc.feather.spi.IOAdapterRegistry;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IOAdapterRegistryTest implements MDCTestConstants {
+    @Test
+    public void testDiscovery() {
+        final IOAdapterRegistry registry = IOAdapterRegistry.getDefault();
+        final List<IOAdapter<VersionedMappingDataContainer>> adapters = registry.getAdapters(VersionedMappingDataContainer.class);
+
+        assertEquals(new HashSet<>(Arrays.asList("gson", "moshi", "jackson")),
+                adapters.stream().map(IOAdapter::name).collect(Collectors.toSet()));
+        assertSame(adapters, registry.getAdapters(VersionedMappingDataContainer.class));
+        assertTrue(registry.getAdapter(VersionedMappingDataContainer.class, "moshi").isPresent());
+        assertFalse(registry.getAdapter(VersionedMappingDataContainer.class, "unknown").isPresent());
+
+        // The default adapter is chosen by priority, regardless of the order of the classpath
+        assertEquals("jackson", registry.getAdapter(VersionedMappingDataContainer.class).name());
+    }
+
+    @Test
+    public void testStreams() throws IOException {
+        for (IOAdapter<VersionedMappingDataContainer> adapter : IOAdapterRegistry.getDefault()
+                .getAdapters(VersionedMappingDataContainer.class)) {
+            for (VersionedMappingDataContainer data : DATA_CONTAINERS) {
+                final ByteArrayOutputStream out = new ByteArrayOutputStream();
+                adapter.write(out, data);
+
+                assertEquals(adapter.toJson(data), out.toString("UTF-8"), adapter.name());
+                assertEquals(data, adapter.read(new ByteArrayInputStream(out.toByteArray())), adapter.name());
+            }
+            assertThrows(IOException.class, () -> adapter.fromJson("{\"version\": \"1.0.0\"} []"), adapter.name());
+        }
+    }
+
+    @Test
+    public void testSelectFastest() {
+        final IOAdapterRegistry registry = IOAdapterRegistry.load(getClass().getClassLoader());
+        final IOAdapter<VersionedMappingDataContainer> fastest =
+                registry.selectFastest(VersionedMappingDataContainer.class, DATA_CONTAINERS.get(3));
+
+        assertTrue(registry.getAdapters(VersionedMappingDataContainer.class).contains(fastest));
+        assertSame(fastest, registry.getAdapter(VersionedMappingDataContainer.class));
+    }
+}
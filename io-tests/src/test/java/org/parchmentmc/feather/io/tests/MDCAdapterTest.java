@@ -3,6 +3,7 @@ package org.parchmentmc.feather.io.tests;
 import org.junit.jupiter.api.Test;
 import org.parchmentmc.feather.manifests.MDCTestConstants;
 import org.parchmentmc.feather.mapping.MappingDataContainer;
+import org.parchmentmc.feather.mapping.MappingPatch;
 import org.parchmentmc.feather.mapping.VersionedMappingDataContainer;
 
 public class MDCAdapterTest extends RoundRobinTest implements MDCTestConstants {
@@ -37,4 +38,9 @@ public class MDCAdapterTest extends RoundRobinTest implements MDCTestConstants {
         DATA_CONTAINERS.forEach(data -> test(VersionedMappingDataContainer.class, data));
     }
 
+    @Test
+    public void testPatches() {
+        PATCHES.forEach(data -> test(MappingPatch.class, data));
+    }
+
 }
@@ -0,0 +1,44 @@
+package org.parchmentmc.feather.io.tests;
+
+import org.junit.jupiter.api.Test;
+import org.parchmentmc.feather.manifests.LauncherManifest;
+import org.parchmentmc.feather.manifests.Library;
+import org.parchmentmc.feather.manifests.ManifestTestConstants;
+import org.parchmentmc.feather.manifests.VersionManifest;
+import org.parchmentmc.feather.spi.IOAdapter;
+import org.parchmentmc.feather.spi.IOAdapterRegistry;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ManifestAdapterTest extends RoundRobinTest implements ManifestTestConstants {
+
+    @Test
+    public void testAllAdaptersSupportManifests() {
+        final IOAdapterRegistry registry = IOAdapterRegistry.getDefault();
+        for (Class<?> type : Arrays.asList(LauncherManifest.class, VersionManifest.class, Library.class)) {
+            assertEquals(new HashSet<>(Arrays.asList("gson", "moshi", "jackson")),
+                    registry.getAdapters(type).stream().map(IOAdapter::name).collect(Collectors.toSet()),
+                    type.getName());
+        }
+    }
+
+    @Test
+    public void testLauncherManifests() {
+        LAUNCHER_MANIFESTS.forEach(data -> test(LauncherManifest.class, data));
+    }
+
+    @Test
+    public void testVersionManifests() {
+        VERSION_MANIFESTS.forEach(data -> test(VersionManifest.class, data));
+    }
+
+    @Test
+    public void testLibraries() {
+        LIBRARIES.forEach(data -> test(Library.class, data));
+    }
+
+}
@@ -3,15 +3,13 @@ package org.parchmentmc.feather.io.tests;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.function.ThrowingSupplier;
 import org.parchmentmc.feather.spi.IOAdapter;
-import org.parchmentmc.feather.spi.IOAdapterFactory;
-
-import java.util.ServiceLoader;
+import org.parchmentmc.feather.spi.IOAdapterRegistry;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 public class RoundRobinTest {
 
-    private static final ServiceLoader<IOAdapterFactory> CONVERTERS = ServiceLoader.load(IOAdapterFactory.class);
+    private static final IOAdapterRegistry REGISTRY = IOAdapterRegistry.getDefault();
 
     /**
      * Tests the given object using combinations of IO adapters for the given class.
@@ -22,7 +20,7 @@ public class RoundRobinTest {
      * @see #test(IOAdapter, IOAdapter, Object)
      */
     protected <T> void test(Class<T> typeClass, T original) {
-        Combinations.pairs(CONVERTERS.iterator(), (l, r) -> test(l.create(typeClass), r.create(typeClass), original));
+        Combinations.pairs(REGISTRY.getAdapters(typeClass).iterator(), (l, r) -> test(l, r, original));
     }
 
     /**
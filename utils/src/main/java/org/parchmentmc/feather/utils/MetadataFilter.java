@@ -0,0 +1,337 @@
+package org.parchmentmc.feather.utils;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.parchmentmc.feather.metadata.ClassMetadata;
+import org.parchmentmc.feather.metadata.FieldMetadata;
+import org.parchmentmc.feather.metadata.MethodMetadata;
+import org.parchmentmc.feather.metadata.WithSecurity;
+import org.parchmentmc.feather.util.AccessFlag;
+import org.parchmentmc.feather.utils.MetadataIndex.Attribute;
+import org.parchmentmc.feather.utils.MetadataIndex.Table;
+
+import java.util.BitSet;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A composable filter over the classes, methods or fields of a {@link MetadataIndex}.
+ *
+ * <p>Filters are evaluated against the bitmaps of the index, so combining filters with {@link #and(MetadataFilter)},
+ * {@link #or(MetadataFilter)} and {@link #negate()} costs a bitmap operation rather than a pass over the metadata.
+ * Name predicates, such as {@link #nameMatches(String, Predicate)}, are tested once for each distinct name. Only
+ * {@link #where(Predicate)} tests each element.</p>
+ *
+ * <p>Filters hold no state of their own, so they can be built once and evaluated against any number of indexes.</p>
+ *
+ * @param <T> the type of element
+ * @see MetadataIndex
+ */
+public final class MetadataFilter<T extends WithSecurity> {
+    private final Function<Table<? extends T>, BitSet> evaluator;
+    /**
+     * The predicate of a filter created by {@link #where(Predicate)}, or {@code null}.
+     */
+    @Nullable
+    private final Predicate<? super T> predicate;
+
+    private MetadataFilter(Function<Table<? extends T>, BitSet> evaluator) {
+        this(evaluator, null);
+    }
+
+    private MetadataFilter(Function<Table<? extends T>, BitSet> evaluator, @Nullable Predicate<? super T> predicate) {
+        this.evaluator = evaluator;
+        this.predicate = predicate;
+    }
+
+    BitSet evaluate(Table<? extends T> table) {
+        return evaluator.apply(table);
+    }
+
+    /**
+     * Returns a filter which matches the elements matched by both this filter and the given filter.
+     *
+     * @param other the other filter
+     * @return the combined filter
+     */
+    public MetadataFilter<T> and(MetadataFilter<? super T> other) {
+        final Predicate<? super T> predicate = other.predicate;
+        if (predicate != null) {
+            // Only test the predicate on the elements which this filter matched
+            return new MetadataFilter<>(table -> {
+                final BitSet result = evaluate(table);
+                for (int i = result.nextSetBit(0); i >= 0; i = result.nextSetBit(i + 1)) {
+                    if (!predicate.test(table.elements.get(i))) result.clear(i);
+                }
+                return result;
+            });
+        }
+        return new MetadataFilter<>(table -> {
+            final BitSet result = evaluate(table);
+            if (!result.isEmpty()) result.and(other.evaluate(table));
+            return result;
+        });
+    }
+
+    /**
+     * Returns a filter which matches the elements matched by either this filter or the given filter.
+     *
+     * @param other the other filter
+     * @return the combined filter
+     */
+    public MetadataFilter<T> or(MetadataFilter<? super T> other) {
+        return new MetadataFilter<>(table -> {
+            final BitSet result = evaluate(table);
+            result.or(other.evaluate(table));
+            return result;
+        });
+    }
+
+    /**
+     * Returns a filter which matches the elements not matched by this filter.
+     *
+     * @return the negated filter
+     */
+    public MetadataFilter<T> negate() {
+        return new MetadataFilter<>(table -> {
+            final BitSet result = evaluate(table);
+            result.flip(0, table.size());
+            return result;
+        });
+    }
+
+    /**
+     * Returns a filter which matches all elements.
+     *
+     * @param <T> the type of element
+     * @return the filter
+     */
+    public static <T extends WithSecurity> MetadataFilter<T> all() {
+        return new MetadataFilter<>(Table::all);
+    }
+
+    /**
+     * Returns a filter which matches the elements with the given name in the given naming scheme.
+     *
+     * @param scheme the naming scheme
+     * @param name   the name
+     * @param <T>    the type of element
+     * @return the filter
+     */
+    public static <T extends WithSecurity> MetadataFilter<T> hasName(String scheme, String name) {
+        return new MetadataFilter<>(table -> table.lookup(Attribute.NAME, scheme, name));
+    }
+
+    /**
+     * Returns a filter which matches the elements whose name in the given naming scheme matches the predicate.
+     *
+     * @param scheme    the naming scheme
+     * @param predicate the name predicate
+     * @param <T>       the type of element
+     * @return the filter
+     */
+    public static <T extends WithSecurity> MetadataFilter<T> nameMatches(String scheme, Predicate<String> predicate) {
+        return new MetadataFilter<>(table -> table.lookup(Attribute.NAME, scheme, predicate));
+    }
+
+    /**
+     * Returns a filter which matches the elements owned by the class with the given name in the given naming scheme.
+     * The owner of a member is its class, and the owner of an inner class is its outer class.
+     *
+     * @param scheme the naming scheme
+     * @param owner  the name of the owning class
+     * @param <T>    the type of element
+     * @return the filter
+     */
+    public static <T extends WithSecurity> MetadataFilter<T> ownedBy(String scheme, String owner) {
+        return new MetadataFilter<>(table -> table.lookup(Attribute.OWNER, scheme, owner));
+    }
+
+    /**
+     * Returns a filter which matches the classes in the given package, and the members of those classes, by their
+     * names in the given naming scheme. Subpackages are not included.
+     *
+     * @param scheme      the naming scheme
+     * @param packageName the internal name of the package, such as {@code net/minecraft/world}, or an empty string
+     *                    for the default package
+     * @param <T>         the type of element
+     * @return the filter
+     */
+    public static <T extends WithSecurity> MetadataFilter<T> inPackage(String scheme, String packageName) {
+        return new MetadataFilter<>(table -> table.lookup(Attribute.PACKAGE, scheme, packageName));
+    }
+
+    /**
+     * Returns a filter which matches the methods or fields with the given descriptor in the given naming scheme.
+     * Classes have no descriptor, and never match.
+     *
+     * @param scheme     the naming scheme
+     * @param descriptor the descriptor
+     * @param <T>        the type of element
+     * @return the filter
+     */
+    public static <T extends WithSecurity> MetadataFilter<T> hasDescriptor(String scheme, String descriptor) {
+        return new MetadataFilter<>(table -> table.lookup(Attribute.DESCRIPTOR, scheme, descriptor));
+    }
+
+    /**
+     * Returns a filter which matches the methods or fields whose descriptor in the given naming scheme matches the
+     * predicate. Classes have no descriptor, and never match.
+     *
+     * @param scheme    the naming scheme
+     * @param predicate the descriptor predicate
+     * @param <T>       the type of element
+     * @return the filter
+     */
+    public static <T extends WithSecurity> MetadataFilter<T> descriptorMatches(String scheme,
+                                                                              Predicate<String> predicate) {
+        return new MetadataFilter<>(table -> table.lookup(Attribute.DESCRIPTOR, scheme, predicate));
+    }
+
+    /**
+     * Returns a filter which matches the elements which have all of the given access flags. A flag which does not
+     * apply to the kind of element is never set, such as {@link AccessFlag#SUPER} for methods.
+     *
+     * @param flags the access flags
+     * @param <T>   the type of element
+     * @return the filter
+     */
+    public static <T extends WithSecurity> MetadataFilter<T> hasFlags(AccessFlag... flags) {
+        final AccessFlag[] copy = flags.clone();
+        return new MetadataFilter<>(table -> {
+            for (AccessFlag flag : copy) {
+                if (!flag.appliesTo(table.target)) return new BitSet();
+            }
+            return table.withAllBits(AccessFlag.mask(copy));
+        });
+    }
+
+    /**
+     * Returns a filter which matches the elements which have any of the given access flags.
+     *
+     * @param flags the access flags
+     * @param <T>   the type of element
+     * @return the filter
+     */
+    public static <T extends WithSecurity> MetadataFilter<T> hasAnyFlag(AccessFlag... flags) {
+        final AccessFlag[] copy = flags.clone();
+        return new MetadataFilter<>(table -> {
+            int mask = 0;
+            for (AccessFlag flag : copy) {
+                if (flag.appliesTo(table.target)) mask |= flag.getBitMask();
+            }
+            return table.withAnyBits(mask);
+        });
+    }
+
+    /**
+     * Returns a filter which matches the elements which have none of the given access flags.
+     *
+     * @param flags the access flags
+     * @param <T>   the type of element
+     * @return the filter
+     */
+    public static <T extends WithSecurity> MetadataFilter<T> withoutFlags(AccessFlag... flags) {
+        return MetadataFilter.<T>hasAnyFlag(flags).negate();
+    }
+
+    /**
+     * Returns a filter which matches the lambda methods.
+     *
+     * @return the filter
+     * @see MethodMetadata#isLambda()
+     */
+    public static MetadataFilter<MethodMetadata> isLambda() {
+        return new MetadataFilter<>(table -> (BitSet) table.index.lambdaMethods.clone());
+    }
+
+    /**
+     * Returns a filter which matches the methods which are the getter of a record component of their class.
+     *
+     * @return the filter
+     */
+    public static MetadataFilter<MethodMetadata> isRecordGetter() {
+        return new MetadataFilter<>(table -> (BitSet) table.index.recordGetters.clone());
+    }
+
+    /**
+     * Returns a filter which matches the record classes.
+     *
+     * @return the filter
+     * @see ClassMetadata#isRecord()
+     */
+    public static MetadataFilter<ClassMetadata> isRecord() {
+        return new MetadataFilter<>(table -> (BitSet) table.index.recordClasses.clone());
+    }
+
+    /**
+     * Returns a filter which matches the inner classes.
+     *
+     * @return the filter
+     * @see ClassMetadata#getInnerClasses()
+     */
+    public static MetadataFilter<ClassMetadata> isInnerClass() {
+        return new MetadataFilter<>(table -> (BitSet) table.index.innerClasses.clone());
+    }
+
+    /**
+     * Returns a filter which matches the classes which declare any method matched by the given filter.
+     *
+     * @param filter the method filter
+     * @return the filter
+     */
+    public static MetadataFilter<ClassMetadata> declaresMethod(MetadataFilter<? super MethodMetadata> filter) {
+        return new MetadataFilter<>(table -> {
+            final Table<MethodMetadata> methods = table.index.methods;
+            return methods.declaringClassesOf(filter.evaluate(methods));
+        });
+    }
+
+    /**
+     * Returns a filter which matches the classes which declare any field matched by the given filter.
+     *
+     * @param filter the field filter
+     * @return the filter
+     */
+    public static MetadataFilter<ClassMetadata> declaresField(MetadataFilter<? super FieldMetadata> filter) {
+        return new MetadataFilter<>(table -> {
+            final Table<FieldMetadata> fields = table.index.fields;
+            return fields.declaringClassesOf(filter.evaluate(fields));
+        });
+    }
+
+    /**
+     * Returns a filter which matches the methods or fields declared by any class matched by the given filter. Classes
+     * never match.
+     *
+     * @param filter the class filter
+     * @param <T>    the type of element
+     * @return the filter
+     */
+    public static <T extends WithSecurity> MetadataFilter<T> declaredBy(MetadataFilter<? super ClassMetadata> filter) {
+        return new MetadataFilter<>(table -> {
+            if (table.declaringClasses == null) return new BitSet();
+            return table.declaredBy(filter.evaluate(table.index.classes));
+        });
+    }
+
+    /**
+     * Returns a filter which matches the elements which match the given predicate.
+     *
+     * <p>Unlike the other filters, this tests every element, so it should be combined with other filters which narrow
+     * down the elements first. When given to {@link #and(MetadataFilter)}, the predicate is only tested on the elements
+     * matched by the filter it is combined with.</p>
+     *
+     * @param predicate the predicate
+     * @param <T>       the type of element
+     * @return the filter
+     */
+    public static <T extends WithSecurity> MetadataFilter<T> where(Predicate<? super T> predicate) {
+        return new MetadataFilter<>(table -> {
+            final BitSet result = new BitSet(table.size());
+            for (int i = 0; i < table.size(); i++) {
+                if (predicate.test(table.elements.get(i))) result.set(i);
+            }
+            return result;
+        }, predicate);
+    }
+}
@@ -0,0 +1,393 @@
+package org.parchmentmc.feather.utils;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.parchmentmc.feather.metadata.ClassMetadata;
+import org.parchmentmc.feather.metadata.FieldMetadata;
+import org.parchmentmc.feather.metadata.FlattenedClasses;
+import org.parchmentmc.feather.metadata.MethodMetadata;
+import org.parchmentmc.feather.metadata.RecordMetadata;
+import org.parchmentmc.feather.metadata.Reference;
+import org.parchmentmc.feather.metadata.SourceMetadata;
+import org.parchmentmc.feather.metadata.WithSecurity;
+import org.parchmentmc.feather.named.Named;
+import org.parchmentmc.feather.util.AccessFlag;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * An index over a snapshot of {@link SourceMetadata}, for running {@linkplain MetadataFilter filtering queries} over
+ * its classes, methods and fields.
+ *
+ * <p>The classes are {@linkplain SourceMetadata#getFlattenedClasses() flattened}, so the inner classes of every
+ * class are queried alongside the top-level classes. Each attribute of the classes, methods and fields is indexed as
+ * a bitmap of the matching elements, and queries are evaluated by intersecting and combining those bitmaps rather
+ * than by walking the metadata tree. The access flag, lambda and record bitmaps are built up front; the name, owner,
+ * descriptor and package bitmaps are built for each naming scheme on its first query.</p>
+ *
+ * <p>The index assumes that the source metadata is not modified after it is indexed. It is safe to query from
+ * multiple threads.</p>
+ *
+ * <pre>{@code
+ * MetadataIndex index = MetadataIndex.of(metadata);
+ * List<MethodMetadata> lambdas = index.methods(MetadataFilter.isLambda()
+ *         .and(MetadataFilter.hasFlags(AccessFlag.STATIC, AccessFlag.SYNTHETIC))
+ *         .and(MetadataFilter.inPackage(Constants.Names.MOJANG, "net/minecraft/world")));
+ * }</pre>
+ *
+ * @see MetadataFilter
+ */
+public final class MetadataIndex {
+    private final SourceMetadata metadata;
+    final Table<ClassMetadata> classes;
+    final Table<MethodMetadata> methods;
+    final Table<FieldMetadata> fields;
+    final BitSet recordClasses = new BitSet();
+    final BitSet innerClasses = new BitSet();
+    final BitSet lambdaMethods = new BitSet();
+    final BitSet recordGetters = new BitSet();
+
+    private MetadataIndex(SourceMetadata metadata) {
+        this.metadata = metadata;
+
+        final FlattenedClasses classList = metadata.getFlattenedClasses();
+        final List<MethodMetadata> methodList = new ArrayList<>();
+        final List<FieldMetadata> fieldList = new ArrayList<>();
+        final List<Integer> methodClasses = new ArrayList<>();
+        final List<Integer> fieldClasses = new ArrayList<>();
+        for (int index = 0; index < classList.size(); index++) {
+            final ClassMetadata clazz = classList.get(index);
+            if (clazz.isRecord()) recordClasses.set(index);
+            if (classList.getDepth(index) > 0) innerClasses.set(index);
+            for (MethodMetadata method : clazz.getMethods()) {
+                methodList.add(method);
+                methodClasses.add(index);
+            }
+            for (FieldMetadata field : clazz.getFields()) {
+                fieldList.add(field);
+                fieldClasses.add(index);
+            }
+        }
+
+        this.classes = new Table<>(this, classList, AccessFlag.Target.CLASS, null,
+                ClassMetadata::getName, ClassMetadata::getOwner, c -> null, ClassMetadata::getName);
+        this.methods = new Table<>(this, methodList, AccessFlag.Target.METHOD, toArray(methodClasses),
+                MethodMetadata::getName, MethodMetadata::getOwner, MethodMetadata::getDescriptor,
+                MethodMetadata::getOwner);
+        this.fields = new Table<>(this, fieldList, AccessFlag.Target.FIELD, toArray(fieldClasses),
+                FieldMetadata::getName, FieldMetadata::getOwner, FieldMetadata::getDescriptor,
+                FieldMetadata::getOwner);
+
+        for (int i = 0; i < methodList.size(); i++) {
+            final MethodMetadata method = methodList.get(i);
+            if (method.isLambda()) lambdaMethods.set(i);
+            final ClassMetadata owner = classList.get(methods.declaringClasses[i]);
+            for (RecordMetadata record : owner.getRecords()) {
+                final Reference getter = record.getGetter();
+                if (getter != null && isSameName(getter.getName(), method.getName())
+                        && isSameName(getter.getDescriptor(), method.getDescriptor())) {
+                    recordGetters.set(i);
+                }
+            }
+        }
+    }
+
+    private static int[] toArray(List<Integer> list) {
+        final int[] array = new int[list.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = list.get(i);
+        }
+        return array;
+    }
+
+    // Compares on the obfuscated names when both have one, as references may carry fewer naming schemes
+    private static boolean isSameName(@Nullable Named first, Named second) {
+        if (first == null) return false;
+        final Optional<String> firstName = first.getObfuscatedName();
+        final Optional<String> secondName = second.getObfuscatedName();
+        if (firstName.isPresent() && secondName.isPresent()) return firstName.equals(secondName);
+        return first.equals(second);
+    }
+
+    /**
+     * Creates an index over the given source metadata.
+     *
+     * @param metadata the source metadata
+     * @return the index
+     */
+    public static MetadataIndex of(SourceMetadata metadata) {
+        return new MetadataIndex(metadata);
+    }
+
+    /**
+     * Returns the source metadata which this index was built from.
+     *
+     * @return the source metadata
+     */
+    public SourceMetadata getMetadata() {
+        return metadata;
+    }
+
+    /**
+     * Returns all classes, including inner classes, with each class followed by its inner classes.
+     *
+     * @return an unmodifiable list of all classes
+     */
+    public List<ClassMetadata> getClasses() {
+        return classes.elements;
+    }
+
+    /**
+     * Returns the methods of all classes, in the order of {@link #getClasses()}.
+     *
+     * @return an unmodifiable list of all methods
+     */
+    public List<MethodMetadata> getMethods() {
+        return methods.elements;
+    }
+
+    /**
+     * Returns the fields of all classes, in the order of {@link #getClasses()}.
+     *
+     * @return an unmodifiable list of all fields
+     */
+    public List<FieldMetadata> getFields() {
+        return fields.elements;
+    }
+
+    /**
+     * Returns the classes, including inner classes, which match the given filter.
+     *
+     * @param filter the filter
+     * @return the matching classes, in the order of {@link #getClasses()}
+     */
+    public List<ClassMetadata> classes(MetadataFilter<? super ClassMetadata> filter) {
+        return classes.select(filter);
+    }
+
+    /**
+     * Returns the methods which match the given filter.
+     *
+     * @param filter the filter
+     * @return the matching methods, in the order of {@link #getMethods()}
+     */
+    public List<MethodMetadata> methods(MetadataFilter<? super MethodMetadata> filter) {
+        return methods.select(filter);
+    }
+
+    /**
+     * Returns the fields which match the given filter.
+     *
+     * @param filter the filter
+     * @return the matching fields, in the order of {@link #getFields()}
+     */
+    public List<FieldMetadata> fields(MetadataFilter<? super FieldMetadata> filter) {
+        return fields.select(filter);
+    }
+
+    /**
+     * Returns the number of classes, including inner classes, which match the given filter.
+     *
+     * @param filter the filter
+     * @return the number of matching classes
+     */
+    public int countClasses(MetadataFilter<? super ClassMetadata> filter) {
+        return filter.evaluate(classes).cardinality();
+    }
+
+    /**
+     * Returns the number of methods which match the given filter.
+     *
+     * @param filter the filter
+     * @return the number of matching methods
+     */
+    public int countMethods(MetadataFilter<? super MethodMetadata> filter) {
+        return filter.evaluate(methods).cardinality();
+    }
+
+    /**
+     * Returns the number of fields which match the given filter.
+     *
+     * @param filter the filter
+     * @return the number of matching fields
+     */
+    public int countFields(MetadataFilter<? super FieldMetadata> filter) {
+        return filter.evaluate(fields).cardinality();
+    }
+
+    /**
+     * The indexed attributes whose values are names.
+     */
+    enum Attribute {
+        NAME,
+        OWNER,
+        DESCRIPTOR,
+        /**
+         * The package of the class, or of the owner of the member.
+         */
+        PACKAGE
+    }
+
+    /**
+     * The bitmaps of one kind of element. Every query result is a new bitmap, which the caller may modify.
+     *
+     * @param <T> the type of element
+     */
+    static final class Table<T extends WithSecurity> {
+        final MetadataIndex index;
+        final List<T> elements;
+        final AccessFlag.Target target;
+        /**
+         * The index of the declaring class of each element, or {@code null} for classes.
+         */
+        final int[] declaringClasses;
+        private final Named[][] attributes;
+        private final BitSet[] flagBits = new BitSet[16];
+        private final List<Map<String, Map<String, BitSet>>> nameIndexes = new ArrayList<>();
+
+        Table(MetadataIndex index, List<T> elements, AccessFlag.Target target, int[] declaringClasses,
+              Function<T, Named> name, Function<T, Named> owner, Function<T, @Nullable Named> descriptor,
+              Function<T, Named> declaringType) {
+            this.index = index;
+            this.elements = Collections.unmodifiableList(elements);
+            this.target = target;
+            this.declaringClasses = declaringClasses;
+
+            this.attributes = new Named[Attribute.values().length][elements.size()];
+            for (int bit = 0; bit < flagBits.length; bit++) {
+                flagBits[bit] = new BitSet();
+            }
+            for (int attribute = 0; attribute < attributes.length; attribute++) {
+                nameIndexes.add(new ConcurrentHashMap<>());
+            }
+
+            for (int i = 0; i < elements.size(); i++) {
+                final T element = elements.get(i);
+                attributes[Attribute.NAME.ordinal()][i] = name.apply(element);
+                attributes[Attribute.OWNER.ordinal()][i] = owner.apply(element);
+                attributes[Attribute.DESCRIPTOR.ordinal()][i] = descriptor.apply(element);
+                attributes[Attribute.PACKAGE.ordinal()][i] = declaringType.apply(element);
+
+                for (int bits = element.getAccessFlags().getBitField(); bits != 0; bits &= bits - 1) {
+                    flagBits[Integer.numberOfTrailingZeros(bits)].set(i);
+                }
+            }
+        }
+
+        int size() {
+            return elements.size();
+        }
+
+        BitSet all() {
+            final BitSet result = new BitSet(size());
+            result.set(0, size());
+            return result;
+        }
+
+        /**
+         * Returns the elements which have all of the bits of the given mask set.
+         */
+        BitSet withAllBits(int mask) {
+            final BitSet result = all();
+            for (int bits = mask & AccessFlag.ALL_FLAGS_MASK; bits != 0; bits &= bits - 1) {
+                result.and(flagBits[Integer.numberOfTrailingZeros(bits)]);
+            }
+            return result;
+        }
+
+        /**
+         * Returns the elements which have any of the bits of the given mask set.
+         */
+        BitSet withAnyBits(int mask) {
+            final BitSet result = new BitSet(size());
+            for (int bits = mask & AccessFlag.ALL_FLAGS_MASK; bits != 0; bits &= bits - 1) {
+                result.or(flagBits[Integer.numberOfTrailingZeros(bits)]);
+            }
+            return result;
+        }
+
+        /**
+         * Returns the elements whose attribute has the given name in the given scheme.
+         */
+        BitSet lookup(Attribute attribute, String scheme, String name) {
+            final BitSet bits = nameIndex(attribute, scheme).get(name);
+            return bits != null ? (BitSet) bits.clone() : new BitSet(size());
+        }
+
+        /**
+         * Returns the elements whose attribute has a name in the given scheme which matches the predicate. The
+         * predicate is tested once for each distinct name, rather than for each element.
+         */
+        BitSet lookup(Attribute attribute, String scheme, Predicate<String> predicate) {
+            final BitSet result = new BitSet(size());
+            for (Map.Entry<String, BitSet> entry : nameIndex(attribute, scheme).entrySet()) {
+                if (predicate.test(entry.getKey())) {
+                    result.or(entry.getValue());
+                }
+            }
+            return result;
+        }
+
+        private Map<String, BitSet> nameIndex(Attribute attribute, String scheme) {
+            return nameIndexes.get(attribute.ordinal()).computeIfAbsent(scheme, s -> {
+                final Named[] values = attributes[attribute.ordinal()];
+                final Map<String, BitSet> nameIndex = new HashMap<>();
+                for (int i = 0; i < values.length; i++) {
+                    if (values[i] == null) continue;
+                    String name = values[i].getNames().get(s);
+                    if (name == null) continue;
+                    if (attribute == Attribute.PACKAGE) name = packageOf(name);
+                    nameIndex.computeIfAbsent(name, k -> new BitSet()).set(i);
+                }
+                return nameIndex;
+            });
+        }
+
+        /**
+         * Returns the declaring classes of the given elements.
+         */
+        BitSet declaringClassesOf(BitSet members) {
+            final int[] declaringClasses = Objects.requireNonNull(this.declaringClasses);
+            final BitSet result = new BitSet(index.classes.size());
+            for (int i = members.nextSetBit(0); i >= 0; i = members.nextSetBit(i + 1)) {
+                result.set(declaringClasses[i]);
+            }
+            return result;
+        }
+
+        /**
+         * Returns the elements which are declared by any of the given classes.
+         */
+        BitSet declaredBy(BitSet classes) {
+            final int[] declaringClasses = Objects.requireNonNull(this.declaringClasses);
+            final BitSet result = new BitSet(size());
+            for (int i = 0; i < declaringClasses.length; i++) {
+                if (classes.get(declaringClasses[i])) result.set(i);
+            }
+            return result;
+        }
+
+        List<T> select(MetadataFilter<? super T> filter) {
+            final BitSet bits = filter.evaluate(this);
+            final List<T> result = new ArrayList<>(bits.cardinality());
+            for (int i = bits.nextSetBit(0); i >= 0 && i < size(); i = bits.nextSetBit(i + 1)) {
+                result.add(elements.get(i));
+            }
+            return result;
+        }
+
+        private static String packageOf(String name) {
+            final int slash = name.lastIndexOf('/');
+            return slash >= 0 ? name.substring(0, slash) : "";
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package org.parchmentmc.feather.utils;
+
+import org.junit.jupiter.api.Test;
+import org.parchmentmc.feather.metadata.*;
+import org.parchmentmc.feather.named.Named;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.parchmentmc.feather.util.AccessFlag.*;
+import static org.parchmentmc.feather.util.Constants.Names.OBFUSCATED;
+import static org.parchmentmc.feather.util.TestConstantsHelper.named;
+import static org.parchmentmc.feather.utils.MetadataFilter.*;
+
+public class MetadataIndexTest {
+    private static final MetadataIndex INDEX = MetadataIndex.of(SourceMetadataBuilder.create()
+            .addClass(ClassMetadataBuilder.create()
+                    .withName(named("com/example/Point"))
+                    .withSecuritySpecifications(mask(PUBLIC, FINAL, SUPER))
+                    .withIsRecord(true)
+                    .addRecord(RecordMetadataBuilder.create()
+                            .withOwner(named("com/example/Point"))
+                            .withField(reference("com/example/Point", "x", "I"))
+                            .withGetter(reference("com/example/Point", "x", "()I"))
+                            .build())
+                    .addMethod(method("com/example/Point", "x", "()I", mask(PUBLIC), false))
+                    .addMethod(method("com/example/Point", "hashCode", "()I", mask(PUBLIC, FINAL), false))
+                    .addMethod(method("com/example/Point", "lambda$0", "()V", mask(PRIVATE, STATIC, SYNTHETIC), true))
+                    .addField(FieldMetadataBuilder.create()
+                            .withOwner(named("com/example/Point"))
+                            .withName(named("x"))
+                            .withDescriptor(named("I"))
+                            .withSecuritySpecification(mask(PRIVATE, FINAL))
+                            .build())
+                    .addInnerClass(ClassMetadataBuilder.create()
+                            .withOwner(named("com/example/Point"))
+                            .withName(named("com/example/Point$Inner"))
+                            .withSecuritySpecifications(mask(PUBLIC, STATIC, SUPER))
+                            .addMethod(method("com/example/Point$Inner", "lambda$1", "()V", mask(PUBLIC, STATIC, SYNTHETIC), true))
+                            .build())
+                    .build())
+            .addClass(ClassMetadataBuilder.create()
+                    .withName(named("com/other/Util"))
+                    .withSecuritySpecifications(mask(PUBLIC, SUPER))
+                    .addMethod(method("com/other/Util", "lambda$2", "()V", mask(PRIVATE, STATIC, SYNTHETIC), true))
+                    .addMethod(method("com/other/Util", "sync", "()I", mask(PUBLIC, SYNCHRONIZED), false))
+                    .build())
+            .build());
+
+    private static Reference reference(String owner, String name, String descriptor) {
+        return ReferenceBuilder.create()
+                .withOwner(named(owner))
+                .withName(named(name))
+                .withDescriptor(named(descriptor))
+                .build();
+    }
+
+    private static MethodMetadata method(String owner, String name, String descriptor, int flags, boolean lambda) {
+        return MethodMetadataBuilder.create()
+                .withOwner(named(owner))
+                .withName(named(name))
+                .withDescriptor(named(descriptor))
+                .withSecuritySpecification(flags)
+                .withLambda(lambda)
+                .build();
+    }
+
+    private static List<String> names(List<? extends WithName> elements) {
+        return elements.stream()
+                .map(element -> element.getName().getObfuscatedName().orElse(null))
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    public void testFlattening() {
+        assertEquals(names(INDEX.getClasses()), Arrays.asList("com/example/Point", "com/example/Point$Inner",
+                "com/other/Util"));
+        assertEquals(6, INDEX.getMethods().size());
+        assertEquals(1, INDEX.getFields().size());
+        assertEquals(INDEX.getMethods(), INDEX.methods(all()));
+    }
+
+    @Test
+    public void testMethodQueries() {
+        final MetadataFilter<MethodMetadata> staticSyntheticLambdas = isLambda()
+                .and(hasFlags(STATIC, SYNTHETIC));
+
+        assertEquals(3, INDEX.countMethods(staticSyntheticLambdas));
+        assertEquals(names(INDEX.methods(staticSyntheticLambdas.and(inPackage(OBFUSCATED, "com/example")))),
+                Arrays.asList("lambda$0", "lambda$1"));
+        assertEquals(names(INDEX.methods(hasFlags(PUBLIC).and(withoutFlags(SYNTHETIC)))),
+                Arrays.asList("x", "hashCode", "sync"));
+        assertEquals(names(INDEX.methods(ownedBy(OBFUSCATED, "com/other/Util"))),
+                Arrays.asList("lambda$2", "sync"));
+        assertEquals(names(INDEX.methods(hasDescriptor(OBFUSCATED, "()I").and(hasName(OBFUSCATED, "sync").negate()))),
+                Arrays.asList("x", "hashCode"));
+        assertEquals(names(INDEX.methods(MetadataFilter.<MethodMetadata>nameMatches(OBFUSCATED, name -> name.startsWith("lambda$"))
+                        .and(where(method -> method.getOwner().getObfuscatedName().orElse("").endsWith("Inner"))))),
+                Arrays.asList("lambda$1"));
+
+        // Bits shared between flags only match the flag of the kind of element
+        assertEquals(names(INDEX.methods(hasFlags(SYNCHRONIZED))), Arrays.asList("sync"));
+        assertEquals(0, INDEX.countMethods(hasFlags(SUPER)));
+        assertEquals(3, INDEX.countClasses(hasFlags(SUPER)));
+        assertEquals(0, INDEX.countClasses(hasFlags(SYNCHRONIZED)));
+        assertEquals(0, INDEX.countMethods(hasName(OBFUSCATED, "missing")));
+        assertEquals(0, INDEX.countMethods(hasName("unknown-scheme", "x")));
+    }
+
+    @Test
+    public void testClassQueries() {
+        assertEquals(names(INDEX.classes(isRecord())), Arrays.asList("com/example/Point"));
+        assertEquals(names(INDEX.classes(isInnerClass())), Arrays.asList("com/example/Point$Inner"));
+        assertEquals(names(INDEX.methods(isRecordGetter())), Arrays.asList("x"));
+        assertEquals(names(INDEX.classes(isRecord().and(declaresMethod(
+                        isRecordGetter().and(hasDescriptor(OBFUSCATED, "()I")))))),
+                Arrays.asList("com/example/Point"));
+        assertEquals(0, INDEX.countClasses(isRecord().and(declaresMethod(
+                isRecordGetter().and(hasDescriptor(OBFUSCATED, "()J"))))));
+        assertEquals(names(INDEX.classes(declaresField(hasFlags(PRIVATE)))),
+                Arrays.asList("com/example/Point"));
+        assertEquals(names(INDEX.methods(declaredBy(isInnerClass()))), Arrays.asList("lambda$1"));
+        assertEquals(names(INDEX.classes(inPackage(OBFUSCATED, "com/example"))),
+                Arrays.asList("com/example/Point", "com/example/Point$Inner"));
+        assertEquals(0, INDEX.countClasses(hasDescriptor(OBFUSCATED, "()I")));
+        assertEquals(names(INDEX.classes(ownedBy(OBFUSCATED, "com/example/Point"))),
+                Arrays.asList("com/example/Point$Inner"));
+        assertEquals(names(INDEX.fields(declaredBy(isRecord()))), Arrays.asList("x"));
+        assertEquals(Named.empty(), INDEX.getClasses().get(2).getOwner());
+    }
+}